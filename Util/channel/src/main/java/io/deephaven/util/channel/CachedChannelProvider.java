@@ -96,6 +96,12 @@ public class CachedChannelProvider implements SeekableChannelsProvider {
         return wrappedProvider.exists(uri);
     }
 
+    @Override
+    @Nullable
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        return wrappedProvider.getVersion(uri);
+    }
+
     @Override
     public SeekableByteChannel getReadChannel(@NotNull final SeekableChannelContext channelContext,
             @NotNull final URI uri) throws IOException {
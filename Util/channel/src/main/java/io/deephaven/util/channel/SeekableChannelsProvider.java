@@ -5,6 +5,7 @@ package io.deephaven.util.channel;
 
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -78,6 +79,21 @@ public interface SeekableChannelsProvider extends SafeCloseable {
      */
     boolean exists(@NotNull URI uri);
 
+    /**
+     * Returns an identifier for the current version of the given URI, such as its last modified time or entity tag, for
+     * validating caches of data derived from its contents. Two calls return equal versions only if the contents have
+     * not changed in between. Implementations may return {@code null} if the version is not known, or too expensive to
+     * determine; callers must not cache derived data in that case.
+     *
+     * @param uri the URI
+     * @return the version, or {@code null} if unknown
+     * @throws IOException if an IO exception occurs
+     */
+    @Nullable
+    default String getVersion(@NotNull URI uri) throws IOException {
+        return null;
+    }
+
     default SeekableByteChannel getReadChannel(@NotNull SeekableChannelContext channelContext, @NotNull String uriStr)
             throws IOException {
         return getReadChannel(channelContext, convertToURI(uriStr, false));
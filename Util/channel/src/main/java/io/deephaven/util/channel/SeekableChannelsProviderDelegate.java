@@ -4,6 +4,7 @@
 package io.deephaven.util.channel;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,6 +40,12 @@ public class SeekableChannelsProviderDelegate implements SeekableChannelsProvide
         return delegate.exists(uri);
     }
 
+    @Override
+    @Nullable
+    public String getVersion(@NotNull URI uri) throws IOException {
+        return delegate.getVersion(uri);
+    }
+
     @Override
     public SeekableByteChannel getReadChannel(@NotNull SeekableChannelContext channelContext, @NotNull URI uri)
             throws IOException {
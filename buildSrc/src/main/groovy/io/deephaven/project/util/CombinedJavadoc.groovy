@@ -8,7 +8,7 @@ import org.gradle.api.Project
 class CombinedJavadoc {
 
     static boolean includeProject(Project p) {
-        def exclusions = [ 'hotspot-impl', 'clock-impl' ].toSet()
+        def exclusions = [ 'hotspot-impl', 'clock-impl', 'engine-chunk-simd' ].toSet()
         ProjectType type = ProjectType.getType(p)
         if (!type.isPublic) {
             return false
@@ -0,0 +1,194 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.benchmarking.BenchUtil;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.HashCodes;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.LongChunkHasher;
+import io.deephaven.chunk.util.simd.SimdKernels;
+import io.deephaven.chunk.util.simd.SimdKernelsLoader;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.impl.by.SumLongChunk;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.mutable.MutableInt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the engine's chunk kernels for range filtering, summing, hashing and finding the maximum over chunks of
+ * random longs.
+ * <p>
+ * The {@code rangeFilter} and {@code hash} benchmarks go through the engine entry points, which use the vectorized
+ * kernels when they are available, while {@code sum} is always scalar. The {@code Scalar} and {@code Vector} benchmarks
+ * run the scalar loops and the {@code jdk.incubator.vector} kernels over the same arrays, so that the two can be
+ * compared in one run; the {@code Vector} benchmarks fail if the vectorized kernels cannot be loaded.
+ * {@code rangeFilterBranching} is the branching loop that the scalar range filter replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ChunkKernelBenchmark {
+
+    @Param({"4096"})
+    private int chunkSize;
+
+    @Param({"1", "50", "99"})
+    private int selectivityPercent;
+
+    private WritableLongChunk<Values> values;
+    private WritableLongChunk<OrderedRowKeys> keys;
+    private WritableLongChunk<OrderedRowKeys> results;
+    private WritableIntChunk<HashCodes> hashes;
+    private LongChunkFilter rangeFilter;
+
+    private long[] valueArray;
+    private long[] keyArray;
+    private long[] resultArray;
+    private int[] hashArray;
+    private final MutableInt nonNullCount = new MutableInt();
+
+    @State(Scope.Benchmark)
+    public static class VectorKernels {
+        private SimdKernels kernels;
+
+        @Setup(Level.Trial)
+        public void setupKernels() {
+            kernels = SimdKernelsLoader.load();
+            if (kernels == null) {
+                throw new IllegalStateException(
+                        "Vectorized kernels are not available; is engine-chunk-simd on the classpath?");
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupEnv() {
+        final Random random = new Random(0);
+        values = WritableLongChunk.makeWritableChunk(chunkSize);
+        keys = WritableLongChunk.makeWritableChunk(chunkSize);
+        results = WritableLongChunk.makeWritableChunk(chunkSize);
+        hashes = WritableIntChunk.makeWritableChunk(chunkSize);
+        valueArray = new long[chunkSize];
+        keyArray = new long[chunkSize];
+        resultArray = new long[chunkSize];
+        hashArray = new int[chunkSize];
+        for (int ii = 0; ii < chunkSize; ++ii) {
+            // one value in a hundred is null
+            valueArray[ii] = random.nextInt(100) == 0 ? QueryConstants.NULL_LONG : random.nextInt(100);
+            keyArray[ii] = ii * 2L;
+            values.set(ii, valueArray[ii]);
+            keys.set(ii, keyArray[ii]);
+        }
+        rangeFilter = LongRangeComparator.makeLongFilter(0, selectivityPercent, true, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownEnv() {
+        values.close();
+        keys.close();
+        results.close();
+        hashes.close();
+    }
+
+    @Benchmark
+    public void rangeFilter(final Blackhole bh) {
+        rangeFilter.filter(values, keys, results);
+        bh.consume(results.size());
+    }
+
+    @Benchmark
+    public void rangeFilterBranching(final Blackhole bh) {
+        final LongChunk<Values> localValues = values;
+        results.setSize(0);
+        for (int ii = 0; ii < localValues.size(); ++ii) {
+            if (rangeFilter.matches(localValues.get(ii))) {
+                results.add(keys.get(ii));
+            }
+        }
+        bh.consume(results.size());
+    }
+
+    @Benchmark
+    public int rangeFilterScalar() {
+        final long upper = selectivityPercent;
+        int count = 0;
+        for (int ii = 0; ii < chunkSize; ++ii) {
+            final long value = valueArray[ii];
+            resultArray[count] = keyArray[ii];
+            count += value >= 0 && value < upper ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int rangeFilterVector(final VectorKernels vector) {
+        return vector.kernels.filterLongRange(valueArray, 0, keyArray, 0, resultArray, 0, chunkSize, 0,
+                selectivityPercent, true, false);
+    }
+
+    @Benchmark
+    public long sum() {
+        return SumLongChunk.sumLongChunk(values, 0, chunkSize);
+    }
+
+    @Benchmark
+    public long sumVector(final VectorKernels vector) {
+        nonNullCount.set(0);
+        return vector.kernels.sumLong(valueArray, 0, chunkSize, nonNullCount);
+    }
+
+    @Benchmark
+    public void hash(final Blackhole bh) {
+        LongChunkHasher.INSTANCE.hashInitial(values, hashes);
+        bh.consume(hashes.get(0));
+    }
+
+    @Benchmark
+    public int hashScalar() {
+        for (int ii = 0; ii < chunkSize; ++ii) {
+            hashArray[ii] = LongChunkHasher.hashInitialSingle(valueArray[ii]);
+        }
+        return hashArray[0];
+    }
+
+    @Benchmark
+    public int hashVector(final VectorKernels vector) {
+        vector.kernels.hashInitialLong(valueArray, 0, hashArray, 0, chunkSize);
+        return hashArray[0];
+    }
+
+    @Benchmark
+    public long maxScalar() {
+        long max = QueryConstants.NULL_LONG;
+        for (int ii = 0; ii < chunkSize; ++ii) {
+            final long value = valueArray[ii];
+            if (value != QueryConstants.NULL_LONG && (max == QueryConstants.NULL_LONG || value > max)) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public long maxVector(final VectorKernels vector) {
+        return vector.kernels.minMaxLong(valueArray, 0, chunkSize, false, nonNullCount);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchUtil.run(ChunkKernelBenchmark.class);
+    }
+}
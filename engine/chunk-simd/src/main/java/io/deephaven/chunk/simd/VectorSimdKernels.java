@@ -0,0 +1,691 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.simd;
+
+import com.google.auto.service.AutoService;
+import io.deephaven.chunk.util.simd.SimdKernels;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * {@link SimdKernels} on the {@code jdk.incubator.vector} API, using the preferred vector shape of the platform. Each
+ * kernel processes whole vectors and finishes the tail of its input with a scalar loop.
+ * <p>
+ * Comparison operators are kept constant within each loop, which the JIT needs to compile them to vector instructions,
+ * so exclusive range bounds are first converted to inclusive ones.
+ */
+@AutoService(SimdKernels.class)
+public class VectorSimdKernels implements SimdKernels {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * Int vectors with as many lanes as {@link #LONG_SPECIES}, for hash codes of longs.
+     */
+    private static final VectorSpecies<Integer> INT_FOR_LONG_SPECIES =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+    private static final int HASH_MULTIPLIER = 0x45d9f3b;
+
+    /**
+     * Write the keys of the lanes set in {@code laneBits}, in lane order.
+     *
+     * @return The position after the last key written
+     */
+    private static int writeMatches(
+            final long laneBits,
+            final long[] keys,
+            final int keysPosition,
+            final long[] results,
+            int resultsPosition) {
+        long remaining = laneBits;
+        while (remaining != 0) {
+            results[resultsPosition++] = keys[keysPosition + Long.numberOfTrailingZeros(remaining)];
+            remaining &= remaining - 1;
+        }
+        return resultsPosition;
+    }
+
+    @Override
+    public int filterIntRange(
+            final int[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final int lower,
+            final int upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if ((!lowerInclusive && lower == Integer.MAX_VALUE) || (!upperInclusive && upper == Integer.MIN_VALUE)) {
+            return 0;
+        }
+        final int first = lowerInclusive ? lower : lower + 1;
+        final int last = upperInclusive ? upper : upper - 1;
+        final int bound = INT_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += INT_SPECIES.length()) {
+            final IntVector vector = IntVector.fromArray(INT_SPECIES, values, valuesOffset + ii);
+            final VectorMask<Integer> matches = vector.compare(GE, first).and(vector.compare(LE, last));
+            resultsPosition = writeMatches(matches.toLong(), keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            final int value = values[valuesOffset + ii];
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += value >= first && value <= last ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterLongRange(
+            final long[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final long lower,
+            final long upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if ((!lowerInclusive && lower == Long.MAX_VALUE) || (!upperInclusive && upper == Long.MIN_VALUE)) {
+            return 0;
+        }
+        final long first = lowerInclusive ? lower : lower + 1;
+        final long last = upperInclusive ? upper : upper - 1;
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += LONG_SPECIES.length()) {
+            final LongVector vector = LongVector.fromArray(LONG_SPECIES, values, valuesOffset + ii);
+            final VectorMask<Long> matches = vector.compare(GE, first).and(vector.compare(LE, last));
+            resultsPosition = writeMatches(matches.toLong(), keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            final long value = values[valuesOffset + ii];
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += value >= first && value <= last ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterFloatRange(
+            final float[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final float lower,
+            final float upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if ((!lowerInclusive && lower == Float.POSITIVE_INFINITY)
+                || (!upperInclusive && upper == Float.NEGATIVE_INFINITY)) {
+            return 0;
+        }
+        // Both zeros step to the smallest subnormal of the appropriate sign, so neither zero matches an exclusive zero
+        final float first = lowerInclusive ? lower : Math.nextUp(lower);
+        final float last = upperInclusive ? upper : Math.nextDown(upper);
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += FLOAT_SPECIES.length()) {
+            final FloatVector vector = FloatVector.fromArray(FLOAT_SPECIES, values, valuesOffset + ii);
+            final VectorMask<Float> matches = vector.compare(GE, first).and(vector.compare(LE, last));
+            resultsPosition = writeMatches(matches.toLong(), keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            final float value = values[valuesOffset + ii];
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += value >= first && value <= last ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterDoubleRange(
+            final double[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final double lower,
+            final double upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if ((!lowerInclusive && lower == Double.POSITIVE_INFINITY)
+                || (!upperInclusive && upper == Double.NEGATIVE_INFINITY)) {
+            return 0;
+        }
+        // Both zeros step to the smallest subnormal of the appropriate sign, so neither zero matches an exclusive zero
+        final double first = lowerInclusive ? lower : Math.nextUp(lower);
+        final double last = upperInclusive ? upper : Math.nextDown(upper);
+        final int bound = DOUBLE_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += DOUBLE_SPECIES.length()) {
+            final DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, values, valuesOffset + ii);
+            final VectorMask<Double> matches = vector.compare(GE, first).and(vector.compare(LE, last));
+            resultsPosition = writeMatches(matches.toLong(), keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            final double value = values[valuesOffset + ii];
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += value >= first && value <= last ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterIntEquals(
+            final int[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final int value,
+            final boolean inverted) {
+        final int bound = INT_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += INT_SPECIES.length()) {
+            final VectorMask<Integer> equal =
+                    IntVector.fromArray(INT_SPECIES, values, valuesOffset + ii).compare(EQ, value);
+            final long laneBits = inverted ? equal.not().toLong() : equal.toLong();
+            resultsPosition = writeMatches(laneBits, keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += (values[valuesOffset + ii] == value) != inverted ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterLongEquals(
+            final long[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final long value,
+            final boolean inverted) {
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += LONG_SPECIES.length()) {
+            final VectorMask<Long> equal =
+                    LongVector.fromArray(LONG_SPECIES, values, valuesOffset + ii).compare(EQ, value);
+            final long laneBits = inverted ? equal.not().toLong() : equal.toLong();
+            resultsPosition = writeMatches(laneBits, keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += (values[valuesOffset + ii] == value) != inverted ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterFloatEquals(
+            final float[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final float value,
+            final boolean inverted) {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += FLOAT_SPECIES.length()) {
+            final VectorMask<Float> equal =
+                    FloatVector.fromArray(FLOAT_SPECIES, values, valuesOffset + ii).compare(EQ, value);
+            final long laneBits = inverted ? equal.not().toLong() : equal.toLong();
+            resultsPosition = writeMatches(laneBits, keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += (values[valuesOffset + ii] == value) != inverted ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public int filterDoubleEquals(
+            final double[] values,
+            final int valuesOffset,
+            final long[] keys,
+            final int keysOffset,
+            final long[] results,
+            final int resultsOffset,
+            final int length,
+            final double value,
+            final boolean inverted) {
+        final int bound = DOUBLE_SPECIES.loopBound(length);
+        int ii = 0;
+        int resultsPosition = resultsOffset;
+        for (; ii < bound; ii += DOUBLE_SPECIES.length()) {
+            final VectorMask<Double> equal =
+                    DoubleVector.fromArray(DOUBLE_SPECIES, values, valuesOffset + ii).compare(EQ, value);
+            final long laneBits = inverted ? equal.not().toLong() : equal.toLong();
+            resultsPosition = writeMatches(laneBits, keys, keysOffset + ii, results, resultsPosition);
+        }
+        for (; ii < length; ++ii) {
+            results[resultsPosition] = keys[keysOffset + ii];
+            resultsPosition += (values[valuesOffset + ii] == value) != inverted ? 1 : 0;
+        }
+        return resultsPosition - resultsOffset;
+    }
+
+    @Override
+    public long sumLong(final long[] values, final int offset, final int length, final MutableInt nonNullCount) {
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        int nonNulls = 0;
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        for (; ii < bound; ii += LONG_SPECIES.length()) {
+            final LongVector vector = LongVector.fromArray(LONG_SPECIES, values, offset + ii);
+            final VectorMask<Long> isNull = vector.compare(EQ, QueryConstants.NULL_LONG);
+            sums = sums.add(vector.blend(0L, isNull));
+            nonNulls += LONG_SPECIES.length() - isNull.trueCount();
+        }
+        long sum = sums.reduceLanes(ADD);
+        for (; ii < length; ++ii) {
+            final long value = values[offset + ii];
+            if (value != QueryConstants.NULL_LONG) {
+                sum += value;
+                ++nonNulls;
+            }
+        }
+        nonNullCount.add(nonNulls);
+        return sum;
+    }
+
+    @Override
+    public double sumDouble(
+            final double[] values,
+            final int offset,
+            final int length,
+            final MutableInt normalCount,
+            final MutableInt nanCount,
+            final MutableInt positiveInfinityCount,
+            final MutableInt negativeInfinityCount) {
+        final int bound = DOUBLE_SPECIES.loopBound(length);
+        int ii = 0;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
+        DoubleVector sums = DoubleVector.zero(DOUBLE_SPECIES);
+        for (; ii < bound; ii += DOUBLE_SPECIES.length()) {
+            final DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, values, offset + ii);
+            final VectorMask<Double> isNaN = vector.test(IS_NAN);
+            final VectorMask<Double> isInfinity = vector.compare(EQ, Double.POSITIVE_INFINITY);
+            final VectorMask<Double> isMinusInfinity = vector.compare(EQ, Double.NEGATIVE_INFINITY);
+            final VectorMask<Double> excluded = isNaN.or(isInfinity).or(isMinusInfinity)
+                    .or(vector.compare(EQ, QueryConstants.NULL_DOUBLE));
+            sums = sums.add(vector.blend(0.0, excluded));
+            normals += DOUBLE_SPECIES.length() - excluded.trueCount();
+            nans += isNaN.trueCount();
+            infinities += isInfinity.trueCount();
+            minusInfinities += isMinusInfinity.trueCount();
+        }
+        double sum = sums.reduceLanes(ADD);
+        for (; ii < length; ++ii) {
+            final double value = values[offset + ii];
+            if (Double.isNaN(value)) {
+                ++nans;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                ++infinities;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                ++minusInfinities;
+            } else if (value != QueryConstants.NULL_DOUBLE) {
+                sum += value;
+                ++normals;
+            }
+        }
+        normalCount.add(normals);
+        nanCount.add(nans);
+        positiveInfinityCount.add(infinities);
+        negativeInfinityCount.add(minusInfinities);
+        return sum;
+    }
+
+    private static int scrambleHash(int x) {
+        x = ((x >> 16) ^ x) * HASH_MULTIPLIER;
+        x = ((x >> 16) ^ x) * HASH_MULTIPLIER;
+        x = (x >> 16) ^ x;
+        return x & 0x7fffffff;
+    }
+
+    private static IntVector scrambleHash(IntVector x) {
+        x = x.lanewise(ASHR, 16).lanewise(XOR, x).mul(HASH_MULTIPLIER);
+        x = x.lanewise(ASHR, 16).lanewise(XOR, x).mul(HASH_MULTIPLIER);
+        x = x.lanewise(ASHR, 16).lanewise(XOR, x);
+        return x.lanewise(AND, 0x7fffffff);
+    }
+
+    /**
+     * @return {@link Long#hashCode(long)} of each lane
+     */
+    private static IntVector longHashCodes(final LongVector vector) {
+        return (IntVector) vector.lanewise(LSHR, 32).lanewise(XOR, vector).castShape(INT_FOR_LONG_SPECIES, 0);
+    }
+
+    @Override
+    public void hashInitialInt(
+            final int[] values,
+            final int valuesOffset,
+            final int[] hashes,
+            final int hashesOffset,
+            final int length) {
+        final int bound = INT_SPECIES.loopBound(length);
+        int ii = 0;
+        for (; ii < bound; ii += INT_SPECIES.length()) {
+            scrambleHash(IntVector.fromArray(INT_SPECIES, values, valuesOffset + ii))
+                    .intoArray(hashes, hashesOffset + ii);
+        }
+        for (; ii < length; ++ii) {
+            hashes[hashesOffset + ii] = scrambleHash(Integer.hashCode(values[valuesOffset + ii]));
+        }
+    }
+
+    @Override
+    public void hashUpdateInt(
+            final int[] values,
+            final int valuesOffset,
+            final int[] hashes,
+            final int hashesOffset,
+            final int length) {
+        final int bound = INT_SPECIES.loopBound(length);
+        int ii = 0;
+        for (; ii < bound; ii += INT_SPECIES.length()) {
+            IntVector.fromArray(INT_SPECIES, hashes, hashesOffset + ii).mul(31)
+                    .add(scrambleHash(IntVector.fromArray(INT_SPECIES, values, valuesOffset + ii)))
+                    .intoArray(hashes, hashesOffset + ii);
+        }
+        for (; ii < length; ++ii) {
+            hashes[hashesOffset + ii] =
+                    hashes[hashesOffset + ii] * 31 + scrambleHash(Integer.hashCode(values[valuesOffset + ii]));
+        }
+    }
+
+    @Override
+    public void hashInitialLong(
+            final long[] values,
+            final int valuesOffset,
+            final int[] hashes,
+            final int hashesOffset,
+            final int length) {
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        for (; ii < bound; ii += LONG_SPECIES.length()) {
+            scrambleHash(longHashCodes(LongVector.fromArray(LONG_SPECIES, values, valuesOffset + ii)))
+                    .intoArray(hashes, hashesOffset + ii);
+        }
+        for (; ii < length; ++ii) {
+            hashes[hashesOffset + ii] = scrambleHash(Long.hashCode(values[valuesOffset + ii]));
+        }
+    }
+
+    @Override
+    public void hashUpdateLong(
+            final long[] values,
+            final int valuesOffset,
+            final int[] hashes,
+            final int hashesOffset,
+            final int length) {
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        for (; ii < bound; ii += LONG_SPECIES.length()) {
+            IntVector.fromArray(INT_FOR_LONG_SPECIES, hashes, hashesOffset + ii).mul(31)
+                    .add(scrambleHash(longHashCodes(LongVector.fromArray(LONG_SPECIES, values, valuesOffset + ii))))
+                    .intoArray(hashes, hashesOffset + ii);
+        }
+        for (; ii < length; ++ii) {
+            hashes[hashesOffset + ii] =
+                    hashes[hashesOffset + ii] * 31 + scrambleHash(Long.hashCode(values[valuesOffset + ii]));
+        }
+    }
+
+    @Override
+    public int minMaxInt(
+            final int[] values,
+            final int offset,
+            final int length,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        final int bound = INT_SPECIES.loopBound(length);
+        int ii = 0;
+        int nonNulls = 0;
+        int result;
+        if (minimum) {
+            IntVector extremes = IntVector.broadcast(INT_SPECIES, Integer.MAX_VALUE);
+            for (; ii < bound; ii += INT_SPECIES.length()) {
+                final IntVector vector = IntVector.fromArray(INT_SPECIES, values, offset + ii);
+                final VectorMask<Integer> isNull = vector.compare(EQ, QueryConstants.NULL_INT);
+                extremes = extremes.min(vector.blend(Integer.MAX_VALUE, isNull));
+                nonNulls += INT_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MIN);
+        } else {
+            // Null is the smallest int, so it never exceeds a non-null maximum
+            IntVector extremes = IntVector.broadcast(INT_SPECIES, Integer.MIN_VALUE);
+            for (; ii < bound; ii += INT_SPECIES.length()) {
+                final IntVector vector = IntVector.fromArray(INT_SPECIES, values, offset + ii);
+                extremes = extremes.max(vector);
+                nonNulls += INT_SPECIES.length() - vector.compare(EQ, QueryConstants.NULL_INT).trueCount();
+            }
+            result = extremes.reduceLanes(MAX);
+        }
+        for (; ii < length; ++ii) {
+            final int value = values[offset + ii];
+            if (value != QueryConstants.NULL_INT) {
+                result = minimum ? Math.min(result, value) : Math.max(result, value);
+                ++nonNulls;
+            }
+        }
+        nonNullCount.set(nonNulls);
+        return nonNulls == 0 ? QueryConstants.NULL_INT : result;
+    }
+
+    @Override
+    public long minMaxLong(
+            final long[] values,
+            final int offset,
+            final int length,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        final int bound = LONG_SPECIES.loopBound(length);
+        int ii = 0;
+        int nonNulls = 0;
+        long result;
+        if (minimum) {
+            LongVector extremes = LongVector.broadcast(LONG_SPECIES, Long.MAX_VALUE);
+            for (; ii < bound; ii += LONG_SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(LONG_SPECIES, values, offset + ii);
+                final VectorMask<Long> isNull = vector.compare(EQ, QueryConstants.NULL_LONG);
+                extremes = extremes.min(vector.blend(Long.MAX_VALUE, isNull));
+                nonNulls += LONG_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MIN);
+        } else {
+            // Null is the smallest long, so it never exceeds a non-null maximum
+            LongVector extremes = LongVector.broadcast(LONG_SPECIES, Long.MIN_VALUE);
+            for (; ii < bound; ii += LONG_SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(LONG_SPECIES, values, offset + ii);
+                extremes = extremes.max(vector);
+                nonNulls += LONG_SPECIES.length() - vector.compare(EQ, QueryConstants.NULL_LONG).trueCount();
+            }
+            result = extremes.reduceLanes(MAX);
+        }
+        for (; ii < length; ++ii) {
+            final long value = values[offset + ii];
+            if (value != QueryConstants.NULL_LONG) {
+                result = minimum ? Math.min(result, value) : Math.max(result, value);
+                ++nonNulls;
+            }
+        }
+        nonNullCount.set(nonNulls);
+        return nonNulls == 0 ? QueryConstants.NULL_LONG : result;
+    }
+
+    @Override
+    public float minMaxFloat(
+            final float[] values,
+            final int offset,
+            final int length,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        final float identity = minimum ? Float.POSITIVE_INFINITY : Float.NEGATIVE_INFINITY;
+        int ii = 0;
+        int nonNulls = 0;
+        float result;
+        if (minimum) {
+            FloatVector extremes = FloatVector.broadcast(FLOAT_SPECIES, identity);
+            for (; ii < bound; ii += FLOAT_SPECIES.length()) {
+                final FloatVector vector = FloatVector.fromArray(FLOAT_SPECIES, values, offset + ii);
+                if (vector.test(IS_NAN).anyTrue()) {
+                    nonNullCount.set(1);
+                    return Float.NaN;
+                }
+                final VectorMask<Float> isNull = vector.compare(EQ, QueryConstants.NULL_FLOAT);
+                extremes = extremes.min(vector.blend(identity, isNull));
+                nonNulls += FLOAT_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MIN);
+        } else {
+            FloatVector extremes = FloatVector.broadcast(FLOAT_SPECIES, identity);
+            for (; ii < bound; ii += FLOAT_SPECIES.length()) {
+                final FloatVector vector = FloatVector.fromArray(FLOAT_SPECIES, values, offset + ii);
+                if (vector.test(IS_NAN).anyTrue()) {
+                    nonNullCount.set(1);
+                    return Float.NaN;
+                }
+                final VectorMask<Float> isNull = vector.compare(EQ, QueryConstants.NULL_FLOAT);
+                extremes = extremes.max(vector.blend(identity, isNull));
+                nonNulls += FLOAT_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MAX);
+        }
+        for (; ii < length; ++ii) {
+            final float value = values[offset + ii];
+            if (Float.isNaN(value)) {
+                nonNullCount.set(1);
+                return Float.NaN;
+            }
+            if (value != QueryConstants.NULL_FLOAT) {
+                result = minimum ? Math.min(result, value) : Math.max(result, value);
+                ++nonNulls;
+            }
+        }
+        nonNullCount.set(nonNulls);
+        if (nonNulls == 0) {
+            return QueryConstants.NULL_FLOAT;
+        }
+        if (result == 0) {
+            // Math.min and Math.max order -0.0 below 0.0, but FloatComparisons treats them as equal and keeps the first
+            int zeroIndex = 0;
+            while (values[offset + zeroIndex] != 0) {
+                ++zeroIndex;
+            }
+            return values[offset + zeroIndex];
+        }
+        return result;
+    }
+
+    @Override
+    public double minMaxDouble(
+            final double[] values,
+            final int offset,
+            final int length,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        final int bound = DOUBLE_SPECIES.loopBound(length);
+        final double identity = minimum ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        int ii = 0;
+        int nonNulls = 0;
+        double result;
+        if (minimum) {
+            DoubleVector extremes = DoubleVector.broadcast(DOUBLE_SPECIES, identity);
+            for (; ii < bound; ii += DOUBLE_SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, values, offset + ii);
+                if (vector.test(IS_NAN).anyTrue()) {
+                    nonNullCount.set(1);
+                    return Double.NaN;
+                }
+                final VectorMask<Double> isNull = vector.compare(EQ, QueryConstants.NULL_DOUBLE);
+                extremes = extremes.min(vector.blend(identity, isNull));
+                nonNulls += DOUBLE_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MIN);
+        } else {
+            DoubleVector extremes = DoubleVector.broadcast(DOUBLE_SPECIES, identity);
+            for (; ii < bound; ii += DOUBLE_SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, values, offset + ii);
+                if (vector.test(IS_NAN).anyTrue()) {
+                    nonNullCount.set(1);
+                    return Double.NaN;
+                }
+                final VectorMask<Double> isNull = vector.compare(EQ, QueryConstants.NULL_DOUBLE);
+                extremes = extremes.max(vector.blend(identity, isNull));
+                nonNulls += DOUBLE_SPECIES.length() - isNull.trueCount();
+            }
+            result = extremes.reduceLanes(MAX);
+        }
+        for (; ii < length; ++ii) {
+            final double value = values[offset + ii];
+            if (Double.isNaN(value)) {
+                nonNullCount.set(1);
+                return Double.NaN;
+            }
+            if (value != QueryConstants.NULL_DOUBLE) {
+                result = minimum ? Math.min(result, value) : Math.max(result, value);
+                ++nonNulls;
+            }
+        }
+        nonNullCount.set(nonNulls);
+        if (nonNulls == 0) {
+            return QueryConstants.NULL_DOUBLE;
+        }
+        if (result == 0) {
+            // Math.min and Math.max order -0.0 below 0.0, but DoubleComparisons treats them as equal and keeps the first
+            int zeroIndex = 0;
+            while (values[offset + zeroIndex] != 0) {
+                ++zeroIndex;
+            }
+            return values[offset + zeroIndex];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,249 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.simd;
+
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.compare.FloatComparisons;
+import io.deephaven.util.mutable.MutableInt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorSimdKernelsTest {
+
+    // Not a multiple of any vector length, so that every kernel also runs its scalar tail
+    private static final int LENGTH = 1021;
+    private static final int OFFSET = 3;
+
+    private final VectorSimdKernels SUT = new VectorSimdKernels();
+
+    private int[] ints;
+    private long[] longs;
+    private float[] floats;
+    private double[] doubles;
+    private long[] keys;
+
+    @BeforeEach
+    void setUp() {
+        final Random random = new Random(0);
+        ints = new int[OFFSET + LENGTH];
+        longs = new long[OFFSET + LENGTH];
+        floats = new float[OFFSET + LENGTH];
+        doubles = new double[OFFSET + LENGTH];
+        keys = new long[OFFSET + LENGTH];
+        for (int ii = OFFSET; ii < OFFSET + LENGTH; ++ii) {
+            final int choice = random.nextInt(20);
+            ints[ii] = choice == 0 ? QueryConstants.NULL_INT : random.nextInt(200) - 100;
+            longs[ii] = choice == 0 ? QueryConstants.NULL_LONG : random.nextInt(200) - 100;
+            final double value;
+            switch (choice) {
+                case 0:
+                    value = QueryConstants.NULL_DOUBLE;
+                    break;
+                case 1:
+                    value = Double.POSITIVE_INFINITY;
+                    break;
+                case 2:
+                    value = Double.NEGATIVE_INFINITY;
+                    break;
+                case 3:
+                    value = -0.0;
+                    break;
+                default:
+                    value = random.nextInt(200) - 100.5;
+            }
+            doubles[ii] = value;
+            floats[ii] = value == QueryConstants.NULL_DOUBLE ? QueryConstants.NULL_FLOAT : (float) value;
+            keys[ii] = ii * 2L;
+        }
+    }
+
+    private long[] expectedKeys(final IntPredicate matches) {
+        return IntStream.range(OFFSET, OFFSET + LENGTH).filter(matches).mapToLong(ii -> keys[ii]).toArray();
+    }
+
+    private static long[] actualKeys(final long[] results, final int count) {
+        return Arrays.copyOfRange(results, 1, 1 + count);
+    }
+
+    @Test
+    void filterIntRange() {
+        final long[] results = new long[1 + LENGTH];
+        final int count = SUT.filterIntRange(ints, OFFSET, keys, OFFSET, results, 1, LENGTH, -10, 50, false, true);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> ints[ii] > -10 && ints[ii] <= 50));
+    }
+
+    @Test
+    void filterLongRange() {
+        final long[] results = new long[1 + LENGTH];
+        final int count = SUT.filterLongRange(longs, OFFSET, keys, OFFSET, results, 1, LENGTH,
+                QueryConstants.NULL_LONG, 0, true, false);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> longs[ii] < 0));
+        assertThat(SUT.filterLongRange(longs, OFFSET, keys, OFFSET, results, 1, LENGTH, Long.MAX_VALUE,
+                Long.MAX_VALUE, false, true)).isZero();
+    }
+
+    @Test
+    void filterDoubleRange() {
+        final long[] results = new long[1 + LENGTH];
+        int count = SUT.filterDoubleRange(doubles, OFFSET, keys, OFFSET, results, 1, LENGTH, 0.0, 20.5, false, false);
+        assertThat(actualKeys(results, count)).containsExactly(
+                expectedKeys(ii -> DoubleComparisons.gt(doubles[ii], 0.0) && DoubleComparisons.lt(doubles[ii], 20.5)));
+        count = SUT.filterDoubleRange(doubles, OFFSET, keys, OFFSET, results, 1, LENGTH, -0.0,
+                Double.POSITIVE_INFINITY, true, true);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(
+                ii -> DoubleComparisons.geq(doubles[ii], -0.0)
+                        && DoubleComparisons.leq(doubles[ii], Double.POSITIVE_INFINITY)));
+    }
+
+    @Test
+    void filterFloatRange() {
+        final long[] results = new long[1 + LENGTH];
+        final int count = SUT.filterFloatRange(floats, OFFSET, keys, OFFSET, results, 1, LENGTH, -50.5f, 0.0f, true,
+                false);
+        assertThat(actualKeys(results, count)).containsExactly(
+                expectedKeys(ii -> FloatComparisons.geq(floats[ii], -50.5f) && FloatComparisons.lt(floats[ii], 0.0f)));
+    }
+
+    @Test
+    void filterEquals() {
+        final long[] results = new long[1 + LENGTH];
+        int count = SUT.filterIntEquals(ints, OFFSET, keys, OFFSET, results, 1, LENGTH, 7, false);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> ints[ii] == 7));
+        count = SUT.filterLongEquals(longs, OFFSET, keys, OFFSET, results, 1, LENGTH, 7, true);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> longs[ii] != 7));
+        count = SUT.filterDoubleEquals(doubles, OFFSET, keys, OFFSET, results, 1, LENGTH, 0.0, false);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> doubles[ii] == 0.0));
+        count = SUT.filterFloatEquals(floats, OFFSET, keys, OFFSET, results, 1, LENGTH, -0.5f, true);
+        assertThat(actualKeys(results, count)).containsExactly(expectedKeys(ii -> floats[ii] != -0.5f));
+    }
+
+    @Test
+    void sumLong() {
+        long expected = 0;
+        int expectedNonNull = 0;
+        for (int ii = OFFSET; ii < OFFSET + LENGTH; ++ii) {
+            if (longs[ii] != QueryConstants.NULL_LONG) {
+                expected += longs[ii];
+                ++expectedNonNull;
+            }
+        }
+        final MutableInt nonNull = new MutableInt(1);
+        assertThat(SUT.sumLong(longs, OFFSET, LENGTH, nonNull)).isEqualTo(expected);
+        assertThat(nonNull.get()).isEqualTo(1 + expectedNonNull);
+    }
+
+    @Test
+    void sumDouble() {
+        doubles[OFFSET + 5] = Double.NaN;
+        double expected = 0;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
+        for (int ii = OFFSET; ii < OFFSET + LENGTH; ++ii) {
+            final double value = doubles[ii];
+            if (Double.isNaN(value)) {
+                ++nans;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                ++infinities;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                ++minusInfinities;
+            } else if (value != QueryConstants.NULL_DOUBLE) {
+                expected += value;
+                ++normals;
+            }
+        }
+        final MutableInt normalCount = new MutableInt();
+        final MutableInt nanCount = new MutableInt();
+        final MutableInt infinityCount = new MutableInt();
+        final MutableInt minusInfinityCount = new MutableInt();
+        // Every value is a multiple of one half, so the sum is exact in any order
+        assertThat(SUT.sumDouble(doubles, OFFSET, LENGTH, normalCount, nanCount, infinityCount, minusInfinityCount))
+                .isEqualTo(expected);
+        assertThat(normalCount.get()).isEqualTo(normals);
+        assertThat(nanCount.get()).isEqualTo(nans);
+        assertThat(infinityCount.get()).isEqualTo(infinities);
+        assertThat(minusInfinityCount.get()).isEqualTo(minusInfinities);
+    }
+
+    private static int scrambleHash(int x) {
+        x = ((x >> 16) ^ x) * 0x45d9f3b;
+        x = ((x >> 16) ^ x) * 0x45d9f3b;
+        x = (x >> 16) ^ x;
+        return x & 0x7fffffff;
+    }
+
+    @Test
+    void hashInts() {
+        final int[] hashes = new int[LENGTH];
+        SUT.hashInitialInt(ints, OFFSET, hashes, 0, LENGTH);
+        SUT.hashUpdateInt(ints, OFFSET, hashes, 0, LENGTH);
+        for (int ii = 0; ii < LENGTH; ++ii) {
+            final int hash = scrambleHash(ints[OFFSET + ii]);
+            assertThat(hashes[ii]).isEqualTo(hash * 31 + hash);
+        }
+    }
+
+    @Test
+    void hashLongs() {
+        for (int ii = OFFSET; ii < OFFSET + LENGTH; ii += 3) {
+            longs[ii] = longs[ii] * 0x9E3779B97F4A7C15L;
+        }
+        final int[] hashes = new int[LENGTH];
+        SUT.hashInitialLong(longs, OFFSET, hashes, 0, LENGTH);
+        SUT.hashUpdateLong(longs, OFFSET, hashes, 0, LENGTH);
+        for (int ii = 0; ii < LENGTH; ++ii) {
+            final int hash = scrambleHash(Long.hashCode(longs[OFFSET + ii]));
+            assertThat(hashes[ii]).isEqualTo(hash * 31 + hash);
+        }
+    }
+
+    @Test
+    void minMaxLongAndInt() {
+        final MutableInt nonNull = new MutableInt();
+        final long[] nonNullLongs = Arrays.stream(longs, OFFSET, OFFSET + LENGTH)
+                .filter(value -> value != QueryConstants.NULL_LONG).toArray();
+        assertThat(SUT.minMaxLong(longs, OFFSET, LENGTH, true, nonNull))
+                .isEqualTo(Arrays.stream(nonNullLongs).min().getAsLong());
+        assertThat(nonNull.get()).isEqualTo(nonNullLongs.length);
+
+        final int[] nonNullInts = Arrays.stream(ints, OFFSET, OFFSET + LENGTH)
+                .filter(value -> value != QueryConstants.NULL_INT).toArray();
+        assertThat(SUT.minMaxInt(ints, OFFSET, LENGTH, false, nonNull))
+                .isEqualTo(Arrays.stream(nonNullInts).max().getAsInt());
+        assertThat(nonNull.get()).isEqualTo(nonNullInts.length);
+
+        Arrays.fill(longs, QueryConstants.NULL_LONG);
+        assertThat(SUT.minMaxLong(longs, OFFSET, LENGTH, false, nonNull)).isEqualTo(QueryConstants.NULL_LONG);
+        assertThat(nonNull.get()).isZero();
+    }
+
+    @Test
+    void minMaxDouble() {
+        final MutableInt nonNull = new MutableInt();
+        assertThat(SUT.minMaxDouble(doubles, OFFSET, LENGTH, true, nonNull)).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(SUT.minMaxFloat(floats, OFFSET, LENGTH, false, nonNull)).isEqualTo(Float.POSITIVE_INFINITY);
+
+        // The first of the equal zeros is the extreme
+        Arrays.fill(doubles, 1.0);
+        doubles[OFFSET + 1] = 0.0;
+        doubles[OFFSET + 600] = -0.0;
+        doubles[OFFSET + 2] = QueryConstants.NULL_DOUBLE;
+        assertThat(Double.doubleToLongBits(SUT.minMaxDouble(doubles, OFFSET, LENGTH, true, nonNull)))
+                .isEqualTo(Double.doubleToLongBits(0.0));
+        assertThat(nonNull.get()).isEqualTo(LENGTH - 1);
+
+        doubles[OFFSET + 900] = Double.NaN;
+        assertThat(SUT.minMaxDouble(doubles, OFFSET, LENGTH, false, nonNull)).isNaN();
+        assertThat(nonNull.get()).isEqualTo(1);
+    }
+}
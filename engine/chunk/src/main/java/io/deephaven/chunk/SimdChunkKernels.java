@@ -0,0 +1,369 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk;
+
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.chunk.util.simd.SimdKernels;
+import io.deephaven.chunk.util.simd.SimdKernelsLoader;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.mutable.MutableInt;
+
+/**
+ * Chunk-level entry points to the vectorized {@link SimdKernels}, for the chunk kernels that have a scalar loop to fall
+ * back to. The filter methods return {@code false} when they cannot be used, in which case the caller runs its scalar
+ * loop; the other methods may only be called when {@link #isAvailable()}.
+ */
+public final class SimdChunkKernels {
+
+    private static final SimdKernels KERNELS = SimdKernelsLoader.load();
+
+    private static final boolean DOUBLE_SUM_AVAILABLE = KERNELS != null && SimdKernelsLoader.reorderDoubleSums();
+
+    private SimdChunkKernels() {} // static use only
+
+    /**
+     * @return Whether vectorized kernels are available
+     */
+    public static boolean isAvailable() {
+        return KERNELS != null;
+    }
+
+    /**
+     * @return Whether {@link #sumDouble} may be called, i.e. whether vectorized kernels are available and double sums
+     *         may be reordered
+     */
+    public static boolean isDoubleSumAvailable() {
+        return DOUBLE_SUM_AVAILABLE;
+    }
+
+    private static void checkFilterArgs(
+            final Chunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results) {
+        ChunkHelpers.checkSliceArgs(keys.size, 0, values.size());
+        ChunkHelpers.checkSliceArgs(results.capacity, 0, values.size());
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} in the given range.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterIntRange(
+            final IntChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final int lower,
+            final int upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterIntRange(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, lower, upper, lowerInclusive, upperInclusive));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} in the given range.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterLongRange(
+            final LongChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final long lower,
+            final long upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterLongRange(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, lower, upper, lowerInclusive, upperInclusive));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} in the given range. The vectorized kernel compares as the
+     * hardware does, so it is not used when that would differ from {@code FloatComparisons}, which orders null below
+     * negative infinity and NaN above positive infinity.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterFloatRange(
+            final FloatChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final float lower,
+            final float upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if (KERNELS == null || Float.isNaN(upper) || !(lower > QueryConstants.NULL_FLOAT)) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterFloatRange(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, lower, upper, lowerInclusive, upperInclusive));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} in the given range. The vectorized kernel compares as the
+     * hardware does, so it is not used when that would differ from {@code DoubleComparisons}, which orders null below
+     * negative infinity and NaN above positive infinity.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterDoubleRange(
+            final DoubleChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final double lower,
+            final double upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        if (KERNELS == null || Double.isNaN(upper) || !(lower > QueryConstants.NULL_DOUBLE)) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterDoubleRange(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, lower, upper, lowerInclusive, upperInclusive));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} equal to {@code value}, or not equal to it if
+     * {@code inverted}.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterIntEquals(
+            final IntChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final int value,
+            final boolean inverted) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterIntEquals(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, value, inverted));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} equal to {@code value}, or not equal to it if
+     * {@code inverted}.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterLongEquals(
+            final LongChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final long value,
+            final boolean inverted) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterLongEquals(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, value, inverted));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} equal to {@code value} as by {@code ==}, or not equal to it
+     * if {@code inverted}.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterFloatEquals(
+            final FloatChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final float value,
+            final boolean inverted) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterFloatEquals(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, value, inverted));
+        return true;
+    }
+
+    /**
+     * Set {@code results} to the keys of the {@code values} equal to {@code value} as by {@code ==}, or not equal to it
+     * if {@code inverted}.
+     *
+     * @return Whether the vectorized kernel was used
+     */
+    public static boolean filterDoubleEquals(
+            final DoubleChunk<? extends Any> values,
+            final LongChunk<? extends Any> keys,
+            final WritableLongChunk<? extends Any> results,
+            final double value,
+            final boolean inverted) {
+        if (KERNELS == null) {
+            return false;
+        }
+        checkFilterArgs(values, keys, results);
+        results.setSize(KERNELS.filterDoubleEquals(values.data, values.offset, keys.data, keys.offset, results.data,
+                results.offset, values.size, value, inverted));
+        return true;
+    }
+
+    /**
+     * Sum the non-null values in {@code [chunkStart, chunkStart + chunkSize)}.
+     *
+     * @param nonNullCount Incremented by the number of non-null values
+     * @return The sum
+     */
+    public static long sumLong(
+            final LongChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt nonNullCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.sumLong(values.data, values.offset + chunkStart, chunkSize, nonNullCount);
+    }
+
+    /**
+     * Sum the values in {@code [chunkStart, chunkStart + chunkSize)} that are neither null, NaN nor infinite, and count
+     * the rest. The values are added in a different order than a sequential loop would, so the sum may differ from a
+     * sequential sum by rounding, or overflow where a sequential sum would not. May only be called when
+     * {@link #isDoubleSumAvailable()}.
+     *
+     * @return The sum
+     */
+    public static double sumDouble(
+            final DoubleChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt normalCount,
+            final MutableInt nanCount,
+            final MutableInt positiveInfinityCount,
+            final MutableInt negativeInfinityCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.sumDouble(values.data, values.offset + chunkStart, chunkSize, normalCount, nanCount,
+                positiveInfinityCount, negativeInfinityCount);
+    }
+
+    /**
+     * Set {@code destination} to the initial hash codes of {@code values}.
+     */
+    public static void hashInitialInt(
+            final IntChunk<? extends Any> values,
+            final WritableIntChunk<? extends Any> destination) {
+        ChunkHelpers.checkSliceArgs(destination.capacity, 0, values.size);
+        KERNELS.hashInitialInt(values.data, values.offset, destination.data, destination.offset, values.size);
+        destination.setSize(values.size);
+    }
+
+    /**
+     * Update the hash codes in {@code destination} with {@code values}.
+     */
+    public static void hashUpdateInt(
+            final IntChunk<? extends Any> values,
+            final WritableIntChunk<? extends Any> destination) {
+        ChunkHelpers.checkSliceArgs(destination.capacity, 0, values.size);
+        KERNELS.hashUpdateInt(values.data, values.offset, destination.data, destination.offset, values.size);
+        destination.setSize(values.size);
+    }
+
+    /**
+     * Set {@code destination} to the initial hash codes of {@code values}.
+     */
+    public static void hashInitialLong(
+            final LongChunk<? extends Any> values,
+            final WritableIntChunk<? extends Any> destination) {
+        ChunkHelpers.checkSliceArgs(destination.capacity, 0, values.size);
+        KERNELS.hashInitialLong(values.data, values.offset, destination.data, destination.offset, values.size);
+        destination.setSize(values.size);
+    }
+
+    /**
+     * Update the hash codes in {@code destination} with {@code values}.
+     */
+    public static void hashUpdateLong(
+            final LongChunk<? extends Any> values,
+            final WritableIntChunk<? extends Any> destination) {
+        ChunkHelpers.checkSliceArgs(destination.capacity, 0, values.size);
+        KERNELS.hashUpdateLong(values.data, values.offset, destination.data, destination.offset, values.size);
+        destination.setSize(values.size);
+    }
+
+    /**
+     * Find the minimum or maximum of the non-null values in {@code [chunkStart, chunkStart + chunkSize)}.
+     *
+     * @param nonNullCount Set to the number of non-null values
+     * @return The minimum or maximum, or null if there are no non-null values
+     */
+    public static int minMaxInt(
+            final IntChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.minMaxInt(values.data, values.offset + chunkStart, chunkSize, minimum, nonNullCount);
+    }
+
+    /**
+     * Find the minimum or maximum of the non-null values in {@code [chunkStart, chunkStart + chunkSize)}.
+     *
+     * @param nonNullCount Set to the number of non-null values
+     * @return The minimum or maximum, or null if there are no non-null values
+     */
+    public static long minMaxLong(
+            final LongChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.minMaxLong(values.data, values.offset + chunkStart, chunkSize, minimum, nonNullCount);
+    }
+
+    /**
+     * Find the minimum or maximum of the non-null values in {@code [chunkStart, chunkStart + chunkSize)}, which is NaN
+     * if any value is NaN.
+     *
+     * @param nonNullCount Set to the number of non-null values, or to one if any value is NaN
+     * @return The minimum or maximum, or null if there are no non-null values
+     */
+    public static float minMaxFloat(
+            final FloatChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.minMaxFloat(values.data, values.offset + chunkStart, chunkSize, minimum, nonNullCount);
+    }
+
+    /**
+     * Find the minimum or maximum of the non-null values in {@code [chunkStart, chunkStart + chunkSize)}, which is NaN
+     * if any value is NaN.
+     *
+     * @param nonNullCount Set to the number of non-null values, or to one if any value is NaN
+     * @return The minimum or maximum, or null if there are no non-null values
+     */
+    public static double minMaxDouble(
+            final DoubleChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final boolean minimum,
+            final MutableInt nonNullCount) {
+        ChunkHelpers.checkSliceArgs(values.size, chunkStart, chunkSize);
+        return KERNELS.minMaxDouble(values.data, values.offset + chunkStart, chunkSize, minimum, nonNullCount);
+    }
+}
@@ -21,6 +21,8 @@ public class BooleanChunkHasher implements ChunkHasher {
     public static BooleanChunkHasher INSTANCE = new BooleanChunkHasher();
 
     private static void hashInitial(BooleanChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final boolean value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -29,6 +31,8 @@ public class BooleanChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(BooleanChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
@@ -17,6 +17,8 @@ public class CharChunkHasher implements ChunkHasher {
     public static CharChunkHasher INSTANCE = new CharChunkHasher();
 
     private static void hashInitial(CharChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final char value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -25,6 +27,8 @@ public class CharChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(CharChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
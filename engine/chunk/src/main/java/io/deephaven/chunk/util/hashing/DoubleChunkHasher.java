@@ -21,6 +21,8 @@ public class DoubleChunkHasher implements ChunkHasher {
     public static DoubleChunkHasher INSTANCE = new DoubleChunkHasher();
 
     private static void hashInitial(DoubleChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final double value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -29,6 +31,8 @@ public class DoubleChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(DoubleChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
@@ -7,6 +7,8 @@
 // @formatter:off
 package io.deephaven.chunk.util.hashing;
 
+import io.deephaven.chunk.SimdChunkKernels;
+
 import io.deephaven.chunk.IntChunk;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.WritableIntChunk;
@@ -21,6 +23,12 @@ public class IntChunkHasher implements ChunkHasher {
     public static IntChunkHasher INSTANCE = new IntChunkHasher();
 
     private static void hashInitial(IntChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        if (SimdChunkKernels.isAvailable()) {
+            SimdChunkKernels.hashInitialInt(values, destination);
+            return;
+        }
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final int value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -29,6 +37,12 @@ public class IntChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(IntChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        if (SimdChunkKernels.isAvailable()) {
+            SimdChunkKernels.hashUpdateInt(values, destination);
+            return;
+        }
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
@@ -7,6 +7,8 @@
 // @formatter:off
 package io.deephaven.chunk.util.hashing;
 
+import io.deephaven.chunk.SimdChunkKernels;
+
 import io.deephaven.chunk.LongChunk;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.WritableIntChunk;
@@ -21,6 +23,12 @@ public class LongChunkHasher implements ChunkHasher {
     public static LongChunkHasher INSTANCE = new LongChunkHasher();
 
     private static void hashInitial(LongChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        if (SimdChunkKernels.isAvailable()) {
+            SimdChunkKernels.hashInitialLong(values, destination);
+            return;
+        }
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final long value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -29,6 +37,12 @@ public class LongChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(LongChunk<Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        if (SimdChunkKernels.isAvailable()) {
+            SimdChunkKernels.hashUpdateLong(values, destination);
+            return;
+        }
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
@@ -23,6 +23,8 @@ public class ObjectChunkHasher implements ChunkHasher {
     public static ObjectChunkHasher INSTANCE = new ObjectChunkHasher();
 
     private static void hashInitial(ObjectChunk<Object, Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashInitial
+        // endregion vectorized hashInitial
         for (int ii = 0; ii < values.size(); ++ii) {
             final Object value = values.get(ii);
             destination.set(ii, hashInitialSingle(value));
@@ -31,6 +33,8 @@ public class ObjectChunkHasher implements ChunkHasher {
     }
 
     private static void hashSecondary(ObjectChunk<Object, Values> values, WritableIntChunk<HashCodes> destination) {
+        // region vectorized hashSecondary
+        // endregion vectorized hashSecondary
         for (int ii = 0; ii < values.size(); ++ii) {
             destination.set(ii, hashUpdateSingle(destination.get(ii), values.get(ii)));
         }
@@ -0,0 +1,147 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.pools;
+
+import io.deephaven.chunk.CharChunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ResettableCharChunk;
+import io.deephaven.chunk.ResettableReadOnlyChunk;
+import io.deephaven.chunk.ResettableWritableCharChunk;
+import io.deephaven.chunk.ResettableWritableChunk;
+import io.deephaven.chunk.WritableCharChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.util.type.ArrayTypeUtils;
+import io.deephaven.chunk.attributes.Any;
+import org.jetbrains.annotations.NotNull;
+
+import static io.deephaven.chunk.util.pools.ChunkPoolConstants.*;
+
+/**
+ * {@link CharChunkPool} implementation that pools chunks of chars in per-thread magazines backed by shared depots,
+ * within a byte budget shared with every other {@link MultiChunkPool MultiChunkPool's} magazine pools, and records
+ * {@link ChunkPoolStatistics statistics}.
+ */
+public final class CharChunkMagazinePool implements CharChunkPool {
+
+    private static final WritableCharChunk<Any> EMPTY =
+            WritableCharChunk.writableChunkWrap(ArrayTypeUtils.EMPTY_CHAR_ARRAY);
+
+    /**
+     * Subpools by power-of-two sizes for {@link WritableCharChunk WritableCharChunks}.
+     */
+    private final MagazinePool<WritableCharChunk<Any>>[] writableCharChunks;
+
+    /**
+     * Subpool of {@link ResettableCharChunk ResettableCharChunks}.
+     */
+    private final MagazinePool<ResettableCharChunk<Any>> resettableCharChunks;
+
+    /**
+     * Subpool of {@link ResettableWritableCharChunk ResettableWritableCharChunks}.
+     */
+    private final MagazinePool<ResettableWritableCharChunk<Any>> resettableWritableCharChunks;
+
+    CharChunkMagazinePool(@NotNull final MagazinePool.Budget budget) {
+        // noinspection unchecked
+        writableCharChunks = new MagazinePool[NUM_POOLED_CHUNK_CAPACITIES];
+        for (int pcci = 0; pcci < NUM_POOLED_CHUNK_CAPACITIES; ++pcci) {
+            final int poolIndex = pcci;
+            final int chunkLog2Capacity = poolIndex + SMALLEST_POOLED_CHUNK_LOG2_CAPACITY;
+            final int chunkCapacity = 1 << chunkLog2Capacity;
+            writableCharChunks[poolIndex] = new MagazinePool<>(
+                    MAGAZINE_CAPACITY,
+                    (long) chunkCapacity * Character.BYTES,
+                    budget,
+                    () -> ChunkPoolInstrumentation.getAndRecord(
+                            () -> new WritableCharChunk<Any>(CharChunk.makeArray(chunkCapacity), 0, chunkCapacity) {
+                                @Override
+                                public void close() {
+                                    writableCharChunks[poolIndex].give(ChunkPoolReleaseTracking.onGive(this));
+                                }
+                            }),
+                    (final WritableCharChunk<Any> chunk) -> chunk.setSize(chunkCapacity),
+                    ChunkPoolInstrumentation.getOrCreateStatistics(
+                            ChunkType.Char, WritableCharChunk.class, chunkCapacity));
+        }
+        resettableCharChunks = new MagazinePool<>(
+                MAGAZINE_CAPACITY,
+                RESETTABLE_CHUNK_BYTES,
+                budget,
+                () -> ChunkPoolInstrumentation.getAndRecord(() -> new ResettableCharChunk<Any>() {
+                    @Override
+                    public void close() {
+                        resettableCharChunks.give(ChunkPoolReleaseTracking.onGive(this));
+                    }
+                }),
+                ResettableCharChunk::clear,
+                ChunkPoolInstrumentation.getOrCreateStatistics(ChunkType.Char, ResettableCharChunk.class, 0));
+        resettableWritableCharChunks = new MagazinePool<>(
+                MAGAZINE_CAPACITY,
+                RESETTABLE_CHUNK_BYTES,
+                budget,
+                () -> ChunkPoolInstrumentation.getAndRecord(() -> new ResettableWritableCharChunk<Any>() {
+                    @Override
+                    public void close() {
+                        resettableWritableCharChunks.give(ChunkPoolReleaseTracking.onGive(this));
+                    }
+                }),
+                ResettableWritableCharChunk::clear,
+                ChunkPoolInstrumentation.getOrCreateStatistics(ChunkType.Char, ResettableWritableCharChunk.class, 0));
+    }
+
+    @Override
+    public ChunkPool asChunkPool() {
+        return new ChunkPool() {
+            @Override
+            public <ATTR extends Any> WritableChunk<ATTR> takeWritableChunk(final int capacity) {
+                return takeWritableCharChunk(capacity);
+            }
+
+            @Override
+            public <ATTR extends Any> ResettableReadOnlyChunk<ATTR> takeResettableChunk() {
+                return takeResettableCharChunk();
+            }
+
+            @Override
+            public <ATTR extends Any> ResettableWritableChunk<ATTR> takeResettableWritableChunk() {
+                return takeResettableWritableCharChunk();
+            }
+        };
+    }
+
+    @Override
+    public <ATTR extends Any> WritableCharChunk<ATTR> takeWritableCharChunk(final int capacity) {
+        if (capacity == 0) {
+            // noinspection unchecked
+            return (WritableCharChunk<ATTR>) EMPTY;
+        }
+        final int poolIndexForTake = getPoolIndexForTake(checkCapacityBounds(capacity));
+        if (poolIndexForTake >= 0) {
+            // noinspection resource,unchecked
+            final WritableCharChunk<ATTR> result =
+                    (WritableCharChunk<ATTR>) writableCharChunks[poolIndexForTake].take();
+            result.setSize(capacity);
+            return ChunkPoolReleaseTracking.onTake(result);
+        }
+        return ChunkPoolReleaseTracking.onTake(
+                new WritableCharChunk<>(CharChunk.makeArray(capacity), 0, capacity) {
+                    @Override
+                    public void close() {
+                        ChunkPoolReleaseTracking.onGive(this);
+                    }
+                });
+    }
+
+    @Override
+    public <ATTR extends Any> ResettableCharChunk<ATTR> takeResettableCharChunk() {
+        // noinspection unchecked
+        return (ResettableCharChunk<ATTR>) ChunkPoolReleaseTracking.onTake(resettableCharChunks.take());
+    }
+
+    @Override
+    public <ATTR extends Any> ResettableWritableCharChunk<ATTR> takeResettableWritableCharChunk() {
+        // noinspection unchecked
+        return (ResettableWritableCharChunk<ATTR>) ChunkPoolReleaseTracking.onTake(resettableWritableCharChunks.take());
+    }
+}
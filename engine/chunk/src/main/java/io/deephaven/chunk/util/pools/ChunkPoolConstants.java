@@ -72,6 +72,43 @@ public final class ChunkPoolConstants {
     static final int SUB_POOL_SEGMENT_CAPACITY = Configuration.getInstance().getIntegerForClassWithDefault(
             ChunkPoolConstants.class, "subPoolSegmentCapacity", 10);;
 
+    /**
+     * Whether {@link MultiChunkPool} should use magazine pools, which keep per-thread magazines of chunks in front of
+     * shared depots and are bounded by {@link #MAX_POOLED_BYTES}, rather than soft pools, which are bounded only by
+     * garbage collector pressure.
+     */
+    static final boolean USE_MAGAZINE_POOLS = Configuration.getInstance().getBooleanForClassWithDefault(
+            ChunkPoolConstants.class, "useMagazinePools", false);
+
+    /**
+     * The number of chunks held by each magazine. Each thread keeps up to two magazines per subpool of a magazine pool.
+     */
+    static final int MAGAZINE_CAPACITY = Configuration.getInstance().getIntegerForClassWithDefault(
+            ChunkPoolConstants.class, "magazineCapacity", 8);
+
+    /**
+     * The maximum number of bytes of chunks that the magazine pools of all {@link MultiChunkPool MultiChunkPools}
+     * retain together, over all threads, chunk types and capacities. Every magazine reserves its full capacity against
+     * this limit, whether it is held by a thread or by a depot. Chunks given back when no magazine can be reserved are
+     * left for the garbage collector.
+     */
+    static final long MAX_POOLED_BYTES = Configuration.getInstance().getLongForClassWithDefault(
+            ChunkPoolConstants.class, "maxPooledBytes", 256L << 20);
+
+    /**
+     * The number of bytes accounted to a pooled resettable chunk, which holds a reference to its data but not the data
+     * itself.
+     */
+    static final int RESETTABLE_CHUNK_BYTES = 32;
+
+    static {
+        if (MAGAZINE_CAPACITY < 1 || MAX_POOLED_BYTES < 0) {
+            throw new IllegalArgumentException(
+                    "Magazine capacity must be positive and maximum pooled bytes must be non-negative, were "
+                            + MAGAZINE_CAPACITY + " and " + MAX_POOLED_BYTES);
+        }
+    }
+
     /**
      * Check that the given chunk capacity is valid.
      *
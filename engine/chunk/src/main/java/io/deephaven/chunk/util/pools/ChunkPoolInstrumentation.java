@@ -3,19 +3,28 @@
 //
 package io.deephaven.chunk.util.pools;
 
+import io.deephaven.chunk.ChunkType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
- * Static callback holder for pooled chunk allocation.
+ * Static callback holder for pooled chunk allocation, and registry of {@link ChunkPoolStatistics pool statistics}.
  */
 public class ChunkPoolInstrumentation {
 
     private static Function<Supplier<?>, ?> allocationRecorder = Supplier::get;
 
+    /**
+     * Statistics by chunk class name and capacity, in registration order, guarded by the class lock.
+     */
+    private static final Map<String, ChunkPoolStatistics> statistics = new LinkedHashMap<>();
+
     /**
      * Set an allocation recorder for this process' {@link ChunkPool chunk pools}.
      *
@@ -35,4 +44,31 @@ public class ChunkPoolInstrumentation {
         // noinspection unchecked
         return (RETURN_TYPE) allocationRecorder.apply(allocationProcedure);
     }
+
+    /**
+     * Get the statistics of this process' magazine pools, one entry per class of pooled chunks. Soft pools, which are
+     * used unless {@code ChunkPoolConstants.useMagazinePools} is true, do not record statistics.
+     *
+     * @return The statistics registered so far
+     */
+    public static synchronized List<ChunkPoolStatistics> getStatistics() {
+        return List.copyOf(statistics.values());
+    }
+
+    /**
+     * Get the statistics for a class of pooled chunks, registering them if necessary.
+     *
+     * @param chunkType The type of the pooled chunks
+     * @param chunkClass The class of the pooled chunks
+     * @param chunkCapacity The capacity of the pooled chunks, or 0 for resettable chunks
+     * @return The statistics shared by all pools of this class of chunks
+     */
+    static synchronized ChunkPoolStatistics getOrCreateStatistics(
+            @NotNull final ChunkType chunkType,
+            @NotNull final Class<?> chunkClass,
+            final int chunkCapacity) {
+        final String chunkClassName = chunkClass.getSimpleName();
+        return statistics.computeIfAbsent(chunkClassName + '[' + chunkCapacity + ']',
+                key -> new ChunkPoolStatistics(chunkType, chunkClassName, chunkCapacity));
+    }
 }
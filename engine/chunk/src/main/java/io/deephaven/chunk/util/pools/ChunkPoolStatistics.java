@@ -0,0 +1,154 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.pools;
+
+import io.deephaven.chunk.ChunkType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for one class of pooled chunks, i.e. one chunk type and kind, and for writable chunks one capacity, summed
+ * over all of this process' magazine pools. Obtain instances from {@link ChunkPoolInstrumentation#getStatistics()}.
+ * <p>
+ * Takes that are not matched by gives are chunks that are in use or that were leaked;
+ * {@link ChunkPoolReleaseTracking} can identify the code responsible for a leak. Pooled bytes are the capacity of the
+ * magazines that hold these chunks, both those held by threads and those held by the shared depots, as reserved against
+ * {@code ChunkPoolConstants.maxPooledBytes}; they bound the bytes of chunks the pools retain.
+ * <p>
+ * The counters are {@link AtomicLong AtomicLongs} rather than {@code LongAdders}, since this package is also compiled
+ * by GWT for the web client, which does not emulate {@code LongAdder}.
+ */
+public final class ChunkPoolStatistics {
+
+    private final ChunkType chunkType;
+    private final String chunkClassName;
+    private final int chunkCapacity;
+
+    private final AtomicLong takes = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong gives = new AtomicLong();
+    private final AtomicLong discards = new AtomicLong();
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final AtomicLong pooledBytesHighWaterMark = new AtomicLong();
+
+    ChunkPoolStatistics(
+            @NotNull final ChunkType chunkType,
+            @NotNull final String chunkClassName,
+            final int chunkCapacity) {
+        this.chunkType = chunkType;
+        this.chunkClassName = chunkClassName;
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    void onTake() {
+        takes.incrementAndGet();
+    }
+
+    void onMiss() {
+        misses.incrementAndGet();
+    }
+
+    void onGive() {
+        gives.incrementAndGet();
+    }
+
+    void onDiscard() {
+        discards.incrementAndGet();
+    }
+
+    void onPooledBytesChanged(final long delta) {
+        final long current = pooledBytes.addAndGet(delta);
+        if (delta > 0) {
+            long highWaterMark;
+            do {
+                highWaterMark = pooledBytesHighWaterMark.get();
+            } while (current > highWaterMark && !pooledBytesHighWaterMark.compareAndSet(highWaterMark, current));
+        }
+    }
+
+    /**
+     * @return The type of the pooled chunks
+     */
+    public ChunkType getChunkType() {
+        return chunkType;
+    }
+
+    /**
+     * @return The simple name of the pooled chunks' class, e.g. {@code WritableLongChunk}
+     */
+    public String getChunkClassName() {
+        return chunkClassName;
+    }
+
+    /**
+     * @return The capacity of the pooled chunks, or 0 for resettable chunks
+     */
+    public int getChunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * @return The number of chunks taken from the pools
+     */
+    public long getTakes() {
+        return takes.get();
+    }
+
+    /**
+     * @return The number of takes that found no pooled chunk, and so allocated a new one
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of chunks given back to the pools
+     */
+    public long getGives() {
+        return gives.get();
+    }
+
+    /**
+     * @return The number of chunks given back when no magazine could be reserved for them, and so not retained
+     */
+    public long getDiscards() {
+        return discards.get();
+    }
+
+    /**
+     * @return The number of chunks taken and not yet given back, which includes any leaked chunks
+     */
+    public long getOutstanding() {
+        // Read gives first, so that a concurrent take and give cannot make the result negative
+        final long givesSnapshot = gives.get();
+        return takes.get() - givesSnapshot;
+    }
+
+    /**
+     * @return The capacity in bytes of the magazines currently held by threads and depots
+     */
+    public long getPooledBytes() {
+        return pooledBytes.get();
+    }
+
+    /**
+     * @return The largest capacity in bytes of the magazines held by threads and depots at once
+     */
+    public long getPooledBytesHighWaterMark() {
+        return pooledBytesHighWaterMark.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkPoolStatistics{" + chunkClassName + (chunkCapacity == 0 ? "" : "[" + chunkCapacity + ']')
+                + ", takes=" + getTakes()
+                + ", misses=" + getMisses()
+                + ", gives=" + getGives()
+                + ", discards=" + getDiscards()
+                + ", pooledBytes=" + getPooledBytes()
+                + ", pooledBytesHighWaterMark=" + getPooledBytesHighWaterMark()
+                + '}';
+    }
+}
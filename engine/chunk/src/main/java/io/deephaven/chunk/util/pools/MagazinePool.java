@@ -0,0 +1,317 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.pools;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of interchangeable elements, in which each thread takes and gives through up to two magazines of its own, and
+ * magazines are exchanged with a shared depot only when a thread's magazines are all empty (on take) or all full (on
+ * give). Takes and gives that are satisfied by the calling thread's magazines neither lock nor allocate.
+ * <p>
+ * Every magazine that can hold elements, whether held by a thread or by the depot, reserves its full capacity in bytes
+ * from a {@link Budget}, which {@link MultiChunkPool} shares among the pools of every thread. Elements given back when
+ * no magazine can be reserved are left for the garbage collector. The reservations of a thread's magazines are released
+ * after the thread terminates.
+ *
+ * @param <ELEMENT_TYPE> The type of the pooled elements
+ */
+final class MagazinePool<ELEMENT_TYPE> {
+
+    /**
+     * The bytes that a group of pools may retain, reserved a magazine at a time.
+     */
+    static final class Budget {
+
+        private final long maxBytes;
+        private final AtomicLong reservedBytes = new AtomicLong();
+
+        /**
+         * @param maxBytes The maximum number of bytes to reserve
+         */
+        Budget(final long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean tryReserve(final long bytes) {
+            long current;
+            do {
+                current = reservedBytes.get();
+                if (current + bytes > maxBytes) {
+                    return false;
+                }
+            } while (!reservedBytes.compareAndSet(current, current + bytes));
+            return true;
+        }
+
+        private void release(final long bytes) {
+            reservedBytes.addAndGet(-bytes);
+        }
+
+        /**
+         * @return The maximum number of bytes to reserve
+         */
+        long getMaxBytes() {
+            return maxBytes;
+        }
+
+        /**
+         * @return The number of bytes currently reserved
+         */
+        long getReservedBytes() {
+            return reservedBytes.get();
+        }
+    }
+
+    private static final class Magazine {
+
+        private final Object[] elements;
+        private int size;
+
+        private Magazine(final int capacity) {
+            elements = new Object[capacity];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private boolean isFull() {
+            return size == elements.length;
+        }
+    }
+
+    /**
+     * The number of magazines owned by a thread, guarded by the pool. Kept apart from the thread's magazines so that
+     * their reservations can be released once the magazines have been collected.
+     */
+    private static final class Ownership {
+
+        private int magazines;
+    }
+
+    private static final class ThreadMagazines {
+
+        /**
+         * The magazine to take from and give to, or {@code null} if this thread owns no such magazine.
+         */
+        private Magazine loaded;
+        /**
+         * A second magazine, or {@code null} if this thread owns no such magazine.
+         */
+        private Magazine previous;
+        private final Ownership ownership = new Ownership();
+
+        private void swap() {
+            final Magazine temp = loaded;
+            loaded = previous;
+            previous = temp;
+        }
+    }
+
+    private static final class ThreadMagazinesReference extends WeakReference<ThreadMagazines> {
+
+        private final MagazinePool<?> pool;
+        private final Ownership ownership;
+
+        private ThreadMagazinesReference(
+                @NotNull final ThreadMagazines referent,
+                @NotNull final MagazinePool<?> pool) {
+            super(referent, COLLECTED_THREAD_MAGAZINES);
+            this.pool = pool;
+            this.ownership = referent.ownership;
+        }
+
+        private void release() {
+            synchronized (pool) {
+                pool.threadMagazinesReferences.remove(this);
+                pool.releaseMagazines(ownership.magazines);
+                ownership.magazines = 0;
+            }
+        }
+    }
+
+    /**
+     * Queue of references to the magazines of terminated threads, whose reservations are released by the next thread
+     * to visit a depot.
+     */
+    private static final ReferenceQueue<ThreadMagazines> COLLECTED_THREAD_MAGAZINES = new ReferenceQueue<>();
+
+    private final int magazineCapacity;
+    private final long magazineBytes;
+    private final Budget budget;
+    private final Supplier<ELEMENT_TYPE> creationProcedure;
+    private final Consumer<ELEMENT_TYPE> cleanupProcedure;
+    private final ChunkPoolStatistics statistics;
+
+    private final ThreadLocal<ThreadMagazines> threadMagazines;
+
+    /**
+     * References to the magazines of each thread that has used this pool, guarded by {@code this}.
+     */
+    private final Set<ThreadMagazinesReference> threadMagazinesReferences = new HashSet<>();
+    /**
+     * Full magazines, guarded by {@code this}.
+     */
+    private final Deque<Magazine> fullMagazines = new ArrayDeque<>();
+    /**
+     * Empty magazines, which hold no reservation, guarded by {@code this}.
+     */
+    private final Deque<Magazine> emptyMagazines = new ArrayDeque<>();
+
+    /**
+     * @param magazineCapacity The number of elements held by each magazine
+     * @param elementBytes The number of bytes accounted to each element
+     * @param budget The budget to reserve magazines from
+     * @param creationProcedure Procedure to create a new element when the pool has none available
+     * @param cleanupProcedure Procedure to clean up an element given back to the pool
+     * @param statistics The statistics to record this pool's activity in
+     */
+    MagazinePool(
+            final int magazineCapacity,
+            final long elementBytes,
+            @NotNull final Budget budget,
+            @NotNull final Supplier<ELEMENT_TYPE> creationProcedure,
+            @NotNull final Consumer<ELEMENT_TYPE> cleanupProcedure,
+            @NotNull final ChunkPoolStatistics statistics) {
+        this.magazineCapacity = magazineCapacity;
+        this.magazineBytes = magazineCapacity * elementBytes;
+        this.budget = budget;
+        this.creationProcedure = creationProcedure;
+        this.cleanupProcedure = cleanupProcedure;
+        this.statistics = statistics;
+        threadMagazines = ThreadLocal.withInitial(this::registerThreadMagazines);
+    }
+
+    /**
+     * Take an element from the pool, or create a new one if the pool has none available.
+     *
+     * @return An element
+     */
+    ELEMENT_TYPE take() {
+        statistics.onTake();
+        final ThreadMagazines magazines = threadMagazines.get();
+        if (magazines.loaded == null || magazines.loaded.isEmpty()) {
+            if (magazines.previous != null && !magazines.previous.isEmpty()) {
+                magazines.swap();
+            } else {
+                releaseCollectedThreadMagazines();
+                if (!reloadFromDepot(magazines)) {
+                    statistics.onMiss();
+                    return creationProcedure.get();
+                }
+            }
+        }
+        final Magazine loaded = magazines.loaded;
+        final int index = --loaded.size;
+        // noinspection unchecked
+        final ELEMENT_TYPE result = (ELEMENT_TYPE) loaded.elements[index];
+        loaded.elements[index] = null;
+        return result;
+    }
+
+    /**
+     * Give an element back to the pool, after cleaning it up.
+     *
+     * @param element The element
+     */
+    void give(@NotNull final ELEMENT_TYPE element) {
+        cleanupProcedure.accept(element);
+        statistics.onGive();
+        final ThreadMagazines magazines = threadMagazines.get();
+        if (magazines.loaded == null || magazines.loaded.isFull()) {
+            if (magazines.previous != null && !magazines.previous.isFull()) {
+                magazines.swap();
+            } else {
+                releaseCollectedThreadMagazines();
+                if (!loadEmptyMagazine(magazines)) {
+                    statistics.onDiscard();
+                    return;
+                }
+            }
+        }
+        final Magazine loaded = magazines.loaded;
+        loaded.elements[loaded.size++] = element;
+    }
+
+    private ThreadMagazines registerThreadMagazines() {
+        final ThreadMagazines magazines = new ThreadMagazines();
+        synchronized (this) {
+            threadMagazinesReferences.add(new ThreadMagazinesReference(magazines, this));
+        }
+        return magazines;
+    }
+
+    /**
+     * Exchange the calling thread's empty or missing loaded magazine for a full one from the depot, if the depot has
+     * one. The full magazine's reservation passes to the thread.
+     */
+    private synchronized boolean reloadFromDepot(@NotNull final ThreadMagazines magazines) {
+        final Magazine full = fullMagazines.poll();
+        if (full == null) {
+            return false;
+        }
+        if (magazines.loaded == null) {
+            ++magazines.ownership.magazines;
+        } else {
+            emptyMagazines.push(magazines.loaded);
+            releaseMagazines(1);
+        }
+        magazines.loaded = full;
+        return true;
+    }
+
+    /**
+     * Give the calling thread an empty loaded magazine, keeping its full loaded magazine as its previous magazine if
+     * it has none, and otherwise passing it and its reservation to the depot.
+     */
+    private synchronized boolean loadEmptyMagazine(@NotNull final ThreadMagazines magazines) {
+        if (magazines.loaded != null) {
+            if (magazines.previous == null) {
+                magazines.previous = magazines.loaded;
+            } else {
+                fullMagazines.push(magazines.loaded);
+                --magazines.ownership.magazines;
+            }
+            magazines.loaded = null;
+        }
+        if (!budget.tryReserve(magazineBytes)) {
+            return false;
+        }
+        statistics.onPooledBytesChanged(magazineBytes);
+        final Magazine empty = emptyMagazines.poll();
+        magazines.loaded = empty == null ? new Magazine(magazineCapacity) : empty;
+        ++magazines.ownership.magazines;
+        return true;
+    }
+
+    private void releaseMagazines(final int count) {
+        if (count > 0) {
+            budget.release(count * magazineBytes);
+            statistics.onPooledBytesChanged(-count * magazineBytes);
+        }
+    }
+
+    /**
+     * Release the reservations of the magazines of terminated threads. Called before entering any depot's lock, since
+     * releasing locks the terminated thread's pool.
+     */
+    private static void releaseCollectedThreadMagazines() {
+        Reference<? extends ThreadMagazines> reference;
+        while ((reference = COLLECTED_THREAD_MAGAZINES.poll()) != null) {
+            ((ThreadMagazinesReference) reference).release();
+        }
+    }
+}
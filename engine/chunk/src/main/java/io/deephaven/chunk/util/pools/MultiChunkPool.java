@@ -32,19 +32,32 @@ import io.deephaven.chunk.WritableLongChunk;
 import io.deephaven.chunk.WritableObjectChunk;
 import io.deephaven.chunk.WritableShortChunk;
 import io.deephaven.chunk.attributes.Any;
+import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
+import static io.deephaven.chunk.util.pools.ChunkPoolConstants.MAX_POOLED_BYTES;
+import static io.deephaven.chunk.util.pools.ChunkPoolConstants.USE_MAGAZINE_POOLS;
+
 /**
  * Provides a set of per-type {@link ChunkPool}s. Normally accessed via a {@link ThreadLocal}, to allow some threads to
- * share a common pool and others to allocate their own.
+ * share a common pool and others to allocate their own. The per-type pools are magazine pools if
+ * {@code ChunkPoolConstants.useMagazinePools} is true, and soft pools otherwise.
  */
 public final class MultiChunkPool implements BooleanChunkPool, ByteChunkPool, CharChunkPool, ShortChunkPool,
         IntChunkPool, LongChunkPool, FloatChunkPool, DoubleChunkPool, ObjectChunkPool {
 
+    /**
+     * The bytes that the magazine pools of all MultiChunkPools may retain together, over all chunk types and
+     * capacities. Shared by the {@link #SHARED_POOL shared pool} and every dedicated pool, so that
+     * {@code ChunkPoolConstants.maxPooledBytes} bounds the process rather than each thread.
+     */
+    private static final MagazinePool.Budget MAGAZINE_BUDGET = new MagazinePool.Budget(MAX_POOLED_BYTES);
+
     private static final MultiChunkPool SHARED_POOL = new MultiChunkPool();
     private static final ThreadLocal<MultiChunkPool> POOL_THREAD_LOCAL = ThreadLocal.withInitial(() -> SHARED_POOL);
 
@@ -58,19 +71,55 @@ public final class MultiChunkPool implements BooleanChunkPool, ByteChunkPool, Ch
         return POOL_THREAD_LOCAL.get();
     }
 
-    private final BooleanChunkPool booleanChunkPool = new BooleanChunkSoftPool();
-    private final CharChunkPool charChunkPool = new CharChunkSoftPool();
-    private final ByteChunkPool byteChunkPool = new ByteChunkSoftPool();
-    private final ShortChunkPool shortChunkPool = new ShortChunkSoftPool();
-    private final IntChunkPool intChunkPool = new IntChunkSoftPool();
-    private final LongChunkPool longChunkPool = new LongChunkSoftPool();
-    private final FloatChunkPool floatChunkPool = new FloatChunkSoftPool();
-    private final DoubleChunkPool doubleChunkPool = new DoubleChunkSoftPool();
-    private final ObjectChunkPool objectChunkPool = new ObjectChunkSoftPool();
+    /**
+     * The budget that the magazine pools of this MultiChunkPool reserve from, or {@code null} if it uses soft pools.
+     */
+    private final MagazinePool.Budget magazineBudget;
+
+    private final BooleanChunkPool booleanChunkPool;
+    private final CharChunkPool charChunkPool;
+    private final ByteChunkPool byteChunkPool;
+    private final ShortChunkPool shortChunkPool;
+    private final IntChunkPool intChunkPool;
+    private final LongChunkPool longChunkPool;
+    private final FloatChunkPool floatChunkPool;
+    private final DoubleChunkPool doubleChunkPool;
+    private final ObjectChunkPool objectChunkPool;
 
     private final Map<ChunkType, ChunkPool> pools;
 
-    {
+    private MultiChunkPool() {
+        this(USE_MAGAZINE_POOLS ? MAGAZINE_BUDGET : null);
+    }
+
+    /**
+     * @param magazineBudget The budget for magazine pools to reserve from, or {@code null} to use soft pools
+     */
+    @VisibleForTesting
+    MultiChunkPool(@Nullable final MagazinePool.Budget magazineBudget) {
+        this.magazineBudget = magazineBudget;
+        if (magazineBudget != null) {
+            booleanChunkPool = new BooleanChunkMagazinePool(magazineBudget);
+            charChunkPool = new CharChunkMagazinePool(magazineBudget);
+            byteChunkPool = new ByteChunkMagazinePool(magazineBudget);
+            shortChunkPool = new ShortChunkMagazinePool(magazineBudget);
+            intChunkPool = new IntChunkMagazinePool(magazineBudget);
+            longChunkPool = new LongChunkMagazinePool(magazineBudget);
+            floatChunkPool = new FloatChunkMagazinePool(magazineBudget);
+            doubleChunkPool = new DoubleChunkMagazinePool(magazineBudget);
+            objectChunkPool = new ObjectChunkMagazinePool(magazineBudget);
+        } else {
+            booleanChunkPool = new BooleanChunkSoftPool();
+            charChunkPool = new CharChunkSoftPool();
+            byteChunkPool = new ByteChunkSoftPool();
+            shortChunkPool = new ShortChunkSoftPool();
+            intChunkPool = new IntChunkSoftPool();
+            longChunkPool = new LongChunkSoftPool();
+            floatChunkPool = new FloatChunkSoftPool();
+            doubleChunkPool = new DoubleChunkSoftPool();
+            objectChunkPool = new ObjectChunkSoftPool();
+        }
+
         final EnumMap<ChunkType, ChunkPool> tempPools = new EnumMap<>(ChunkType.class);
         tempPools.put(ChunkType.Boolean, booleanChunkPool.asChunkPool());
         tempPools.put(ChunkType.Char, charChunkPool.asChunkPool());
@@ -84,7 +133,14 @@ public final class MultiChunkPool implements BooleanChunkPool, ByteChunkPool, Ch
         pools = Collections.unmodifiableMap(tempPools);
     }
 
-    private MultiChunkPool() {}
+    /**
+     * @return The budget that the magazine pools of this MultiChunkPool reserve from, or {@code null} if it uses soft
+     *         pools
+     */
+    @VisibleForTesting
+    MagazinePool.Budget getMagazineBudget() {
+        return magazineBudget;
+    }
 
     @SuppressWarnings("unused")
     public ChunkPool getChunkPool(@NotNull final ChunkType chunkType) {
@@ -0,0 +1,158 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.pools;
+
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.ObjectChunk;
+import io.deephaven.chunk.ResettableObjectChunk;
+import io.deephaven.chunk.ResettableReadOnlyChunk;
+import io.deephaven.chunk.ResettableWritableChunk;
+import io.deephaven.chunk.ResettableWritableObjectChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.util.type.ArrayTypeUtils;
+import io.deephaven.chunk.attributes.Any;
+import org.jetbrains.annotations.NotNull;
+
+import static io.deephaven.chunk.util.pools.ChunkPoolConstants.*;
+
+/**
+ * {@link ObjectChunkPool} implementation that pools chunks of Objects in per-thread magazines backed by shared depots,
+ * within a byte budget shared with every other {@link MultiChunkPool MultiChunkPool's} magazine pools, and records
+ * {@link ChunkPoolStatistics statistics}.
+ */
+public final class ObjectChunkMagazinePool implements ObjectChunkPool {
+
+    /**
+     * The number of bytes accounted to each element of a pooled chunk, i.e. the size of an uncompressed reference.
+     */
+    private static final int OBJECT_REFERENCE_BYTES = Long.BYTES;
+
+    private final WritableObjectChunk<?, Any> EMPTY =
+            WritableObjectChunk.writableChunkWrap(ArrayTypeUtils.EMPTY_OBJECT_ARRAY);
+
+    /**
+     * Subpools by power-of-two sizes for {@link WritableObjectChunk WritableObjectChunks}.
+     */
+    private final MagazinePool<WritableObjectChunk<?, Any>>[] writableObjectChunks;
+
+    /**
+     * Subpool of {@link ResettableObjectChunk ResettableObjectChunks}.
+     */
+    private final MagazinePool<ResettableObjectChunk<?, Any>> resettableObjectChunks;
+
+    /**
+     * Subpool of {@link ResettableWritableObjectChunk ResettableWritableObjectChunks}.
+     */
+    private final MagazinePool<ResettableWritableObjectChunk<?, Any>> resettableWritableObjectChunks;
+
+    ObjectChunkMagazinePool(@NotNull final MagazinePool.Budget budget) {
+        // noinspection unchecked
+        writableObjectChunks = new MagazinePool[NUM_POOLED_CHUNK_CAPACITIES];
+        for (int pcci = 0; pcci < NUM_POOLED_CHUNK_CAPACITIES; ++pcci) {
+            final int poolIndex = pcci;
+            final int chunkLog2Capacity = poolIndex + SMALLEST_POOLED_CHUNK_LOG2_CAPACITY;
+            final int chunkCapacity = 1 << chunkLog2Capacity;
+            writableObjectChunks[poolIndex] = new MagazinePool<>(
+                    MAGAZINE_CAPACITY,
+                    (long) chunkCapacity * OBJECT_REFERENCE_BYTES,
+                    budget,
+                    () -> ChunkPoolInstrumentation.getAndRecord(
+                            () -> new WritableObjectChunk<Object, Any>(ObjectChunk.makeArray(chunkCapacity), 0,
+                                    chunkCapacity) {
+                                @Override
+                                public void close() {
+                                    writableObjectChunks[poolIndex].give(ChunkPoolReleaseTracking.onGive(this));
+                                }
+                            }),
+                    (final WritableObjectChunk<?, Any> chunk) -> {
+                        chunk.fillWithNullValue(0, chunkCapacity);
+                        chunk.setSize(chunkCapacity);
+                    },
+                    ChunkPoolInstrumentation.getOrCreateStatistics(
+                            ChunkType.Object, WritableObjectChunk.class, chunkCapacity));
+        }
+        resettableObjectChunks = new MagazinePool<>(
+                MAGAZINE_CAPACITY,
+                RESETTABLE_CHUNK_BYTES,
+                budget,
+                () -> ChunkPoolInstrumentation.getAndRecord(() -> new ResettableObjectChunk<Object, Any>() {
+                    @Override
+                    public void close() {
+                        resettableObjectChunks.give(ChunkPoolReleaseTracking.onGive(this));
+                    }
+                }),
+                ResettableObjectChunk::clear,
+                ChunkPoolInstrumentation.getOrCreateStatistics(ChunkType.Object, ResettableObjectChunk.class, 0));
+        resettableWritableObjectChunks = new MagazinePool<>(
+                MAGAZINE_CAPACITY,
+                RESETTABLE_CHUNK_BYTES,
+                budget,
+                () -> ChunkPoolInstrumentation.getAndRecord(() -> new ResettableWritableObjectChunk<Object, Any>() {
+                    @Override
+                    public void close() {
+                        resettableWritableObjectChunks.give(ChunkPoolReleaseTracking.onGive(this));
+                    }
+                }),
+                ResettableWritableObjectChunk::clear,
+                ChunkPoolInstrumentation.getOrCreateStatistics(
+                        ChunkType.Object, ResettableWritableObjectChunk.class, 0));
+    }
+
+    @Override
+    public ChunkPool asChunkPool() {
+        return new ChunkPool() {
+            @Override
+            public <ATTR extends Any> WritableChunk<ATTR> takeWritableChunk(final int capacity) {
+                return takeWritableObjectChunk(capacity);
+            }
+
+            @Override
+            public <ATTR extends Any> ResettableReadOnlyChunk<ATTR> takeResettableChunk() {
+                return takeResettableObjectChunk();
+            }
+
+            @Override
+            public <ATTR extends Any> ResettableWritableChunk<ATTR> takeResettableWritableChunk() {
+                return takeResettableWritableObjectChunk();
+            }
+        };
+    }
+
+    @Override
+    public <TYPE, ATTR extends Any> WritableObjectChunk<TYPE, ATTR> takeWritableObjectChunk(final int capacity) {
+        if (capacity == 0) {
+            // noinspection unchecked
+            return (WritableObjectChunk<TYPE, ATTR>) EMPTY;
+        }
+        final int poolIndexForTake = getPoolIndexForTake(checkCapacityBounds(capacity));
+        if (poolIndexForTake >= 0) {
+            // noinspection resource,unchecked
+            final WritableObjectChunk<TYPE, ATTR> result =
+                    (WritableObjectChunk<TYPE, ATTR>) writableObjectChunks[poolIndexForTake].take();
+            result.setSize(capacity);
+            return ChunkPoolReleaseTracking.onTake(result);
+        }
+        return ChunkPoolReleaseTracking.onTake(
+                new WritableObjectChunk<>(ObjectChunk.makeArray(capacity), 0, capacity) {
+                    @Override
+                    public void close() {
+                        ChunkPoolReleaseTracking.onGive(this);
+                    }
+                });
+    }
+
+    @Override
+    public <TYPE, ATTR extends Any> ResettableObjectChunk<TYPE, ATTR> takeResettableObjectChunk() {
+        // noinspection unchecked
+        return (ResettableObjectChunk<TYPE, ATTR>) ChunkPoolReleaseTracking.onTake(resettableObjectChunks.take());
+    }
+
+    @Override
+    public <TYPE, ATTR extends Any> ResettableWritableObjectChunk<TYPE, ATTR> takeResettableWritableObjectChunk() {
+        // noinspection unchecked
+        return (ResettableWritableObjectChunk<TYPE, ATTR>) ChunkPoolReleaseTracking.onTake(
+                resettableWritableObjectChunks.take());
+    }
+}
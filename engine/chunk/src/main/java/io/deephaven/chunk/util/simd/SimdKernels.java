@@ -0,0 +1,180 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.simd;
+
+import io.deephaven.util.mutable.MutableInt;
+
+/**
+ * Vectorized kernels over the primitive arrays that back chunks. Implementations are discovered by
+ * {@link SimdKernelsLoader} and are used by {@link io.deephaven.chunk.SimdChunkKernels} in place of the scalar chunk
+ * kernels.
+ * <p>
+ * Every kernel must produce exactly the result of the scalar kernel it replaces, using Deephaven's null and comparison
+ * semantics, except that {@link #sumDouble} may add in a different order. Nulls are the {@code QueryConstants} null
+ * value of each type.
+ */
+public interface SimdKernels {
+
+    /**
+     * Write the keys of the values in the given range to {@code results}.
+     *
+     * @param values The values to filter
+     * @param valuesOffset The offset of the first value
+     * @param keys The keys corresponding to {@code values}
+     * @param keysOffset The offset of the first key
+     * @param results The array to write matching keys to
+     * @param resultsOffset The offset to write the first matching key at
+     * @param length The number of values to filter
+     * @param lower The lower bound of the range
+     * @param upper The upper bound of the range
+     * @param lowerInclusive Whether values equal to {@code lower} match
+     * @param upperInclusive Whether values equal to {@code upper} match
+     * @return The number of matching keys written
+     */
+    int filterIntRange(int[] values, int valuesOffset, long[] keys, int keysOffset, long[] results, int resultsOffset,
+            int length, int lower, int upper, boolean lowerInclusive, boolean upperInclusive);
+
+    /**
+     * See {@link #filterIntRange}.
+     */
+    int filterLongRange(long[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, long lower, long upper, boolean lowerInclusive, boolean upperInclusive);
+
+    /**
+     * See {@link #filterIntRange}. Values are compared as by {@code ==}, {@code <} and {@code >}, so callers must not
+     * use this kernel when that differs from {@code FloatComparisons}: when {@code upper} is NaN or {@code lower} is
+     * not greater than the null float.
+     */
+    int filterFloatRange(float[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, float lower, float upper, boolean lowerInclusive, boolean upperInclusive);
+
+    /**
+     * See {@link #filterFloatRange}.
+     */
+    int filterDoubleRange(double[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, double lower, double upper, boolean lowerInclusive, boolean upperInclusive);
+
+    /**
+     * Write the keys of the values equal to {@code value} (or, if {@code inverted}, not equal to it) to
+     * {@code results}.
+     *
+     * @param values The values to filter
+     * @param valuesOffset The offset of the first value
+     * @param keys The keys corresponding to {@code values}
+     * @param keysOffset The offset of the first key
+     * @param results The array to write matching keys to
+     * @param resultsOffset The offset to write the first matching key at
+     * @param length The number of values to filter
+     * @param value The value to match
+     * @param inverted Whether to match the values not equal to {@code value} instead
+     * @return The number of matching keys written
+     */
+    int filterIntEquals(int[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, int value, boolean inverted);
+
+    /**
+     * See {@link #filterIntEquals}.
+     */
+    int filterLongEquals(long[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, long value, boolean inverted);
+
+    /**
+     * See {@link #filterIntEquals}. Values are compared as by {@code ==}.
+     */
+    int filterFloatEquals(float[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, float value, boolean inverted);
+
+    /**
+     * See {@link #filterFloatEquals}.
+     */
+    int filterDoubleEquals(double[] values, int valuesOffset, long[] keys, int keysOffset, long[] results,
+            int resultsOffset, int length, double value, boolean inverted);
+
+    /**
+     * Sum the non-null values.
+     *
+     * @param values The values to sum
+     * @param offset The offset of the first value
+     * @param length The number of values to sum
+     * @param nonNullCount Incremented by the number of non-null values
+     * @return The sum
+     */
+    long sumLong(long[] values, int offset, int length, MutableInt nonNullCount);
+
+    /**
+     * Sum the values that are neither null, NaN nor infinite, and count the rest.
+     *
+     * @param values The values to sum
+     * @param offset The offset of the first value
+     * @param length The number of values to sum
+     * @param normalCount Incremented by the number of values summed
+     * @param nanCount Incremented by the number of NaN values
+     * @param positiveInfinityCount Incremented by the number of positive infinities
+     * @param negativeInfinityCount Incremented by the number of negative infinities
+     * @return The sum, which may differ from a sequential sum by rounding, and may overflow where a sequential sum
+     *         of values near {@code Double.MAX_VALUE} would not
+     */
+    double sumDouble(double[] values, int offset, int length, MutableInt normalCount, MutableInt nanCount,
+            MutableInt positiveInfinityCount, MutableInt negativeInfinityCount);
+
+    /**
+     * Write the hash code of each value, as {@code IntChunkHasher.hashInitialSingle}.
+     *
+     * @param values The values to hash
+     * @param valuesOffset The offset of the first value
+     * @param hashes The array to write hash codes to
+     * @param hashesOffset The offset to write the first hash code at
+     * @param length The number of values to hash
+     */
+    void hashInitialInt(int[] values, int valuesOffset, int[] hashes, int hashesOffset, int length);
+
+    /**
+     * Update the hash code of each value, as {@code IntChunkHasher.hashUpdateSingle}.
+     *
+     * @param values The values to hash
+     * @param valuesOffset The offset of the first value
+     * @param hashes The array of hash codes to update
+     * @param hashesOffset The offset of the first hash code
+     * @param length The number of values to hash
+     */
+    void hashUpdateInt(int[] values, int valuesOffset, int[] hashes, int hashesOffset, int length);
+
+    /**
+     * See {@link #hashInitialInt}; as {@code LongChunkHasher.hashInitialSingle}.
+     */
+    void hashInitialLong(long[] values, int valuesOffset, int[] hashes, int hashesOffset, int length);
+
+    /**
+     * See {@link #hashUpdateInt}; as {@code LongChunkHasher.hashUpdateSingle}.
+     */
+    void hashUpdateLong(long[] values, int valuesOffset, int[] hashes, int hashesOffset, int length);
+
+    /**
+     * Find the minimum or maximum of the non-null values.
+     *
+     * @param values The values to search
+     * @param offset The offset of the first value
+     * @param length The number of values to search
+     * @param minimum Whether to find the minimum rather than the maximum
+     * @param nonNullCount Set to the number of non-null values
+     * @return The minimum or maximum, or null if there are no non-null values
+     */
+    int minMaxInt(int[] values, int offset, int length, boolean minimum, MutableInt nonNullCount);
+
+    /**
+     * See {@link #minMaxInt}.
+     */
+    long minMaxLong(long[] values, int offset, int length, boolean minimum, MutableInt nonNullCount);
+
+    /**
+     * See {@link #minMaxInt}. Positive and negative zero are equal, and the first of equal extremes is returned. If any
+     * value is NaN, the result is NaN and {@code nonNullCount} is set to one.
+     */
+    float minMaxFloat(float[] values, int offset, int length, boolean minimum, MutableInt nonNullCount);
+
+    /**
+     * See {@link #minMaxFloat}.
+     */
+    double minMaxDouble(double[] values, int offset, int length, boolean minimum, MutableInt nonNullCount);
+}
@@ -0,0 +1,142 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.simd;
+
+import io.deephaven.chunk.util.hashing.ChunkHasher;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Finds the {@link SimdKernels} implementation, if one may be used.
+ * <p>
+ * The implementation is built on the {@code jdk.incubator.vector} module, which the JVM only resolves when started with
+ * {@code --add-modules jdk.incubator.vector}. Without that module, without an implementation on the classpath, when
+ * disabled by the {@code SimdKernelsLoader.enabled} property, or when the implementation fails a self-test against the
+ * scalar definitions, no implementation is used and the scalar chunk kernels run instead.
+ * <p>
+ * Every kernel but {@link SimdKernels#sumDouble} produces exactly the result of the scalar kernel it replaces. The
+ * vectorized double sum adds in a different order, so its result may differ by rounding, or overflow where a sequential
+ * sum would not; it is only used when the {@code SimdKernelsLoader.reorderDoubleSums} property is set.
+ */
+public final class SimdKernelsLoader {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final boolean ENABLED = Configuration.getInstance()
+            .getBooleanForClassWithDefault(SimdKernelsLoader.class, "enabled", true);
+
+    private static final boolean REORDER_DOUBLE_SUMS = Configuration.getInstance()
+            .getBooleanForClassWithDefault(SimdKernelsLoader.class, "reorderDoubleSums", false);
+
+    private SimdKernelsLoader() {}
+
+    /**
+     * @return Whether double sums may use {@link SimdKernels#sumDouble}, whose result may differ from a sequential sum
+     */
+    public static boolean reorderDoubleSums() {
+        return REORDER_DOUBLE_SUMS;
+    }
+
+    /**
+     * @return The {@link SimdKernels} implementation, or {@code null} if the scalar kernels should be used
+     */
+    @Nullable
+    public static SimdKernels load() {
+        if (!ENABLED || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            final Iterator<SimdKernels> it = ServiceLoader.load(SimdKernels.class).iterator();
+            if (!it.hasNext()) {
+                return null;
+            }
+            final SimdKernels kernels = it.next();
+            if (it.hasNext()) {
+                throw new IllegalStateException(
+                        "Found multiple implementations for " + SimdKernels.class.getSimpleName());
+            }
+            return selfTest(kernels) ? kernels : null;
+        } catch (ServiceConfigurationError | LinkageError | UnsupportedOperationException e) {
+            // The implementation does not work with this JVM's version of the incubator module
+            return null;
+        }
+    }
+
+    /**
+     * Run the kernels over enough values to use full vectors as well as a tail, and compare with the scalar results.
+     */
+    private static boolean selfTest(final SimdKernels kernels) {
+        final int length = 1027;
+        final long[] longs = new long[length];
+        final double[] doubles = new double[length];
+        final long[] keys = new long[length];
+        for (int ii = 0; ii < length; ++ii) {
+            final boolean isNull = ii % 7 == 0;
+            longs[ii] = isNull ? QueryConstants.NULL_LONG : ii * 0x9E3779B97F4A7C15L;
+            doubles[ii] = isNull ? QueryConstants.NULL_DOUBLE : ii % 100 - 50.5;
+            keys[ii] = ii * 3L;
+        }
+
+        final long[] results = new long[length];
+        int expectedMatches = 0;
+        for (int ii = 0; ii < length; ++ii) {
+            if (longs[ii] >= 0 && longs[ii] < Long.MAX_VALUE / 2) {
+                ++expectedMatches;
+            }
+        }
+        final int matches = kernels.filterLongRange(longs, 0, keys, 0, results, 0, length, 0, Long.MAX_VALUE / 2,
+                true, false);
+        if (matches != expectedMatches) {
+            return false;
+        }
+        for (int ii = 0, ri = 0; ii < length; ++ii) {
+            if (longs[ii] >= 0 && longs[ii] < Long.MAX_VALUE / 2 && results[ri++] != keys[ii]) {
+                return false;
+            }
+        }
+
+        expectedMatches = 0;
+        for (int ii = 0; ii < length; ++ii) {
+            if (doubles[ii] > -10 && doubles[ii] <= 10) {
+                ++expectedMatches;
+            }
+        }
+        if (kernels.filterDoubleRange(doubles, 0, keys, 0, results, 0, length, -10, 10, false,
+                true) != expectedMatches) {
+            return false;
+        }
+
+        long expectedSum = 0;
+        int expectedNonNull = 0;
+        long expectedMax = QueryConstants.NULL_LONG;
+        for (final long value : longs) {
+            if (value != QueryConstants.NULL_LONG) {
+                expectedSum += value;
+                expectedMax = expectedNonNull++ == 0 ? value : Math.max(expectedMax, value);
+            }
+        }
+        final MutableInt nonNull = new MutableInt();
+        if (kernels.sumLong(longs, 0, length, nonNull) != expectedSum || nonNull.get() != expectedNonNull) {
+            return false;
+        }
+        if (kernels.minMaxLong(longs, 0, length, false, nonNull) != expectedMax || nonNull.get() != expectedNonNull) {
+            return false;
+        }
+
+        final int[] hashes = new int[length];
+        kernels.hashInitialLong(longs, 0, hashes, 0, length);
+        for (int ii = 0; ii < length; ++ii) {
+            if (hashes[ii] != ChunkHasher.scrambleHash(Long.hashCode(longs[ii]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -4,6 +4,8 @@
 package io.deephaven.chunk.util.pools;
 
 import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Any;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
@@ -59,4 +61,119 @@ public class TestChunkPooling extends TestCase {
             ChunkPoolReleaseTracking.disable();
         }
     }
+
+    public void testMagazinePoolReuseAndStatistics() {
+        final LongChunkMagazinePool pool =
+                new LongChunkMagazinePool(new MagazinePool.Budget(ChunkPoolConstants.MAX_POOLED_BYTES));
+        final ChunkPoolStatistics statistics = ChunkPoolInstrumentation.getStatistics().stream()
+                .filter(s -> s.getChunkType() == ChunkType.Long && s.getChunkCapacity() == 1024
+                        && s.getChunkClassName().equals(WritableLongChunk.class.getSimpleName()))
+                .findFirst()
+                .orElseThrow();
+        final long takesBefore = statistics.getTakes();
+        final long missesBefore = statistics.getMisses();
+        final long givesBefore = statistics.getGives();
+
+        final WritableLongChunk<Any> first = pool.takeWritableLongChunk(1000);
+        TestCase.assertEquals(1000, first.size());
+        TestCase.assertEquals(1024, first.capacity());
+        first.close();
+        final WritableLongChunk<Any> second = pool.takeWritableLongChunk(1024);
+        TestCase.assertSame(first, second);
+        TestCase.assertEquals(takesBefore + 2, statistics.getTakes());
+        TestCase.assertEquals(missesBefore + 1, statistics.getMisses());
+        TestCase.assertEquals(givesBefore + 1, statistics.getGives());
+        second.close();
+        TestCase.assertEquals(givesBefore + 2, statistics.getGives());
+    }
+
+    public void testMagazinePoolBudget() {
+        // Magazines of two elements of ten bytes each, and a budget for two magazines shared by two pools
+        final MagazinePool.Budget budget = new MagazinePool.Budget(50);
+        final ChunkPoolStatistics statistics = new ChunkPoolStatistics(ChunkType.Object, "Element", 0);
+        final MagazinePool<Object> pool = new MagazinePool<>(2, 10, budget, Object::new, element -> {
+        }, statistics);
+        final ChunkPoolStatistics otherStatistics = new ChunkPoolStatistics(ChunkType.Object, "Other", 0);
+        final MagazinePool<Object> otherPool = new MagazinePool<>(2, 10, budget, Object::new, element -> {
+        }, otherStatistics);
+
+        final List<Object> elements = new ArrayList<>();
+        for (int ei = 0; ei < 6; ++ei) {
+            elements.add(pool.take());
+        }
+        TestCase.assertEquals(6, statistics.getMisses());
+        TestCase.assertEquals(6, statistics.getOutstanding());
+
+        // This thread fills two magazines, the second of which moves to the depot; the rest are discarded
+        elements.forEach(pool::give);
+        TestCase.assertEquals(0, statistics.getOutstanding());
+        TestCase.assertEquals(2, statistics.getDiscards());
+        TestCase.assertEquals(40, statistics.getPooledBytes());
+        TestCase.assertEquals(40, budget.getReservedBytes());
+
+        // The budget is shared, so the other pool cannot retain anything
+        otherPool.give(otherPool.take());
+        TestCase.assertEquals(1, otherStatistics.getDiscards());
+        TestCase.assertEquals(0, otherStatistics.getPooledBytes());
+
+        // Emptying this thread's magazine and reloading from the depot releases a magazine's reservation
+        for (int ei = 0; ei < 4; ++ei) {
+            TestCase.assertTrue(elements.contains(pool.take()));
+        }
+        TestCase.assertEquals(6, statistics.getMisses());
+        TestCase.assertEquals(20, statistics.getPooledBytes());
+        TestCase.assertEquals(40, statistics.getPooledBytesHighWaterMark());
+        pool.take();
+        TestCase.assertEquals(7, statistics.getMisses());
+
+        otherPool.give(otherPool.take());
+        TestCase.assertEquals(1, otherStatistics.getDiscards());
+        TestCase.assertEquals(20, otherStatistics.getPooledBytes());
+        TestCase.assertEquals(40, budget.getReservedBytes());
+    }
+
+    public void testDedicatedPoolsShareMagazineBudget() throws InterruptedException {
+        MultiChunkPool.enableDedicatedPoolForThisThread();
+        final MultiChunkPool thisThreadPool = MultiChunkPool.forThisThread();
+        final MultiChunkPool[] otherThreadPool = new MultiChunkPool[1];
+        final Thread otherThread = new Thread(() -> {
+            MultiChunkPool.enableDedicatedPoolForThisThread();
+            otherThreadPool[0] = MultiChunkPool.forThisThread();
+        });
+        otherThread.start();
+        otherThread.join();
+
+        TestCase.assertNotSame(thisThreadPool, otherThreadPool[0]);
+        TestCase.assertSame(thisThreadPool.getMagazineBudget(), otherThreadPool[0].getMagazineBudget());
+        if (thisThreadPool.getMagazineBudget() != null) {
+            TestCase.assertEquals(ChunkPoolConstants.MAX_POOLED_BYTES,
+                    thisThreadPool.getMagazineBudget().getMaxBytes());
+        }
+    }
+
+    public void testDedicatedPoolsRetainWithinSharedBudget() throws InterruptedException {
+        // A budget for two magazines of 1024-capacity long chunks, shared by two dedicated pools on two threads
+        final long magazineBytes = (long) ChunkPoolConstants.MAGAZINE_CAPACITY * 1024 * Long.BYTES;
+        final MagazinePool.Budget budget = new MagazinePool.Budget(2 * magazineBytes);
+        final MultiChunkPool firstPool = new MultiChunkPool(budget);
+        final MultiChunkPool secondPool = new MultiChunkPool(budget);
+
+        final Runnable takeAndGive = () -> {
+            for (final MultiChunkPool pool : List.of(firstPool, secondPool)) {
+                final List<WritableLongChunk<Any>> chunks = new ArrayList<>();
+                for (int ci = 0; ci < 4 * ChunkPoolConstants.MAGAZINE_CAPACITY; ++ci) {
+                    chunks.add(pool.takeWritableLongChunk(1024));
+                }
+                chunks.forEach(WritableLongChunk::close);
+                TestCase.assertTrue(budget.getReservedBytes() <= budget.getMaxBytes());
+            }
+        };
+        takeAndGive.run();
+        final Thread otherThread = new Thread(takeAndGive);
+        otherThread.start();
+        otherThread.join();
+
+        // The first pool on this thread reserved the whole budget, so nothing else could be retained
+        TestCase.assertEquals(budget.getMaxBytes(), budget.getReservedBytes());
+    }
 }
@@ -315,6 +315,11 @@ public abstract class InstrumentedTableListenerBase extends LivenessArtifact
             return InstrumentedTableListenerBase.this.canExecute(step);
         }
 
+        @Override
+        public final long estimatedCriticalPathNanos() {
+            return entry == null ? 0 : entry.getEstimatedCriticalPathNanos();
+        }
+
         void doRun(final Runnable invokeOnUpdate) {
             try {
                 doRunInternal(invokeOnUpdate);
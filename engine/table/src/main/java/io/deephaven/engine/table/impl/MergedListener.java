@@ -364,6 +364,11 @@ public abstract class MergedListener extends LivenessArtifact implements Notific
             super(false);
         }
 
+        @Override
+        public long estimatedCriticalPathNanos() {
+            return entry == null ? 0 : entry.getEstimatedCriticalPathNanos();
+        }
+
         @Override
         public void run() {
             final long currentStep = getUpdateGraph().clock().currentStep();
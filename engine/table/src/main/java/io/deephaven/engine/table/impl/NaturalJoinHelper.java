@@ -10,17 +10,24 @@ import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.by.typed.TypedHasherFactory;
 import io.deephaven.engine.table.impl.join.JoinListenerRecorder;
 import io.deephaven.engine.table.impl.naturaljoin.*;
+import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.util.*;
+import io.deephaven.engine.updategraph.TerminalNotification;
+import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.mutable.MutableInt;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.deephaven.engine.table.impl.JoinControl.BuildParameters.From.*;
 
@@ -482,6 +489,9 @@ class NaturalJoinHelper {
         private final ModifiedColumnSet leftKeyColumns;
         private final ModifiedColumnSet rightModifiedColumns;
         private final ModifiedColumnSet.Transformer leftTransformer;
+        private final boolean enableParallelUpdate;
+
+        private volatile boolean updateInProgress = false;
 
         LeftTickingListener(String description, MatchPair[] columnsToMatch, MatchPair[] columnsToAdd,
                 QueryTable leftTable, QueryTable result, WritableRowRedirection rowRedirection,
@@ -498,6 +508,9 @@ class NaturalJoinHelper {
 
             leftTransformer =
                     leftTable.newModifiedColumnSetTransformer(result, leftTable.getDefinition().getColumnNamesArray());
+            enableParallelUpdate = jsm.permitsConcurrentDecoration()
+                    && (QueryTable.FORCE_PARALLEL_NATURAL_JOIN
+                            || (QueryTable.ENABLE_PARALLEL_NATURAL_JOIN && getUpdateGraph().parallelismFactor() > 1));
         }
 
         @Override
@@ -511,43 +524,200 @@ class NaturalJoinHelper {
             final TableUpdateImpl downstream = TableUpdateImpl.copy(upstream, result.getModifiedColumnSetForUpdates());
             leftTransformer.clearAndTransform(upstream.modifiedColumnSet(), downstream.modifiedColumnSet);
 
-            if (upstream.modifiedColumnSet().containsAny(leftKeyColumns)) {
+            final boolean keysModified = upstream.modifiedColumnSet().containsAny(leftKeyColumns);
+            final long probeSize = downstream.added().size() + (keysModified ? downstream.modified().size() : 0);
+            if (enableParallelUpdate && probeSize >= QueryTable.MINIMUM_PARALLEL_NATURAL_JOIN_ROWS) {
+                onUpdateParallel(downstream, keysModified, probeSize);
+                return;
+            }
+
+            if (keysModified) {
                 newLeftRedirections.ensureCapacity(downstream.modified().size());
                 // compute our new values
                 jsm.decorateLeftSide(downstream.modified(), leftSources, newLeftRedirections);
-                final MutableBoolean updatedRightRow = new MutableBoolean(false);
-                final MutableInt position = new MutableInt(0);
-                downstream.modified().forAllRowKeys((long modifiedKey) -> {
-                    final long newRedirection = newLeftRedirections.getLong(position.get());
-                    final long old;
-                    if (newRedirection == RowSequence.NULL_ROW_KEY) {
-                        old = rowRedirection.remove(modifiedKey);
-                    } else {
-                        old = rowRedirection.put(modifiedKey, newRedirection);
-                    }
-                    if (newRedirection != old) {
-                        updatedRightRow.setValue(true);
-                    }
-                    position.increment();
-                });
-
-                if (updatedRightRow.booleanValue()) {
+                if (applyModifiedRedirections(downstream.modified(), newLeftRedirections)) {
                     downstream.modifiedColumnSet().setAll(rightModifiedColumns);
                 }
             }
 
             newLeftRedirections.ensureCapacity(downstream.added().size());
             jsm.decorateLeftSide(downstream.added(), leftSources, newLeftRedirections);
+            applyAddedRedirections(downstream.added(), newLeftRedirections);
+
+            result.notifyListeners(downstream);
+        }
+
+        /**
+         * Probe the hash table for large updates in row-range segments on the update threads, since the right side is
+         * static and the probes only read it. The row redirection is updated, and the downstream update delivered, once
+         * every segment has been probed.
+         */
+        private void onUpdateParallel(
+                @NotNull final TableUpdateImpl downstream,
+                final boolean keysModified,
+                final long probeSize) {
+            if (!tryIncrementReferenceCount()) {
+                // If we're no longer live, there's no work to do here.
+                downstream.release();
+                return;
+            }
+            updateInProgress = true;
+
+            final JobScheduler jobScheduler = new UpdateGraphJobScheduler(getUpdateGraph());
+            final long divisionSize = Math.max(QueryTable.MINIMUM_PARALLEL_NATURAL_JOIN_ROWS,
+                    (probeSize + jobScheduler.threadCount() - 1) / jobScheduler.threadCount());
+            final List<ProbeSegment> segments = new ArrayList<>();
+            if (keysModified) {
+                ProbeSegment.divide(downstream.modified(), true, divisionSize, segments);
+            }
+            ProbeSegment.divide(downstream.added(), false, divisionSize, segments);
+
+            // do not allow a double-notify
+            final AtomicBoolean hasNotified = new AtomicBoolean();
+            jobScheduler.iterateParallel(
+                    null,
+                    this,
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, segments.size(),
+                    (context, idx, nestedErrorConsumer) -> {
+                        final ProbeSegment segment = segments.get(idx);
+                        segment.redirections.ensureCapacity(segment.rows.size());
+                        jsm.decorateLeftSide(segment.rows, leftSources, segment.redirections);
+                    },
+                    () -> {
+                        if (!hasNotified.getAndSet(true)) {
+                            completeParallelUpdate(downstream, segments, jobScheduler);
+                        }
+                    },
+                    () -> segments.forEach(ProbeSegment::close),
+                    error -> {
+                        if (!hasNotified.getAndSet(true)) {
+                            segments.forEach(ProbeSegment::close);
+                            downstream.release();
+                            handleException(error);
+                        }
+                    });
+        }
+
+        private void completeParallelUpdate(
+                @NotNull final TableUpdateImpl downstream,
+                @NotNull final List<ProbeSegment> segments,
+                @NotNull final JobScheduler jobScheduler) {
+            try {
+                boolean updatedRightRow = false;
+                for (final ProbeSegment segment : segments) {
+                    if (segment.modified) {
+                        updatedRightRow |= applyModifiedRedirections(segment.rows, segment.redirections);
+                    } else {
+                        applyAddedRedirections(segment.rows, segment.redirections);
+                    }
+                }
+                if (updatedRightRow) {
+                    downstream.modifiedColumnSet().setAll(rightModifiedColumns);
+                }
+
+                result.notifyListeners(downstream);
+
+                final BasePerformanceEntry accumulated = jobScheduler.getAccumulatedPerformance();
+                if (accumulated != null) {
+                    getUpdateGraph().addNotification(new TerminalNotification() {
+                        @Override
+                        public void run() {
+                            final PerformanceEntry entry = getEntry();
+                            if (entry != null) {
+                                entry.accumulate(accumulated);
+                            }
+                        }
+                    });
+                }
+            } finally {
+                updateInProgress = false;
+                decrementReferenceCount();
+            }
+        }
+
+        private void handleException(final Exception e) {
+            try {
+                onFailure(e, getEntry());
+            } finally {
+                updateInProgress = false;
+                decrementReferenceCount();
+            }
+        }
+
+        /**
+         * @return whether any modified row's redirection changed
+         */
+        private boolean applyModifiedRedirections(
+                @NotNull final RowSet modified,
+                @NotNull final LongArraySource redirections) {
+            final MutableBoolean updatedRightRow = new MutableBoolean(false);
+            final MutableInt position = new MutableInt(0);
+            modified.forAllRowKeys((long modifiedKey) -> {
+                final long newRedirection = redirections.getLong(position.get());
+                final long old;
+                if (newRedirection == RowSequence.NULL_ROW_KEY) {
+                    old = rowRedirection.remove(modifiedKey);
+                } else {
+                    old = rowRedirection.put(modifiedKey, newRedirection);
+                }
+                if (newRedirection != old) {
+                    updatedRightRow.setValue(true);
+                }
+                position.increment();
+            });
+            return updatedRightRow.booleanValue();
+        }
+
+        private void applyAddedRedirections(
+                @NotNull final RowSet added,
+                @NotNull final LongArraySource redirections) {
             final MutableInt position = new MutableInt(0);
-            downstream.added().forAllRowKeys((long ll) -> {
-                final long newRedirection = newLeftRedirections.getLong(position.get());
+            added.forAllRowKeys((long ll) -> {
+                final long newRedirection = redirections.getLong(position.get());
                 if (newRedirection != RowSequence.NULL_ROW_KEY) {
                     rowRedirection.putVoid(ll, newRedirection);
                 }
                 position.increment();
             });
+        }
 
-            result.notifyListeners(downstream);
+        @Override
+        public boolean satisfied(final long step) {
+            return super.satisfied(step) && !updateInProgress;
+        }
+    }
+
+    /**
+     * A contiguous range of the added or modified rows of a left-side update, and the right row keys they are
+     * redirected to.
+     */
+    private static class ProbeSegment implements SafeCloseable {
+        private final RowSet rows;
+        private final boolean modified;
+        private final LongArraySource redirections = new LongArraySource();
+
+        private ProbeSegment(@NotNull final RowSet rows, final boolean modified) {
+            this.rows = rows;
+            this.modified = modified;
+        }
+
+        private static void divide(
+                @NotNull final RowSet rows,
+                final boolean modified,
+                final long divisionSize,
+                @NotNull final List<ProbeSegment> segments) {
+            try (final RowSequence.Iterator rsIt = rows.getRowSequenceIterator()) {
+                while (rsIt.hasMore()) {
+                    final RowSet segmentRows = rsIt.getNextRowSequenceWithLength(divisionSize).asRowSet();
+                    segments.add(new ProbeSegment(segmentRows, modified));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            rows.close();
         }
     }
 
@@ -88,6 +88,14 @@ public final class PushdownResult implements SafeCloseable {
     public static final long REGION_BLOOM_FILTER_COST =
             Configuration.getInstance().getLongWithDefault("PredicatePushdown.regionBloomFilterCost", 30_000L);
 
+    /**
+     * Loads and uses page-level metadata (per-page min/max/null_count and page row ranges).
+     * <p>
+     * Complexity/access: O(pages) / Storage Data, resolves "no", "maybe"
+     */
+    public static final long REGION_PAGE_INDEX_COST =
+            Configuration.getInstance().getLongWithDefault("PredicatePushdown.regionPageIndexCost", 32_500L);
+
     /**
      * Loads and filters a location-level index. Requires additional filter copying and initialization per region
      * compared to table-level.
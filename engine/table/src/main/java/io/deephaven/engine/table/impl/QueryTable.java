@@ -273,6 +273,20 @@ public class QueryTable extends BaseTable<QueryTable> {
             Configuration.getInstance().getBooleanWithDefault("QueryTable.disableWherePushdownParquetRowGroupMetadata",
                     false);
 
+    /**
+     * Disable the usage of parquet bloom filters during push-down filtering.
+     */
+    public static boolean DISABLE_WHERE_PUSHDOWN_PARQUET_BLOOM_FILTER =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.disableWherePushdownParquetBloomFilter",
+                    false);
+
+    /**
+     * Disable the usage of parquet column and offset indexes (page-level statistics) during push-down filtering.
+     */
+    public static boolean DISABLE_WHERE_PUSHDOWN_PARQUET_PAGE_INDEX =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.disableWherePushdownParquetPageIndex",
+                    false);
+
     /**
      * Disable the usage of local data file indexes during push-down filtering.
      */
@@ -323,6 +337,26 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static long MINIMUM_PARALLEL_SNAPSHOT_ROWS =
             Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelSnapshotRows", 1L << 20);
 
+    /**
+     * You can choose to enable or disable splitting the hash table probes for large left-side updates of a natural join
+     * with a static right table across the update threads.
+     */
+    static boolean ENABLE_PARALLEL_NATURAL_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.enableParallelNaturalJoin", true);
+
+    /**
+     * Minimum number of left rows probed by each parallel natural join task, defaults to 1 million. Updates with fewer
+     * added (and key-modified) rows are processed serially.
+     */
+    public static long MINIMUM_PARALLEL_NATURAL_JOIN_ROWS =
+            Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelNaturalJoinRows", 1L << 20);
+
+    /**
+     * For unit tests, we do want to force the parallel natural join at times.
+     */
+    static boolean FORCE_PARALLEL_NATURAL_JOIN =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.forceParallelNaturalJoin", false);
+
     /**
      * If set to true, then the default behavior of condition filters is to be stateless. Stateless filters are allowed
      * to be processed in parallel by the engine. Also, enabling this setting allows the engine to push down filters to
@@ -102,4 +102,12 @@ public abstract class StaticNaturalJoinStateManager {
 
     protected abstract void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources,
             final LongArraySource leftRedirections);
+
+    /**
+     * @return Whether {@link #decorateLeftSide(RowSet, ColumnSource[], LongArraySource)} may be invoked concurrently
+     *         for disjoint left rows, each with its own redirections source, once the right side has been built
+     */
+    protected boolean permitsConcurrentDecoration() {
+        return false;
+    }
 }
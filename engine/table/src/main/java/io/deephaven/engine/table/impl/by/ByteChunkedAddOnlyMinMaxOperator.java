@@ -43,6 +43,8 @@ class ByteChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private byte min(ByteChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        // endregion vectorized min
         int nonNull = 0;
         byte value = QueryConstants.NULL_BYTE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -62,6 +64,8 @@ class ByteChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private byte max(ByteChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        // endregion vectorized max
         int nonNull = 0;
         byte value = QueryConstants.NULL_BYTE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
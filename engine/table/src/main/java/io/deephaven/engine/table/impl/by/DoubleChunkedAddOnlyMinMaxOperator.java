@@ -43,6 +43,11 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double min(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxDouble(values, chunkStart, chunkEnd - chunkStart, true, chunkNonNull);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -66,6 +71,11 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double max(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxDouble(values, chunkStart, chunkEnd - chunkStart, false, chunkNonNull);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
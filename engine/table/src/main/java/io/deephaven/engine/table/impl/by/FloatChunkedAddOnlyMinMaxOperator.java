@@ -43,6 +43,11 @@ class FloatChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOp
     }
 
     private float min(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxFloat(values, chunkStart, chunkEnd - chunkStart, true, chunkNonNull);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         float value = QueryConstants.NULL_FLOAT;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -66,6 +71,11 @@ class FloatChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOp
     }
 
     private float max(FloatChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxFloat(values, chunkStart, chunkEnd - chunkStart, false, chunkNonNull);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         float value = QueryConstants.NULL_FLOAT;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
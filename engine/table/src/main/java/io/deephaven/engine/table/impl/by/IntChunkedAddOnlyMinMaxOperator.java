@@ -43,6 +43,11 @@ class IntChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOper
     }
 
     private int min(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxInt(values, chunkStart, chunkEnd - chunkStart, true, chunkNonNull);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         int value = QueryConstants.NULL_INT;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -62,6 +67,11 @@ class IntChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOper
     }
 
     private int max(IntChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxInt(values, chunkStart, chunkEnd - chunkStart, false, chunkNonNull);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         int value = QueryConstants.NULL_INT;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -54,6 +54,11 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long min(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxLong(values, chunkStart, chunkEnd - chunkStart, true, chunkNonNull);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -73,6 +78,11 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long max(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.minMaxLong(values, chunkStart, chunkEnd - chunkStart, false, chunkNonNull);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -13,15 +13,19 @@ public class SumCharChunk {
     private SumCharChunk() {} // static use only
 
     static long sumCharChunk(CharChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final char value = values.get(ii);
             if (value != QueryConstants.NULL_CHAR) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 
@@ -43,6 +47,7 @@ public class SumCharChunk {
     static double sum2CharChunk(CharChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         double sum = 0;
         double sum2 = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -52,10 +57,11 @@ public class SumCharChunk {
                 final double doubleValue = value;
                 sum += doubleValue;
                 sum2 += doubleValue * doubleValue;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
 
+        nonNullCount.add(nonNulls);
         sum2out.setValue(sum2);
         return sum;
     }
@@ -73,14 +79,16 @@ public class SumCharChunk {
     static long sumCharChunkAbs(CharChunk<? extends Any> values, int chunkStart, int chunkSize,
             MutableInt nonNullCount) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final char value = abs(values.get(ii));
             if (value != QueryConstants.NULL_CHAR) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 }
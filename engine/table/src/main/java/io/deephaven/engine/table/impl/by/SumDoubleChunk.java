@@ -7,6 +7,8 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.by;
 
+import io.deephaven.chunk.SimdChunkKernels;
+
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.chunk.DoubleChunk;
@@ -21,22 +23,36 @@ class SumDoubleChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        // region vectorized sum
+        if (SimdChunkKernels.isDoubleSumAvailable()) {
+            return SimdChunkKernels.sumDouble(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,
+                    chunkInfinityCount, chunkMinusInfinityCount);
+        }
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final double aDouble = values.get(ii);
 
             if (Double.isNaN(aDouble)) {
-                chunkNanCount.increment();
+                ++nans;
             } else if (aDouble == Double.POSITIVE_INFINITY) {
-                chunkInfinityCount.increment();
+                ++infinities;
             } else if (aDouble == Double.NEGATIVE_INFINITY) {
-                chunkMinusInfinityCount.increment();
+                ++minusInfinities;
             } else if (!(aDouble == QueryConstants.NULL_DOUBLE)) {
                 sum += aDouble;
-                chunkNormalCount.increment();
+                ++normals;
             }
         }
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
+        chunkMinusInfinityCount.add(minusInfinities);
         return sum;
     }
 
@@ -47,6 +63,10 @@ class SumDoubleChunk {
             MutableInt chunkMinusInfinityCount,
             MutableDouble sum2out) {
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
         double sum = 0;
         double sum2 = 0;
 
@@ -54,19 +74,23 @@ class SumDoubleChunk {
             final double value = values.get(ii);
             if (value != QueryConstants.NULL_DOUBLE) {
                 if (Double.isNaN(value)) {
-                    chunkNanCount.increment();
+                    ++nans;
                 } else if (value == Double.POSITIVE_INFINITY) {
-                    chunkInfinityCount.increment();
+                    ++infinities;
                 } else if (value == Double.NEGATIVE_INFINITY) {
-                    chunkMinusInfinityCount.increment();
+                    ++minusInfinities;
                 } else {
                     sum += value;
                     sum2 += (double) value * (double) value;
-                    chunkNormalCount.increment();
+                    ++normals;
                 }
             }
         }
 
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
+        chunkMinusInfinityCount.add(minusInfinities);
         sum2out.setValue(sum2);
 
         return sum;
@@ -77,19 +101,25 @@ class SumDoubleChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount) {
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final double aDouble = values.get(ii);
 
             if (Double.isNaN(aDouble)) {
-                chunkNanCount.increment();
+                ++nans;
             } else if (aDouble == Double.POSITIVE_INFINITY || aDouble == Double.NEGATIVE_INFINITY) {
-                chunkInfinityCount.increment();
+                ++infinities;
             } else if (!(aDouble == QueryConstants.NULL_DOUBLE)) {
                 sum += Math.abs(aDouble);
-                chunkNormalCount.increment();
+                ++normals;
             }
         }
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
         return sum;
     }
 }
@@ -17,22 +17,32 @@ class SumFloatChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final float aFloat = values.get(ii);
 
             if (Float.isNaN(aFloat)) {
-                chunkNanCount.increment();
+                ++nans;
             } else if (aFloat == Float.POSITIVE_INFINITY) {
-                chunkInfinityCount.increment();
+                ++infinities;
             } else if (aFloat == Float.NEGATIVE_INFINITY) {
-                chunkMinusInfinityCount.increment();
+                ++minusInfinities;
             } else if (!(aFloat == QueryConstants.NULL_FLOAT)) {
                 sum += aFloat;
-                chunkNormalCount.increment();
+                ++normals;
             }
         }
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
+        chunkMinusInfinityCount.add(minusInfinities);
         return sum;
     }
 
@@ -43,6 +53,10 @@ class SumFloatChunk {
             MutableInt chunkMinusInfinityCount,
             MutableDouble sum2out) {
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
+        int minusInfinities = 0;
         double sum = 0;
         double sum2 = 0;
 
@@ -50,19 +64,23 @@ class SumFloatChunk {
             final float value = values.get(ii);
             if (value != QueryConstants.NULL_FLOAT) {
                 if (Float.isNaN(value)) {
-                    chunkNanCount.increment();
+                    ++nans;
                 } else if (value == Float.POSITIVE_INFINITY) {
-                    chunkInfinityCount.increment();
+                    ++infinities;
                 } else if (value == Float.NEGATIVE_INFINITY) {
-                    chunkMinusInfinityCount.increment();
+                    ++minusInfinities;
                 } else {
                     sum += value;
                     sum2 += (double) value * (double) value;
-                    chunkNormalCount.increment();
+                    ++normals;
                 }
             }
         }
 
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
+        chunkMinusInfinityCount.add(minusInfinities);
         sum2out.setValue(sum2);
 
         return sum;
@@ -73,19 +91,25 @@ class SumFloatChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount) {
         final int end = chunkStart + chunkSize;
+        int normals = 0;
+        int nans = 0;
+        int infinities = 0;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final float aFloat = values.get(ii);
 
             if (Float.isNaN(aFloat)) {
-                chunkNanCount.increment();
+                ++nans;
             } else if (aFloat == Float.POSITIVE_INFINITY || aFloat == Float.NEGATIVE_INFINITY) {
-                chunkInfinityCount.increment();
+                ++infinities;
             } else if (!(aFloat == QueryConstants.NULL_FLOAT)) {
                 sum += Math.abs(aFloat);
-                chunkNormalCount.increment();
+                ++normals;
             }
         }
+        chunkNormalCount.add(normals);
+        chunkNanCount.add(nans);
+        chunkInfinityCount.add(infinities);
         return sum;
     }
 }
@@ -17,15 +17,19 @@ public class SumIntChunk {
     private SumIntChunk() {} // static use only
 
     static long sumIntChunk(IntChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final int value = values.get(ii);
             if (value != QueryConstants.NULL_INT) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 
@@ -47,6 +51,7 @@ public class SumIntChunk {
     static double sum2IntChunk(IntChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         double sum = 0;
         double sum2 = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -56,10 +61,11 @@ public class SumIntChunk {
                 final double doubleValue = value;
                 sum += doubleValue;
                 sum2 += doubleValue * doubleValue;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
 
+        nonNullCount.add(nonNulls);
         sum2out.setValue(sum2);
         return sum;
     }
@@ -77,14 +83,16 @@ public class SumIntChunk {
     static long sumIntChunkAbs(IntChunk<? extends Any> values, int chunkStart, int chunkSize,
             MutableInt nonNullCount) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final int value = abs(values.get(ii));
             if (value != QueryConstants.NULL_INT) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 }
@@ -7,6 +7,8 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.by;
 
+import io.deephaven.chunk.SimdChunkKernels;
+
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.chunk.LongChunk;
@@ -17,15 +19,22 @@ public class SumLongChunk {
     private SumLongChunk() {} // static use only
 
     static long sumLongChunk(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        if (SimdChunkKernels.isAvailable()) {
+            return SimdChunkKernels.sumLong(values, chunkStart, chunkSize, nonNullCount);
+        }
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final long value = values.get(ii);
             if (value != QueryConstants.NULL_LONG) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 
@@ -47,6 +56,7 @@ public class SumLongChunk {
     static double sum2LongChunk(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         double sum = 0;
         double sum2 = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -56,10 +66,11 @@ public class SumLongChunk {
                 final double doubleValue = value;
                 sum += doubleValue;
                 sum2 += doubleValue * doubleValue;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
 
+        nonNullCount.add(nonNulls);
         sum2out.setValue(sum2);
         return sum;
     }
@@ -77,14 +88,16 @@ public class SumLongChunk {
     static long sumLongChunkAbs(LongChunk<? extends Any> values, int chunkStart, int chunkSize,
             MutableInt nonNullCount) {
         final int end = chunkStart + chunkSize;
+        int nonNulls = 0;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
             final long value = abs(values.get(ii));
             if (value != QueryConstants.NULL_LONG) {
                 sum += value;
-                nonNullCount.increment();
+                ++nonNulls;
             }
         }
+        nonNullCount.add(nonNulls);
         return sum;
     }
 }
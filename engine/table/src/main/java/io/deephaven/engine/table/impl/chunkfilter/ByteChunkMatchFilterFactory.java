@@ -59,6 +59,9 @@ public class ByteChunkMatchFilterFactory {
         public boolean matches(byte value) {
             return value == this.value;
         }
+
+        // region vectorized single value filter
+        // endregion vectorized single value filter
     }
 
     private final static class InverseSingleValueByteChunkFilter extends ByteChunkFilter {
@@ -72,6 +75,9 @@ public class ByteChunkMatchFilterFactory {
         public boolean matches(byte value) {
             return value != this.value;
         }
+
+        // region vectorized inverse single value filter
+        // endregion vectorized inverse single value filter
     }
 
     private final static class TwoValueByteChunkFilter extends ByteChunkFilter {
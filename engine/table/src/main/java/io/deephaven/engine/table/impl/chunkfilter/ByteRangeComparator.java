@@ -15,16 +15,23 @@ public class ByteRangeComparator {
     private abstract static class ByteByteFilter extends ByteChunkFilter {
         final byte lower;
         final byte upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        ByteByteFilter(byte lower, byte upper) {
+        ByteByteFilter(byte lower, byte upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
         }
+
+        // region vectorized filter
+        // endregion vectorized filter
     }
 
     private final static class ByteByteInclusiveInclusiveFilter extends ByteByteFilter {
         private ByteByteInclusiveInclusiveFilter(byte lower, byte upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +42,7 @@ public class ByteRangeComparator {
 
     private final static class ByteByteInclusiveExclusiveFilter extends ByteByteFilter {
         private ByteByteInclusiveExclusiveFilter(byte lower, byte upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +53,7 @@ public class ByteRangeComparator {
 
     private final static class ByteByteExclusiveInclusiveFilter extends ByteByteFilter {
         private ByteByteExclusiveInclusiveFilter(byte lower, byte upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +64,7 @@ public class ByteRangeComparator {
 
     private final static class ByteByteExclusiveExclusiveFilter extends ByteByteFilter {
         private ByteByteExclusiveExclusiveFilter(byte lower, byte upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
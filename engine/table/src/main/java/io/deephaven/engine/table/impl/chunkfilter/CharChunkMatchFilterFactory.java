@@ -55,6 +55,9 @@ public class CharChunkMatchFilterFactory {
         public boolean matches(char value) {
             return value == this.value;
         }
+
+        // region vectorized single value filter
+        // endregion vectorized single value filter
     }
 
     private final static class InverseSingleValueCharChunkFilter extends CharChunkFilter {
@@ -68,6 +71,9 @@ public class CharChunkMatchFilterFactory {
         public boolean matches(char value) {
             return value != this.value;
         }
+
+        // region vectorized inverse single value filter
+        // endregion vectorized inverse single value filter
     }
 
     private final static class TwoValueCharChunkFilter extends CharChunkFilter {
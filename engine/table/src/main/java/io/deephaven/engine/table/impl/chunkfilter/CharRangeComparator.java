@@ -11,16 +11,23 @@ public class CharRangeComparator {
     private abstract static class CharCharFilter extends CharChunkFilter {
         final char lower;
         final char upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        CharCharFilter(char lower, char upper) {
+        CharCharFilter(char lower, char upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
         }
+
+        // region vectorized filter
+        // endregion vectorized filter
     }
 
     private final static class CharCharInclusiveInclusiveFilter extends CharCharFilter {
         private CharCharInclusiveInclusiveFilter(char lower, char upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -31,7 +38,7 @@ public class CharRangeComparator {
 
     private final static class CharCharInclusiveExclusiveFilter extends CharCharFilter {
         private CharCharInclusiveExclusiveFilter(char lower, char upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -42,7 +49,7 @@ public class CharRangeComparator {
 
     private final static class CharCharExclusiveInclusiveFilter extends CharCharFilter {
         private CharCharExclusiveInclusiveFilter(char lower, char upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -53,7 +60,7 @@ public class CharRangeComparator {
 
     private final static class CharCharExclusiveExclusiveFilter extends CharCharFilter {
         private CharCharExclusiveExclusiveFilter(char lower, char upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
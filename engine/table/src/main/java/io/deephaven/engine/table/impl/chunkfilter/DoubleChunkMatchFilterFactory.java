@@ -7,6 +7,12 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import it.unimi.dsi.fastutil.doubles.DoubleOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
@@ -86,6 +92,14 @@ public class DoubleChunkMatchFilterFactory {
         public boolean matches(double value) {
             return value == this.value;
         }
+
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterDoubleEquals(values.asDoubleChunk(), keys, results, value, false);
+        }
     }
 
     private final static class InverseSingleValueDoubleChunkFilter extends DoubleChunkFilter {
@@ -99,6 +113,14 @@ public class DoubleChunkMatchFilterFactory {
         public boolean matches(double value) {
             return value != this.value;
         }
+
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterDoubleEquals(values.asDoubleChunk(), keys, results, value, true);
+        }
     }
 
     private final static class TwoValueDoubleChunkFilter extends DoubleChunkFilter {
@@ -7,6 +7,13 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
 import io.deephaven.util.compare.DoubleComparisons;
 
 public class DoubleRangeComparator {
@@ -15,16 +22,31 @@ public class DoubleRangeComparator {
     private abstract static class DoubleDoubleFilter extends DoubleChunkFilter {
         final double lower;
         final double upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        DoubleDoubleFilter(double lower, double upper) {
+        DoubleDoubleFilter(double lower, double upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
+        }
+
+        // region vectorized filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterDoubleRange(values.asDoubleChunk(), keys, results, lower, upper,
+                    lowerInclusive, upperInclusive);
         }
+        // endregion vectorized filter
     }
 
     private final static class DoubleDoubleInclusiveInclusiveFilter extends DoubleDoubleFilter {
         private DoubleDoubleInclusiveInclusiveFilter(double lower, double upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +57,7 @@ public class DoubleRangeComparator {
 
     private final static class DoubleDoubleInclusiveExclusiveFilter extends DoubleDoubleFilter {
         private DoubleDoubleInclusiveExclusiveFilter(double lower, double upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +68,7 @@ public class DoubleRangeComparator {
 
     private final static class DoubleDoubleExclusiveInclusiveFilter extends DoubleDoubleFilter {
         private DoubleDoubleExclusiveInclusiveFilter(double lower, double upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +79,7 @@ public class DoubleRangeComparator {
 
     private final static class DoubleDoubleExclusiveExclusiveFilter extends DoubleDoubleFilter {
         private DoubleDoubleExclusiveExclusiveFilter(double lower, double upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
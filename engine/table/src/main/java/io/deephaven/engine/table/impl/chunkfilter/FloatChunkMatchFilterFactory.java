@@ -4,6 +4,12 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import it.unimi.dsi.fastutil.floats.FloatOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -83,6 +89,14 @@ public class FloatChunkMatchFilterFactory {
         public boolean matches(float value) {
             return value == this.value;
         }
+
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterFloatEquals(values.asFloatChunk(), keys, results, value, false);
+        }
     }
 
     private final static class InverseSingleValueFloatChunkFilter extends FloatChunkFilter {
@@ -96,6 +110,14 @@ public class FloatChunkMatchFilterFactory {
         public boolean matches(float value) {
             return value != this.value;
         }
+
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterFloatEquals(values.asFloatChunk(), keys, results, value, true);
+        }
     }
 
     private final static class TwoValueFloatChunkFilter extends FloatChunkFilter {
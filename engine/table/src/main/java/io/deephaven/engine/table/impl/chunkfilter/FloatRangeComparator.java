@@ -7,6 +7,13 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
 import io.deephaven.util.compare.FloatComparisons;
 
 public class FloatRangeComparator {
@@ -15,16 +22,31 @@ public class FloatRangeComparator {
     private abstract static class FloatFloatFilter extends FloatChunkFilter {
         final float lower;
         final float upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        FloatFloatFilter(float lower, float upper) {
+        FloatFloatFilter(float lower, float upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
+        }
+
+        // region vectorized filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterFloatRange(values.asFloatChunk(), keys, results, lower, upper,
+                    lowerInclusive, upperInclusive);
         }
+        // endregion vectorized filter
     }
 
     private final static class FloatFloatInclusiveInclusiveFilter extends FloatFloatFilter {
         private FloatFloatInclusiveInclusiveFilter(float lower, float upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +57,7 @@ public class FloatRangeComparator {
 
     private final static class FloatFloatInclusiveExclusiveFilter extends FloatFloatFilter {
         private FloatFloatInclusiveExclusiveFilter(float lower, float upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +68,7 @@ public class FloatRangeComparator {
 
     private final static class FloatFloatExclusiveInclusiveFilter extends FloatFloatFilter {
         private FloatFloatExclusiveInclusiveFilter(float lower, float upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +79,7 @@ public class FloatRangeComparator {
 
     private final static class FloatFloatExclusiveExclusiveFilter extends FloatFloatFilter {
         private FloatFloatExclusiveExclusiveFilter(float lower, float upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
@@ -19,15 +19,32 @@ public abstract class IntChunkFilter implements ChunkFilter {
             final Chunk<? extends Values> values,
             final LongChunk<OrderedRowKeys> keys,
             final WritableLongChunk<OrderedRowKeys> results) {
+        if (filterVectorized(values, keys, results)) {
+            return;
+        }
         final IntChunk<? extends Values> intChunk = values.asIntChunk();
         final int len = intChunk.size();
 
-        results.setSize(0);
+        // Write every key, but only advance past the matches, so that the loop has no data-dependent branch
+        int count = 0;
         for (int ii = 0; ii < len; ++ii) {
-            if (matches(intChunk.get(ii))) {
-                results.add(keys.get(ii));
-            }
+            results.set(count, keys.get(ii));
+            count += matches(intChunk.get(ii)) ? 1 : 0;
         }
+        results.setSize(count);
+    }
+
+    /**
+     * Filter {@code values} with a vectorized kernel, if this filter has one and it can be used, setting
+     * {@code results} to the keys of the matching values.
+     *
+     * @return Whether {@code results} was set
+     */
+    boolean filterVectorized(
+            final Chunk<? extends Values> values,
+            final LongChunk<OrderedRowKeys> keys,
+            final WritableLongChunk<OrderedRowKeys> results) {
+        return false;
     }
 
     @Override
@@ -7,6 +7,13 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
 import io.deephaven.engine.table.MatchOptions;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -59,6 +66,16 @@ public class IntChunkMatchFilterFactory {
         public boolean matches(int value) {
             return value == this.value;
         }
+
+        // region vectorized single value filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterIntEquals(values.asIntChunk(), keys, results, value, false);
+        }
+        // endregion vectorized single value filter
     }
 
     private final static class InverseSingleValueIntChunkFilter extends IntChunkFilter {
@@ -72,6 +89,16 @@ public class IntChunkMatchFilterFactory {
         public boolean matches(int value) {
             return value != this.value;
         }
+
+        // region vectorized inverse single value filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterIntEquals(values.asIntChunk(), keys, results, value, true);
+        }
+        // endregion vectorized inverse single value filter
     }
 
     private final static class TwoValueIntChunkFilter extends IntChunkFilter {
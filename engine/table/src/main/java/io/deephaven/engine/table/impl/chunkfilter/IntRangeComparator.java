@@ -7,6 +7,13 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
 import io.deephaven.util.compare.IntComparisons;
 
 public class IntRangeComparator {
@@ -15,16 +22,31 @@ public class IntRangeComparator {
     private abstract static class IntIntFilter extends IntChunkFilter {
         final int lower;
         final int upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        IntIntFilter(int lower, int upper) {
+        IntIntFilter(int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
+        }
+
+        // region vectorized filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterIntRange(values.asIntChunk(), keys, results, lower, upper,
+                    lowerInclusive, upperInclusive);
         }
+        // endregion vectorized filter
     }
 
     private final static class IntIntInclusiveInclusiveFilter extends IntIntFilter {
         private IntIntInclusiveInclusiveFilter(int lower, int upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +57,7 @@ public class IntRangeComparator {
 
     private final static class IntIntInclusiveExclusiveFilter extends IntIntFilter {
         private IntIntInclusiveExclusiveFilter(int lower, int upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +68,7 @@ public class IntRangeComparator {
 
     private final static class IntIntExclusiveInclusiveFilter extends IntIntFilter {
         private IntIntExclusiveInclusiveFilter(int lower, int upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +79,7 @@ public class IntRangeComparator {
 
     private final static class IntIntExclusiveExclusiveFilter extends IntIntFilter {
         private IntIntExclusiveExclusiveFilter(int lower, int upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
@@ -7,6 +7,13 @@
 // @formatter:off
 package io.deephaven.engine.table.impl.chunkfilter;
 
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.SimdChunkKernels;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+
 import io.deephaven.util.compare.LongComparisons;
 
 public class LongRangeComparator {
@@ -15,16 +22,31 @@ public class LongRangeComparator {
     private abstract static class LongLongFilter extends LongChunkFilter {
         final long lower;
         final long upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        LongLongFilter(long lower, long upper) {
+        LongLongFilter(long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
+        }
+
+        // region vectorized filter
+        @Override
+        boolean filterVectorized(
+                final Chunk<? extends Values> values,
+                final LongChunk<OrderedRowKeys> keys,
+                final WritableLongChunk<OrderedRowKeys> results) {
+            return SimdChunkKernels.filterLongRange(values.asLongChunk(), keys, results, lower, upper,
+                    lowerInclusive, upperInclusive);
         }
+        // endregion vectorized filter
     }
 
     private final static class LongLongInclusiveInclusiveFilter extends LongLongFilter {
         private LongLongInclusiveInclusiveFilter(long lower, long upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +57,7 @@ public class LongRangeComparator {
 
     private final static class LongLongInclusiveExclusiveFilter extends LongLongFilter {
         private LongLongInclusiveExclusiveFilter(long lower, long upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +68,7 @@ public class LongRangeComparator {
 
     private final static class LongLongExclusiveInclusiveFilter extends LongLongFilter {
         private LongLongExclusiveInclusiveFilter(long lower, long upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +79,7 @@ public class LongRangeComparator {
 
     private final static class LongLongExclusiveExclusiveFilter extends LongLongFilter {
         private LongLongExclusiveExclusiveFilter(long lower, long upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
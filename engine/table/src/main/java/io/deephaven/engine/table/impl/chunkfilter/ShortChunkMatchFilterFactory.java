@@ -59,6 +59,9 @@ public class ShortChunkMatchFilterFactory {
         public boolean matches(short value) {
             return value == this.value;
         }
+
+        // region vectorized single value filter
+        // endregion vectorized single value filter
     }
 
     private final static class InverseSingleValueShortChunkFilter extends ShortChunkFilter {
@@ -72,6 +75,9 @@ public class ShortChunkMatchFilterFactory {
         public boolean matches(short value) {
             return value != this.value;
         }
+
+        // region vectorized inverse single value filter
+        // endregion vectorized inverse single value filter
     }
 
     private final static class TwoValueShortChunkFilter extends ShortChunkFilter {
@@ -15,16 +15,23 @@ public class ShortRangeComparator {
     private abstract static class ShortShortFilter extends ShortChunkFilter {
         final short lower;
         final short upper;
+        final boolean lowerInclusive;
+        final boolean upperInclusive;
 
-        ShortShortFilter(short lower, short upper) {
+        ShortShortFilter(short lower, short upper, boolean lowerInclusive, boolean upperInclusive) {
             this.lower = lower;
             this.upper = upper;
+            this.lowerInclusive = lowerInclusive;
+            this.upperInclusive = upperInclusive;
         }
+
+        // region vectorized filter
+        // endregion vectorized filter
     }
 
     private final static class ShortShortInclusiveInclusiveFilter extends ShortShortFilter {
         private ShortShortInclusiveInclusiveFilter(short lower, short upper) {
-            super(lower, upper);
+            super(lower, upper, true, true);
         }
 
         @Override
@@ -35,7 +42,7 @@ public class ShortRangeComparator {
 
     private final static class ShortShortInclusiveExclusiveFilter extends ShortShortFilter {
         private ShortShortInclusiveExclusiveFilter(short lower, short upper) {
-            super(lower, upper);
+            super(lower, upper, true, false);
         }
 
         @Override
@@ -46,7 +53,7 @@ public class ShortRangeComparator {
 
     private final static class ShortShortExclusiveInclusiveFilter extends ShortShortFilter {
         private ShortShortExclusiveInclusiveFilter(short lower, short upper) {
-            super(lower, upper);
+            super(lower, upper, false, true);
         }
 
         @Override
@@ -57,7 +64,7 @@ public class ShortRangeComparator {
 
     private final static class ShortShortExclusiveExclusiveFilter extends ShortShortFilter {
         private ShortShortExclusiveExclusiveFilter(short lower, short upper) {
-            super(lower, upper);
+            super(lower, upper, false, false);
         }
 
         @Override
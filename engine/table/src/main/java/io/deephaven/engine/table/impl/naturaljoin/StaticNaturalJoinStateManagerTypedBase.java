@@ -162,6 +162,12 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
     abstract protected void decorateLeftSide(RowSequence rowSequence, Chunk[] sourceKeyChunks,
             LongArraySource leftRedirections, long redirectionsOffset);
 
+    @Override
+    protected boolean permitsConcurrentDecoration() {
+        // probes only read the hash table, and allocate their own contexts
+        return true;
+    }
+
     @Override
     public void decorateWithRightSide(Table rightTable, ColumnSource<?>[] rightSources) {
         if (rightTable.isEmpty()) {
@@ -0,0 +1,467 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.base.clock.Clock;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessArtifact;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.liveness.SingletonLivenessManager;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.updategraph.NotificationQueue;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
+import org.apache.commons.text.StringEscapeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Records a trace of the notifications processed during individual cycles of an update graph, to explain what happened
+ * inside a slow cycle where the {@link UpdatePerformanceTracker} only reports aggregates over an interval.
+ * <p>
+ * For each notification run during a traced cycle, the trace contains the times at which it was enqueued, started and
+ * ended, the thread that ran it, the rows added, removed and modified by the update it delivered, and the notification
+ * that was running when it was enqueued (its parent). Traced cycles are published to the
+ * {@link io.deephaven.engine.table.impl.util.TableLoggers#cycleTraceLog() cycle trace log}, from which queue and
+ * processing latency distributions can be computed per entry, or a cycle can be exported with
+ * {@link #writeChromeTrace(Table, Appendable)} for viewing in Perfetto or {@code chrome://tracing}.
+ * <p>
+ * Tracing is disabled by default. A cycle is traced if it takes at least {@code CycleTraceRecorder.thresholdMillis}
+ * (which requires recording every cycle, and discarding those that are fast enough), or if it is one of every
+ * {@code CycleTraceRecorder.sampleInterval} cycles.
+ *
+ * @implNote {@link #startCycle()} and {@link #endCycle(long, long)} must be called from the update graph's refresh
+ *           thread; the other methods may be called from any thread that processes the update graph's notifications.
+ */
+public class CycleTraceRecorder {
+
+    /**
+     * Cycles that take at least this long are traced. Negative values disable threshold tracing.
+     */
+    private static final long THRESHOLD_MILLIS = Configuration.getInstance().getLongForClassWithDefault(
+            CycleTraceRecorder.class, "thresholdMillis", -1L);
+
+    /**
+     * One of every this many cycles is traced regardless of its duration. Non-positive values disable sampling.
+     */
+    private static final int SAMPLE_INTERVAL = Configuration.getInstance().getIntegerForClassWithDefault(
+            CycleTraceRecorder.class, "sampleInterval", 0);
+
+    /**
+     * The event of the notification running on the current thread, if any. Notifications enqueued while it runs are
+     * its children, and the updates it delivers are attributed to it.
+     */
+    private static final ThreadLocal<Event> RUNNING_EVENT = new ThreadLocal<>();
+
+    // We do not want the publisher's start that occurs within a liveness scope to allow these resources to be freed,
+    // the INSTANCE should remain live unless it is discarded.
+    private static final SingletonLivenessManager livenessManager = new SingletonLivenessManager();
+    private static InternalState INSTANCE;
+
+    private static InternalState getInternalState() {
+        InternalState local;
+        if ((local = INSTANCE) == null) {
+            synchronized (CycleTraceRecorder.class) {
+                if ((local = INSTANCE) == null) {
+                    try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+                        INSTANCE = local = new InternalState();
+                        livenessManager.manage(INSTANCE);
+                    }
+                }
+            }
+        }
+        return local;
+    }
+
+    private static class InternalState extends LivenessArtifact {
+        private final CycleTraceStreamPublisher publisher;
+
+        // Eventually, we can close the StreamToBlinkTableAdapter
+        @SuppressWarnings("FieldCanBeLocal")
+        private final StreamToBlinkTableAdapter adapter;
+        private final Table blink;
+
+        private InternalState() {
+            final UpdateGraph publishingGraph =
+                    BaseUpdateGraph.getInstance(BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+            Assert.neqNull(publishingGraph, "The " + BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME + " UpdateGraph "
+                    + "must be created before CycleTraceRecorder can be initialized.");
+            try (final SafeCloseable ignored = ExecutionContext.getContext().withUpdateGraph(publishingGraph).open()) {
+                publisher = new CycleTraceStreamPublisher();
+                adapter = new StreamToBlinkTableAdapter(
+                        CycleTraceStreamPublisher.definition(),
+                        publisher,
+                        publishingGraph,
+                        CycleTraceRecorder.class.getName());
+                blink = adapter.table();
+                manage(blink);
+            }
+        }
+    }
+
+    /**
+     * A notification run during a traced cycle.
+     */
+    public static final class Event {
+        private final CycleTraceRecorder recorder;
+        private final NotificationQueue.Notification notification;
+        private final int parentEventId;
+        private final long enqueueNanos;
+
+        private int eventId;
+        private String threadName;
+        private long startNanos;
+        private long endNanos;
+
+        private PerformanceEntry entry;
+        private long rowsAdded;
+        private long rowsRemoved;
+        private long rowsModified;
+
+        private Event(
+                @NotNull final CycleTraceRecorder recorder,
+                @NotNull final NotificationQueue.Notification notification,
+                final int parentEventId,
+                final long enqueueNanos) {
+            this.recorder = recorder;
+            this.notification = notification;
+            this.parentEventId = parentEventId;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+
+    private final String updateGraphName;
+    private final long thresholdNanos;
+    private final int sampleInterval;
+    private final CycleTraceStreamPublisher publisher;
+
+    private long cycleCount;
+    private volatile boolean recording;
+    private boolean sampled;
+    private long epochOffsetNanos;
+
+    /**
+     * Events of notifications that have been enqueued during this cycle, but have not yet started. Guarded by this.
+     */
+    private final Map<NotificationQueue.Notification, Event> enqueuedEvents = new IdentityHashMap<>();
+    /**
+     * Events of notifications that have been started during this cycle, in start order. Guarded by this.
+     */
+    private final List<Event> startedEvents = new ArrayList<>();
+
+    /**
+     * Create a recorder for the named update graph, configured by {@code CycleTraceRecorder.thresholdMillis} and
+     * {@code CycleTraceRecorder.sampleInterval}, that publishes to the
+     * {@link io.deephaven.engine.table.impl.util.TableLoggers#cycleTraceLog() cycle trace log}.
+     *
+     * @param updateGraphName The name of the update graph
+     */
+    public CycleTraceRecorder(@NotNull final String updateGraphName) {
+        this(updateGraphName, THRESHOLD_MILLIS < 0 ? -1 : THRESHOLD_MILLIS * 1_000_000L, SAMPLE_INTERVAL, null);
+    }
+
+    /**
+     * @param updateGraphName The name of the update graph
+     * @param thresholdNanos The minimum duration of a cycle that is traced, or a negative value to disable threshold
+     *        tracing
+     * @param sampleInterval Trace one of every {@code sampleInterval} cycles, or a non-positive value to disable
+     *        sampling
+     * @param publisher The publisher for traced cycles, or {@code null} to use the cycle trace log
+     */
+    CycleTraceRecorder(
+            @NotNull final String updateGraphName,
+            final long thresholdNanos,
+            final int sampleInterval,
+            @Nullable final CycleTraceStreamPublisher publisher) {
+        this.updateGraphName = updateGraphName;
+        this.thresholdNanos = thresholdNanos;
+        this.sampleInterval = sampleInterval;
+        this.publisher = publisher;
+    }
+
+    /**
+     * Begin a cycle, and decide whether its notifications are recorded.
+     */
+    public void startCycle() {
+        ++cycleCount;
+        sampled = sampleInterval > 0 && cycleCount % sampleInterval == 0;
+        if (sampled || thresholdNanos >= 0) {
+            epochOffsetNanos = Clock.system().currentTimeNanos() - System.nanoTime();
+            recording = true;
+        }
+    }
+
+    /**
+     * End the current cycle, and publish its notifications if it was sampled or took at least the threshold duration.
+     *
+     * @param step The step of the logical clock for the cycle
+     * @param cycleTimeNanos The duration of the cycle
+     */
+    public void endCycle(final long step, final long cycleTimeNanos) {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        final List<Event> events;
+        synchronized (this) {
+            events = new ArrayList<>(startedEvents);
+            startedEvents.clear();
+            enqueuedEvents.clear();
+        }
+        if (events.isEmpty() || !(sampled || (thresholdNanos >= 0 && cycleTimeNanos >= thresholdNanos))) {
+            return;
+        }
+        final CycleTraceStreamPublisher target = publisher == null ? getInternalState().publisher : publisher;
+        for (final Event event : events) {
+            final PerformanceEntry entry = event.entry;
+            target.add(
+                    updateGraphName,
+                    step,
+                    event.eventId,
+                    event.parentEventId,
+                    entry == null ? QueryConstants.NULL_LONG : entry.getId(),
+                    entry == null ? event.notification.toString() : entry.getDescription(),
+                    event.threadName,
+                    toEpochNanos(event.enqueueNanos),
+                    toEpochNanos(event.startNanos),
+                    toEpochNanos(event.endNanos),
+                    event.rowsAdded,
+                    event.rowsRemoved,
+                    event.rowsModified);
+        }
+    }
+
+    private long toEpochNanos(final long nanoTime) {
+        return nanoTime == QueryConstants.NULL_LONG ? QueryConstants.NULL_LONG : nanoTime + epochOffsetNanos;
+    }
+
+    /**
+     * Record that a notification was enqueued. If another notification of this recorder is running on the current
+     * thread, it becomes the parent of the enqueued notification.
+     *
+     * @param notification The notification
+     */
+    public void onNotificationEnqueued(@NotNull final NotificationQueue.Notification notification) {
+        if (!recording) {
+            return;
+        }
+        final Event running = RUNNING_EVENT.get();
+        final int parentEventId = running != null && running.recorder == this
+                ? running.eventId
+                : QueryConstants.NULL_INT;
+        final Event event = new Event(this, notification, parentEventId, System.nanoTime());
+        synchronized (this) {
+            enqueuedEvents.put(notification, event);
+        }
+    }
+
+    /**
+     * Record that a notification is starting on the current thread.
+     *
+     * @param notification The notification
+     * @return The event to pass to {@link #onNotificationEnd(Event)}, or {@code null} if this cycle is not being
+     *         recorded
+     */
+    public Event onNotificationStart(@NotNull final NotificationQueue.Notification notification) {
+        if (!recording) {
+            return null;
+        }
+        Event event;
+        synchronized (this) {
+            event = enqueuedEvents.remove(notification);
+            if (event == null) {
+                event = new Event(this, notification, QueryConstants.NULL_INT, QueryConstants.NULL_LONG);
+            }
+            event.eventId = startedEvents.size();
+            startedEvents.add(event);
+        }
+        event.threadName = Thread.currentThread().getName();
+        RUNNING_EVENT.set(event);
+        event.startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Record that the notification started by {@link #onNotificationStart(NotificationQueue.Notification)} has ended.
+     *
+     * @param event The result of {@code onNotificationStart}
+     */
+    public void onNotificationEnd(@Nullable final Event event) {
+        if (event == null) {
+            return;
+        }
+        event.endNanos = System.nanoTime();
+        RUNNING_EVENT.remove();
+    }
+
+    /**
+     * Attribute an update to the notification running on the current thread, if it is being traced. The first entry to
+     * be updated identifies the notification.
+     */
+    static void onUpdateStart(
+            @NotNull final PerformanceEntry entry,
+            final long added,
+            final long removed,
+            final long modified) {
+        final Event running = RUNNING_EVENT.get();
+        if (running == null) {
+            return;
+        }
+        if (running.entry == null) {
+            running.entry = entry;
+        }
+        running.rowsAdded += added;
+        running.rowsRemoved += removed;
+        running.rowsModified += modified;
+    }
+
+    /**
+     * Write a trace in the Chrome trace event JSON format, which is understood by Perfetto and
+     * {@code chrome://tracing}. Each notification is a slice on the track of the thread that ran it, connected by a
+     * flow arrow to the notification that enqueued it. Each update graph is a separate process.
+     *
+     * @param trace A table with the columns of the
+     *        {@link io.deephaven.engine.table.impl.util.TableLoggers#cycleTraceLog() cycle trace log}, such as a
+     *        filtered snapshot of it
+     * @param out The destination of the trace
+     */
+    public static void writeChromeTrace(@NotNull final Table trace, @NotNull final Appendable out)
+            throws IOException {
+        final Table snapshot = trace.isRefreshing() ? trace.snapshot() : trace;
+        final ColumnSource<String> updateGraphs = snapshot.getColumnSource("UpdateGraph", String.class);
+        final ColumnSource<Long> steps = snapshot.getColumnSource("Step", long.class);
+        final ColumnSource<Integer> eventIds = snapshot.getColumnSource("EventId", int.class);
+        final ColumnSource<Integer> parentEventIds = snapshot.getColumnSource("ParentEventId", int.class);
+        final ColumnSource<Long> entryIds = snapshot.getColumnSource("EntryId", long.class);
+        final ColumnSource<String> descriptions = snapshot.getColumnSource("EntryDescription", String.class);
+        final ColumnSource<String> threadNames = snapshot.getColumnSource("ThreadName", String.class);
+        final ColumnSource<Long> enqueueTimes = snapshot.getColumnSource("EnqueueTime").reinterpret(long.class);
+        final ColumnSource<Long> startTimes = snapshot.getColumnSource("StartTime").reinterpret(long.class);
+        final ColumnSource<Long> endTimes = snapshot.getColumnSource("EndTime").reinterpret(long.class);
+        final ColumnSource<Long> rowsAdded = snapshot.getColumnSource("RowsAdded", long.class);
+        final ColumnSource<Long> rowsRemoved = snapshot.getColumnSource("RowsRemoved", long.class);
+        final ColumnSource<Long> rowsModified = snapshot.getColumnSource("RowsModified", long.class);
+
+        final Map<String, Integer> pids = new HashMap<>();
+        final Map<String, Integer> tids = new HashMap<>();
+        boolean first = true;
+        out.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        try (final RowSet.Iterator it = snapshot.getRowSet().iterator()) {
+            while (it.hasNext()) {
+                final long rowKey = it.nextLong();
+                final String updateGraph = updateGraphs.get(rowKey);
+                final String threadName = threadNames.get(rowKey);
+                final long step = steps.getLong(rowKey);
+                final int eventId = eventIds.getInt(rowKey);
+                final int parentEventId = parentEventIds.getInt(rowKey);
+                final long enqueueTime = enqueueTimes.getLong(rowKey);
+                final long startTime = startTimes.getLong(rowKey);
+
+                Integer pid = pids.get(updateGraph);
+                if (pid == null) {
+                    pids.put(updateGraph, pid = pids.size() + 1);
+                    first = appendSeparator(out, first);
+                    appendMetadata(out, "process_name", pid, 0, updateGraph);
+                }
+                Integer tid = tids.get(threadName);
+                if (tid == null) {
+                    tids.put(threadName, tid = tids.size() + 1);
+                    first = appendSeparator(out, first);
+                    appendMetadata(out, "thread_name", pid, tid, threadName);
+                }
+
+                first = appendSeparator(out, first);
+                out.append("{\"ph\":\"X\",\"cat\":\"notification\",\"name\":");
+                appendString(out, descriptions.get(rowKey));
+                out.append(",\"pid\":").append(Integer.toString(pid));
+                out.append(",\"tid\":").append(Integer.toString(tid));
+                out.append(",\"ts\":").append(toMicros(startTime));
+                out.append(",\"dur\":").append(toMicros(endTimes.getLong(rowKey) - startTime));
+                out.append(",\"args\":{\"step\":").append(Long.toString(step));
+                out.append(",\"eventId\":").append(Integer.toString(eventId));
+                final long entryId = entryIds.getLong(rowKey);
+                if (entryId != QueryConstants.NULL_LONG) {
+                    out.append(",\"entryId\":").append(Long.toString(entryId));
+                }
+                if (enqueueTime != QueryConstants.NULL_LONG) {
+                    out.append(",\"queueMicros\":").append(toMicros(startTime - enqueueTime));
+                }
+                out.append(",\"rowsAdded\":").append(Long.toString(rowsAdded.getLong(rowKey)));
+                out.append(",\"rowsRemoved\":").append(Long.toString(rowsRemoved.getLong(rowKey)));
+                out.append(",\"rowsModified\":").append(Long.toString(rowsModified.getLong(rowKey)));
+                out.append("}}");
+
+                if (parentEventId != QueryConstants.NULL_INT && enqueueTime != QueryConstants.NULL_LONG) {
+                    // The flow starts in the parent's slice, when the child was enqueued, and ends at the child's
+                    // start. Flow ids must be unique within the trace, so they combine the graph, step and event.
+                    final String flowId = "\"" + pid + ':' + step + ':' + eventId + '"';
+                    out.append(",{\"ph\":\"s\",\"cat\":\"enqueue\",\"name\":\"enqueue\",\"id\":").append(flowId);
+                    out.append(",\"pid\":").append(Integer.toString(pid));
+                    out.append(",\"ts\":").append(toMicros(enqueueTime)).append('}');
+                    out.append(",{\"ph\":\"f\",\"bp\":\"e\",\"cat\":\"enqueue\",\"name\":\"enqueue\",\"id\":")
+                            .append(flowId);
+                    out.append(",\"pid\":").append(Integer.toString(pid));
+                    out.append(",\"tid\":").append(Integer.toString(tid));
+                    out.append(",\"ts\":").append(toMicros(startTime)).append('}');
+                }
+            }
+        }
+        out.append("]}");
+    }
+
+    private static boolean appendSeparator(@NotNull final Appendable out, final boolean first) throws IOException {
+        if (!first) {
+            out.append(',');
+        }
+        return false;
+    }
+
+    private static void appendMetadata(
+            @NotNull final Appendable out,
+            @NotNull final String name,
+            final int pid,
+            final int tid,
+            final String value) throws IOException {
+        out.append("{\"ph\":\"M\",\"name\":\"").append(name).append('"');
+        out.append(",\"pid\":").append(Integer.toString(pid));
+        out.append(",\"tid\":").append(Integer.toString(tid));
+        out.append(",\"args\":{\"name\":");
+        appendString(out, value);
+        out.append("}}");
+    }
+
+    private static void appendString(@NotNull final Appendable out, final String value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"').append(StringEscapeUtils.escapeJson(value)).append('"');
+    }
+
+    private static String toMicros(final long nanos) {
+        return Long.toString(nanos / 1_000L) + '.' + String.format("%03d", Math.abs(nanos % 1_000L));
+    }
+
+    @NotNull
+    public static QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(getInternalState().blink);
+    }
+}
@@ -0,0 +1,130 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.util.TableLoggers;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.util.SafeCloseableArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A stream publisher for traced update graph cycles to produce the {@link TableLoggers#cycleTraceLog()} table.
+ */
+class CycleTraceStreamPublisher implements StreamPublisher {
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofString("UpdateGraph"),
+            ColumnDefinition.ofLong("Step"),
+            ColumnDefinition.ofInt("EventId"),
+            ColumnDefinition.ofInt("ParentEventId"),
+            ColumnDefinition.ofLong("EntryId"),
+            ColumnDefinition.ofString("EntryDescription"),
+            ColumnDefinition.ofString("ThreadName"),
+            ColumnDefinition.ofTime("EnqueueTime"),
+            ColumnDefinition.ofTime("StartTime"),
+            ColumnDefinition.ofTime("EndTime"),
+            ColumnDefinition.ofLong("RowsAdded"),
+            ColumnDefinition.ofLong("RowsRemoved"),
+            ColumnDefinition.ofLong("RowsModified"));
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    public CycleTraceStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    public synchronized void add(
+            final String updateGraphName,
+            final long step,
+            final int eventId,
+            final int parentEventId,
+            final long entryId,
+            final String description,
+            final String threadName,
+            final long enqueueTimeEpochNanos,
+            final long startTimeEpochNanos,
+            final long endTimeEpochNanos,
+            final long rowsAdded,
+            final long rowsRemoved,
+            final long rowsModified) {
+        int ci = 0;
+        // ColumnDefinition.ofString("UpdateGraph"),
+        chunks[ci++].<String>asWritableObjectChunk().add(updateGraphName);
+        // ColumnDefinition.ofLong("Step"),
+        chunks[ci++].asWritableLongChunk().add(step);
+        // ColumnDefinition.ofInt("EventId"),
+        chunks[ci++].asWritableIntChunk().add(eventId);
+        // ColumnDefinition.ofInt("ParentEventId"),
+        chunks[ci++].asWritableIntChunk().add(parentEventId);
+        // ColumnDefinition.ofLong("EntryId"),
+        chunks[ci++].asWritableLongChunk().add(entryId);
+        // ColumnDefinition.ofString("EntryDescription"),
+        chunks[ci++].<String>asWritableObjectChunk().add(description);
+        // ColumnDefinition.ofString("ThreadName"),
+        chunks[ci++].<String>asWritableObjectChunk().add(threadName);
+        // ColumnDefinition.ofTime("EnqueueTime"),
+        chunks[ci++].asWritableLongChunk().add(enqueueTimeEpochNanos);
+        // ColumnDefinition.ofTime("StartTime"),
+        chunks[ci++].asWritableLongChunk().add(startTimeEpochNanos);
+        // ColumnDefinition.ofTime("EndTime"),
+        chunks[ci++].asWritableLongChunk().add(endTimeEpochNanos);
+        // ColumnDefinition.ofLong("RowsAdded"),
+        chunks[ci++].asWritableLongChunk().add(rowsAdded);
+        // ColumnDefinition.ofLong("RowsRemoved"),
+        chunks[ci++].asWritableLongChunk().add(rowsRemoved);
+        // ColumnDefinition.ofLong("RowsModified"),
+        chunks[ci].asWritableLongChunk().add(rowsModified);
+
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    public void acceptFailure(Throwable e) {
+        consumer.acceptFailure(e);
+    }
+
+    @Override
+    public void shutdown() {
+        flush();
+        SafeCloseableArray.close(chunks);
+        chunks = null;
+    }
+}
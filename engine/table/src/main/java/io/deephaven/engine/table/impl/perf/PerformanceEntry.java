@@ -29,6 +29,12 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     private final static boolean REQUIRE_AUTH_CONTEXT =
             Configuration.getInstance().getBooleanWithDefault("PerformanceEntry.requireAuthContext", false);
 
+    /**
+     * The entry whose update is in progress on the current thread, if any. Notifications enqueued while an entry's
+     * update is in progress are considered to be downstream of that entry.
+     */
+    private static final ThreadLocal<PerformanceEntry> RUNNING_ENTRY = new ThreadLocal<>();
+
     private final long id;
     private final long evaluationNumber;
     private final int operationNumber;
@@ -53,6 +59,16 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     private boolean loggedOnce;
     private RuntimeMemory.PooledSample startSample;
 
+    /*
+     * Cost estimates for critical path scheduling. Unlike the interval statistics above, these are not cleared by
+     * reset(), and are read concurrently by the update graph when it orders satisfied notifications.
+     */
+    private volatile long estimatedUpdateNanos;
+    private volatile long estimatedDownstreamNanos;
+    private long updateStartUsageNanos;
+    private long updateDownstreamNanos;
+    private PerformanceEntry enclosingEntry;
+
     PerformanceEntry(final long id, final long evaluationNumber, final int operationNumber,
             final String description, final String callerLine, final String updateGraphName) {
         this.id = id;
@@ -75,8 +91,17 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
     }
 
     public final void onUpdateStart() {
+        CycleTraceRecorder.onUpdateStart(this, 0, 0, 0);
+        startUpdate();
+    }
+
+    private void startUpdate() {
         startSample = RuntimeMemory.getInstance().readPooledSample();
         super.onBaseEntryStart();
+        updateStartUsageNanos = getUsageNanos();
+        updateDownstreamNanos = 0;
+        enclosingEntry = RUNNING_ENTRY.get();
+        RUNNING_ENTRY.set(this);
     }
 
     public final void onUpdateStart(final RowSet added, final RowSet removed, final RowSet modified,
@@ -85,8 +110,9 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         rowsRemoved += removed.size();
         rowsModified += modified.size();
         rowsShifted += shifted.getEffectiveSize();
+        CycleTraceRecorder.onUpdateStart(this, added.size(), removed.size(), modified.size());
 
-        onUpdateStart();
+        startUpdate();
     }
 
     public final void onUpdateStart(long added, long removed, long modified, long shifted) {
@@ -94,12 +120,17 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         rowsRemoved += removed;
         rowsModified += modified;
         rowsShifted += shifted;
+        CycleTraceRecorder.onUpdateStart(this, added, removed, modified);
 
-        onUpdateStart();
+        startUpdate();
     }
 
     public final void onUpdateEnd() {
         onBaseEntryEnd();
+        RUNNING_ENTRY.set(enclosingEntry);
+        enclosingEntry = null;
+        estimatedUpdateNanos = smooth(estimatedUpdateNanos, getUsageNanos() - updateStartUsageNanos);
+        estimatedDownstreamNanos = smooth(estimatedDownstreamNanos, updateDownstreamNanos);
         final RuntimeMemory.PooledSample endSample = RuntimeMemory.getInstance().readPooledSample();
         maxTotalMemory = Math.max(maxTotalMemory, Math.max(startSample.totalMemory, endSample.totalMemory));
         minFreeMemory = Math.min(minFreeMemory, Math.min(startSample.freeMemory, endSample.freeMemory));
@@ -110,6 +141,43 @@ public class PerformanceEntry extends BasePerformanceEntry implements TableListe
         RuntimeMemory.getInstance().returnPooledSample(endSample);
     }
 
+    /**
+     * Record that a notification was enqueued by the update in progress on the current thread, if any. The longest
+     * estimated critical path of the notifications enqueued during an update is folded into the running entry's
+     * estimate of its downstream cost when the update ends.
+     *
+     * @param estimatedCriticalPathNanos The {@link #getEstimatedCriticalPathNanos() estimated critical path} of the
+     *        enqueued notification
+     */
+    public static void onDownstreamNotification(final long estimatedCriticalPathNanos) {
+        final PerformanceEntry running = RUNNING_ENTRY.get();
+        if (running != null) {
+            running.updateDownstreamNanos = Math.max(running.updateDownstreamNanos, estimatedCriticalPathNanos);
+        }
+    }
+
+    /**
+     * Get an estimate of the wall clock time needed to process an update of this entry, and the updates it is expected
+     * to trigger downstream in turn, based on the history of previous updates. Unlike the interval statistics of this
+     * entry, the estimate is smoothed over all updates, and is safe to read concurrently with them.
+     *
+     * @return The estimated critical path through this entry, in nanoseconds, or 0 if this entry has never been
+     *         updated
+     */
+    public long getEstimatedCriticalPathNanos() {
+        return estimatedUpdateNanos + estimatedDownstreamNanos;
+    }
+
+    /**
+     * Exponentially weighted moving average with a weight of 1/4 for each new sample.
+     */
+    private static long smooth(final long estimate, final long sample) {
+        if (sample < 0) {
+            return estimate;
+        }
+        return estimate + ((sample - estimate) >> 2);
+    }
+
     void reset() {
         baseEntryReset();
         invocationCount = 0;
@@ -365,7 +365,7 @@ public abstract class AbstractFormulaColumn implements FormulaColumn {
 
     @Override
     public WritableColumnSource<?> newFlatDestInstance(long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, returnedType, null);
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, returnedType, null);
     }
 
     static class ColumnArrayParameter {
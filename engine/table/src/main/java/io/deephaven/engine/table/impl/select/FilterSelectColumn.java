@@ -187,7 +187,7 @@ class FilterSelectColumn implements SelectColumn {
 
     @Override
     public final WritableColumnSource<?> newFlatDestInstance(final long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, Boolean.class, null);
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, Boolean.class, null);
     }
 
     @Override
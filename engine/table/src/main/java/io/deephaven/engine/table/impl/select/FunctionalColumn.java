@@ -226,7 +226,7 @@ public class FunctionalColumn<S, D> implements SelectColumn {
 
     @Override
     public final WritableColumnSource<?> newFlatDestInstance(final long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, destDataType, componentType);
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, destDataType, componentType);
     }
 
     @Override
@@ -209,7 +209,7 @@ public class FunctionalColumnLong<S> implements SelectColumn {
 
     @Override
     public final WritableColumnSource<?> newFlatDestInstance(final long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, long.class, null);
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, long.class, null);
     }
 
     @Override
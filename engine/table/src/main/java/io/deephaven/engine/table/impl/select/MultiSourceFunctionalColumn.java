@@ -201,7 +201,7 @@ public class MultiSourceFunctionalColumn<D> implements SelectColumn {
 
     @Override
     public final WritableColumnSource<?> newFlatDestInstance(final long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, destDataType, componentType);
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, destDataType, componentType);
     }
 
     @Override
@@ -132,7 +132,7 @@ public class SourceColumn implements SelectColumn {
 
     @Override
     public WritableColumnSource<?> newFlatDestInstance(long size) {
-        return InMemoryColumnSource.getImmutableMemoryColumnSource(size, sourceColumn.getType(),
+        return InMemoryColumnSource.getImmutableFlatResultColumnSource(size, sourceColumn.getType(),
                 sourceColumn.getComponentType());
     }
 
@@ -9,6 +9,7 @@ import io.deephaven.engine.table.WritableColumnSource;
 import io.deephaven.engine.table.impl.sources.immutable.*;
 import io.deephaven.engine.table.impl.sources.immutable.Immutable2DCharArraySource;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableCharArraySource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapColumnSources;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.BooleanUtils;
 import io.deephaven.util.type.ArrayTypeUtils;
@@ -54,6 +55,44 @@ public interface InMemoryColumnSource {
         return makeImmutableSource(dataType, componentType);
     }
 
+    /**
+     * Create an immutable in-memory column source to hold the flat result of a {@code select} or {@code update}
+     * operation, that is capable of holding longSize elements. If {@link OffHeapColumnSources#ENABLED off-heap sources
+     * are enabled}, primitive and Boolean data is held outside the Java heap. If
+     * {@link ImmutableDictionaryStringArraySource#ENABLED dictionary string sources are enabled}, String data is
+     * dictionary encoded, unless the first chunk written to the source has too many distinct values; otherwise if
+     * {@link ImmutableCompactStringArraySource#ENABLED compact string sources are enabled}, String data is held as
+     * UTF-8 bytes in shared arenas. Otherwise, or for other data types, this is equivalent to
+     * {@link #getImmutableMemoryColumnSource(long, Class, Class)}.
+     * <p>
+     * Note, that the backing store may not be allocated after this call; you still must call
+     * {@link WritableColumnSource#ensureCapacity(long)}.
+     *
+     * @param longSize the minimum required size that the column source must support
+     * @param dataType the data type of the resultant column source
+     * @param componentType the component type for column sources of arrays or Vectors
+     * @return an immutable WritableColumnSource
+     */
+    static <T> WritableColumnSource<T> getImmutableFlatResultColumnSource(long longSize,
+            @NotNull final Class<T> dataType,
+            @Nullable final Class<?> componentType) {
+        if (OffHeapColumnSources.ENABLED) {
+            final WritableColumnSource<T> result = OffHeapColumnSources.makeOffHeapSource(dataType);
+            if (result != null) {
+                return result;
+            }
+        }
+        if (ImmutableDictionaryStringArraySource.ENABLED && dataType == String.class) {
+            // noinspection unchecked
+            return (WritableColumnSource<T>) new ImmutableDictionaryStringArraySource();
+        }
+        if (ImmutableCompactStringArraySource.ENABLED && dataType == String.class) {
+            // noinspection unchecked
+            return (WritableColumnSource<T>) new ImmutableCompactStringArraySource();
+        }
+        return getImmutableMemoryColumnSource(longSize, dataType, componentType);
+    }
+
     @NotNull
     static <T> WritableColumnSource<T> makeImmutableSource(@NotNull Class<T> dataType,
             @Nullable Class<?> componentType) {
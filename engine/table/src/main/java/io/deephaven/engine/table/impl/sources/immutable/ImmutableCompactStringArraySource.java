@@ -0,0 +1,373 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.immutable;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Flat string source that stores the UTF-8 encoding of each value in large shared byte arenas, and supports
+ * fillFromChunk for initial creation.
+ *
+ * No previous value tracking is permitted, so this column source is only useful as a flat static source.
+ *
+ * Each row holds only the location and length of its bytes within the arenas, rather than a reference to a String with
+ * its own header and backing array. Strings are materialized when the column is read; {@link #match} compares the
+ * encoded bytes directly, so filtering on this column does not decode the values. Overwriting a row does not reclaim
+ * the bytes of its previous value.
+ *
+ * When {@code ImmutableCompactStringArraySource.enabled} is true, the flat results of {@code select} and {@code update}
+ * on static tables store String columns in this source; see
+ * {@link InMemoryColumnSource#getImmutableFlatResultColumnSource(long, Class, Class)}.
+ */
+public class ImmutableCompactStringArraySource extends AbstractColumnSource<String>
+        implements ImmutableColumnSourceGetDefaults.ForObject<String>, WritableColumnSource<String>,
+        FillUnordered<Values>, InMemoryColumnSource, WritableSourceWithPrepareForParallelPopulation {
+
+    /**
+     * Whether flat static select and update results store String columns in compact sources.
+     */
+    public static final boolean ENABLED = Configuration.getInstance().getBooleanForClassWithDefault(
+            ImmutableCompactStringArraySource.class, "enabled", false);
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+    private static final int DEFAULT_ARENA_SIZE = 1 << 24;
+    private static final int NULL_LENGTH = -1;
+    /**
+     * Up to this many distinct match keys are compared one by one, beyond it the keys are hashed.
+     */
+    private static final int MAX_LINEAR_MATCH_KEYS = 4;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private final int arenaSize;
+
+    private long size;
+    /**
+     * The arena and offset of each row's bytes, as {@code arena << 32 | offset}.
+     */
+    private long[][] locations;
+    /**
+     * The length in bytes of each row's value, or {@link #NULL_LENGTH}.
+     */
+    private int[][] lengths;
+
+    private volatile byte[][] arenas = new byte[0][];
+    /**
+     * The next free offset in the last arena, guarded by {@code this}.
+     */
+    private int arenaPosition;
+
+    public ImmutableCompactStringArraySource() {
+        this(DEFAULT_SEGMENT_SHIFT, DEFAULT_ARENA_SIZE);
+    }
+
+    public ImmutableCompactStringArraySource(int segmentShift, int arenaSize) {
+        super(String.class);
+        this.segmentShift = segmentShift;
+        segmentMask = (1 << segmentShift) - 1;
+        this.arenaSize = arenaSize;
+    }
+
+    @Override
+    public final String get(long rowKey) {
+        if (rowKey < 0 || rowKey >= size) {
+            return null;
+        }
+
+        return getUnsafe(rowKey);
+    }
+
+    private int keyToSegment(long rowKey) {
+        return (int) (rowKey >> segmentShift);
+    }
+
+    private int keyToOffset(long rowKey) {
+        return (int) (rowKey & segmentMask);
+    }
+
+    public final String getUnsafe(long key) {
+        final int segment = keyToSegment(key);
+        final int offset = keyToOffset(key);
+        final int length = lengths[segment][offset];
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final long location = locations[segment][offset];
+        return new String(arenas[(int) (location >>> 32)], (int) location, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public final void setNull(long key) {
+        lengths[keyToSegment(key)][keyToOffset(key)] = NULL_LENGTH;
+    }
+
+    @Override
+    public final void set(long key, String value) {
+        if (value == null) {
+            setNull(key);
+            return;
+        }
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        setEncoded(key, encoded, reserve(encoded.length));
+    }
+
+    private void setEncoded(final long key, final byte[] encoded, final long location) {
+        if (encoded.length > 0) {
+            System.arraycopy(encoded, 0, arenas[(int) (location >>> 32)], (int) location, encoded.length);
+        }
+        final int segment = keyToSegment(key);
+        final int offset = keyToOffset(key);
+        locations[segment][offset] = location;
+        lengths[segment][offset] = encoded.length;
+    }
+
+    /**
+     * Reserve contiguous space for {@code length} bytes in the arenas. Values never span arenas; a value larger than
+     * the arena size gets an arena of its own.
+     *
+     * @return the location of the reserved space, as {@code arena << 32 | offset}
+     */
+    private synchronized long reserve(final int length) {
+        byte[][] current = arenas;
+        if (current.length == 0 || current[current.length - 1].length - arenaPosition < length) {
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = new byte[Math.max(arenaSize, length)];
+            arenas = current;
+            arenaPosition = 0;
+        }
+        final long location = ((long) (current.length - 1) << 32) | arenaPosition;
+        arenaPosition += length;
+        return location;
+    }
+
+    @Override
+    public void ensureCapacity(long capacity, boolean nullFilled) {
+        if (lengths == null) {
+            size = capacity;
+            final int segmentSize = segmentMask + 1;
+            final int segments = Math.toIntExact((size + segmentSize - 1) / segmentSize);
+            locations = new long[segments][];
+            lengths = new int[segments][];
+            long remaining = size;
+            for (int segment = 0; remaining > 0; ++segment) {
+                final int thisSegmentSize = (int) Math.min(segmentSize, remaining);
+                locations[segment] = new long[thisSegmentSize];
+                lengths[segment] = new int[thisSegmentSize];
+                // A length of zero is the empty string, so rows are always null filled
+                Arrays.fill(lengths[segment], NULL_LENGTH);
+                remaining -= thisSegmentSize;
+            }
+        }
+        if (capacity > size) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        final WritableObjectChunk<String, ? super Values> chunk = destination.asWritableObjectChunk();
+        final MutableInt destPos = new MutableInt(0);
+        rowSequence.forAllRowKeys((long key) -> chunk.set(destPos.getAndIncrement(), getUnsafe(key)));
+        chunk.setSize(destPos.get());
+    }
+
+    @Override
+    public void fillFromChunk(@NotNull FillFromContext context, @NotNull Chunk<? extends Values> src,
+            @NotNull RowSequence rowSequence) {
+        setAll(src.asObjectChunk(), rowSequence.asRowKeyChunk());
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        setAll(src.asObjectChunk(), keys);
+    }
+
+    /**
+     * Set the rows at {@code keys} to {@code values}, reserving arena space for a run of values at once rather than
+     * for each value, so that parallel population does not contend on {@link #reserve(int)} for every row.
+     */
+    private void setAll(
+            @NotNull final ObjectChunk<String, ? extends Values> values,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final int size = values.size();
+        final byte[][] encoded = new byte[size][];
+        int runStart = 0;
+        long runLength = 0;
+        for (int ii = 0; ii < size; ++ii) {
+            final String value = values.get(ii);
+            if (value == null) {
+                continue;
+            }
+            encoded[ii] = value.getBytes(StandardCharsets.UTF_8);
+            // A run never exceeds an arena, unless it is a single value larger than an arena
+            if (runLength > 0 && runLength + encoded[ii].length > arenaSize) {
+                setRun(encoded, keys, runStart, ii, (int) runLength);
+                runStart = ii;
+                runLength = 0;
+            }
+            runLength += encoded[ii].length;
+        }
+        setRun(encoded, keys, runStart, size, (int) runLength);
+    }
+
+    private void setRun(
+            @NotNull final byte[][] encoded,
+            @NotNull final LongChunk<? extends RowKeys> keys,
+            final int start,
+            final int end,
+            final int runLength) {
+        long location = -1;
+        for (int ii = start; ii < end; ++ii) {
+            final long key = keys.get(ii);
+            final byte[] value = encoded[ii];
+            if (value == null) {
+                setNull(key);
+                continue;
+            }
+            if (location == -1) {
+                location = reserve(runLength);
+            }
+            setEncoded(key, value, location);
+            location += value.length;
+        }
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableObjectChunk<String, ? super Values> chunk = dest.asWritableObjectChunk();
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            final long rowKey = keys.get(ii);
+            chunk.set(ii, rowKey == RowSequence.NULL_ROW_KEY ? null : getUnsafe(rowKey));
+        }
+        chunk.setSize(keys.size());
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(@NotNull FillContext context, @NotNull WritableChunk<? super Values> dest,
+            @NotNull LongChunk<? extends RowKeys> keys) {
+        fillChunkUnordered(context, dest, keys);
+    }
+
+    @Override
+    public void fillPrevChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        fillChunk(context, destination, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, @NotNull RowSequence rowSequence) {
+        return getChunk(context, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, long firstKey, long lastKey) {
+        return getChunk(context, firstKey, lastKey);
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void prepareForParallelPopulation(RowSequence rowSequence) {
+        // We don't track previous values, but we do need to ensure we can accept the expected rows.
+        ensureCapacity(rowSequence.lastRowKey() + 1, false);
+    }
+
+    @Override
+    public WritableRowSet match(
+            final boolean usePrev,
+            @NotNull final MatchOptions matchOptions,
+            @NotNull final RowSet selection,
+            final Object... keys) {
+        if (matchOptions.caseInsensitive()) {
+            // Case folding needs the decoded value
+            return super.match(usePrev, matchOptions, selection, keys);
+        }
+
+        // Keys that are not Strings can never be equal to a value of this column
+        boolean matchNull = false;
+        final Set<ByteBuffer> encodedKeys = new HashSet<>();
+        for (final Object key : keys) {
+            if (key == null) {
+                matchNull = true;
+            } else if (key instanceof String) {
+                encodedKeys.add(ByteBuffer.wrap(((String) key).getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        final byte[][] linearKeys = encodedKeys.size() <= MAX_LINEAR_MATCH_KEYS
+                ? encodedKeys.stream().map(ByteBuffer::array).toArray(byte[][]::new)
+                : null;
+
+        final boolean includeNull = matchNull ^ matchOptions.inverted();
+        final boolean inverted = matchOptions.inverted();
+        final byte[][] currentArenas = arenas;
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        selection.forAllRowKeys((long rowKey) -> {
+            final int segment = keyToSegment(rowKey);
+            final int offset = keyToOffset(rowKey);
+            final int length = lengths[segment][offset];
+            final boolean include;
+            if (length == NULL_LENGTH) {
+                include = includeNull;
+            } else {
+                final long location = locations[segment][offset];
+                final byte[] arena = currentArenas[(int) (location >>> 32)];
+                final int start = (int) location;
+                if (linearKeys != null) {
+                    include = containsLinear(linearKeys, arena, start, length) ^ inverted;
+                } else {
+                    include = encodedKeys.contains(ByteBuffer.wrap(arena, start, length)) ^ inverted;
+                }
+            }
+            if (include) {
+                builder.appendKey(rowKey);
+            }
+        });
+        return builder.build();
+    }
+
+    private static boolean containsLinear(
+            @NotNull final byte[][] keys,
+            @NotNull final byte[] arena,
+            final int start,
+            final int length) {
+        for (final byte[] key : keys) {
+            if (key.length == length && Arrays.equals(key, 0, length, arena, start, start + length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,526 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.immutable;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.MemoizedOperationKey;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * Flat string source that stores an int code per row, indexing an append-only dictionary of the distinct values, and
+ * supports fillFromChunk for initial creation.
+ *
+ * No previous value tracking is permitted, so this column source is only useful as a flat static source.
+ *
+ * This source is a {@link SymbolTableSource}, whose identifiers are the dictionary codes, so that static single-key
+ * aggregations, sorts and joins on the column operate on the codes rather than hashing or comparing Strings.
+ * {@link #match} evaluates its keys once per dictionary entry and then tests the codes of the selected rows.
+ *
+ * The dictionary is limited to {@code ImmutableDictionaryStringArraySource.maxDictionarySize} entries. Values that
+ * arrive once the dictionary is full are stored in a separate source instead, after which this source no longer
+ * provides a symbol table.
+ *
+ * Dictionary encoding only pays off for columns with few distinct values, so the encoding is chosen from the first
+ * chunk this source is filled from. If more than
+ * {@code ImmutableDictionaryStringArraySource.maxSampledDistinctFraction} of that chunk's non-null values are distinct,
+ * and it has at least {@code ImmutableDictionaryStringArraySource.minCardinalitySampleSize} of them, no codes or
+ * dictionary are kept and every value is stored in the separate source.
+ *
+ * When {@code ImmutableDictionaryStringArraySource.enabled} is true, the flat results of {@code select} and
+ * {@code update} on static tables store String columns in this source; see
+ * {@link InMemoryColumnSource#getImmutableFlatResultColumnSource(long, Class, Class)}.
+ */
+public class ImmutableDictionaryStringArraySource extends AbstractColumnSource<String>
+        implements ImmutableColumnSourceGetDefaults.ForObject<String>, WritableColumnSource<String>,
+        FillUnordered<Values>, InMemoryColumnSource, WritableSourceWithPrepareForParallelPopulation,
+        SymbolTableSource<String> {
+
+    /**
+     * Whether flat static select and update results store String columns in dictionary-encoded sources.
+     */
+    public static final boolean ENABLED = Configuration.getInstance().getBooleanForClassWithDefault(
+            ImmutableDictionaryStringArraySource.class, "enabled", false);
+
+    private static final int DEFAULT_MAX_DICTIONARY_SIZE = Configuration.getInstance().getIntegerForClassWithDefault(
+            ImmutableDictionaryStringArraySource.class, "maxDictionarySize", 1 << 16);
+
+    private static final double MAX_SAMPLED_DISTINCT_FRACTION = Configuration.getInstance().getDoubleForClassWithDefault(
+            ImmutableDictionaryStringArraySource.class, "maxSampledDistinctFraction", 0.5);
+
+    private static final int MIN_CARDINALITY_SAMPLE_SIZE = Configuration.getInstance().getIntegerForClassWithDefault(
+            ImmutableDictionaryStringArraySource.class, "minCardinalitySampleSize", 1024);
+
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+    /**
+     * The code of null rows; the code of any other row is its dictionary position plus one, so that newly allocated
+     * rows are null.
+     */
+    private static final int NULL_CODE = 0;
+    /**
+     * The code of rows whose value is held by {@link #overflow}.
+     */
+    private static final int OVERFLOW_CODE = -1;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private final int maxDictionarySize;
+
+    private long size;
+    /**
+     * The code of each row; {@code null} until the encoding is chosen, and afterwards if every value is held by
+     * {@link #overflow}.
+     */
+    private volatile int[][] codes;
+    private volatile boolean encodingChosen;
+    private boolean sized;
+
+    private final Map<String, Integer> dictionaryPositions = new ConcurrentHashMap<>();
+    /**
+     * The dictionary values; entries below {@link #dictionarySize} are never changed, so a reader that observes the
+     * size may use any later version of the array.
+     */
+    private volatile String[] dictionary = new String[16];
+    private volatile int dictionarySize;
+
+    private volatile WritableColumnSource<String> overflow;
+
+    public ImmutableDictionaryStringArraySource() {
+        this(DEFAULT_SEGMENT_SHIFT, DEFAULT_MAX_DICTIONARY_SIZE);
+    }
+
+    public ImmutableDictionaryStringArraySource(int segmentShift, int maxDictionarySize) {
+        super(String.class);
+        this.segmentShift = segmentShift;
+        segmentMask = (1 << segmentShift) - 1;
+        this.maxDictionarySize = maxDictionarySize;
+    }
+
+    @Override
+    public final String get(long rowKey) {
+        if (rowKey < 0 || rowKey >= size) {
+            return null;
+        }
+
+        return getUnsafe(rowKey);
+    }
+
+    private int keyToSegment(long rowKey) {
+        return (int) (rowKey >> segmentShift);
+    }
+
+    private int keyToOffset(long rowKey) {
+        return (int) (rowKey & segmentMask);
+    }
+
+    private int getCode(long rowKey) {
+        return codes[keyToSegment(rowKey)][keyToOffset(rowKey)];
+    }
+
+    public final String getUnsafe(long key) {
+        final int[][] localCodes = codes;
+        if (localCodes == null) {
+            final WritableColumnSource<String> localOverflow = overflow;
+            return localOverflow == null ? null : localOverflow.get(key);
+        }
+        final int code = localCodes[keyToSegment(key)][keyToOffset(key)];
+        if (code == NULL_CODE) {
+            return null;
+        }
+        if (code == OVERFLOW_CODE) {
+            return overflow.get(key);
+        }
+        return dictionary[code - 1];
+    }
+
+    @Override
+    public final void setNull(long key) {
+        final int[][] localCodes = codes;
+        if (localCodes != null) {
+            localCodes[keyToSegment(key)][keyToOffset(key)] = NULL_CODE;
+        } else if (overflow != null) {
+            overflow.setNull(key);
+        }
+    }
+
+    @Override
+    public final void set(long key, String value) {
+        if (value == null) {
+            setNull(key);
+            return;
+        }
+        chooseEncoding(null);
+        final int[][] localCodes = codes;
+        if (localCodes == null) {
+            overflow.set(key, value);
+            return;
+        }
+        Integer position = dictionaryPositions.get(value);
+        if (position == null && (position = addToDictionary(value)) == null) {
+            getOverflow().set(key, value);
+            localCodes[keyToSegment(key)][keyToOffset(key)] = OVERFLOW_CODE;
+            return;
+        }
+        localCodes[keyToSegment(key)][keyToOffset(key)] = position + 1;
+    }
+
+    /**
+     * Choose whether to dictionary encode this source's values, if that has not yet been chosen.
+     *
+     * @param sample the first values written to this source, or {@code null} to dictionary encode
+     */
+    private void chooseEncoding(@Nullable final ObjectChunk<String, ? extends Values> sample) {
+        if (encodingChosen) {
+            return;
+        }
+        synchronized (this) {
+            if (encodingChosen) {
+                return;
+            }
+            if (sample != null && isHighCardinality(sample)) {
+                getOverflow();
+            } else {
+                codes = allocateCodes();
+            }
+            encodingChosen = true;
+        }
+    }
+
+    private static boolean isHighCardinality(@NotNull final ObjectChunk<String, ? extends Values> sample) {
+        final Set<String> distinct = new HashSet<>();
+        int nonNull = 0;
+        for (int ii = 0; ii < sample.size(); ++ii) {
+            final String value = sample.get(ii);
+            if (value != null) {
+                ++nonNull;
+                distinct.add(value);
+            }
+        }
+        return nonNull >= MIN_CARDINALITY_SAMPLE_SIZE && distinct.size() > nonNull * MAX_SAMPLED_DISTINCT_FRACTION;
+    }
+
+    private int[][] allocateCodes() {
+        final int segmentSize = segmentMask + 1;
+        final int segments = Math.toIntExact((size + segmentSize - 1) / segmentSize);
+        final int[][] result = new int[segments][];
+        long remaining = size;
+        for (int segment = 0; remaining > 0; ++segment) {
+            final int thisSegmentSize = (int) Math.min(segmentSize, remaining);
+            // NULL_CODE is zero, so rows are always null filled
+            result[segment] = new int[thisSegmentSize];
+            remaining -= thisSegmentSize;
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the encoding has been chosen, and every value is held by {@link #overflow}
+     */
+    private boolean isOverflowOnly() {
+        return encodingChosen && codes == null;
+    }
+
+    /**
+     * @return the dictionary position of {@code value}, or {@code null} if it is not present and the dictionary is full
+     */
+    private synchronized Integer addToDictionary(@NotNull final String value) {
+        final Integer existing = dictionaryPositions.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        final int position = dictionarySize;
+        if (position >= maxDictionarySize) {
+            return null;
+        }
+        String[] current = dictionary;
+        if (position == current.length) {
+            current = Arrays.copyOf(current, Math.min(current.length << 1, maxDictionarySize));
+        }
+        current[position] = value;
+        dictionary = current;
+        dictionarySize = position + 1;
+        dictionaryPositions.put(value, position);
+        return position;
+    }
+
+    private WritableColumnSource<String> getOverflow() {
+        WritableColumnSource<String> localOverflow;
+        if ((localOverflow = overflow) == null) {
+            synchronized (this) {
+                if ((localOverflow = overflow) == null) {
+                    localOverflow = ImmutableCompactStringArraySource.ENABLED
+                            ? new ImmutableCompactStringArraySource()
+                            : InMemoryColumnSource.getImmutableMemoryColumnSource(size, String.class, null);
+                    localOverflow.ensureCapacity(size);
+                    overflow = localOverflow;
+                }
+            }
+        }
+        return localOverflow;
+    }
+
+    @Override
+    public void ensureCapacity(long capacity, boolean nullFilled) {
+        if (!sized) {
+            // The codes are allocated once the encoding is chosen
+            size = capacity;
+            sized = true;
+        }
+        if (capacity > size) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        if (isOverflowOnly()) {
+            // The overflow sources do not use their contexts
+            overflow.fillChunk(context, destination, rowSequence);
+            return;
+        }
+        final WritableObjectChunk<String, ? super Values> chunk = destination.asWritableObjectChunk();
+        final MutableInt destPos = new MutableInt(0);
+        rowSequence.forAllRowKeys((long key) -> chunk.set(destPos.getAndIncrement(), getUnsafe(key)));
+        chunk.setSize(destPos.get());
+    }
+
+    @Override
+    public void fillFromChunk(@NotNull FillFromContext context, @NotNull Chunk<? extends Values> src,
+            @NotNull RowSequence rowSequence) {
+        final ObjectChunk<String, ? extends Values> chunk = src.asObjectChunk();
+        chooseEncoding(chunk);
+        if (codes == null) {
+            overflow.fillFromChunk(context, src, rowSequence);
+            return;
+        }
+        final MutableInt srcPos = new MutableInt(0);
+        rowSequence.forAllRowKeys((long key) -> set(key, chunk.get(srcPos.getAndIncrement())));
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        final ObjectChunk<String, ? extends Values> chunk = src.asObjectChunk();
+        chooseEncoding(chunk);
+        if (codes == null) {
+            overflow.fillFromChunkUnordered(context, src, keys);
+            return;
+        }
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            set(keys.get(ii), chunk.get(ii));
+        }
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        final WritableObjectChunk<String, ? super Values> chunk = dest.asWritableObjectChunk();
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            final long rowKey = keys.get(ii);
+            chunk.set(ii, rowKey == RowSequence.NULL_ROW_KEY ? null : getUnsafe(rowKey));
+        }
+        chunk.setSize(keys.size());
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(@NotNull FillContext context, @NotNull WritableChunk<? super Values> dest,
+            @NotNull LongChunk<? extends RowKeys> keys) {
+        fillChunkUnordered(context, dest, keys);
+    }
+
+    @Override
+    public void fillPrevChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        fillChunk(context, destination, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, @NotNull RowSequence rowSequence) {
+        return getChunk(context, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, long firstKey, long lastKey) {
+        return getChunk(context, firstKey, lastKey);
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void prepareForParallelPopulation(RowSequence rowSequence) {
+        // We don't track previous values, but we do need to ensure we can accept the expected rows.
+        ensureCapacity(rowSequence.lastRowKey() + 1, false);
+    }
+
+    @Override
+    public WritableRowSet match(
+            final boolean usePrev,
+            @NotNull final MatchOptions matchOptions,
+            @NotNull final RowSet selection,
+            final Object... keys) {
+        // A source that was never filled has only null rows, which are dictionary encoded
+        chooseEncoding(null);
+        if (overflow != null) {
+            return super.match(usePrev, matchOptions, selection, keys);
+        }
+
+        // Evaluate the keys once for each dictionary value, and once more for null in the last position
+        final int localDictionarySize = dictionarySize;
+        final boolean[] codeMatches;
+        try (final WritableBooleanChunk<Values> results =
+                WritableBooleanChunk.makeWritableChunk(localDictionarySize + 1)) {
+            ChunkMatchFilterFactory.getChunkFilter(String.class, matchOptions, keys).filter(
+                    ObjectChunk.chunkWrap(Arrays.copyOf(dictionary, localDictionarySize + 1)), results);
+            codeMatches = new boolean[localDictionarySize + 1];
+            codeMatches[NULL_CODE] = results.get(localDictionarySize);
+            for (int ii = 0; ii < localDictionarySize; ++ii) {
+                codeMatches[ii + 1] = results.get(ii);
+            }
+        }
+
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        selection.forAllRowKeys((long rowKey) -> {
+            if (codeMatches[getCode(rowKey)]) {
+                builder.appendKey(rowKey);
+            }
+        });
+        return builder.build();
+    }
+
+    @Override
+    public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(@NotNull Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+        if (alternateDataType != long.class) {
+            return false;
+        }
+        chooseEncoding(null);
+        return overflow == null;
+    }
+
+    @Override
+    protected <ALTERNATE_DATA_TYPE> ColumnSource<ALTERNATE_DATA_TYPE> doReinterpret(
+            @NotNull Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+        // noinspection unchecked
+        return (ColumnSource<ALTERNATE_DATA_TYPE>) new AsLong();
+    }
+
+    /**
+     * The dictionary positions of this source's values, which are the identifiers of its symbol table.
+     */
+    private final class AsLong extends AbstractColumnSource<Long> implements ImmutableColumnSourceGetDefaults.ForLong {
+
+        private AsLong() {
+            super(long.class);
+        }
+
+        @Override
+        public long getLong(final long rowKey) {
+            if (rowKey < 0 || rowKey >= size) {
+                return NULL_LONG;
+            }
+            return codeToId(getCode(rowKey));
+        }
+
+        @Override
+        public void fillChunk(@NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> destination,
+                @NotNull final RowSequence rowSequence) {
+            final WritableLongChunk<? super Values> chunk = destination.asWritableLongChunk();
+            final MutableInt destPos = new MutableInt(0);
+            rowSequence.forAllRowKeys(
+                    (long key) -> chunk.set(destPos.getAndIncrement(), codeToId(getCode(key))));
+            chunk.setSize(destPos.get());
+        }
+
+        @Override
+        public void fillPrevChunk(@NotNull final FillContext context,
+                @NotNull final WritableChunk<? super Values> destination,
+                @NotNull final RowSequence rowSequence) {
+            fillChunk(context, destination, rowSequence);
+        }
+
+        @Override
+        public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(@NotNull Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+            return alternateDataType == String.class;
+        }
+
+        @Override
+        protected <ALTERNATE_DATA_TYPE> ColumnSource<ALTERNATE_DATA_TYPE> doReinterpret(
+                @NotNull Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+            // noinspection unchecked
+            return (ColumnSource<ALTERNATE_DATA_TYPE>) ImmutableDictionaryStringArraySource.this;
+        }
+    }
+
+    private static long codeToId(final int code) {
+        if (code == NULL_CODE) {
+            return NULL_LONG;
+        }
+        if (code == OVERFLOW_CODE) {
+            throw new IllegalStateException("Value is not dictionary encoded");
+        }
+        return code - 1;
+    }
+
+    @Override
+    public boolean hasSymbolTable(@NotNull final RowSet sourceRowSet) {
+        chooseEncoding(null);
+        return overflow == null;
+    }
+
+    @Override
+    public QueryTable getStaticSymbolTable(@NotNull final RowSet sourceRowSet, final boolean useLookupCaching) {
+        // NB: We assume that hasSymbolTable has been tested by the caller. The whole dictionary is the symbol table,
+        // which may include values that are not present in sourceRowSet.
+        final int localDictionarySize = dictionarySize;
+        final Map<String, ColumnSource<?>> symbolTableColumnSources = new LinkedHashMap<>();
+        symbolTableColumnSources.put(SymbolTableSource.ID_COLUMN_NAME, RowKeyColumnSource.INSTANCE);
+        symbolTableColumnSources.put(SymbolTableSource.SYMBOL_COLUMN_NAME,
+                InMemoryColumnSource.getImmutableMemoryColumnSource(dictionary, String.class, null));
+        return new QueryTable(RowSetFactory.flat(localDictionarySize).toTracking(), symbolTableColumnSources);
+    }
+
+    @Override
+    public Table getSymbolTable(@NotNull final QueryTable sourceTable, final boolean useLookupCaching) {
+        // This source is static, so the symbol table is too
+        return sourceTable.memoizeResult(MemoizedOperationKey.symbolTable(this, useLookupCaching),
+                () -> getStaticSymbolTable(sourceTable.getRowSet(), useLookupCaching));
+    }
+}
@@ -0,0 +1,326 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit OffHeapCharArraySource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.engine.table.ColumnSource;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.ImmutableColumnSourceGetDefaults;
+import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+// region boxing imports
+import static io.deephaven.util.QueryConstants.NULL_BYTE;
+// endregion boxing imports
+
+/**
+ * Simple flat source backed by direct buffers outside the Java heap, that supports fillFromChunk for initial creation.
+ *
+ * No previous value tracking is permitted, so this column source is only useful as a flat static source.
+ *
+ * The data is held in segments of by default 2^26 elements, each a direct buffer in native byte order. Only the small
+ * buffer objects are on the heap, so the data does not add to the heap size or to the work of the garbage collector;
+ * the segments are freed when the source is collected. Direct memory is limited by {@code -XX:MaxDirectMemorySize}.
+ *
+ * Because the backing store is not an array, getChunk calls copy into the context's chunk rather than returning a
+ * reference to the backing store. Prefer
+ * {@link io.deephaven.engine.table.impl.sources.immutable.ImmutableByteArraySource} unless the data should be kept
+ * off-heap; see {@link OffHeapColumnSources}.
+ */
+public class OffHeapByteArraySource extends AbstractColumnSource<Byte>
+        implements ImmutableColumnSourceGetDefaults.ForByte, WritableColumnSource<Byte>, FillUnordered<Values>,
+        InMemoryColumnSource, WritableSourceWithPrepareForParallelPopulation
+/* MIXIN_IMPLS */ {
+    private static final int DEFAULT_SEGMENT_SHIFT = 26;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    private long size;
+    private ByteBuffer[] data;
+
+    // region constructor
+    public OffHeapByteArraySource() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    public OffHeapByteArraySource(int segmentShift) {
+        super(byte.class);
+        this.segmentShift = segmentShift;
+        segmentMask = (1 << segmentShift) - 1;
+    }
+    // endregion constructor
+
+    // region allocateArray
+    private static ByteBuffer[] allocateArray(long size, int segmentSize, boolean nullFilled) {
+        final int segments = Math.toIntExact((size + segmentSize - 1) / segmentSize);
+        final ByteBuffer[] data = new ByteBuffer[segments];
+        int segment = 0;
+        while (size > 0) {
+            final int thisSegmentSize = (int) Math.min(segmentSize, size);
+            // region allocateSegment
+            data[segment] = ByteBuffer.allocateDirect(thisSegmentSize);
+            // endregion allocateSegment
+            if (nullFilled) {
+                for (int ii = 0; ii < thisSegmentSize; ++ii) {
+                    data[segment].put(ii, NULL_BYTE);
+                }
+            }
+            segment++;
+            size -= thisSegmentSize;
+        }
+        return data;
+    }
+    // endregion allocateArray
+
+    @Override
+    public final byte getByte(long rowKey) {
+        if (rowKey < 0 || rowKey >= size) {
+            return NULL_BYTE;
+        }
+
+        return getUnsafe(rowKey);
+    }
+
+    private int keyToSegment(long rowKey) {
+        return (int) (rowKey >> segmentShift);
+    }
+
+    private int keyToOffset(long rowKey) {
+        return (int) (rowKey & segmentMask);
+    }
+
+    public final byte getUnsafe(long key) {
+        return data[keyToSegment(key)].get(keyToOffset(key));
+    }
+
+    @Override
+    public final void setNull(long key) {
+        data[keyToSegment(key)].put(keyToOffset(key), NULL_BYTE);
+    }
+
+    @Override
+    public final void set(long key, byte value) {
+        data[keyToSegment(key)].put(keyToOffset(key), value);
+    }
+
+    @Override
+    public void ensureCapacity(long capacity, boolean nullFilled) {
+        if (data == null) {
+            size = capacity;
+            data = allocateArray(size, segmentMask + 1, nullFilled);
+        }
+        if (capacity > size) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void fillChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        if (rowSequence.getAverageRunLengthEstimate() >= ArrayBackedColumnSource.USE_RANGES_AVERAGE_RUN_LENGTH) {
+            fillChunkByRanges(destination, rowSequence);
+        } else {
+            fillChunkByKeys(destination, rowSequence);
+        }
+    }
+
+    // region fillChunkByRanges
+    /* TYPE_MIXIN */ void fillChunkByRanges(
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence
+    /* CONVERTER */) {
+        // region chunkDecl
+        final WritableByteChunk<? super Values> chunk = destination.asWritableByteChunk();
+        // endregion chunkDecl
+        final MutableInt destPosition = new MutableInt(0);
+        rowSequence.forAllRowKeyRanges((long start, long end) -> {
+            while (start <= end) {
+                final int segment = keyToSegment(start);
+                final int offset = keyToOffset(start);
+                final long segmentEnd = start | segmentMask;
+                final long realEnd = Math.min(segmentEnd, end);
+                final int length = (int) (realEnd - start + 1);
+                // The bulk copy moves the buffer's position, so concurrent readers each use their own view
+                // region copyFromTypedBuffer
+                chunk.copyFromTypedBuffer(data[segment].duplicate(), offset, destPosition.getAndAdd(length), length);
+                // endregion copyFromTypedBuffer
+                start += length;
+            }
+        });
+        chunk.setSize(destPosition.get());
+    }
+    // endregion fillChunkByRanges
+
+    // region fillChunkByKeys
+    /* TYPE_MIXIN */ void fillChunkByKeys(
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence
+    /* CONVERTER */) {
+        // region chunkDecl
+        final WritableByteChunk<? super Values> chunk = destination.asWritableByteChunk();
+        // endregion chunkDecl
+        final MutableInt destPosition = new MutableInt(0);
+        rowSequence.forAllRowKeys((long key) -> {
+            // region conversion
+            chunk.set(destPosition.getAndIncrement(), getUnsafe(key));
+            // endregion conversion
+        });
+        chunk.setSize(destPosition.get());
+    }
+    // endregion fillChunkByKeys
+
+    @Override
+    public void fillFromChunk(@NotNull FillFromContext context, @NotNull Chunk<? extends Values> src,
+            @NotNull RowSequence rowSequence) {
+        if (rowSequence.getAverageRunLengthEstimate() >= ArrayBackedColumnSource.USE_RANGES_AVERAGE_RUN_LENGTH) {
+            fillFromChunkByRanges(src, rowSequence);
+        } else {
+            fillFromChunkByKeys(src, rowSequence);
+        }
+    }
+
+    // region fillFromChunkByKeys
+    /* TYPE_MIXIN */ void fillFromChunkByKeys(
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence
+    /* CONVERTER */) {
+        // region chunkDecl
+        final ByteChunk<? extends Values> chunk = src.asByteChunk();
+        // endregion chunkDecl
+        final MutableInt srcPos = new MutableInt(0);
+        rowSequence.forAllRowKeys((long key) -> {
+            // region conversion
+            set(key, chunk.get(srcPos.getAndIncrement()));
+            // endregion conversion
+        });
+    }
+    // endregion fillFromChunkByKeys
+
+    // region fillFromChunkByRanges
+    /* TYPE_MIXIN */ void fillFromChunkByRanges(
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence
+    /* CONVERTER */) {
+        // region chunkDecl
+        final ByteChunk<? extends Values> chunk = src.asByteChunk();
+        // endregion chunkDecl
+        final MutableInt srcPos = new MutableInt(0);
+        rowSequence.forAllRowKeyRanges((long start, long end) -> {
+            while (start <= end) {
+                final int segment = keyToSegment(start);
+                final int destOffset = keyToOffset(start);
+                final long segmentEnd = start | segmentMask;
+                final long realEnd = Math.min(segmentEnd, end);
+                final int length = (int) (realEnd - start + 1);
+                // Parallel population writes disjoint ranges of a segment, each through its own view
+                // region copyToTypedBuffer
+                chunk.copyToTypedBuffer(srcPos.getAndAdd(length), data[segment].duplicate(), destOffset, length);
+                // endregion copyToTypedBuffer
+                start += length;
+            }
+        });
+    }
+    // endregion fillFromChunkByRanges
+
+    // region fillFromChunkUnordered
+    @Override
+    public /* TYPE_MIXIN */ void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys
+    /* CONVERTER */) {
+        // region chunkDecl
+        final ByteChunk<? extends Values> chunk = src.asByteChunk();
+        // endregion chunkDecl
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            // region conversion
+            set(keys.get(ii), chunk.get(ii));
+            // endregion conversion
+        }
+    }
+    // endregion fillFromChunkUnordered
+
+    // region fillChunkUnordered
+    @Override
+    public /* TYPE_MIXIN */ void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys
+    /* CONVERTER */) {
+        // region chunkDecl
+        final WritableByteChunk<? super Values> chunk = dest.asWritableByteChunk();
+        // endregion chunkDecl
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            final long rowKey = keys.get(ii);
+            if (rowKey == RowSequence.NULL_ROW_KEY) {
+                chunk.set(ii, NULL_BYTE);
+            } else {
+                // region conversion
+                chunk.set(ii, getUnsafe(rowKey));
+                // endregion conversion
+            }
+        }
+    }
+    // endregion fillChunkUnordered
+
+    @Override
+    public void fillPrevChunkUnordered(@NotNull FillContext context, @NotNull WritableChunk<? super Values> dest,
+            @NotNull LongChunk<? extends RowKeys> keys) {
+        fillChunkUnordered(context, dest, keys);
+    }
+
+    @Override
+    public void fillPrevChunk(@NotNull FillContext context, @NotNull WritableChunk<? super Values> destination,
+            @NotNull RowSequence rowSequence) {
+        fillChunk(context, destination, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, @NotNull RowSequence rowSequence) {
+        return getChunk(context, rowSequence);
+    }
+
+    @Override
+    public Chunk<? extends Values> getPrevChunk(@NotNull GetContext context, long firstKey, long lastKey) {
+        return getChunk(context, firstKey, lastKey);
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void prepareForParallelPopulation(RowSequence rowSequence) {
+        // We don't track previous values, but we do need to ensure we can accept the expected rows.
+        ensureCapacity(rowSequence.lastRowKey() + 1, false);
+    }
+
+    // region reinterpretation
+    @Override
+    public <ALTERNATE_DATA_TYPE> boolean allowsReinterpret(
+            @NotNull final Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+        return alternateDataType == Boolean.class;
+    }
+
+    protected <ALTERNATE_DATA_TYPE> ColumnSource<ALTERNATE_DATA_TYPE> doReinterpret(
+               @NotNull Class<ALTERNATE_DATA_TYPE> alternateDataType) {
+         //noinspection unchecked
+         return (ColumnSource<ALTERNATE_DATA_TYPE>) new ByteAsBooleanColumnSource(this);
+    }
+    // endregion reinterpretation
+}
@@ -0,0 +1,63 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.engine.table.impl.sources.WritableByteAsBooleanColumnSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory for the off-heap column sources, which hold primitive data in direct memory rather than on the Java heap.
+ * <p>
+ * When {@code OffHeapColumnSources.enabled} is true, the flat results of {@code select} and {@code update} on static
+ * tables (see {@link InMemoryColumnSource#getImmutableFlatResultColumnSource(long, Class, Class)}) store primitive and
+ * Boolean columns off-heap. This keeps a large in-memory working set out of the heap, so that the heap, and the pauses
+ * needed to collect it, can be sized for the engine's transient objects rather than for the data. Object columns, and
+ * columns of time types, are always stored on the heap.
+ */
+public final class OffHeapColumnSources {
+
+    /**
+     * Whether flat static select and update results are stored off-heap.
+     */
+    public static final boolean ENABLED = Configuration.getInstance().getBooleanForClassWithDefault(
+            OffHeapColumnSources.class, "enabled", false);
+
+    private OffHeapColumnSources() {}
+
+    /**
+     * Make an off-heap column source for the given data type.
+     *
+     * @param dataType the data type of the resultant column source
+     * @return an immutable off-heap WritableColumnSource, or {@code null} if {@code dataType} cannot be stored off-heap
+     */
+    @Nullable
+    public static <T> WritableColumnSource<T> makeOffHeapSource(@NotNull final Class<T> dataType) {
+        final WritableColumnSource<?> result;
+        if (dataType == boolean.class || dataType == Boolean.class) {
+            result = new WritableByteAsBooleanColumnSource(new OffHeapByteArraySource());
+        } else if (dataType == char.class || dataType == Character.class) {
+            result = new OffHeapCharArraySource();
+        } else if (dataType == byte.class || dataType == Byte.class) {
+            result = new OffHeapByteArraySource();
+        } else if (dataType == double.class || dataType == Double.class) {
+            result = new OffHeapDoubleArraySource();
+        } else if (dataType == float.class || dataType == Float.class) {
+            result = new OffHeapFloatArraySource();
+        } else if (dataType == int.class || dataType == Integer.class) {
+            result = new OffHeapIntArraySource();
+        } else if (dataType == long.class || dataType == Long.class) {
+            result = new OffHeapLongArraySource();
+        } else if (dataType == short.class || dataType == Short.class) {
+            result = new OffHeapShortArraySource();
+        } else {
+            return null;
+        }
+        // noinspection unchecked
+        return (WritableColumnSource<T>) result;
+    }
+}
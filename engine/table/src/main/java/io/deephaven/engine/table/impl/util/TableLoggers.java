@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl.util;
 
+import io.deephaven.engine.table.impl.perf.CycleTraceRecorder;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.util.annotations.ScriptApi;
@@ -31,6 +32,18 @@ public class TableLoggers {
         return UpdatePerformanceTracker.getAncestorTable();
     }
 
+    /**
+     * Return a table with a trace of the notifications processed by each traced update graph cycle. Cycles are traced
+     * if they are sampled or exceed a threshold duration, as configured by {@code CycleTraceRecorder.sampleInterval}
+     * and {@code CycleTraceRecorder.thresholdMillis}.
+     *
+     * @return A table with update graph cycle trace data.
+     */
+    @ScriptApi
+    public static QueryTable cycleTraceLog() {
+        return CycleTraceRecorder.getQueryTable();
+    }
+
     /**
      * Return a table with query performance data. Individual sub-operations in the query are referenced in
      * QueryOperationPerformanceLog.
@@ -11,6 +11,7 @@ import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.liveness.LivenessManager;
 import io.deephaven.engine.liveness.LivenessScope;
 import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.table.impl.perf.CycleTraceRecorder;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.util.StepUpdater;
@@ -258,6 +259,8 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
 
     final UpdatePerformanceTracker updatePerformanceTracker;
 
+    private final CycleTraceRecorder cycleTraceRecorder;
+
     /**
      * The BaseUpdateGraph is an abstract class that is suitable for extension by UpdateGraphs that process a set of
      * sources and then the resulting {@link io.deephaven.engine.updategraph.NotificationQueue.Notification
@@ -281,6 +284,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         jvmIntrospectionContext = new JvmIntrospectionContext();
         lock = UpdateGraphLock.create(this, allowUnitTestMode);
         updatePerformanceTracker = new UpdatePerformanceTracker(this);
+        cycleTraceRecorder = new CycleTraceRecorder(name);
     }
 
     public String getName() {
@@ -430,6 +434,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
      */
     @Override
     public void addNotification(@NotNull final Notification notification) {
+        cycleTraceRecorder.onNotificationEnqueued(notification);
         if (notification.isTerminal()) {
             synchronized (terminalNotifications) {
                 terminalNotifications.offer(notification);
@@ -437,6 +442,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         } else {
             logDependencies().append(Thread.currentThread().getName()).append(": Adding notification ")
                     .append(notification).endl();
+            PerformanceEntry.onDownstreamNotification(notification.estimatedCriticalPathNanos());
             synchronized (pendingNormalNotifications) {
                 Assert.eq(logicalClock.currentState(), "logicalClock.currentState()",
                         LogicalClock.State.Updating, "LogicalClock.State.Updating");
@@ -460,6 +466,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             final long logicalClockValue = logicalClock.currentValue();
             if (LogicalClock.getState(logicalClockValue) == LogicalClock.State.Updating
                     && LogicalClock.getStep(logicalClockValue) == deliveryStep) {
+                cycleTraceRecorder.onNotificationEnqueued(notification);
                 pendingNormalNotifications.offer(notification);
                 added = true;
             } else {
@@ -752,6 +759,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             releaseScopeOnClose = false;
         }
 
+        final CycleTraceRecorder.Event traceEvent = cycleTraceRecorder.onNotificationStart(notification);
         try (final SafeCloseable ignored = scope == null ? null : LivenessScopeStack.open(scope, releaseScopeOnClose)) {
             notification.run();
             logDependencies().append(Thread.currentThread().getName()).append(": Completed ").append(notification)
@@ -762,6 +770,8 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
                     .append(": ").append(e).endl();
             ProcessEnvironment.getGlobalFatalErrorReporter()
                     .report("Exception while processing UpdateGraph (" + getName() + ") notification", e);
+        } finally {
+            cycleTraceRecorder.onNotificationEnd(traceEvent);
         }
     }
 
@@ -826,6 +836,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
 
         currentCycleLockWaitTotalNanos = 0;
         jvmIntrospectionContext.startSample();
+        cycleTraceRecorder.startCycle();
 
         if (sources.isEmpty()) {
             exclusiveLock().doLocked(this::flushTerminalNotifications);
@@ -835,6 +846,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
 
         jvmIntrospectionContext.endSample();
         final long cycleTimeNanos = System.nanoTime() - startTimeNanos;
+        cycleTraceRecorder.endCycle(logicalClock.currentStep(), cycleTimeNanos);
         computeStatsAndLogCycle(cycleTimeNanos);
     }
 
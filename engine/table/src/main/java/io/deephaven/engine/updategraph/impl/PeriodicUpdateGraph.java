@@ -28,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -122,6 +123,33 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
     private final boolean interCycleYield =
             Configuration.getInstance().getBooleanWithDefault("PeriodicUpdateGraph.interCycleYield", false);
 
+    /**
+     * The largest fraction of wall clock time that update cycles may occupy when a cycle is started early in response
+     * to a {@link #requestRefreshWithin(long) refresh hint}. A hinted cycle begins no sooner than the previous cycle's
+     * duration divided by this fraction after the previous cycle began, so hints shorten the interval between cycles
+     * while the graph is lightly loaded, and back off toward the target cycle duration as load grows. Values
+     * {@code <= 0} disable refresh hints.
+     */
+    private final double maximumHintedCycleUtilization = Math.min(1.0, Configuration.getInstance()
+            .getDoubleWithDefault("PeriodicUpdateGraph.maximumHintedCycleUtilization", 0.5));
+
+    /**
+     * Whether a {@link #requestRefreshWithin(long) refresh hint} is outstanding, and the earliest deadline requested.
+     * Guarded by {@link #refreshRequested}.
+     */
+    private boolean refreshHinted;
+    private long refreshHintDeadlineNanos;
+
+    /**
+     * If true, update threads run the satisfied notification with the longest
+     * {@link Notification#estimatedCriticalPathNanos() estimated critical path} first, rather than in the order the
+     * notifications were satisfied. The estimates are learned from the update history of each listener's
+     * {@link io.deephaven.engine.table.impl.perf.PerformanceEntry performance entry}, so that long dependency chains
+     * start early in the cycle and do not end up running alone on a single thread after cheaper, independent work.
+     */
+    private final boolean criticalPathScheduling =
+            Configuration.getInstance().getBooleanWithDefault("PeriodicUpdateGraph.criticalPathScheduling", false);
+
     public PeriodicUpdateGraph(
             final String name,
             final boolean allowUnitTestMode,
@@ -154,7 +182,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         if (updateThreads > 1) {
             final ThreadFactory threadFactory = new NotificationProcessorThreadFactory(
                     new ThreadGroup("PeriodicUpdateGraph-updateExecutors"), "updateExecutor");
-            return new ConcurrentNotificationProcessor(threadFactory, updateThreads);
+            return new ConcurrentNotificationProcessor(threadFactory, updateThreads, criticalPathScheduling);
         } else {
             return new QueueNotificationProcessor();
         }
@@ -165,7 +193,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             final int notificationStartDelay) {
         final ThreadFactory threadFactory = new NotificationProcessorThreadFactory(
                 new ThreadGroup("PeriodicUpdateGraph-randomizedUpdatedExecutors"), "randomizedUpdateExecutor");
-        return new ConcurrentNotificationProcessor(threadFactory, nThreads) {
+        return new ConcurrentNotificationProcessor(threadFactory, nThreads, false) {
 
             private Notification addRandomDelay(@NotNull final Notification notification) {
                 if (notificationStartDelay <= 0) {
@@ -438,6 +466,35 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         }
     }
 
+    /**
+     * Hint that the next update cycle should begin within {@code maxDelayMillis}, because a source has pending data.
+     * The next cycle begins at the earliest outstanding hint deadline, unless the
+     * {@link #getTargetCycleDurationMillis() target cycle duration} elapses first. Hinted cycles are additionally
+     * spaced so that cycles occupy no more than {@code PeriodicUpdateGraph.maximumHintedCycleUtilization} of the
+     * refresh thread's time; when no hints are outstanding, cycles run at the target cycle duration.
+     *
+     * @param maxDelayMillis The maximum desired delay before the next cycle begins; values {@code <= 0} are equivalent
+     *        to {@link #requestRefresh()}
+     */
+    @Override
+    public void requestRefreshWithin(final long maxDelayMillis) {
+        if (maxDelayMillis <= 0) {
+            requestRefresh();
+            return;
+        }
+        if (!running || maximumHintedCycleUtilization <= 0) {
+            return;
+        }
+        final long deadlineNanos = System.nanoTime() + MILLISECONDS.toNanos(maxDelayMillis);
+        synchronized (refreshRequested) {
+            if (!refreshHinted || deadlineNanos - refreshHintDeadlineNanos < 0) {
+                refreshHinted = true;
+                refreshHintDeadlineNanos = deadlineNanos;
+                refreshRequested.notify();
+            }
+        }
+    }
+
     /**
      * Clear all monitored tables and enqueued notifications to support {@link #enableUnitTestMode() unit-tests}.
      *
@@ -803,6 +860,12 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
 
         private final IntrusiveDoublyLinkedQueue<Notification> satisfiedNotifications =
                 new IntrusiveDoublyLinkedQueue<>(IntrusiveDoublyLinkedNode.Adapter.<Notification>getInstance());
+        /**
+         * If non-null, satisfied notifications are held here instead of {@link #satisfiedNotifications}, ordered by
+         * their estimated critical path as of submission. Guarded by {@link #satisfiedNotifications}.
+         */
+        private final PriorityQueue<PrioritizedNotification> prioritizedNotifications;
+        private long prioritizedNotificationsSubmitted;
         private final Thread[] updateThreads;
 
         private final AtomicInteger outstandingNotifications = new AtomicInteger(0);
@@ -812,7 +875,8 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         private volatile boolean isHealthy = true;
 
         public ConcurrentNotificationProcessor(@NotNull final ThreadFactory threadFactory,
-                final int updateThreadCount) {
+                final int updateThreadCount, final boolean criticalPathScheduling) {
+            prioritizedNotifications = criticalPathScheduling ? new PriorityQueue<>() : null;
             updateThreads = new Thread[updateThreadCount];
             for (int ti = 0; ti < updateThreadCount; ++ti) {
                 updateThreads[ti] = threadFactory.newThread(this::processSatisfiedNotifications);
@@ -827,7 +891,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             try {
                 while (running) {
                     synchronized (satisfiedNotifications) {
-                        while (running && (satisfiedNotification = satisfiedNotifications.poll()) == null) {
+                        while (running && (satisfiedNotification = pollSatisfied()) == null) {
                             try {
                                 satisfiedNotifications.wait();
                             } catch (InterruptedException ignored) {
@@ -858,7 +922,7 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         public void submit(@NotNull final Notification notification) {
             outstandingNotifications.incrementAndGet();
             synchronized (satisfiedNotifications) {
-                satisfiedNotifications.offer(notification);
+                offerSatisfied(notification);
                 satisfiedNotifications.notify();
             }
         }
@@ -867,11 +931,35 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         public void submitAll(@NotNull IntrusiveDoublyLinkedQueue<Notification> notifications) {
             outstandingNotifications.addAndGet(notifications.size());
             synchronized (satisfiedNotifications) {
-                satisfiedNotifications.transferAfterTailFrom(notifications);
+                if (prioritizedNotifications == null) {
+                    satisfiedNotifications.transferAfterTailFrom(notifications);
+                } else {
+                    Notification notification;
+                    while ((notification = notifications.poll()) != null) {
+                        offerSatisfied(notification);
+                    }
+                }
                 satisfiedNotifications.notifyAll();
             }
         }
 
+        private void offerSatisfied(@NotNull final Notification notification) {
+            if (prioritizedNotifications == null) {
+                satisfiedNotifications.offer(notification);
+            } else {
+                prioritizedNotifications.offer(new PrioritizedNotification(notification,
+                        notification.estimatedCriticalPathNanos(), prioritizedNotificationsSubmitted++));
+            }
+        }
+
+        private Notification pollSatisfied() {
+            if (prioritizedNotifications == null) {
+                return satisfiedNotifications.poll();
+            }
+            final PrioritizedNotification prioritized = prioritizedNotifications.poll();
+            return prioritized == null ? null : prioritized.notification;
+        }
+
         @TestUseOnly
         protected void submitAt(@NotNull final Notification notification, final int offset) {
             outstandingNotifications.incrementAndGet();
@@ -914,6 +1002,9 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
             running = false;
             synchronized (satisfiedNotifications) {
                 satisfiedNotifications.clear();
+                if (prioritizedNotifications != null) {
+                    prioritizedNotifications.clear();
+                }
                 satisfiedNotifications.notifyAll();
             }
             for (final Thread updateThread : updateThreads) {
@@ -939,6 +1030,32 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
         }
     }
 
+    /**
+     * A satisfied notification and its estimated critical path at submission. Notifications with longer critical paths
+     * sort first; ties are broken in submission order.
+     */
+    private static final class PrioritizedNotification implements Comparable<PrioritizedNotification> {
+
+        private final Notification notification;
+        private final long estimatedCriticalPathNanos;
+        private final long submissionOrder;
+
+        private PrioritizedNotification(
+                @NotNull final Notification notification,
+                final long estimatedCriticalPathNanos,
+                final long submissionOrder) {
+            this.notification = notification;
+            this.estimatedCriticalPathNanos = estimatedCriticalPathNanos;
+            this.submissionOrder = submissionOrder;
+        }
+
+        @Override
+        public int compareTo(@NotNull final PrioritizedNotification other) {
+            final int byCriticalPath = Long.compare(other.estimatedCriticalPathNanos, estimatedCriticalPathNanos);
+            return byCriticalPath != 0 ? byCriticalPath : Long.compare(submissionOrder, other.submissionOrder);
+        }
+    }
+
     @TestUseOnly
     private class ControlledNotificationProcessor implements NotificationProcessor {
 
@@ -1053,30 +1170,36 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
      *
      * @param startTimeNanos The start time of the last run cycle as reported by {@link System#nanoTime()}
      */
-    private void waitForNextCycle(final long startTimeNanos) {
+    void waitForNextCycle(final long startTimeNanos) {
         final long nowNanos = System.nanoTime();
         long expectedEndTimeNanos = startTimeNanos + MILLISECONDS.toNanos(targetCycleDurationMillis);
+        long earliestHintedEndTimeNanos = maximumHintedCycleUtilization <= 0
+                ? expectedEndTimeNanos
+                : startTimeNanos + (long) ((nowNanos - startTimeNanos) / maximumHintedCycleUtilization);
         if (minimumInterCycleSleep > 0) {
-            expectedEndTimeNanos =
-                    Math.max(expectedEndTimeNanos, nowNanos + MILLISECONDS.toNanos(minimumInterCycleSleep));
+            final long minimumEndTimeNanos = nowNanos + MILLISECONDS.toNanos(minimumInterCycleSleep);
+            expectedEndTimeNanos = Math.max(expectedEndTimeNanos, minimumEndTimeNanos);
+            earliestHintedEndTimeNanos = Math.max(earliestHintedEndTimeNanos, minimumEndTimeNanos);
         }
         maybeFlushUpdatePerformance(nowNanos, expectedEndTimeNanos);
-        waitForEndTime(expectedEndTimeNanos);
+        waitForEndTime(expectedEndTimeNanos, earliestHintedEndTimeNanos);
     }
 
     /**
      * <p>
      * Ensure the current time is past {@code expectedEndTime} before returning, or return early if an immediate refresh
-     * is requested.
+     * is requested, or if a {@link #requestRefreshWithin(long) refresh hint} deadline has passed and the current time
+     * is past {@code earliestHintedEndTimeNanos}.
      * <p>
      * If the delay is interrupted for any other {@link InterruptedException reason}, it will be logged and continue to
      * wait the remaining period.
      *
      * @param expectedEndTimeNanos The time (as reported by {@link System#nanoTime()}) which we should sleep until
+     * @param earliestHintedEndTimeNanos The earliest time (as reported by {@link System#nanoTime()}) at which a refresh
+     *        hint may end the wait
      */
-    private void waitForEndTime(final long expectedEndTimeNanos) {
-        long remainingNanos;
-        while ((remainingNanos = expectedEndTimeNanos - System.nanoTime()) > 0) {
+    private void waitForEndTime(final long expectedEndTimeNanos, final long earliestHintedEndTimeNanos) {
+        while (true) {
             if (refreshRequested.get()) {
                 return;
             }
@@ -1084,6 +1207,19 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
                 if (refreshRequested.get()) {
                     return;
                 }
+                long endTimeNanos = expectedEndTimeNanos;
+                if (refreshHinted) {
+                    final long hintedEndTimeNanos = refreshHintDeadlineNanos - earliestHintedEndTimeNanos > 0
+                            ? refreshHintDeadlineNanos
+                            : earliestHintedEndTimeNanos;
+                    if (hintedEndTimeNanos - endTimeNanos < 0) {
+                        endTimeNanos = hintedEndTimeNanos;
+                    }
+                }
+                final long remainingNanos = endTimeNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return;
+                }
                 final long millisToWait = remainingNanos / 1_000_000;
                 final int extraNanosToWait = (int) (remainingNanos - (millisToWait * 1_000_000));
                 try {
@@ -1099,6 +1235,9 @@ public class PeriodicUpdateGraph extends BaseUpdateGraph {
     @Override
     void refreshAllTables() {
         refreshRequested.set(false);
+        synchronized (refreshRequested) {
+            refreshHinted = false;
+        }
         super.refreshAllTables();
     }
 
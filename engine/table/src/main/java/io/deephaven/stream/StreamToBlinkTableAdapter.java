@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import io.deephaven.base.log.LogOutput;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.liveness.LivenessReferent;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.ColumnSource;
@@ -66,6 +67,15 @@ public class StreamToBlinkTableAdapter
     private final UpdateSourceRegistrar updateSourceRegistrar;
     private final String name;
 
+    /**
+     * If positive, the adapter {@link UpdateSourceRegistrar#requestRefreshWithin(long) hints} that an update cycle
+     * should begin within this many milliseconds whenever it accepts data, so that update graphs that schedule cycles
+     * adaptively deliver the buffered data promptly. Read from {@code StreamToBlinkTableAdapter.refreshHintMillis} when
+     * the adapter is constructed.
+     */
+    private final long refreshHintMillis =
+            Configuration.getInstance().getLongWithDefault("StreamToBlinkTableAdapter.refreshHintMillis", 0);
+
     private final WeakReference<QueryTable> tableRef;
     private final TrackingWritableRowSet rowSet;
     private final SwitchColumnSource<?>[] switchSources;
@@ -479,6 +489,9 @@ public class StreamToBlinkTableAdapter
                 }
             }
         }
+        if (refreshHintMillis > 0 && !data.isEmpty()) {
+            updateSourceRegistrar.requestRefreshWithin(refreshHintMillis);
+        }
     }
 
     @Override
@@ -222,6 +222,25 @@ public class QueryTableNaturalJoinTest extends QueryTableTestBase {
         }
     }
 
+    public void testNaturalJoinLeftIncrementalRightStaticParallel() {
+        final boolean oldForce = QueryTable.FORCE_PARALLEL_NATURAL_JOIN;
+        final long oldMinimum = QueryTable.MINIMUM_PARALLEL_NATURAL_JOIN_ROWS;
+        try {
+            QueryTable.FORCE_PARALLEL_NATURAL_JOIN = true;
+            QueryTable.MINIMUM_PARALLEL_NATURAL_JOIN_ROWS = 4;
+            for (JoinIncrement joinIncrement : new JoinIncrement[] {leftStepShift, leftStep}) {
+                final int maxSteps = 20;
+                for (long seed = 0; seed < 2; seed++) {
+                    testNaturalJoinIncremental(false, true, 100, 50, false, false, joinIncrement, seed, maxSteps);
+                    testNaturalJoinIncremental(false, true, 100, 50, true, false, joinIncrement, seed, maxSteps);
+                }
+            }
+        } finally {
+            QueryTable.FORCE_PARALLEL_NATURAL_JOIN = oldForce;
+            QueryTable.MINIMUM_PARALLEL_NATURAL_JOIN_ROWS = oldMinimum;
+        }
+    }
+
     public void testNaturalJoinLeftStaticRightIncremental() {
         for (JoinIncrement joinIncrement : new JoinIncrement[] {rightStepShift, rightStep}) {
             final int sz = 5;
@@ -0,0 +1,109 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.updategraph.EmptyNotification;
+import io.deephaven.engine.updategraph.NotificationQueue;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.util.QueryConstants;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestCycleTraceRecorder {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private CycleTraceStreamPublisher publisher;
+    private StreamToBlinkTableAdapter adapter;
+
+    private CycleTraceRecorder makeRecorder(final long thresholdNanos, final int sampleInterval) {
+        publisher = new CycleTraceStreamPublisher();
+        adapter = new StreamToBlinkTableAdapter(CycleTraceStreamPublisher.definition(), publisher,
+                ExecutionContext.getContext().getUpdateGraph(), "TestCycleTraceRecorder");
+        return new CycleTraceRecorder("TestUpdateGraph", thresholdNanos, sampleInterval, publisher);
+    }
+
+    private void runCycle(final CycleTraceRecorder recorder, final long step) {
+        final PerformanceEntry parentEntry = new PerformanceEntry(1, QueryConstants.NULL_LONG,
+                QueryConstants.NULL_INT, "parent", null, "TestUpdateGraph");
+        final NotificationQueue.Notification parent = new EmptyNotification();
+        final NotificationQueue.Notification child = new EmptyNotification();
+
+        recorder.startCycle();
+        recorder.onNotificationEnqueued(parent);
+        final CycleTraceRecorder.Event parentEvent = recorder.onNotificationStart(parent);
+        parentEntry.onUpdateStart(3, 1, 2, 0);
+        recorder.onNotificationEnqueued(child);
+        parentEntry.onUpdateEnd();
+        recorder.onNotificationEnd(parentEvent);
+        recorder.onNotificationEnd(recorder.onNotificationStart(child));
+        recorder.endCycle(step, 1_000_000L);
+    }
+
+    private Table publishedTrace() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final Table trace = adapter.table();
+        updateGraph.runWithinUnitTestCycle(() -> {
+            publisher.flush();
+            adapter.run();
+        });
+        return trace;
+    }
+
+    @Test
+    public void testSlowCycleIsTraced() throws Exception {
+        final CycleTraceRecorder recorder = makeRecorder(0, 0);
+        runCycle(recorder, 7);
+
+        final Table trace = publishedTrace();
+        assertEquals(2, trace.size());
+        final long parentRow = trace.getRowSet().get(0);
+        final long childRow = trace.getRowSet().get(1);
+
+        assertEquals(7L, trace.getColumnSource("Step").getLong(parentRow));
+        assertEquals("parent", trace.getColumnSource("EntryDescription").get(parentRow));
+        assertEquals(1L, trace.getColumnSource("EntryId").getLong(parentRow));
+        assertEquals(3L, trace.getColumnSource("RowsAdded").getLong(parentRow));
+        assertEquals(1L, trace.getColumnSource("RowsRemoved").getLong(parentRow));
+        assertEquals(2L, trace.getColumnSource("RowsModified").getLong(parentRow));
+        assertEquals(QueryConstants.NULL_INT, trace.getColumnSource("ParentEventId").getInt(parentRow));
+
+        assertEquals(trace.getColumnSource("EventId").getInt(parentRow),
+                trace.getColumnSource("ParentEventId").getInt(childRow));
+        assertEquals(QueryConstants.NULL_LONG, trace.getColumnSource("EntryId").getLong(childRow));
+        assertEquals(Thread.currentThread().getName(), trace.getColumnSource("ThreadName").get(childRow));
+
+        final StringBuilder json = new StringBuilder();
+        CycleTraceRecorder.writeChromeTrace(trace, json);
+        assertTrue(json.toString().startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["));
+        assertTrue(json.toString().contains("\"ph\":\"X\",\"cat\":\"notification\",\"name\":\"parent\""));
+        assertTrue(json.toString().contains("\"ph\":\"s\""));
+        assertTrue(json.toString().contains("\"ph\":\"f\""));
+        assertTrue(json.toString().contains("\"rowsAdded\":3"));
+    }
+
+    @Test
+    public void testFastCycleIsNotTraced() {
+        final CycleTraceRecorder recorder = makeRecorder(1_000_000_000L, 0);
+        runCycle(recorder, 1);
+        assertEquals(0, publishedTrace().size());
+    }
+
+    @Test
+    public void testSampledCycles() {
+        final CycleTraceRecorder recorder = makeRecorder(-1, 2);
+        runCycle(recorder, 1);
+        assertEquals(0, publishedTrace().size());
+        runCycle(recorder, 2);
+        assertEquals(2, publishedTrace().size());
+    }
+}
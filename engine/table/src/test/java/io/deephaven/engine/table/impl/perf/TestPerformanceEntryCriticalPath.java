@@ -0,0 +1,56 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.base.SleepUtil;
+import io.deephaven.util.QueryConstants;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPerformanceEntryCriticalPath {
+
+    private static PerformanceEntry makeEntry(final String description) {
+        return new PerformanceEntry(QueryConstants.NULL_LONG, QueryConstants.NULL_LONG, QueryConstants.NULL_INT,
+                description, null, "TestUpdateGraph");
+    }
+
+    @Test
+    public void testDownstreamCostIsLearned() {
+        final PerformanceEntry parent = makeEntry("parent");
+        final PerformanceEntry child = makeEntry("child");
+        assertEquals(0, parent.getEstimatedCriticalPathNanos());
+
+        for (int ii = 0; ii < 8; ++ii) {
+            parent.onUpdateStart();
+            // The child is notified while the parent's update is in progress
+            PerformanceEntry.onDownstreamNotification(child.getEstimatedCriticalPathNanos());
+            parent.onUpdateEnd();
+
+            child.onUpdateStart();
+            SleepUtil.sleep(5);
+            child.onUpdateEnd();
+        }
+
+        final long childEstimate = child.getEstimatedCriticalPathNanos();
+        assertTrue(childEstimate > 0);
+        // The parent does almost no work itself, so its estimate is dominated by the child's
+        assertTrue(parent.getEstimatedCriticalPathNanos() > 2_000_000L);
+
+        // Resetting the interval statistics does not discard the history
+        child.reset();
+        assertEquals(0, child.getUsageNanos());
+        assertEquals(childEstimate, child.getEstimatedCriticalPathNanos());
+    }
+
+    @Test
+    public void testNotificationsOutsideAnUpdateAreIgnored() {
+        final PerformanceEntry entry = makeEntry("entry");
+        PerformanceEntry.onDownstreamNotification(Long.MAX_VALUE);
+        entry.onUpdateStart();
+        entry.onUpdateEnd();
+        assertTrue(entry.getEstimatedCriticalPathNanos() < Long.MAX_VALUE / 4);
+    }
+}
@@ -0,0 +1,59 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.CharChunk;
+import io.deephaven.chunk.WritableCharChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapCharArraySource;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class TestCharacterOffHeapArraySource extends AbstractCharacterColumnSourceTest {
+    @Override
+    int getSourceSize() {
+        return 1 << 16;
+    }
+
+    @NotNull
+    @Override
+    OffHeapCharArraySource makeTestSource() {
+        final int capacity = getSourceSize();
+        final OffHeapCharArraySource flatCharArraySource = new OffHeapCharArraySource(12);
+        flatCharArraySource.ensureCapacity(capacity);
+        try (final ChunkSink.FillFromContext ffc = flatCharArraySource.makeFillFromContext(capacity);
+                final WritableCharChunk nullChunk = WritableCharChunk.makeWritableChunk(capacity)) {
+            nullChunk.fillWithNullValue(0, capacity);
+            flatCharArraySource.fillFromChunk(ffc, nullChunk, RowSetFactory.flat(capacity));
+        }
+        return flatCharArraySource;
+    }
+
+    @Test
+    public void testGetChunkSize() {
+        final OffHeapCharArraySource source = makeTestSource();
+        for (int ii = 0; ii < getSourceSize(); ++ii) {
+            source.set(ii, (char) (ii % 100));
+        }
+        // A long range that spans segments is copied by ranges, a handful of scattered keys is read key by key
+        try (final RowSet ranges = RowSetFactory.fromRange(100, 10_000);
+                final RowSet keys = RowSetFactory.fromKeys(1, 7, 4095, 4096, 60_000);
+                final ChunkSource.GetContext context = source.makeGetContext(ranges.intSize())) {
+            for (final RowSet rows : new RowSet[] {ranges, keys}) {
+                final CharChunk<? extends Values> chunk = source.getChunk(context, rows).asCharChunk();
+                assertEquals(rows.intSize(), chunk.size());
+                final MutableInt position = new MutableInt(0);
+                rows.forAllRowKeys(
+                        (long key) -> assertEquals(source.getChar(key), chunk.get(position.getAndIncrement())));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit TestCharacterOffHeapArraySource and run "./gradlew replicateSourceAndChunkTests" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapDoubleArraySource;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class TestDoubleOffHeapArraySource extends AbstractDoubleColumnSourceTest {
+    @Override
+    int getSourceSize() {
+        return 1 << 16;
+    }
+
+    @NotNull
+    @Override
+    OffHeapDoubleArraySource makeTestSource() {
+        final int capacity = getSourceSize();
+        final OffHeapDoubleArraySource flatDoubleArraySource = new OffHeapDoubleArraySource(12);
+        flatDoubleArraySource.ensureCapacity(capacity);
+        try (final ChunkSink.FillFromContext ffc = flatDoubleArraySource.makeFillFromContext(capacity);
+                final WritableDoubleChunk nullChunk = WritableDoubleChunk.makeWritableChunk(capacity)) {
+            nullChunk.fillWithNullValue(0, capacity);
+            flatDoubleArraySource.fillFromChunk(ffc, nullChunk, RowSetFactory.flat(capacity));
+        }
+        return flatDoubleArraySource;
+    }
+
+    @Test
+    public void testGetChunkSize() {
+        final OffHeapDoubleArraySource source = makeTestSource();
+        for (int ii = 0; ii < getSourceSize(); ++ii) {
+            source.set(ii, (double) (ii % 100));
+        }
+        // A long range that spans segments is copied by ranges, a handful of scattered keys is read key by key
+        try (final RowSet ranges = RowSetFactory.fromRange(100, 10_000);
+                final RowSet keys = RowSetFactory.fromKeys(1, 7, 4095, 4096, 60_000);
+                final ChunkSource.GetContext context = source.makeGetContext(ranges.intSize())) {
+            for (final RowSet rows : new RowSet[] {ranges, keys}) {
+                final DoubleChunk<? extends Values> chunk = source.getChunk(context, rows).asDoubleChunk();
+                assertEquals(rows.intSize(), chunk.size());
+                final MutableInt position = new MutableInt(0);
+                rows.forAllRowKeys(
+                        (long key) -> assertEquals(source.getDouble(key), chunk.get(position.getAndIncrement())));
+            }
+        }
+    }
+}
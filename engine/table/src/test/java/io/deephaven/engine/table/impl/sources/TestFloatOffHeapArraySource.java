@@ -0,0 +1,63 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit TestCharacterOffHeapArraySource and run "./gradlew replicateSourceAndChunkTests" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.WritableFloatChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapFloatArraySource;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class TestFloatOffHeapArraySource extends AbstractFloatColumnSourceTest {
+    @Override
+    int getSourceSize() {
+        return 1 << 16;
+    }
+
+    @NotNull
+    @Override
+    OffHeapFloatArraySource makeTestSource() {
+        final int capacity = getSourceSize();
+        final OffHeapFloatArraySource flatFloatArraySource = new OffHeapFloatArraySource(12);
+        flatFloatArraySource.ensureCapacity(capacity);
+        try (final ChunkSink.FillFromContext ffc = flatFloatArraySource.makeFillFromContext(capacity);
+                final WritableFloatChunk nullChunk = WritableFloatChunk.makeWritableChunk(capacity)) {
+            nullChunk.fillWithNullValue(0, capacity);
+            flatFloatArraySource.fillFromChunk(ffc, nullChunk, RowSetFactory.flat(capacity));
+        }
+        return flatFloatArraySource;
+    }
+
+    @Test
+    public void testGetChunkSize() {
+        final OffHeapFloatArraySource source = makeTestSource();
+        for (int ii = 0; ii < getSourceSize(); ++ii) {
+            source.set(ii, (float) (ii % 100));
+        }
+        // A long range that spans segments is copied by ranges, a handful of scattered keys is read key by key
+        try (final RowSet ranges = RowSetFactory.fromRange(100, 10_000);
+                final RowSet keys = RowSetFactory.fromKeys(1, 7, 4095, 4096, 60_000);
+                final ChunkSource.GetContext context = source.makeGetContext(ranges.intSize())) {
+            for (final RowSet rows : new RowSet[] {ranges, keys}) {
+                final FloatChunk<? extends Values> chunk = source.getChunk(context, rows).asFloatChunk();
+                assertEquals(rows.intSize(), chunk.size());
+                final MutableInt position = new MutableInt(0);
+                rows.forAllRowKeys(
+                        (long key) -> assertEquals(source.getFloat(key), chunk.get(position.getAndIncrement())));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.sources.immutable.ImmutableCompactStringArraySource;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+
+public class TestImmutableCompactStringArraySource extends AbstractObjectColumnSourceTest {
+    @Override
+    int getSourceSize() {
+        return 1 << 16;
+    }
+
+    @NotNull
+    @Override
+    WritableColumnSource makeTestSource() {
+        final int capacity = getSourceSize();
+        // small arenas, so that values are spread across many of them
+        final ImmutableCompactStringArraySource compactStringArraySource =
+                new ImmutableCompactStringArraySource(12, 1 << 10);
+        compactStringArraySource.ensureCapacity(capacity);
+        try (final ChunkSink.FillFromContext ffc = compactStringArraySource.makeFillFromContext(capacity);
+                final WritableObjectChunk<?, Values> nullChunk = WritableObjectChunk.makeWritableChunk(capacity)) {
+            nullChunk.fillWithNullValue(0, capacity);
+            compactStringArraySource.fillFromChunk(ffc, nullChunk, RowSetFactory.flat(capacity));
+        }
+        return compactStringArraySource;
+    }
+
+    @Test
+    public void testMatch() {
+        final String[] values = {"apple", null, "", "\u00e9t\u00e9", "banana", "apple", "\uD83D\uDE00", "Apple"};
+        final ImmutableCompactStringArraySource source = new ImmutableCompactStringArraySource(2, 8);
+        source.ensureCapacity(values.length);
+        for (int ii = 0; ii < values.length; ++ii) {
+            source.set(ii, values[ii]);
+        }
+        for (int ii = 0; ii < values.length; ++ii) {
+            assertEquals(values[ii], source.get(ii));
+        }
+
+        try (final RowSet all = RowSetFactory.flat(values.length)) {
+            checkMatch(source, all, MatchOptions.REGULAR, new long[] {0, 5}, "apple");
+            checkMatch(source, all, MatchOptions.REGULAR, new long[] {1, 2}, null, "");
+            checkMatch(source, all, MatchOptions.REGULAR, new long[] {3, 6}, "\u00e9t\u00e9", "\uD83D\uDE00", 7);
+            checkMatch(source, all, MatchOptions.INVERTED, new long[] {1, 2, 3, 4, 6, 7}, "apple");
+            checkMatch(source, all, MatchOptions.INVERTED, new long[] {0, 3, 4, 5, 6, 7}, null, "");
+            checkMatch(source, all, MatchOptions.builder().caseInsensitive(true).build(), new long[] {0, 5, 7},
+                    "APPLE");
+            // enough keys to be hashed rather than compared one by one
+            checkMatch(source, all, MatchOptions.REGULAR, new long[] {0, 2, 4, 5, 7},
+                    "apple", "", "banana", "Apple", "cherry", "date");
+            checkMatch(source, all, MatchOptions.INVERTED, new long[] {1, 3, 6},
+                    "apple", "", "banana", "Apple", "cherry", "date");
+        }
+        try (final RowSet some = RowSetFactory.fromKeys(1, 4, 5)) {
+            checkMatch(source, some, MatchOptions.REGULAR, new long[] {5}, "apple");
+            checkMatch(source, some, MatchOptions.INVERTED, new long[] {1, 4}, "apple");
+        }
+    }
+
+    @Test
+    public void testFillFromChunk() {
+        // runs of values share an arena reservation, values larger than an arena get one of their own
+        final String[] values = {"apple", null, "", "\u00e9t\u00e9", "a value longer than an arena", "banana", null,
+                "cherry", "\uD83D\uDE00", "another value that is longer than an arena", "date"};
+        final ImmutableCompactStringArraySource source = new ImmutableCompactStringArraySource(2, 16);
+        source.ensureCapacity(values.length * 2);
+        try (final ChunkSink.FillFromContext ffc = source.makeFillFromContext(values.length);
+                final WritableObjectChunk<String, Values> chunk = WritableObjectChunk.makeWritableChunk(values.length);
+                final WritableLongChunk<RowKeys> keys = WritableLongChunk.makeWritableChunk(values.length)) {
+            for (int ii = 0; ii < values.length; ++ii) {
+                chunk.set(ii, values[ii]);
+                // unordered keys, after the ordered rows
+                keys.set(ii, values.length * 2L - 1 - ii);
+            }
+            source.fillFromChunk(ffc, chunk, RowSetFactory.flat(values.length));
+            source.fillFromChunkUnordered(ffc, chunk, keys);
+        }
+        for (int ii = 0; ii < values.length; ++ii) {
+            assertEquals(values[ii], source.get(ii));
+            assertEquals(values[ii], source.get(values.length * 2L - 1 - ii));
+        }
+    }
+
+    private static void checkMatch(
+            final ImmutableCompactStringArraySource source,
+            final RowSet selection,
+            final MatchOptions matchOptions,
+            final long[] expected,
+            final Object... keys) {
+        try (final WritableRowSet result = source.match(false, matchOptions, selection, keys);
+                final RowSet expectedRowSet = RowSetFactory.fromKeys(expected)) {
+            assertEquals(expectedRowSet, result);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources;
+
+import io.deephaven.chunk.WritableObjectChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.sources.immutable.ImmutableDictionaryStringArraySource;
+import io.deephaven.engine.util.TableTools;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+public class TestImmutableDictionaryStringArraySource extends AbstractObjectColumnSourceTest {
+    private static final String[] VALUES = {"IBM", null, "AAPL", "", "IBM", "MSFT", "aapl", null, "AAPL", "IBM"};
+
+    @Override
+    int getSourceSize() {
+        return 1 << 16;
+    }
+
+    @NotNull
+    @Override
+    WritableColumnSource makeTestSource() {
+        final int capacity = getSourceSize();
+        // a small dictionary, so that most values overflow it
+        final ImmutableDictionaryStringArraySource dictionaryStringArraySource =
+                new ImmutableDictionaryStringArraySource(12, 1000);
+        dictionaryStringArraySource.ensureCapacity(capacity);
+        try (final ChunkSink.FillFromContext ffc = dictionaryStringArraySource.makeFillFromContext(capacity);
+                final WritableObjectChunk<?, Values> nullChunk = WritableObjectChunk.makeWritableChunk(capacity)) {
+            nullChunk.fillWithNullValue(0, capacity);
+            dictionaryStringArraySource.fillFromChunk(ffc, nullChunk, RowSetFactory.flat(capacity));
+        }
+        return dictionaryStringArraySource;
+    }
+
+    private static ImmutableDictionaryStringArraySource makeSource(final int maxDictionarySize) {
+        final ImmutableDictionaryStringArraySource source =
+                new ImmutableDictionaryStringArraySource(2, maxDictionarySize);
+        source.ensureCapacity(VALUES.length);
+        for (int ii = 0; ii < VALUES.length; ++ii) {
+            source.set(ii, VALUES[ii]);
+        }
+        for (int ii = 0; ii < VALUES.length; ++ii) {
+            assertEquals(VALUES[ii], source.get(ii));
+        }
+        return source;
+    }
+
+    @Test
+    public void testMatch() {
+        // the first source holds every value in its dictionary, the second overflows it
+        for (final int maxDictionarySize : new int[] {16, 2}) {
+            final ImmutableDictionaryStringArraySource source = makeSource(maxDictionarySize);
+            try (final RowSet all = RowSetFactory.flat(VALUES.length)) {
+                checkMatch(source, all, MatchOptions.REGULAR, new long[] {0, 4, 9}, "IBM");
+                checkMatch(source, all, MatchOptions.REGULAR, new long[] {1, 3, 7}, null, "");
+                checkMatch(source, all, MatchOptions.REGULAR, new long[] {}, "GOOG", 7);
+                checkMatch(source, all, MatchOptions.INVERTED, new long[] {1, 2, 3, 5, 6, 7, 8}, "IBM");
+                checkMatch(source, all, MatchOptions.INVERTED, new long[] {0, 2, 3, 4, 5, 6, 8, 9}, null);
+                checkMatch(source, all, MatchOptions.builder().caseInsensitive(true).build(), new long[] {2, 6, 8},
+                        "Aapl");
+            }
+            try (final RowSet some = RowSetFactory.fromKeys(0, 1, 2, 5)) {
+                checkMatch(source, some, MatchOptions.REGULAR, new long[] {0, 5}, "IBM", "MSFT");
+                checkMatch(source, some, MatchOptions.INVERTED, new long[] {1, 2}, "IBM", "MSFT");
+            }
+        }
+    }
+
+    private static void checkMatch(
+            final ImmutableDictionaryStringArraySource source,
+            final RowSet selection,
+            final MatchOptions matchOptions,
+            final long[] expected,
+            final Object... keys) {
+        try (final WritableRowSet result = source.match(false, matchOptions, selection, keys);
+                final RowSet expectedRowSet = RowSetFactory.fromKeys(expected)) {
+            assertEquals(expectedRowSet, result);
+        }
+    }
+
+    @Test
+    public void testSymbolTable() {
+        final Table expected = TableTools.newTable(TableTools.stringCol("Sym", VALUES));
+
+        final ImmutableDictionaryStringArraySource source = makeSource(16);
+        final Table encoded = new QueryTable(RowSetFactory.flat(VALUES.length).toTracking(), Map.of("Sym", source));
+        assertTrue(source.hasSymbolTable(encoded.getRowSet()));
+        assertEquals(5, source.getStaticSymbolTable(encoded.getRowSet(), false).size());
+        assertTableEquals(expected.countBy("N", "Sym"), encoded.countBy("N", "Sym"));
+        assertTableEquals(expected.sort("Sym"), encoded.sort("Sym"));
+        assertTableEquals(expected.where("Sym in `IBM`, `AAPL`"), encoded.where("Sym in `IBM`, `AAPL`"));
+
+        final ImmutableDictionaryStringArraySource overflowed = makeSource(2);
+        final Table overflowedTable =
+                new QueryTable(RowSetFactory.flat(VALUES.length).toTracking(), Map.of("Sym", overflowed));
+        assertFalse(overflowed.hasSymbolTable(overflowedTable.getRowSet()));
+        assertFalse(overflowed.allowsReinterpret(long.class));
+        assertTableEquals(expected.countBy("N", "Sym"), overflowedTable.countBy("N", "Sym"));
+    }
+
+    @Test
+    public void testCardinalitySample() {
+        final int size = 4096;
+        // the first source samples few distinct values, the second only distinct values
+        for (final int distinctValues : new int[] {10, size}) {
+            final ImmutableDictionaryStringArraySource source = new ImmutableDictionaryStringArraySource(10, 1 << 16);
+            source.ensureCapacity(size);
+            try (final ChunkSink.FillFromContext ffc = source.makeFillFromContext(size);
+                    final WritableObjectChunk<String, Values> values = WritableObjectChunk.makeWritableChunk(size);
+                    final RowSet all = RowSetFactory.flat(size)) {
+                for (int ii = 0; ii < size; ++ii) {
+                    values.set(ii, ii % 7 == 0 ? null : "V" + (ii % distinctValues));
+                }
+                source.fillFromChunk(ffc, values, all);
+                assertEquals(distinctValues == 10, source.hasSymbolTable(all));
+                assertEquals(distinctValues == 10, source.allowsReinterpret(long.class));
+                for (int ii = 0; ii < size; ++ii) {
+                    assertEquals(values.get(ii), source.get(ii));
+                }
+                try (final RowSet first = RowSetFactory.fromRange(0, 9)) {
+                    checkMatch(source, first, MatchOptions.REGULAR, new long[] {3}, "V3");
+                }
+            }
+        }
+    }
+}
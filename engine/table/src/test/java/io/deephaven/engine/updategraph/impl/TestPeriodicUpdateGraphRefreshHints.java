@@ -0,0 +1,101 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.updategraph.impl;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for how {@link PeriodicUpdateGraph#requestRefreshWithin(long) refresh hints} schedule the start of the next
+ * cycle. These drive the wait between cycles directly, rather than running the refresh thread.
+ */
+public class TestPeriodicUpdateGraphRefreshHints {
+
+    private static final String NAME = "TestRefreshHints";
+
+    /**
+     * Long enough that a wait which ends this early can only have been ended by a hint.
+     */
+    private static final long LONG_TARGET_MILLIS = 10_000;
+
+    @After
+    public void after() {
+        BaseUpdateGraph.removeInstance(NAME);
+    }
+
+    private static PeriodicUpdateGraph makeGraph(final long targetCycleDurationMillis) {
+        return PeriodicUpdateGraph.newBuilder(NAME)
+                .targetCycleDurationMillis(targetCycleDurationMillis)
+                .numUpdateThreads(1)
+                .build();
+    }
+
+    /**
+     * Wait for the next cycle of {@code graph}, as if the previous cycle began at {@code startTimeNanos}.
+     *
+     * @return The milliseconds from {@code startTimeNanos} until the wait ended
+     */
+    private static long waitForNextCycle(final PeriodicUpdateGraph graph, final long startTimeNanos) {
+        graph.waitForNextCycle(startTimeNanos);
+        return NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+    }
+
+    @Test
+    public void testHintShortensCycle() {
+        final PeriodicUpdateGraph graph = makeGraph(LONG_TARGET_MILLIS);
+        final long startTimeNanos = System.nanoTime();
+        graph.requestRefreshWithin(100);
+        final long waitedMillis = waitForNextCycle(graph, startTimeNanos);
+        // The cycle took no time, so the utilization floor does not apply, and the wait ends at the hint deadline
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis >= 100);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis < LONG_TARGET_MILLIS / 2);
+    }
+
+    @Test
+    public void testEarliestHintWins() {
+        final PeriodicUpdateGraph graph = makeGraph(LONG_TARGET_MILLIS);
+        final long startTimeNanos = System.nanoTime();
+        graph.requestRefreshWithin(LONG_TARGET_MILLIS / 2);
+        graph.requestRefreshWithin(100);
+        graph.requestRefreshWithin(LONG_TARGET_MILLIS / 4);
+        final long waitedMillis = waitForNextCycle(graph, startTimeNanos);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis >= 100);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis < LONG_TARGET_MILLIS / 4);
+    }
+
+    @Test
+    public void testUtilizationFloorDefersHintedCycle() {
+        final PeriodicUpdateGraph graph = makeGraph(LONG_TARGET_MILLIS);
+        // Pretend that the previous cycle began 300ms ago and has just ended; with the default maximum hinted cycle
+        // utilization of 0.5, the next cycle may not begin until 600ms after the previous one began
+        final long startTimeNanos = System.nanoTime() - MILLISECONDS.toNanos(300);
+        graph.requestRefreshWithin(10);
+        final long waitedMillis = waitForNextCycle(graph, startTimeNanos);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis >= 600);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis < LONG_TARGET_MILLIS / 2);
+    }
+
+    @Test
+    public void testTargetBoundsHintedCycle() {
+        final PeriodicUpdateGraph graph = makeGraph(500);
+        // The utilization floor would defer the hinted cycle to 800ms after the previous one began, but the target
+        // cycle duration comes first
+        final long startTimeNanos = System.nanoTime() - MILLISECONDS.toNanos(400);
+        graph.requestRefreshWithin(10);
+        final long waitedMillis = waitForNextCycle(graph, startTimeNanos);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis >= 500);
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis < 800);
+    }
+
+    @Test
+    public void testNoHintsWaitsForTarget() {
+        final PeriodicUpdateGraph graph = makeGraph(300);
+        final long waitedMillis = waitForNextCycle(graph, System.nanoTime());
+        assertTrue("waitedMillis=" + waitedMillis, waitedMillis >= 300);
+    }
+}
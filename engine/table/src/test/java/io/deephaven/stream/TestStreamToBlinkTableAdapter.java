@@ -3,6 +3,7 @@
 //
 package io.deephaven.stream;
 
+import io.deephaven.base.log.LogOutput;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.chunk.util.pools.ChunkPoolConstants;
 import io.deephaven.chunk.util.pools.ChunkPoolReleaseTracking;
@@ -16,6 +17,9 @@ import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
+import io.deephaven.engine.util.PropertySaver;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.engine.table.ModifiedColumnSet;
@@ -31,6 +35,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.deephaven.engine.util.TableTools.*;
@@ -479,6 +484,96 @@ public class TestStreamToBlinkTableAdapter {
         ChunkPoolReleaseTracking.check();
     }
 
+    @Test
+    public void testRefreshHint() {
+        final TableDefinition tableDefinition = TableDefinition.from(List.of("L"), List.of(long.class));
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final HintRecordingRegistrar registrar = new HintRecordingRegistrar(updateGraph);
+
+        // Disabled by default
+        try (final StreamToBlinkTableAdapter adapter =
+                new StreamToBlinkTableAdapter(tableDefinition, new DummyStreamPublisher(), registrar, "test")) {
+            adapter.accept(makeLongChunks(1));
+            TestCase.assertTrue(registrar.hints.isEmpty());
+            updateGraph.runWithinUnitTestCycle(adapter::run);
+        }
+
+        final PropertySaver propertySaver = new PropertySaver();
+        try {
+            propertySaver.setProperty("StreamToBlinkTableAdapter.refreshHintMillis", "25");
+            try (final StreamToBlinkTableAdapter adapter =
+                    new StreamToBlinkTableAdapter(tableDefinition, new DummyStreamPublisher(), registrar, "test")) {
+                // Each accepted batch of data hints, but accepting no data does not
+                adapter.accept(makeLongChunks(2));
+                adapter.accept(List.of());
+                adapter.accept(makeLongChunks(3));
+                TestCase.assertEquals(List.of(25L, 25L), registrar.hints);
+                updateGraph.runWithinUnitTestCycle(adapter::run);
+            }
+        } finally {
+            propertySaver.restore();
+        }
+    }
+
+    private static WritableChunk<Values>[] makeLongChunks(final int size) {
+        // noinspection unchecked
+        final WritableChunk<Values>[] chunks = new WritableChunk[1];
+        final WritableLongChunk<Values> wlc = WritableLongChunk.makeWritableChunk(size);
+        for (int ii = 0; ii < size; ++ii) {
+            wlc.set(ii, ii);
+        }
+        chunks[0] = wlc;
+        return chunks;
+    }
+
+    /**
+     * Registrar that delegates to an update graph, and records the refresh hints it receives.
+     */
+    private static class HintRecordingRegistrar implements UpdateSourceRegistrar {
+
+        private final UpdateGraph updateGraph;
+        private final List<Long> hints = new ArrayList<>();
+
+        private HintRecordingRegistrar(@NotNull final UpdateGraph updateGraph) {
+            this.updateGraph = updateGraph;
+        }
+
+        @Override
+        public void addSource(@NotNull final Runnable updateSource) {
+            updateGraph.addSource(updateSource);
+        }
+
+        @Override
+        public void removeSource(@NotNull final Runnable updateSource) {
+            updateGraph.removeSource(updateSource);
+        }
+
+        @Override
+        public void requestRefresh() {
+            updateGraph.requestRefresh();
+        }
+
+        @Override
+        public void requestRefreshWithin(final long maxDelayMillis) {
+            hints.add(maxDelayMillis);
+        }
+
+        @Override
+        public boolean satisfied(final long step) {
+            return updateGraph.satisfied(step);
+        }
+
+        @Override
+        public UpdateGraph getUpdateGraph() {
+            return updateGraph;
+        }
+
+        @Override
+        public LogOutput append(@NotNull final LogOutput logOutput) {
+            return logOutput.append("HintRecordingRegistrar");
+        }
+    }
+
     private static class DummyStreamPublisher implements StreamPublisher {
 
         private boolean fail;
@@ -29,6 +29,11 @@ public class NotificationAdapter extends AbstractNotification {
         return wrapped.canExecute(step);
     }
 
+    @Override
+    public long estimatedCriticalPathNanos() {
+        return wrapped.estimatedCriticalPathNanos();
+    }
+
     @Override
     public void run() {
         wrapped.run();
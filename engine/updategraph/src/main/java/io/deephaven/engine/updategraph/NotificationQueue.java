@@ -46,6 +46,17 @@ public interface NotificationQueue {
          * @return true if this notification can be executed, false if it has unmet dependencies
          */
         boolean canExecute(long step);
+
+        /**
+         * Estimate the wall clock time needed to run this notification, and the notifications it is expected to
+         * trigger in turn. Update graphs that schedule by critical path run the satisfied notifications with the
+         * largest estimates first.
+         *
+         * @return The estimated critical path through this notification in nanoseconds, or 0 if unknown
+         */
+        default long estimatedCriticalPathNanos() {
+            return 0;
+        }
     }
 
     /**
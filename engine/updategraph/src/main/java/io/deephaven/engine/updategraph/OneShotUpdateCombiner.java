@@ -58,6 +58,14 @@ public class OneShotUpdateCombiner implements Runnable, UpdateSourceRegistrar {
         updateGraph.requestRefresh();
     }
 
+    /**
+     * Passes through to the {@link UpdateGraph update graph} associated with the current update context.
+     */
+    @Override
+    public void requestRefreshWithin(final long maxDelayMillis) {
+        updateGraph.requestRefreshWithin(maxDelayMillis);
+    }
+
     @Override
     public boolean satisfied(final long step) {
         return updateGraph.satisfied(step);
@@ -88,6 +88,14 @@ public class UpdateSourceCombiner extends LivenessArtifact implements Runnable,
         updateGraph.requestRefresh();
     }
 
+    /**
+     * Passes through to the {@link UpdateGraph update graph} passed at construction.
+     */
+    @Override
+    public void requestRefreshWithin(final long maxDelayMillis) {
+        updateGraph.requestRefreshWithin(maxDelayMillis);
+    }
+
     @OverridingMethodsMustInvokeSuper
     @Override
     public void destroy() {
@@ -42,4 +42,19 @@ public interface UpdateSourceRegistrar extends NotificationQueue.Dependency {
      * Request that the next update cycle begin as soon as practicable.
      */
     void requestRefresh();
+
+    /**
+     * Hint that a source has pending data, and that the next update cycle should begin within {@code maxDelayMillis}.
+     * Unlike {@link #requestRefresh()}, a hint allows the registrar to batch data from several sources into one cycle,
+     * and to defer the cycle while it is under load. Registrars that do not schedule cycles adaptively may ignore the
+     * hint, in which case the data is delivered on the next regular cycle.
+     *
+     * @param maxDelayMillis The maximum desired delay before the next cycle begins; values {@code <= 0} are equivalent
+     *        to {@link #requestRefresh()}
+     */
+    default void requestRefreshWithin(final long maxDelayMillis) {
+        if (maxDelayMillis <= 0) {
+            requestRefresh();
+        }
+    }
 }
@@ -10,6 +10,7 @@ import io.deephaven.iceberg.relative.RelativeFileIO;
 import io.deephaven.iceberg.util.ColumnInstructions;
 import io.deephaven.iceberg.util.Resolver;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
@@ -44,6 +45,10 @@ public final class IcebergUtils {
         return FileUtils.convertToURI(maybeResolveRelativePath(dataFile.location(), table.io()), false);
     }
 
+    public static URI deleteFileUri(@NotNull final Table table, @NotNull final DeleteFile deleteFile) {
+        return FileUtils.convertToURI(maybeResolveRelativePath(deleteFile.location(), table.io()), false);
+    }
+
     public static boolean createNamespaceIfNotExists(
             @NotNull final Catalog catalog,
             @NotNull final Namespace namespace) {
@@ -5,15 +5,21 @@ package io.deephaven.iceberg.layout;
 
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
+import io.deephaven.base.stats.Counter;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.locations.impl.TableLocationKeyFinder;
 import io.deephaven.iceberg.internal.DataInstructionsProviderLoader;
+import io.deephaven.iceberg.location.IcebergDeletes;
 import io.deephaven.iceberg.location.IcebergTableLocationKey;
 import io.deephaven.iceberg.location.IcebergTableParquetLocationKey;
 import io.deephaven.iceberg.util.IcebergReadInstructions;
 import io.deephaven.iceberg.util.IcebergTableAdapter;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.util.annotations.InternalUseOnly;
 import io.deephaven.util.channel.SeekableChannelsProvider;
@@ -21,6 +27,9 @@ import io.deephaven.util.channel.SeekableChannelsProviderLoader;
 import org.apache.iceberg.*;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.io.FileIO;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,6 +39,9 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -42,6 +54,13 @@ import static io.deephaven.iceberg.base.IcebergUtils.dataFileUri;
 @InternalUseOnly
 public abstract class IcebergBaseLayout implements TableLocationKeyFinder<IcebergTableLocationKey> {
 
+    private static final Value MANIFESTS_READ =
+            Stats.makeItem("IcebergBaseLayout", "manifestsRead", Counter.FACTORY).getValue();
+    private static final Value KEY_CHANGES_NANOS =
+            Stats.makeItem("IcebergBaseLayout", "keyChangesNanos", Counter.FACTORY).getValue();
+    private static final Value MANIFESTS_SKIPPED =
+            Stats.makeItem("IcebergBaseLayout", "manifestsSkipped", ThreadSafeCounter.FACTORY).getValue();
+
     /**
      * The {@link IcebergTableAdapter} that will be used to access the table.
      */
@@ -87,6 +106,29 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
      */
     private final SeekableChannelsProvider seekableChannelsProvider;
 
+    /**
+     * The filter used to skip manifests and data files that cannot contain matching rows.
+     */
+    private final Expression filter;
+
+    /**
+     * The delete files of the snapshot being scanned, used to find the deletes that apply to each data file.
+     */
+    private IcebergDeleteIndex deleteIndex;
+
+    /**
+     * The keys found in each data manifest of the snapshot last scanned by
+     * {@link #findKeyChanges(Consumer, Consumer)}, by manifest path, or {@code null} if it has not been called.
+     */
+    private Map<String, List<IcebergTableLocationKey>> manifestKeys;
+
+    /**
+     * The sorted paths of the delete manifests of the snapshot last scanned by
+     * {@link #findKeyChanges(Consumer, Consumer)}, and the index of their delete files.
+     */
+    private List<String> deleteManifestPaths;
+    private IcebergDeleteIndex manifestKeysDeleteIndex;
+
     /**
      * Create a new {@link IcebergTableLocationKey} for the given {@link ManifestFile}, {@link DataFile} and
      * {@link URI}.
@@ -108,10 +150,12 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
             @NotNull final SeekableChannelsProvider channelsProvider) {
         final org.apache.iceberg.FileFormat format = dataFile.format();
         if (format == org.apache.iceberg.FileFormat.PARQUET) {
+            ParquetFooterCache.prefetch(fileUri, channelsProvider);
             return new IcebergTableParquetLocationKey(catalogName, tableUuid, tableIdentifier, manifestPartitionSpec,
                     manifestFile, dataFile,
                     fileUri, 0, partitions, parquetInstructions, channelsProvider,
-                    computeSortedColumns(tableAdapter.icebergTable(), dataFile, parquetInstructions));
+                    computeSortedColumns(tableAdapter.icebergTable(), dataFile, parquetInstructions),
+                    deleteIndex == null ? IcebergDeletes.NONE : deleteIndex.forDataFile(dataFile));
         }
         throw new UnsupportedOperationException(String.format("%s:%d - an unsupported file format %s for URI '%s'",
                 tableAdapter, snapshot.snapshotId(), format, fileUri));
@@ -177,6 +221,7 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
             seekableChannelsProvider =
                     SeekableChannelsProviderLoader.getInstance().load(uriScheme, specialInstructions);
         }
+        this.filter = Expressions.alwaysTrue();
     }
 
     protected IcebergBaseLayout(
@@ -184,6 +229,23 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
             @NotNull final ParquetInstructions parquetInstructions,
             @NotNull final SeekableChannelsProvider seekableChannelsProvider,
             @Nullable final Snapshot snapshot) {
+        this(tableAdapter, parquetInstructions, seekableChannelsProvider, snapshot, Expressions.alwaysTrue());
+    }
+
+    /**
+     * @param tableAdapter The {@link IcebergTableAdapter} that will be used to access the table.
+     * @param parquetInstructions The instructions for reading the Parquet data files.
+     * @param seekableChannelsProvider The provider for reading the data files.
+     * @param snapshot The snapshot from which to discover data files, or {@code null} for none.
+     * @param filter The filter used to skip the manifests and data files that cannot contain matching rows, based on
+     *        their partition values and column bounds.
+     */
+    protected IcebergBaseLayout(
+            @NotNull final IcebergTableAdapter tableAdapter,
+            @NotNull final ParquetInstructions parquetInstructions,
+            @NotNull final SeekableChannelsProvider seekableChannelsProvider,
+            @Nullable final Snapshot snapshot,
+            @NotNull final Expression filter) {
         this.tableAdapter = Objects.requireNonNull(tableAdapter);
         {
             UUID uuid;
@@ -200,6 +262,7 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
         this.parquetInstructions = Objects.requireNonNull(parquetInstructions);
         this.seekableChannelsProvider = Objects.requireNonNull(seekableChannelsProvider);
         this.snapshot = snapshot;
+        this.filter = Objects.requireNonNull(filter);
         // not used in the updated constructors' path
         this.tableDef = null;
     }
@@ -224,13 +287,6 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
         return keyFromDataFile(manifestPartitionSpec, manifestFile, dataFile, fileUri, seekableChannelsProvider);
     }
 
-    private static void checkIsDataManifest(ManifestFile manifestFile) {
-        if (manifestFile.content() != ManifestContent.DATA) {
-            throw new UnsupportedOperationException(String.format(
-                    "only DATA manifest files are currently supported, encountered %s", manifestFile.content()));
-        }
-    }
-
     @Override
     public synchronized void findKeys(@NotNull final Consumer<IcebergTableLocationKey> locationKeyObserver) {
         if (snapshot == null) {
@@ -239,23 +295,133 @@ public abstract class IcebergBaseLayout implements TableLocationKeyFinder<Iceber
         final Table table = tableAdapter.icebergTable();
         try {
             final FileIO io = table.io();
-            final List<ManifestFile> manifestFiles = snapshot.allManifests(io);
+            final List<ManifestFile> manifestFiles = snapshot.dataManifests(io);
+            deleteIndex = IcebergDeleteIndex.load(table, snapshot);
+            final Map<Integer, ManifestEvaluator> manifestEvaluators = new HashMap<>();
             for (final ManifestFile manifestFile : manifestFiles) {
-                checkIsDataManifest(manifestFile);
+                readKeys(table, io, manifestFile, manifestEvaluators, locationKeyObserver);
             }
-            for (final ManifestFile manifestFile : manifestFiles) {
-                try (final ManifestReader<DataFile> manifestReader = ManifestFiles.read(manifestFile, io)) {
-                    final PartitionSpec manifestPartitionSpec = manifestReader.spec();
-                    for (final DataFile dataFile : manifestReader) {
-                        locationKeyObserver
-                                .accept(key(table, manifestPartitionSpec, manifestFile, manifestReader, dataFile));
-                    }
+        } catch (RuntimeException | IOException e) {
+            throw new TableDataException(
+                    String.format("%s:%d - error finding Iceberg locations", tableAdapter, snapshot.snapshotId()), e);
+        } finally {
+            deleteIndex = null;
+        }
+    }
+
+    /**
+     * Read the location keys of the data files in the given manifest that may contain rows matching {@link #filter},
+     * skipping the manifest entirely if its partition summaries show that none can.
+     *
+     * @return Whether the manifest was read
+     */
+    private boolean readKeys(
+            @NotNull final Table table,
+            @NotNull final FileIO io,
+            @NotNull final ManifestFile manifestFile,
+            @NotNull final Map<Integer, ManifestEvaluator> manifestEvaluators,
+            @NotNull final Consumer<IcebergTableLocationKey> locationKeyObserver) throws IOException {
+        final boolean filtered = filter.op() != Expression.Operation.TRUE;
+        if (filtered && !manifestEvaluators.computeIfAbsent(manifestFile.partitionSpecId(),
+                specId -> ManifestEvaluator.forRowFilter(filter, table.specs().get(specId), true))
+                .eval(manifestFile)) {
+            MANIFESTS_SKIPPED.increment(1);
+            return false;
+        }
+        try (final ManifestReader<DataFile> manifestReader = filtered
+                ? ManifestFiles.read(manifestFile, io, table.specs()).filterRows(filter)
+                : ManifestFiles.read(manifestFile, io)) {
+            final PartitionSpec manifestPartitionSpec = manifestReader.spec();
+            for (final DataFile dataFile : manifestReader) {
+                locationKeyObserver.accept(key(table, manifestPartitionSpec, manifestFile, manifestReader, dataFile));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find the location keys added and removed since the previous call, for refreshing tables. Manifest files are
+     * immutable, so only the data manifests that were not part of the previously scanned snapshot are read, and the
+     * keys of the data manifests that are no longer part of the snapshot are removed; the cost of a refresh depends on
+     * the size of the change rather than the size of the table. This holds regardless of how the snapshots are related,
+     * e.g. after a rollback. If the snapshot's delete files changed, the deletes that apply to existing data files may
+     * have changed too, and all data manifests are read again. The keys of files moved to a rewritten manifest differ
+     * in their manifest sequence number and position, and so are reported as removed and added. The first call reports
+     * every key as added.
+     *
+     * @param addedKeyObserver The observer for added keys
+     * @param removedKeyObserver The observer for removed keys
+     */
+    synchronized void findKeyChanges(
+            @NotNull final Consumer<IcebergTableLocationKey> addedKeyObserver,
+            @NotNull final Consumer<IcebergTableLocationKey> removedKeyObserver) {
+        if (snapshot == null) {
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        final Map<String, List<IcebergTableLocationKey>> previousManifestKeys =
+                manifestKeys == null ? Map.of() : manifestKeys;
+        final Table table = tableAdapter.icebergTable();
+        int manifestsRead = 0;
+        try {
+            final FileIO io = table.io();
+            final List<String> newDeleteManifestPaths = snapshot.deleteManifests(io).stream()
+                    .map(ManifestFile::path)
+                    .sorted()
+                    .toList();
+            final boolean deletesChanged = !newDeleteManifestPaths.equals(deleteManifestPaths);
+            deleteIndex = deletesChanged ? IcebergDeleteIndex.load(table, snapshot) : manifestKeysDeleteIndex;
+
+            final Map<String, List<IcebergTableLocationKey>> newManifestKeys = new HashMap<>();
+            final Set<IcebergTableLocationKey> addedKeys = new LinkedHashSet<>();
+            final Map<Integer, ManifestEvaluator> manifestEvaluators = new HashMap<>();
+            for (final ManifestFile manifestFile : snapshot.dataManifests(io)) {
+                final List<IcebergTableLocationKey> existingKeys =
+                        deletesChanged ? null : previousManifestKeys.get(manifestFile.path());
+                if (existingKeys != null) {
+                    newManifestKeys.put(manifestFile.path(), existingKeys);
+                    continue;
+                }
+                final List<IcebergTableLocationKey> keys = new ArrayList<>();
+                if (readKeys(table, io, manifestFile, manifestEvaluators, keys::add)) {
+                    ++manifestsRead;
+                }
+                newManifestKeys.put(manifestFile.path(), keys);
+                addedKeys.addAll(keys);
+            }
+            final Set<IcebergTableLocationKey> removedKeys = new HashSet<>();
+            for (final Map.Entry<String, List<IcebergTableLocationKey>> entry : previousManifestKeys.entrySet()) {
+                if (newManifestKeys.get(entry.getKey()) != entry.getValue()) {
+                    removedKeys.addAll(entry.getValue());
                 }
             }
+
+            // Keys that were re-read unchanged, e.g. with the same deletes after the delete manifests changed, were
+            // neither added nor removed
+            for (final IcebergTableLocationKey addedKey : addedKeys) {
+                if (!removedKeys.contains(addedKey)) {
+                    addedKeyObserver.accept(addedKey);
+                }
+            }
+            for (final IcebergTableLocationKey removedKey : removedKeys) {
+                if (!addedKeys.contains(removedKey)) {
+                    removedKeyObserver.accept(removedKey);
+                }
+            }
+
+            manifestKeys = newManifestKeys;
+            deleteManifestPaths = newDeleteManifestPaths;
+            manifestKeysDeleteIndex = deleteIndex;
         } catch (RuntimeException | IOException e) {
             throw new TableDataException(
-                    String.format("%s:%d - error finding Iceberg locations", tableAdapter, snapshot.snapshotId()), e);
+                    String.format("%s:%d - error finding Iceberg location changes", tableAdapter,
+                            snapshot.snapshotId()),
+                    e);
+        } finally {
+            deleteIndex = null;
         }
+        MANIFESTS_READ.sample(manifestsRead);
+        KEY_CHANGES_NANOS.sample(System.nanoTime() - startNanos);
     }
 
     /**
@@ -0,0 +1,226 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.layout;
+
+import io.deephaven.iceberg.location.IcebergDeletes;
+import io.deephaven.iceberg.location.IcebergPositionDeleteCache;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.ManifestReader;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeWrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.deephaven.iceberg.base.IcebergUtils.deleteFileUri;
+
+/**
+ * An index of the live delete files of a snapshot, used to find the delete files that apply to each data file,
+ * following the Iceberg spec:
+ * <ul>
+ * <li>A position delete file applies to the data files of its partition with a data sequence number less than or equal
+ * to its own, or only to its referenced data file, if set. Data files outside the bounds of its {@code file_path}
+ * column are skipped, since it cannot delete from them.</li>
+ * <li>An equality delete file applies to the data files of its partition with a data sequence number strictly less
+ * than its own. Equality delete files written with an unpartitioned spec apply to all partitions.</li>
+ * </ul>
+ */
+final class IcebergDeleteIndex {
+
+    private static final class PartitionKey {
+        private final int specId;
+        private final StructLikeWrapper partition;
+
+        private PartitionKey(@NotNull final PartitionSpec spec, @NotNull final StructLikeWrapper partition) {
+            this.specId = spec.specId();
+            this.partition = partition;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof PartitionKey)) {
+                return false;
+            }
+            final PartitionKey otherKey = (PartitionKey) other;
+            return specId == otherKey.specId && partition.equals(otherKey.partition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(specId, partition);
+        }
+    }
+
+    /**
+     * A delete file, with the URI to read it from and, for position deletes, the bounds of the data file locations it
+     * deletes from.
+     */
+    private static final class IndexedDeleteFile {
+        private final DeleteFile deleteFile;
+        private final URI uri;
+        /**
+         * The lower bound of the delete file's {@code file_path} column, or {@code null} if unknown.
+         */
+        private final CharSequence lowerDataFileLocation;
+        /**
+         * The upper bound of the delete file's {@code file_path} column, or {@code null} if unknown.
+         */
+        private final CharSequence upperDataFileLocation;
+
+        private IndexedDeleteFile(@NotNull final Table table, @NotNull final DeleteFile deleteFile) {
+            this.deleteFile = deleteFile;
+            this.uri = deleteFileUri(table, deleteFile);
+            if (deleteFile.content() == FileContent.POSITION_DELETES) {
+                lowerDataFileLocation = dataFileLocationBound(deleteFile.lowerBounds());
+                upperDataFileLocation = dataFileLocationBound(deleteFile.upperBounds());
+            } else {
+                lowerDataFileLocation = null;
+                upperDataFileLocation = null;
+            }
+        }
+
+        private static CharSequence dataFileLocationBound(final Map<Integer, ByteBuffer> bounds) {
+            final ByteBuffer bound = bounds == null ? null : bounds.get(FILE_PATH_FIELD_ID);
+            return bound == null ? null : Conversions.fromByteBuffer(Types.StringType.get(), bound);
+        }
+
+        /**
+         * @return Whether the {@code file_path} bounds of this position delete file admit the given data file
+         */
+        private boolean mayDeleteFrom(@NotNull final DataFile dataFile) {
+            final Comparator<CharSequence> comparator = Comparators.charSequences();
+            final String location = dataFile.location();
+            return (lowerDataFileLocation == null || comparator.compare(lowerDataFileLocation, location) <= 0)
+                    && (upperDataFileLocation == null || comparator.compare(location, upperDataFileLocation) <= 0);
+        }
+    }
+
+    private static final int FILE_PATH_FIELD_ID = MetadataColumns.DELETE_FILE_PATH.fieldId();
+
+    private static final IcebergDeleteIndex EMPTY = new IcebergDeleteIndex(null, List.of(), Map.of());
+
+    /**
+     * Load the index of the delete files of the given snapshot.
+     *
+     * @param table The table
+     * @param snapshot The snapshot
+     * @return The index
+     */
+    static IcebergDeleteIndex load(@NotNull final Table table, @NotNull final Snapshot snapshot) throws IOException {
+        final FileIO io = table.io();
+        final List<ManifestFile> deleteManifests = snapshot.deleteManifests(io);
+        if (deleteManifests.isEmpty()) {
+            return EMPTY;
+        }
+        final Map<Integer, PartitionSpec> specs = table.specs();
+        final List<IndexedDeleteFile> globalDeletes = new ArrayList<>();
+        final Map<PartitionKey, List<IndexedDeleteFile>> partitionDeletes = new HashMap<>();
+        for (final ManifestFile deleteManifest : deleteManifests) {
+            try (final ManifestReader<DeleteFile> manifestReader =
+                    ManifestFiles.readDeleteManifest(deleteManifest, io, specs)) {
+                for (final DeleteFile entry : manifestReader) {
+                    // The reader may reuse entries, and we only need the stats of the position deletes' file_path
+                    final DeleteFile deleteFile = entry.copyWithStats(Set.of(FILE_PATH_FIELD_ID));
+                    final PartitionSpec spec = specs.get(deleteFile.specId());
+                    if (deleteFile.content() == FileContent.EQUALITY_DELETES && spec.isUnpartitioned()) {
+                        globalDeletes.add(new IndexedDeleteFile(table, deleteFile));
+                    } else {
+                        partitionDeletes.computeIfAbsent(partitionKey(spec, deleteFile.partition()),
+                                key -> new ArrayList<>()).add(new IndexedDeleteFile(table, deleteFile));
+                    }
+                }
+            }
+        }
+        return new IcebergDeleteIndex(table, globalDeletes, partitionDeletes);
+    }
+
+    private static PartitionKey partitionKey(
+            @NotNull final PartitionSpec spec,
+            @NotNull final StructLike partition) {
+        return new PartitionKey(spec, StructLikeWrapper.forType(spec.partitionType()).set(partition));
+    }
+
+    private final Table table;
+    private final List<IndexedDeleteFile> globalDeletes;
+    private final Map<PartitionKey, List<IndexedDeleteFile>> partitionDeletes;
+    private final IcebergPositionDeleteCache positionDeleteCache = new IcebergPositionDeleteCache();
+
+    private IcebergDeleteIndex(
+            final Table table,
+            @NotNull final List<IndexedDeleteFile> globalDeletes,
+            @NotNull final Map<PartitionKey, List<IndexedDeleteFile>> partitionDeletes) {
+        this.table = table;
+        this.globalDeletes = globalDeletes;
+        this.partitionDeletes = partitionDeletes;
+    }
+
+    /**
+     * Get the deletes that apply to the given data file.
+     *
+     * @param dataFile The data file
+     * @return The deletes
+     */
+    IcebergDeletes forDataFile(@NotNull final DataFile dataFile) {
+        if (globalDeletes.isEmpty() && partitionDeletes.isEmpty()) {
+            return IcebergDeletes.NONE;
+        }
+        final long dataSequenceNumber = dataFile.dataSequenceNumber() == null ? 0 : dataFile.dataSequenceNumber();
+        final List<DeleteFile> deleteFiles = new ArrayList<>();
+        final List<URI> deleteFileUris = new ArrayList<>();
+        final List<IndexedDeleteFile> candidates = new ArrayList<>(globalDeletes);
+        final PartitionSpec spec = table.specs().get(dataFile.specId());
+        candidates.addAll(partitionDeletes.getOrDefault(partitionKey(spec, dataFile.partition()), List.of()));
+        for (final IndexedDeleteFile candidate : candidates) {
+            if (appliesTo(candidate, dataFile, dataSequenceNumber)) {
+                deleteFiles.add(candidate.deleteFile);
+                deleteFileUris.add(candidate.uri);
+            }
+        }
+        if (deleteFiles.isEmpty()) {
+            return IcebergDeletes.NONE;
+        }
+        return new IcebergDeletes(
+                dataFile.location(), deleteFiles, deleteFileUris, positionDeleteCache, table.schema());
+    }
+
+    private static boolean appliesTo(
+            @NotNull final IndexedDeleteFile indexedDeleteFile,
+            @NotNull final DataFile dataFile,
+            final long dataSequenceNumber) {
+        final DeleteFile deleteFile = indexedDeleteFile.deleteFile;
+        final long deleteSequenceNumber =
+                deleteFile.dataSequenceNumber() == null ? 0 : deleteFile.dataSequenceNumber();
+        if (deleteFile.content() == FileContent.POSITION_DELETES) {
+            return deleteSequenceNumber >= dataSequenceNumber
+                    && (deleteFile.referencedDataFile() == null
+                            || deleteFile.referencedDataFile().equals(dataFile.location()))
+                    && indexedDeleteFile.mayDeleteFrom(dataFile);
+        }
+        return deleteSequenceNumber > dataSequenceNumber;
+    }
+}
@@ -13,9 +13,6 @@ import org.apache.iceberg.catalog.TableIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
-import java.util.Set;
-
 public abstract class IcebergTableLocationProviderBase<TK extends TableKey, TLK extends TableLocationKey>
         extends AbstractTableLocationProvider {
 
@@ -76,18 +73,14 @@ public abstract class IcebergTableLocationProviderBase<TK extends TableKey, TLK
 
     /**
      * Refresh the table location provider with the latest snapshot from the catalog. This method will identify new
-     * locations and removed locations.
+     * locations and removed locations, reading only the manifests that changed since the previous refresh.
      */
     protected void refreshLocations() {
         final Object token = new Object();
         beginTransaction(token);
-        final Set<ImmutableTableLocationKey> missedKeys = new HashSet<>();
-        getTableLocationKeys(ttlk -> missedKeys.add(ttlk.get()));
-        locationKeyFinder.findKeys(tlk -> {
-            missedKeys.remove(tlk);
-            handleTableLocationKeyAdded(tlk, token);
-        });
-        missedKeys.forEach(tlk -> handleTableLocationKeyRemoved(tlk, token));
+        locationKeyFinder.findKeyChanges(
+                tlk -> handleTableLocationKeyAdded(tlk, token),
+                tlk -> handleTableLocationKeyRemoved(tlk, token));
         endTransaction(token);
         setInitialized();
     }
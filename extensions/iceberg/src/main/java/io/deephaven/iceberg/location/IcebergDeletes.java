@@ -0,0 +1,222 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.location;
+
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.locations.TableDataException;
+import io.deephaven.iceberg.util.TypeInference;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import io.deephaven.parquet.table.location.ParquetFieldIdColumnResolverFactory;
+import io.deephaven.qst.type.Type;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.InternalUseOnly;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.Types;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The Iceberg delete files that apply to a single data file, which are applied when reading the data file
+ * (merge-on-read). Position deletes exclude the listed row positions of the data file. Equality deletes exclude the
+ * rows of the data file whose values for the delete file's equality fields match a row of the delete file; only the
+ * equality columns of the data file are read to find them.
+ */
+@InternalUseOnly
+public final class IcebergDeletes {
+
+    /**
+     * No deletes.
+     */
+    public static final IcebergDeletes NONE =
+            new IcebergDeletes("", List.of(), List.of(), new IcebergPositionDeleteCache(), new Schema());
+
+    static final String FILE_PATH_COLUMN = "file_path";
+    static final String POS_COLUMN = "pos";
+    private static final String EQUALITY_COLUMN_PREFIX = "EqualityField_";
+
+    private final String dataFileLocation;
+    private final List<DeleteFile> deleteFiles;
+    private final List<URI> deleteFileUris;
+    private final IcebergPositionDeleteCache positionDeleteCache;
+    private final Schema schema;
+    private final List<String> deleteFileLocations;
+
+    /**
+     * @param dataFileLocation The location of the data file, as recorded in the manifest, and hence in position delete
+     *        files
+     * @param deleteFiles The delete files that apply to the data file
+     * @param deleteFileUris The URIs to read the delete files from, in the same order as {@code deleteFiles}
+     * @param positionDeleteCache The cache to read position delete files through, shared by the data files of a
+     *        snapshot
+     * @param schema The table schema, used to determine the types of equality delete fields
+     */
+    public IcebergDeletes(
+            @NotNull final String dataFileLocation,
+            @NotNull final List<DeleteFile> deleteFiles,
+            @NotNull final List<URI> deleteFileUris,
+            @NotNull final IcebergPositionDeleteCache positionDeleteCache,
+            @NotNull final Schema schema) {
+        if (deleteFiles.size() != deleteFileUris.size()) {
+            throw new IllegalArgumentException("Expected one URI per delete file, found " + deleteFiles.size()
+                    + " delete files and " + deleteFileUris.size() + " URIs");
+        }
+        for (final DeleteFile deleteFile : deleteFiles) {
+            if (deleteFile.format() != FileFormat.PARQUET) {
+                throw new UnsupportedOperationException(String.format(
+                        "Unsupported format %s for delete file %s, only parquet delete files are supported",
+                        deleteFile.format(), deleteFile.location()));
+            }
+        }
+        this.dataFileLocation = Objects.requireNonNull(dataFileLocation);
+        this.deleteFiles = List.copyOf(deleteFiles);
+        this.deleteFileUris = List.copyOf(deleteFileUris);
+        this.positionDeleteCache = Objects.requireNonNull(positionDeleteCache);
+        this.schema = Objects.requireNonNull(schema);
+        this.deleteFileLocations = deleteFiles.stream().map(DeleteFile::location).sorted().toList();
+    }
+
+    /**
+     * @return Whether there are no deletes
+     */
+    public boolean isEmpty() {
+        return deleteFiles.isEmpty();
+    }
+
+    /**
+     * @return The sorted locations of the delete files, which identify these deletes
+     */
+    public List<String> deleteFileLocations() {
+        return deleteFileLocations;
+    }
+
+    /**
+     * Read the delete files, and compute the positions of the deleted rows of the data file.
+     *
+     * @param dataFileUri The URI of the data file
+     * @param specialInstructions The special instructions for reading the data and delete files
+     * @return The deleted row positions, or {@code null} if there are no deletes
+     */
+    @Nullable
+    RowSet deletedRowPositions(@NotNull final URI dataFileUri, @Nullable final Object specialInstructions) {
+        if (isEmpty()) {
+            return null;
+        }
+        final RowSetBuilderRandom deletedPositions = RowSetFactory.builderRandom();
+        try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+            // The data file's equality columns, read once per distinct set of equality fields
+            final Map<List<Integer>, Table> dataTables = new HashMap<>();
+            for (int dfi = 0; dfi < deleteFiles.size(); ++dfi) {
+                final DeleteFile deleteFile = deleteFiles.get(dfi);
+                final URI deleteFileUri = deleteFileUris.get(dfi);
+                if (deleteFile.content() == FileContent.POSITION_DELETES) {
+                    final RowSet positions = positionDeleteCache.deletedPositions(
+                            deleteFileUri, dataFileLocation, specialInstructions);
+                    if (positions != null) {
+                        deletedPositions.addRowSet(positions);
+                    }
+                } else if (deleteFile.content() == FileContent.EQUALITY_DELETES) {
+                    final List<Integer> fieldIds = deleteFile.equalityFieldIds();
+                    final Table dataTable = dataTables.computeIfAbsent(fieldIds,
+                            ids -> readEqualityColumns(dataFileUri, ids, specialInstructions));
+                    addEqualityDeletes(dataTable,
+                            readEqualityColumns(deleteFileUri, fieldIds, specialInstructions), deletedPositions);
+                } else {
+                    throw new IllegalStateException("Unexpected delete file content " + deleteFile.content()
+                            + " for " + deleteFile.location());
+                }
+            }
+        } catch (final RuntimeException e) {
+            throw new TableDataException("Failed to apply delete files to " + dataFileUri, e);
+        }
+        return deletedPositions.build();
+    }
+
+    /**
+     * Read the {@value FILE_PATH_COLUMN} and {@value POS_COLUMN} columns of a position delete file.
+     *
+     * @param deleteFileUri The URI of the position delete file
+     * @param specialInstructions The special instructions for reading the delete file
+     * @return The position deletes
+     */
+    static Table readPositionDeletes(
+            @NotNull final URI deleteFileUri,
+            @Nullable final Object specialInstructions) {
+        final Map<String, Integer> columnNameToFieldId = new LinkedHashMap<>();
+        columnNameToFieldId.put(FILE_PATH_COLUMN, MetadataColumns.DELETE_FILE_PATH.fieldId());
+        columnNameToFieldId.put(POS_COLUMN, MetadataColumns.DELETE_FILE_POS.fieldId());
+        final TableDefinition definition = TableDefinition.of(
+                ColumnDefinition.ofString(FILE_PATH_COLUMN),
+                ColumnDefinition.ofLong(POS_COLUMN));
+        return readTable(deleteFileUri, definition, columnNameToFieldId, specialInstructions);
+    }
+
+    private static void addEqualityDeletes(
+            @NotNull final Table dataTable,
+            @NotNull final Table deletes,
+            @NotNull final RowSetBuilderRandom deletedPositions) {
+        final String[] columnNames = dataTable.getDefinition().getColumnNamesArray();
+        final Table deletedRows = dataTable.whereIn(deletes, columnNames);
+        // The data table is read from a single file, so row positions within it are positions within the file
+        try (final WritableRowSet positions = dataTable.getRowSet().invert(deletedRows.getRowSet())) {
+            deletedPositions.addRowSet(positions);
+        }
+    }
+
+    private Table readEqualityColumns(
+            @NotNull final URI uri,
+            @NotNull final List<Integer> fieldIds,
+            @Nullable final Object specialInstructions) {
+        final List<ColumnDefinition<?>> columnDefinitions = new ArrayList<>(fieldIds.size());
+        final Map<String, Integer> columnNameToFieldId = new LinkedHashMap<>();
+        for (final int fieldId : fieldIds) {
+            final Types.NestedField field = schema.findField(fieldId);
+            if (field == null) {
+                throw new TableDataException(String.format("Equality delete field id %d not found in schema %s",
+                        fieldId, schema));
+            }
+            final Type<?> type = TypeInference.of(field.type()).orElseThrow(
+                    () -> new UnsupportedOperationException(String.format(
+                            "Unsupported type %s for equality delete field %s", field.type(), field.name())));
+            final String columnName = EQUALITY_COLUMN_PREFIX + fieldId;
+            columnDefinitions.add(ColumnDefinition.of(columnName, type));
+            columnNameToFieldId.put(columnName, fieldId);
+        }
+        return readTable(uri, TableDefinition.of(columnDefinitions), columnNameToFieldId, specialInstructions);
+    }
+
+    private static Table readTable(
+            @NotNull final URI uri,
+            @NotNull final TableDefinition definition,
+            @NotNull final Map<String, Integer> columnNameToFieldId,
+            @Nullable final Object specialInstructions) {
+        final ParquetInstructions.Builder builder = ParquetInstructions.builder()
+                .setFileLayout(ParquetInstructions.ParquetFileLayout.SINGLE_FILE)
+                .setTableDefinition(definition)
+                .setColumnResolverFactory(ParquetFieldIdColumnResolverFactory.of(columnNameToFieldId));
+        if (specialInstructions != null) {
+            builder.setSpecialInstructions(specialInstructions);
+        }
+        return ParquetTools.readTable(uri.toString(), builder.build());
+    }
+}
@@ -0,0 +1,90 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.location;
+
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.primitive.iterator.CloseableIterator;
+import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfLong;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderRandom;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.InternalUseOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The position delete files of a snapshot, each read on first use and indexed by the data file its rows delete from. A
+ * position delete file may apply to every data file of its partition, so the data files share one read of it rather
+ * than each reading and filtering the whole file. Indexes are softly held, and a delete file is read again if its
+ * index has been collected.
+ */
+@InternalUseOnly
+public final class IcebergPositionDeleteCache {
+
+    private static final class IndexedDeleteFile {
+
+        /**
+         * The deleted positions of each data file, guarded by {@code this}.
+         */
+        private SoftReference<Map<String, RowSet>> positionsByDataFile;
+    }
+
+    private final Map<URI, IndexedDeleteFile> indexedDeleteFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Get the positions deleted from a data file by a position delete file.
+     *
+     * @param deleteFileUri The URI of the position delete file
+     * @param dataFileLocation The location of the data file, as recorded in the delete file
+     * @param specialInstructions The special instructions for reading the delete file
+     * @return The deleted positions, which must not be modified or closed, or {@code null} if there are none
+     */
+    @Nullable
+    RowSet deletedPositions(
+            @NotNull final URI deleteFileUri,
+            @NotNull final String dataFileLocation,
+            @Nullable final Object specialInstructions) {
+        final IndexedDeleteFile indexedDeleteFile =
+                indexedDeleteFiles.computeIfAbsent(deleteFileUri, uri -> new IndexedDeleteFile());
+        Map<String, RowSet> positionsByDataFile;
+        // Locking the delete file, rather than the cache, lets data files read different delete files concurrently
+        synchronized (indexedDeleteFile) {
+            if (indexedDeleteFile.positionsByDataFile == null
+                    || (positionsByDataFile = indexedDeleteFile.positionsByDataFile.get()) == null) {
+                positionsByDataFile = readPositionDeletes(deleteFileUri, specialInstructions);
+                indexedDeleteFile.positionsByDataFile = new SoftReference<>(positionsByDataFile);
+            }
+        }
+        return positionsByDataFile.get(dataFileLocation);
+    }
+
+    private static Map<String, RowSet> readPositionDeletes(
+            @NotNull final URI deleteFileUri,
+            @Nullable final Object specialInstructions) {
+        final Map<String, RowSetBuilderRandom> builders = new HashMap<>();
+        try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+            final Table deletes = IcebergDeletes.readPositionDeletes(deleteFileUri, specialInstructions);
+            try (final CloseableIterator<String> dataFileLocations =
+                    deletes.objectColumnIterator(IcebergDeletes.FILE_PATH_COLUMN);
+                    final CloseablePrimitiveIteratorOfLong positions =
+                            deletes.longColumnIterator(IcebergDeletes.POS_COLUMN)) {
+                while (dataFileLocations.hasNext()) {
+                    builders.computeIfAbsent(dataFileLocations.next(), location -> RowSetFactory.builderRandom())
+                            .addKey(positions.nextLong());
+                }
+            }
+        }
+        final Map<String, RowSet> positionsByDataFile = new HashMap<>(builders.size());
+        builders.forEach((dataFileLocation, builder) -> positionsByDataFile.put(dataFileLocation, builder.build()));
+        return positionsByDataFile;
+    }
+}
@@ -4,11 +4,13 @@
 package io.deephaven.iceberg.location;
 
 import io.deephaven.api.SortColumn;
+import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.impl.locations.TableKey;
 import io.deephaven.engine.table.impl.locations.TableLocation;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.location.ParquetTableLocation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -26,4 +28,11 @@ class IcebergTableParquetLocation extends ParquetTableLocation implements TableL
     public List<SortColumn> getSortedColumns() {
         return ((IcebergTableParquetLocationKey) getKey()).sortedColumns();
     }
+
+    @Override
+    @Nullable
+    protected RowSet getDeletedRowPositions() {
+        final IcebergTableParquetLocationKey key = (IcebergTableParquetLocationKey) getKey();
+        return key.deletes().deletedRowPositions(key.getURI(), getReadInstructions().getSpecialInstructions());
+    }
 }
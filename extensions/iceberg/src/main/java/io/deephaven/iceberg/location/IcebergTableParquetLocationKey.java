@@ -74,6 +74,12 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
     @NotNull
     private final List<SortColumn> sortedColumns;
 
+    /**
+     * The delete files that apply to the data file backing this keyed location.
+     */
+    @NotNull
+    private final IcebergDeletes deletes;
+
     private int cachedHashCode;
 
     /**
@@ -106,6 +112,42 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
             @NotNull final ParquetInstructions readInstructions,
             @NotNull final SeekableChannelsProvider channelsProvider,
             @NotNull final List<SortColumn> sortedColumns) {
+        this(catalogName, tableUuid, tableIdentifier, manifestPartitionSpec, manifestFile, dataFile, fileUri, order,
+                partitions, readInstructions, channelsProvider, sortedColumns, IcebergDeletes.NONE);
+    }
+
+    /**
+     * Construct a new IcebergTableParquetLocationKey for the supplied {@code fileUri} and {@code partitions}.
+     *
+     * @param catalogName The name of the catalog using which the table is accessed
+     * @param tableUuid The UUID of the table, or {@code null} if not available
+     * @param tableIdentifier The table identifier used to access the table
+     * @param manifestFile The manifest file from which the data file was discovered
+     * @param dataFile The data file that backs the keyed location
+     * @param fileUri The {@link URI} for the file that backs the keyed location
+     * @param order Explicit ordering index, taking precedence over other fields
+     * @param partitions The table partitions enclosing the table location keyed by {@code this}. Note that if this
+     *        parameter is {@code null}, the location will be a member of no partitions. An ordered copy of the map will
+     *        be made, so the calling code is free to mutate the map after this call
+     * @param readInstructions the instructions for customizations while reading
+     * @param channelsProvider the provider for reading the file
+     * @param sortedColumns an ordered list of columns this location is sorted by.
+     * @param deletes the delete files that apply to the data file, applied when reading it
+     */
+    public IcebergTableParquetLocationKey(
+            @Nullable final String catalogName,
+            @Nullable final UUID tableUuid,
+            @NotNull final TableIdentifier tableIdentifier,
+            @NotNull final PartitionSpec manifestPartitionSpec,
+            @NotNull final ManifestFile manifestFile,
+            @NotNull final DataFile dataFile,
+            @NotNull final URI fileUri,
+            final int order,
+            @Nullable final Map<String, Comparable<?>> partitions,
+            @NotNull final ParquetInstructions readInstructions,
+            @NotNull final SeekableChannelsProvider channelsProvider,
+            @NotNull final List<SortColumn> sortedColumns,
+            @NotNull final IcebergDeletes deletes) {
         super(fileUri, order, partitions, channelsProvider);
 
         this.catalogName = catalogName;
@@ -127,6 +169,7 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
 
         this.readInstructions = readInstructions;
         this.sortedColumns = Require.neqNull(sortedColumns, "sortedColumns");
+        this.deletes = Require.neqNull(deletes, "deletes");
     }
 
     public PartitionSpec manifestPartitionSpec() {
@@ -151,6 +194,14 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
         return sortedColumns;
     }
 
+    /**
+     * Get the delete files that apply to the data file backing this keyed location.
+     */
+    @NotNull
+    IcebergDeletes deletes() {
+        return deletes;
+    }
+
     /**
      * When comparing with another {@link IcebergTableParquetLocationKey}, precedence-wise this implementation compares:
      * <ul>
@@ -163,6 +214,7 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
      * <li>{@code manifestSequenceNumber}</li>
      * <li>{@code dataFilePos}</li>
      * <li>{@code uri}</li>
+     * <li>{@code deletes}</li>
      * </ul>
      * Otherwise, it delegates to the parent class.
      * <p>
@@ -199,7 +251,11 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
             if ((comparisonResult = Long.compare(dataFilePos, otherTyped.dataFilePos)) != 0) {
                 return comparisonResult;
             }
-            return uri.compareTo(otherTyped.uri);
+            if ((comparisonResult = uri.compareTo(otherTyped.uri)) != 0) {
+                return comparisonResult;
+            }
+            return compareDeleteFileLocations(
+                    deletes.deleteFileLocations(), otherTyped.deletes.deleteFileLocations());
         }
         // When comparing with non-iceberg location key, we want to compare both partitions and URI
         return super.compareTo(other);
@@ -225,7 +281,8 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
                 && dataFilePos == otherTyped.dataFilePos
                 && manifestSequenceNumber == otherTyped.manifestSequenceNumber
                 && sortedColumns.equals(otherTyped.sortedColumns)
-                && uri.equals(otherTyped.uri);
+                && uri.equals(otherTyped.uri)
+                && deletes.deleteFileLocations().equals(otherTyped.deletes.deleteFileLocations());
     }
 
     @Override
@@ -242,6 +299,7 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
             result = prime * result + Long.hashCode(manifestSequenceNumber);
             result = prime * result + Objects.hashCode(sortedColumns);
             result = prime * result + uri.hashCode();
+            result = prime * result + deletes.deleteFileLocations().hashCode();
             // Don't use 0; that's used by StandaloneTableLocationKey, and also our sentinel for the need to compute
             if (result == 0) {
                 final int fallbackHashCode = IcebergTableParquetLocationKey.class.hashCode();
@@ -252,4 +310,17 @@ public class IcebergTableParquetLocationKey extends ParquetTableLocationKey impl
         }
         return cachedHashCode;
     }
+
+    private static int compareDeleteFileLocations(
+            @NotNull final List<String> locations,
+            @NotNull final List<String> otherLocations) {
+        final int size = Math.min(locations.size(), otherLocations.size());
+        for (int li = 0; li < size; ++li) {
+            final int comparisonResult = locations.get(li).compareTo(otherLocations.get(li));
+            if (comparisonResult != 0) {
+                return comparisonResult;
+            }
+        }
+        return Integer.compare(locations.size(), otherLocations.size());
+    }
 }
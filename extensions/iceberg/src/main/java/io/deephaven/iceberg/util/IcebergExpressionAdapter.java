@@ -0,0 +1,343 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.util;
+
+import io.deephaven.api.filter.Filter;
+import io.deephaven.engine.table.impl.select.ComparableRangeFilter;
+import io.deephaven.engine.table.impl.select.ConjunctiveFilter;
+import io.deephaven.engine.table.impl.select.DisjunctiveFilter;
+import io.deephaven.engine.table.impl.select.InstantRangeFilter;
+import io.deephaven.engine.table.impl.select.IntRangeFilter;
+import io.deephaven.engine.table.impl.select.LongRangeFilter;
+import io.deephaven.engine.table.impl.select.MatchFilter;
+import io.deephaven.engine.table.impl.select.RangeFilter;
+import io.deephaven.engine.table.impl.select.SingleSidedComparableRangeFilter;
+import io.deephaven.engine.table.impl.select.WhereFilter;
+import io.deephaven.engine.table.impl.select.WhereFilterDelegatingBase;
+import io.deephaven.engine.table.impl.select.WhereFilterInvertedImpl;
+import io.deephaven.util.QueryConstants;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a Deephaven {@link Filter} into an Iceberg {@link Expression} that can be used to skip manifests and data
+ * files that cannot contain matching rows, based on their partition values and column bounds.
+ *
+ * <p>
+ * The filter is converted to {@link WhereFilter WhereFilters} and initialized against the table definition; match
+ * filters, range filters on integral, string, boolean, date, and timestamp columns, and their conjunctions,
+ * disjunctions, and inversions are supported. Deephaven semantics are preserved, e.g. {@code null} values are less than
+ * any other value. Supported filters are converted exactly; unsupported conjuncts are dropped, and any other
+ * unsupported filter makes the result {@link Expressions#alwaysTrue() always true}, so the result never excludes a file
+ * that has matching rows.
+ */
+final class IcebergExpressionAdapter {
+
+    /**
+     * Convert the {@code filter} into an Iceberg expression.
+     *
+     * @param filter The filter
+     * @param resolver The resolver, which maps Deephaven columns to Iceberg fields
+     * @return The expression, which matches at least the rows matched by {@code filter}
+     */
+    static Expression of(@NotNull final Filter filter, @NotNull final Resolver resolver) {
+        final IcebergExpressionAdapter adapter = new IcebergExpressionAdapter(resolver);
+        Expression result = Expressions.alwaysTrue();
+        for (final WhereFilter whereFilter : WhereFilter.fromInternal(filter)) {
+            try {
+                whereFilter.init(resolver.definition());
+            } catch (final RuntimeException e) {
+                // e.g. a formula that cannot be compiled here; such a filter cannot be converted anyway
+                continue;
+            }
+            final Expression expression = adapter.convert(whereFilter, false);
+            if (expression != null) {
+                result = Expressions.and(result, expression);
+            }
+        }
+        return result;
+    }
+
+    private final Resolver resolver;
+    private final Schema schema;
+
+    private IcebergExpressionAdapter(@NotNull final Resolver resolver) {
+        this.resolver = resolver;
+        this.schema = resolver.schema();
+    }
+
+    /**
+     * Convert a filter.
+     *
+     * @param filter The filter
+     * @param exact Whether the result must match exactly the rows matched by {@code filter}, rather than at least them
+     * @return The expression, or {@code null} if the filter cannot be converted
+     */
+    @Nullable
+    private Expression convert(@NotNull final WhereFilter filter, final boolean exact) {
+        if (filter instanceof ConjunctiveFilter) {
+            Expression result = Expressions.alwaysTrue();
+            for (final WhereFilter component : ((ConjunctiveFilter) filter).getFilters()) {
+                final Expression expression = convert(component, exact);
+                if (expression == null) {
+                    if (exact) {
+                        return null;
+                    }
+                    continue;
+                }
+                result = Expressions.and(result, expression);
+            }
+            return result;
+        }
+        if (filter instanceof DisjunctiveFilter) {
+            Expression result = Expressions.alwaysFalse();
+            for (final WhereFilter component : ((DisjunctiveFilter) filter).getFilters()) {
+                final Expression expression = convert(component, exact);
+                if (expression == null) {
+                    return null;
+                }
+                result = Expressions.or(result, expression);
+            }
+            return result;
+        }
+        if (filter instanceof WhereFilterInvertedImpl) {
+            // Only the complement of an exact expression is guaranteed to include every matching row
+            final Expression expression =
+                    convert(((WhereFilterInvertedImpl) filter).getWrappedFilter(), true);
+            return expression == null ? null : Expressions.not(expression);
+        }
+        if (filter instanceof WhereFilterDelegatingBase) {
+            // Serial and barrier wrappers do not change which rows match
+            return convert(((WhereFilterDelegatingBase) filter).getWrappedFilter(), exact);
+        }
+        if (filter instanceof RangeFilter) {
+            final WhereFilter realFilter = ((RangeFilter) filter).getRealFilter();
+            return realFilter == null ? null : convert(realFilter, exact);
+        }
+        final Expression expression;
+        if (filter instanceof MatchFilter) {
+            expression = convertMatch((MatchFilter) filter);
+        } else if (filter instanceof InstantRangeFilter) {
+            // Bounds are in nanoseconds, and would need rounding to match Iceberg timestamps
+            expression = null;
+        } else if (filter instanceof IntRangeFilter) {
+            final IntRangeFilter range = (IntRangeFilter) filter;
+            expression = convertRange(range.getColumns().get(0),
+                    range.getLower() == QueryConstants.NULL_INT ? null : range.getLower(),
+                    range.getUpper() == QueryConstants.MAX_INT && range.isUpperInclusive() ? null : range.getUpper(),
+                    range.isLowerInclusive(), range.isUpperInclusive());
+        } else if (filter instanceof LongRangeFilter) {
+            final LongRangeFilter range = (LongRangeFilter) filter;
+            expression = convertRange(range.getColumns().get(0),
+                    range.getLower() == QueryConstants.NULL_LONG ? null : range.getLower(),
+                    range.getUpper() == QueryConstants.MAX_LONG && range.isUpperInclusive() ? null : range.getUpper(),
+                    range.isLowerInclusive(), range.isUpperInclusive());
+        } else if (filter instanceof ComparableRangeFilter) {
+            final ComparableRangeFilter range = (ComparableRangeFilter) filter;
+            expression = range.getUpper() == null
+                    ? null
+                    : convertRange(range.getColumns().get(0), range.getLower(), range.getUpper(),
+                            range.isLowerInclusive(), range.isUpperInclusive());
+        } else if (filter instanceof SingleSidedComparableRangeFilter) {
+            final SingleSidedComparableRangeFilter range = (SingleSidedComparableRangeFilter) filter;
+            // A single-sided range filter's inclusivity is recorded as its lower inclusivity
+            expression = range.isGreaterThan()
+                    ? convertRange(range.getColumns().get(0), range.getPivot(), null, range.isLowerInclusive(), false)
+                    : convertRange(range.getColumns().get(0), null, range.getPivot(), true, range.isLowerInclusive());
+        } else {
+            expression = null;
+        }
+        return expression == null ? null : bound(expression);
+    }
+
+    @Nullable
+    private Expression convertMatch(@NotNull final MatchFilter filter) {
+        if (filter.getFailoverFilterIfCached() != null || filter.getValues() == null) {
+            return null;
+        }
+        final Types.NestedField field = field(filter.getColumns().get(0));
+        if (field == null) {
+            return null;
+        }
+        final Type.PrimitiveType type = field.type().asPrimitiveType();
+        if (filter.getMatchOptions().caseInsensitive() || filter.getMatchOptions().nanMatch()) {
+            return null;
+        }
+        final String name = schema.findColumnName(field.fieldId());
+        boolean matchesNull = false;
+        final List<Object> values = new ArrayList<>();
+        for (final Object value : filter.getValues()) {
+            if (isNull(value)) {
+                matchesNull = true;
+                continue;
+            }
+            final Object icebergValue = icebergValue(value, type, false);
+            if (icebergValue == null) {
+                return null;
+            }
+            values.add(icebergValue);
+        }
+        Expression result = values.isEmpty() ? Expressions.alwaysFalse() : Expressions.in(name, values);
+        if (matchesNull) {
+            result = Expressions.or(Expressions.isNull(name), result);
+        }
+        return filter.getMatchOptions().inverted() ? Expressions.not(result) : result;
+    }
+
+    /**
+     * Convert a range, where a {@code null} bound is unbounded. Deephaven considers {@code null} to be less than any
+     * other value, so an inclusive {@code null} lower bound includes {@code null} values.
+     */
+    @Nullable
+    private Expression convertRange(
+            @NotNull final String columnName,
+            @Nullable final Object lower,
+            @Nullable final Object upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        final Types.NestedField field = field(columnName);
+        if (field == null) {
+            return null;
+        }
+        final Type.PrimitiveType type = field.type().asPrimitiveType();
+        final String name = schema.findColumnName(field.fieldId());
+        Expression result = Expressions.notNull(name);
+        if (lower != null) {
+            final Object icebergLower = icebergValue(lower, type, true);
+            if (icebergLower == null) {
+                return null;
+            }
+            result = Expressions.and(result, lowerInclusive
+                    ? Expressions.greaterThanOrEqual(name, icebergLower)
+                    : Expressions.greaterThan(name, icebergLower));
+        }
+        if (upper != null) {
+            final Object icebergUpper = icebergValue(upper, type, true);
+            if (icebergUpper == null) {
+                return null;
+            }
+            result = Expressions.and(result, upperInclusive
+                    ? Expressions.lessThanOrEqual(name, icebergUpper)
+                    : Expressions.lessThan(name, icebergUpper));
+        }
+        if (lower == null && lowerInclusive) {
+            result = Expressions.or(Expressions.isNull(name), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return The primitive Iceberg field for the Deephaven column, or {@code null} if there is none
+     */
+    @Nullable
+    private Types.NestedField field(@NotNull final String columnName) {
+        final List<Types.NestedField> fieldPath = resolver.resolve(columnName).orElse(null);
+        if (fieldPath == null || fieldPath.isEmpty()) {
+            return null;
+        }
+        final Types.NestedField field = fieldPath.get(fieldPath.size() - 1);
+        return field.type().isPrimitiveType() ? field : null;
+    }
+
+    /**
+     * Bind the expression to the schema, to check that its values can be compared to its fields.
+     */
+    @Nullable
+    private Expression bound(@NotNull final Expression expression) {
+        try {
+            Binder.bind(schema.asStruct(), expression, true);
+        } catch (final RuntimeException e) {
+            return null;
+        }
+        return expression;
+    }
+
+    private static boolean isNull(@Nullable final Object value) {
+        return value == null
+                || QueryConstants.NULL_BYTE_BOXED.equals(value)
+                || QueryConstants.NULL_SHORT_BOXED.equals(value)
+                || QueryConstants.NULL_INT_BOXED.equals(value)
+                || QueryConstants.NULL_LONG_BOXED.equals(value)
+                || QueryConstants.NULL_FLOAT_BOXED.equals(value)
+                || QueryConstants.NULL_DOUBLE_BOXED.equals(value);
+    }
+
+    /**
+     * Convert a Deephaven value to the Java type Iceberg uses for {@code type}.
+     *
+     * @param value The non-null value
+     * @param type The Iceberg type
+     * @param ordered Whether the value will be used in an ordered comparison, rather than for equality
+     * @return The Iceberg value, or {@code null} if the value cannot be converted exactly
+     */
+    @Nullable
+    private static Object icebergValue(
+            @NotNull final Object value,
+            @NotNull final Type.PrimitiveType type,
+            final boolean ordered) {
+        switch (type.typeId()) {
+            case BOOLEAN:
+                return value instanceof Boolean ? value : null;
+            case INTEGER:
+                if (isIntegral(value)) {
+                    final long longValue = ((Number) value).longValue();
+                    return longValue == (int) longValue ? (Object) (int) longValue : null;
+                }
+                return null;
+            case LONG:
+                return isIntegral(value) ? (Object) ((Number) value).longValue() : null;
+            case FLOAT:
+            case DOUBLE:
+                // Deephaven orders NaN above all other values, while Iceberg bounds exclude it
+                if (ordered || !(value instanceof Number)) {
+                    return null;
+                }
+                // Deephaven matches -0.0 and 0.0 as equal, while Iceberg bounds order -0.0 below 0.0; NaN is not
+                // a valid Iceberg literal
+                final double doubleValue = ((Number) value).doubleValue();
+                if (doubleValue == 0.0 || Double.isNaN(doubleValue)) {
+                    return null;
+                }
+                return type.typeId() == Type.TypeID.FLOAT
+                        ? (Object) ((Number) value).floatValue()
+                        : (Object) ((Number) value).doubleValue();
+            case STRING:
+                return value instanceof String ? value : null;
+            case DATE:
+                return value instanceof LocalDate ? (Object) Math.toIntExact(((LocalDate) value).toEpochDay()) : null;
+            case TIMESTAMP: {
+                final Instant instant;
+                if (((Types.TimestampType) type).shouldAdjustToUTC()) {
+                    instant = value instanceof Instant ? (Instant) value : null;
+                } else {
+                    instant = value instanceof LocalDateTime ? ((LocalDateTime) value).toInstant(ZoneOffset.UTC) : null;
+                }
+                if (instant == null || instant.getNano() % 1_000 != 0) {
+                    return null;
+                }
+                return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+                        instant.getNano() / 1_000);
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isIntegral(@NotNull final Object value) {
+        return value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long;
+    }
+}
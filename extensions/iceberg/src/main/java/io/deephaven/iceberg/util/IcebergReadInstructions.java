@@ -4,6 +4,7 @@
 package io.deephaven.iceberg.util;
 
 import io.deephaven.annotations.CopyableStyle;
+import io.deephaven.api.filter.Filter;
 import io.deephaven.engine.table.TableDefinition;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.Snapshot;
@@ -108,6 +109,15 @@ public abstract class IcebergReadInstructions {
         return false;
     }
 
+    /**
+     * A filter on the Deephaven columns of the table, used to skip the manifests and data files that cannot contain
+     * matching rows, based on their partition values and column bounds, before any data file is opened. Match filters,
+     * range filters, and their conjunctions, disjunctions, and inversions are used; other filters are ignored. The filter
+     * is not applied to the rows of the remaining data files, so callers should also apply it with
+     * {@link io.deephaven.engine.table.Table#where(Filter) where}.
+     */
+    public abstract Optional<Filter> filter();
+
     public interface Builder {
 
         @Deprecated
@@ -135,6 +145,8 @@ public abstract class IcebergReadInstructions {
 
         Builder ignoreResolvingErrors(boolean ignoreResolvingErrors);
 
+        Builder filter(Filter filter);
+
         IcebergReadInstructions build();
     }
 
@@ -0,0 +1,97 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.util;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * This class provides options for {@link IcebergTableWriter#sink(io.deephaven.engine.table.Table, IcebergSinkOptions)
+ * sinking} the rows added to a refreshing Deephaven table into an Iceberg table.
+ */
+@Immutable
+@BuildableStyle
+public abstract class IcebergSinkOptions {
+
+    public static Builder builder() {
+        return ImmutableIcebergSinkOptions.builder();
+    }
+
+    /**
+     * The identifier of the sink, recorded in the summary of every snapshot it commits along with a sequence number
+     * and the number of source rows committed so far. A sink resumes the sequence and row offset of the most recent
+     * snapshot committed with the same identifier. It uses the sequence to avoid committing a batch twice when the
+     * outcome of a commit is unknown, and the offset to skip the rows of a static or add-only source that were already
+     * committed. Sinks writing to the same Iceberg table concurrently must use distinct identifiers.
+     */
+    public abstract String sinkId();
+
+    /**
+     * The partition path to write all rows to, if the Iceberg table is partitioned. For example, if the table is
+     * partitioned by "year" and "month", the partition path could be "year=2021/month=01". Must not be set for an
+     * un-partitioned table.
+     */
+    public abstract Optional<String> partitionPath();
+
+    /**
+     * The maximum number of buffered rows written to a single data file. Once this many rows have been buffered, they
+     * are written to a new data file, even if the next commit is not due yet.
+     * <p>
+     * Defaults to {@code 1,000,000}.
+     */
+    @Value.Default
+    public long maxRowsPerFile() {
+        return 1_000_000;
+    }
+
+    /**
+     * The interval at which buffered rows are written and all data files written since the last commit are committed
+     * as a single Iceberg snapshot.
+     * <p>
+     * Defaults to one minute.
+     */
+    @Value.Default
+    public Duration commitInterval() {
+        return Duration.ofMinutes(1);
+    }
+
+    // @formatter:off
+    public interface Builder {
+    // @formatter:on
+        Builder sinkId(String sinkId);
+
+        Builder partitionPath(String partitionPath);
+
+        Builder maxRowsPerFile(long maxRowsPerFile);
+
+        Builder commitInterval(Duration commitInterval);
+
+        IcebergSinkOptions build();
+    }
+
+    @Value.Check
+    final void checkSinkId() {
+        if (sinkId().isEmpty()) {
+            throw new IllegalArgumentException("sinkId must be non-empty");
+        }
+    }
+
+    @Value.Check
+    final void checkMaxRowsPerFile() {
+        if (maxRowsPerFile() <= 0) {
+            throw new IllegalArgumentException("maxRowsPerFile must be positive, found " + maxRowsPerFile());
+        }
+    }
+
+    @Value.Check
+    final void checkCommitInterval() {
+        if (commitInterval().isNegative() || commitInterval().isZero()) {
+            throw new IllegalArgumentException("commitInterval must be positive, found " + commitInterval());
+        }
+    }
+}
@@ -35,6 +35,8 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.mapping.NameMapping;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -443,7 +445,10 @@ public final class IcebergTableAdapter {
         final IcebergBaseLayout keyFinder = keyFinder(
                 snapshot,
                 readInstructions.dataInstructions().orElse(null),
-                readInstructions.ignoreResolvingErrors());
+                readInstructions.ignoreResolvingErrors(),
+                readInstructions.filter()
+                        .map(filter -> IcebergExpressionAdapter.of(filter, resolver))
+                        .orElseGet(Expressions::alwaysTrue));
         if (readInstructions.updateMode().updateType() == IcebergUpdateMode.IcebergUpdateType.STATIC) {
             return new IcebergStaticTableLocationProvider<>(
                     tableKey,
@@ -480,7 +485,8 @@ public final class IcebergTableAdapter {
     private @NotNull IcebergBaseLayout keyFinder(
             @Nullable final Snapshot snapshot,
             @Nullable final Object dataInstructions,
-            final boolean ignoreResolvingErrors) {
+            final boolean ignoreResolvingErrors,
+            @NotNull final Expression filter) {
         final Object specialInstructions = dataInstructions == null
                 ? dataInstructionsProviderLoader.load(locationUri.getScheme())
                 : dataInstructions;
@@ -492,9 +498,9 @@ public final class IcebergTableAdapter {
                 .build();
         final Map<String, PartitionField> partitionFields = resolver.partitionFieldMap();
         if (partitionFields.isEmpty()) {
-            return new IcebergUnpartitionedLayout(this, parquetInstructions, channelsProvider, snapshot);
+            return new IcebergUnpartitionedLayout(this, parquetInstructions, channelsProvider, snapshot, filter);
         }
-        return new IcebergPartitionedLayout(this, parquetInstructions, channelsProvider, snapshot, resolver);
+        return new IcebergPartitionedLayout(this, parquetInstructions, channelsProvider, snapshot, resolver, filter);
     }
 
     SeekableChannelsProvider seekableChannelsProvider(final Object specialInstructions) {
@@ -0,0 +1,417 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.util;
+
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.liveness.LivenessScope;
+import io.deephaven.engine.liveness.LivenessScopeStack;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.InstrumentedTableUpdateListenerAdapter;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.locations.TableDataException;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.SafeCloseable;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Appends the rows added to a Deephaven table to an Iceberg table, as created by
+ * {@link IcebergTableWriter#sink(Table, IcebergSinkOptions)}.
+ * <p>
+ * Added rows are copied into a buffer on the update graph thread. Whenever {@link IcebergSinkOptions#maxRowsPerFile()}
+ * rows have been buffered, and at every {@link IcebergSinkOptions#commitInterval() commit interval}, the buffered rows
+ * are written to a new data file by a dedicated thread. At every commit interval, the data files written since the last
+ * commit are committed as a single Iceberg snapshot, whose summary records the {@link IcebergSinkOptions#sinkId() sink
+ * id}, a sequence number that increases by one with every commit, and the offset of the sink in its source: the total
+ * number of source rows committed under the sink id. If the outcome of a commit is unknown, the snapshot history is
+ * checked for the sequence number before retrying, so that no batch is committed twice.
+ * <p>
+ * A sink resumes the sequence number and offset of the most recent snapshot committed under its id. Given a static or
+ * add-only source, it skips as many of the first rows it is given as the offset, i.e. the rows of the source table in
+ * order of position, followed by the rows added by each update in order of position. This assumes the source presents
+ * the same rows in the same order as it did to the sinks before, as an append-only table replayed from its start does.
+ * Blink tables only present new rows, so a sink given a blink table does not skip any.
+ * <p>
+ * If writing or committing fails, the sink stops; the failure is reported by the next {@link #flush()}, and to the
+ * update graph on the next update of the source table.
+ */
+public final class IcebergTableSink implements SafeCloseable {
+
+    /**
+     * The snapshot summary property holding the {@link IcebergSinkOptions#sinkId() sink id}.
+     */
+    public static final String SINK_ID_PROPERTY = "deephaven.sink-id";
+
+    /**
+     * The snapshot summary property holding the sequence number of the commit.
+     */
+    public static final String SINK_SEQUENCE_PROPERTY = "deephaven.sink-sequence";
+
+    /**
+     * The snapshot summary property holding the total number of source rows committed under the sink id, up to and
+     * including the commit.
+     */
+    public static final String SINK_OFFSET_PROPERTY = "deephaven.sink-offset";
+
+    private static final Logger log = LoggerFactory.getLogger(IcebergTableSink.class);
+
+    private static final Value DATA_FILES_WRITTEN =
+            Stats.makeItem("IcebergTableSink", "dataFilesWritten", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value ROWS_WRITTEN =
+            Stats.makeItem("IcebergTableSink", "rowsWritten", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value COMMITS =
+            Stats.makeItem("IcebergTableSink", "commits", ThreadSafeCounter.FACTORY).getValue();
+
+    private final IcebergTableWriter writer;
+    private final Table source;
+    private final IcebergSinkOptions options;
+    private final ExecutionContext executionContext;
+
+    /**
+     * The scope managing the listener; releasing it stops the sink from receiving updates.
+     */
+    private final LivenessScope listenerScope = new LivenessScope(true);
+
+    /**
+     * Writes data files and commits them, in submission order.
+     */
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * The source columns, reinterpreted to primitives where possible for copying.
+     */
+    private final ColumnSource<?>[] sourceColumns;
+
+    // The buffered rows, guarded by the buffer lock
+
+    private final Object bufferLock = new Object();
+    private final Map<String, WritableColumnSource<?>> bufferColumns = new LinkedHashMap<>();
+    private final WritableColumnSource<?>[] bufferDestinations;
+    private long bufferedRows;
+    /**
+     * The number of rows still to be skipped, because they were committed before this sink was created.
+     */
+    private long rowsToSkip;
+
+    // The data files written since the last commit, only accessed by the executor thread
+
+    private final List<DataFile> pendingDataFiles = new ArrayList<>();
+    private long pendingRows;
+
+    private volatile long lastCommittedSequence;
+    private volatile long lastCommittedOffset;
+    private boolean closed;
+
+    IcebergTableSink(
+            @NotNull final IcebergTableWriter writer,
+            @NotNull final Table source,
+            @NotNull final IcebergSinkOptions options) {
+        this.writer = writer;
+        this.source = source.coalesce();
+        this.options = options;
+        this.executionContext = ExecutionContext.getContext();
+
+        final boolean isBlink = BlinkTableTools.isBlink(this.source);
+        if (this.source.isRefreshing() && !isBlink && !isAddOnly(this.source)) {
+            throw new IllegalArgumentException(
+                    "Only blink tables and add-only tables can be sunk to Iceberg, " + this.source + " is neither");
+        }
+
+        final Map<String, ? extends ColumnSource<?>> columns = this.source.getColumnSourceMap();
+        sourceColumns = new ColumnSource<?>[columns.size()];
+        bufferDestinations = new WritableColumnSource<?>[columns.size()];
+        int ci = 0;
+        for (final ColumnSource<?> column : columns.values()) {
+            sourceColumns[ci++] = ReinterpretUtils.maybeConvertToPrimitive(column);
+        }
+        resetBuffer();
+
+        if (this.source.isRefreshing()) {
+            this.source.getUpdateGraph().checkInitiateSerialTableOperation();
+        }
+        final Map<String, String> lastCommittedSummary = findLastCommittedSummary();
+        lastCommittedSequence = sequence(lastCommittedSummary);
+        lastCommittedOffset = offset(lastCommittedSummary);
+        rowsToSkip = isBlink ? 0 : lastCommittedOffset;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "IcebergTableSink-" + options.sinkId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long commitIntervalMillis = options.commitInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::requestCommit,
+                commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+
+        bufferRows(this.source.getRowSet());
+        if (this.source.isRefreshing()) {
+            try (final SafeCloseable ignored = LivenessScopeStack.open(listenerScope, false)) {
+                this.source.addUpdateListener(new SinkListener(isBlink));
+            }
+        }
+    }
+
+    private static boolean isAddOnly(@NotNull final Table table) {
+        return Boolean.TRUE.equals(table.getAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE))
+                || Boolean.TRUE.equals(table.getAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE));
+    }
+
+    /**
+     * @return The sequence number of the last snapshot committed by this sink, or by a previous sink with the same
+     *         {@link IcebergSinkOptions#sinkId() id}, or zero if there is none
+     */
+    public long lastCommittedSequence() {
+        return lastCommittedSequence;
+    }
+
+    /**
+     * @return The total number of source rows committed by this sink, and by previous sinks with the same
+     *         {@link IcebergSinkOptions#sinkId() id}
+     */
+    public long lastCommittedOffset() {
+        return lastCommittedOffset;
+    }
+
+    /**
+     * Write all buffered rows and commit all pending data files, waiting for the commit to complete.
+     *
+     * @throws TableDataException if writing or committing has failed
+     */
+    public void flush() {
+        final Future<?> committed;
+        synchronized (bufferLock) {
+            checkFailure();
+            rollFile();
+            committed = executor.submit(this::commitPendingFiles);
+        }
+        try {
+            committed.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TableDataException("Interrupted while flushing Iceberg sink " + options.sinkId(), e);
+        } catch (final ExecutionException e) {
+            throw new TableDataException("Failed to flush Iceberg sink " + options.sinkId(), e.getCause());
+        }
+        checkFailure();
+    }
+
+    /**
+     * Stop listening for added rows, then {@link #flush() flush} the rows already buffered.
+     */
+    @Override
+    public void close() {
+        synchronized (bufferLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        listenerScope.release();
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void checkFailure() {
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            throw new TableDataException("Iceberg sink " + options.sinkId() + " has failed", cause);
+        }
+    }
+
+    private void resetBuffer() {
+        bufferColumns.clear();
+        int ci = 0;
+        for (final Map.Entry<String, ? extends ColumnSource<?>> entry : source.getColumnSourceMap().entrySet()) {
+            final ColumnSource<?> column = entry.getValue();
+            final WritableColumnSource<?> bufferColumn = ArrayBackedColumnSource.getMemoryColumnSource(
+                    0, column.getType(), column.getComponentType());
+            bufferColumns.put(entry.getKey(), bufferColumn);
+            bufferDestinations[ci++] = ReinterpretUtils.maybeConvertToWritablePrimitive(bufferColumn);
+        }
+        bufferedRows = 0;
+    }
+
+    /**
+     * Copy the given rows of the source table to the buffer, after skipping any that were already committed, rolling a
+     * new data file whenever the buffer is full.
+     */
+    private void bufferRows(@NotNull final RowSet rows) {
+        final long maxRowsPerFile = options.maxRowsPerFile();
+        synchronized (bufferLock) {
+            final long size = rows.size();
+            long offset = Math.min(rowsToSkip, size);
+            rowsToSkip -= offset;
+            while (offset < size) {
+                final long rowsToCopy = Math.min(size - offset, maxRowsPerFile - bufferedRows);
+                try (final RowSet sourceRows = rows.subSetByPositionRange(offset, offset + rowsToCopy);
+                        final RowSet bufferRows =
+                                RowSetFactory.fromRange(bufferedRows, bufferedRows + rowsToCopy - 1)) {
+                    for (final WritableColumnSource<?> destination : bufferDestinations) {
+                        destination.ensureCapacity(bufferedRows + rowsToCopy, false);
+                    }
+                    ChunkUtils.copyData(sourceColumns, sourceRows, bufferDestinations, bufferRows, false);
+                }
+                bufferedRows += rowsToCopy;
+                offset += rowsToCopy;
+                if (bufferedRows == maxRowsPerFile) {
+                    rollFile();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand the buffered rows off to the executor to be written to a new data file. Must be called while holding the
+     * buffer lock, so that files are written in the order their rows were added.
+     */
+    private void rollFile() {
+        if (bufferedRows == 0) {
+            return;
+        }
+        final Table buffered = new QueryTable(RowSetFactory.flat(bufferedRows).toTracking(), bufferColumns);
+        resetBuffer();
+        executor.execute(() -> writeFile(buffered));
+    }
+
+    private void requestCommit() {
+        synchronized (bufferLock) {
+            rollFile();
+            executor.execute(this::commitPendingFiles);
+        }
+    }
+
+    private void writeFile(@NotNull final Table buffered) {
+        if (failure.get() != null) {
+            return;
+        }
+        final IcebergWriteInstructions.Builder instructions = IcebergWriteInstructions.builder().addTables(buffered);
+        options.partitionPath().ifPresent(instructions::addPartitionPaths);
+        try (final SafeCloseable ignored = executionContext.open()) {
+            final List<DataFile> dataFiles = writer.writeDataFiles(instructions.build());
+            pendingDataFiles.addAll(dataFiles);
+            pendingRows += buffered.size();
+            DATA_FILES_WRITTEN.increment(dataFiles.size());
+        } catch (final RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void commitPendingFiles() {
+        if (failure.get() != null || pendingDataFiles.isEmpty()) {
+            return;
+        }
+        final long sequence = lastCommittedSequence + 1;
+        final long offset = lastCommittedOffset + pendingRows;
+        final Map<String, String> summary = Map.of(
+                SINK_ID_PROPERTY, options.sinkId(),
+                SINK_SEQUENCE_PROPERTY, Long.toString(sequence),
+                SINK_OFFSET_PROPERTY, Long.toString(offset));
+        try {
+            try {
+                writer.commit(pendingDataFiles, summary);
+            } catch (final CommitStateUnknownException e) {
+                // The commit may or may not have landed; retry only if it did not
+                if (sequence(findLastCommittedSummary()) < sequence) {
+                    writer.commit(pendingDataFiles, summary);
+                }
+            }
+        } catch (final RuntimeException e) {
+            fail(e);
+            return;
+        }
+        lastCommittedSequence = sequence;
+        lastCommittedOffset = offset;
+        ROWS_WRITTEN.increment(pendingRows);
+        COMMITS.increment(1);
+        pendingDataFiles.clear();
+        pendingRows = 0;
+    }
+
+    private void fail(@NotNull final Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            log.error().append("Iceberg sink ").append(options.sinkId()).append(" failed: ").append(cause).endl();
+        }
+    }
+
+    /**
+     * Find the summary of the most recent snapshot committed with this sink's id, among the ancestors of the current
+     * snapshot.
+     *
+     * @return The summary, or {@code null} if there is no such snapshot
+     */
+    @Nullable
+    private Map<String, String> findLastCommittedSummary() {
+        final org.apache.iceberg.Table table = writer.icebergTable();
+        table.refresh();
+        for (final Snapshot snapshot : SnapshotUtil.currentAncestors(table)) {
+            final Map<String, String> summary = snapshot.summary();
+            if (summary != null && options.sinkId().equals(summary.get(SINK_ID_PROPERTY))) {
+                return summary;
+            }
+        }
+        return null;
+    }
+
+    private static long sequence(@Nullable final Map<String, String> summary) {
+        return summary == null ? 0 : Long.parseLong(summary.get(SINK_SEQUENCE_PROPERTY));
+    }
+
+    private static long offset(@Nullable final Map<String, String> summary) {
+        return summary == null ? 0 : PropertyUtil.propertyAsLong(summary, SINK_OFFSET_PROPERTY, 0);
+    }
+
+    private class SinkListener extends InstrumentedTableUpdateListenerAdapter {
+
+        private final boolean isBlink;
+
+        private SinkListener(final boolean isBlink) {
+            super("IcebergTableSink-" + options.sinkId(), source, false);
+            this.isBlink = isBlink;
+        }
+
+        @Override
+        public void onUpdate(@NotNull final TableUpdate upstream) {
+            checkFailure();
+            if (!isBlink && (upstream.removed().isNonempty() || upstream.modified().isNonempty())) {
+                throw new IllegalStateException("Iceberg sink " + options.sinkId()
+                        + " source table removed or modified rows, but is expected to only add rows");
+            }
+            // Removes from blink tables are ignored, since we already copied the rows when they were added
+            bufferRows(upstream.added());
+        }
+    }
+}
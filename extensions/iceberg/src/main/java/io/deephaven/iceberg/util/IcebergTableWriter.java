@@ -15,6 +15,9 @@ import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.locations.TableDataException;
+import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.iceberg.base.IcebergUtils;
 import io.deephaven.iceberg.internal.DataInstructionsProviderLoader;
 import io.deephaven.parquet.table.CompletedParquetWrite;
@@ -22,6 +25,7 @@ import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.ParquetTools;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.channel.SeekableChannelsProvider;
+import io.deephaven.util.type.TypeUtils;
 import org.apache.iceberg.AppendFiles;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
@@ -32,6 +36,8 @@ import org.apache.iceberg.PartitionData;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotSummary;
 import org.apache.iceberg.SortDirection;
 import org.apache.iceberg.SortField;
 import org.apache.iceberg.SortOrder;
@@ -46,11 +52,14 @@ import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.PropertyUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -58,6 +67,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static io.deephaven.iceberg.base.IcebergUtils.verifyPartitioningColumns;
 import static io.deephaven.iceberg.base.IcebergUtils.verifyRequiredFields;
@@ -141,6 +155,12 @@ public class IcebergTableWriter {
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
     private static final int VARIABLE_NAME_LENGTH = 6;
 
+    /**
+     * The estimated size of a single value of a non-primitive column, used to compute the number of rows per data file
+     * when the table has no data files to take the size of a row from.
+     */
+    private static final int ESTIMATED_OBJECT_BYTES = 32;
+
     /**
      * Create a new Iceberg table writer instance.
      *
@@ -187,6 +207,13 @@ public class IcebergTableWriter {
         this.channelsProvider = tableAdapter.seekableChannelsProvider(specialInstructions);
     }
 
+    /**
+     * The Iceberg table written to by this instance.
+     */
+    org.apache.iceberg.Table icebergTable() {
+        return table;
+    }
+
     private static TableParquetWriterOptions verifyWriterOptions(
             @NotNull final TableWriterOptions tableWriterOptions) {
         // We ony support writing to Parquet files
@@ -392,6 +419,25 @@ public class IcebergTableWriter {
         commit(dataFilesWritten);
     }
 
+    /**
+     * Continuously append the rows added to the provided Deephaven table to the Iceberg table. Added rows are buffered
+     * as they arrive, written to new data files off the update graph thread, and committed periodically, as described
+     * by the {@code sinkOptions}. The provided table must be a {@link Table#BLINK_TABLE_ATTRIBUTE blink table}, or must
+     * only ever add rows, and must have a definition compatible with the non-partitioning columns of this writer.
+     * <p>
+     * If the table is refreshing, this method must be called from an update graph thread or while holding the update
+     * graph lock, so that the rows already in the table and the rows added later are sunk consistently.
+     *
+     * @param source The Deephaven table whose added rows will be written
+     * @param sinkOptions The options for buffering and committing the rows
+     * @return The sink, which must be {@link IcebergTableSink#close() closed} to stop it
+     */
+    public IcebergTableSink sink(@NotNull final Table source, @NotNull final IcebergSinkOptions sinkOptions) {
+        verifyDefinitionCompatible(List.of(source), nonPartitioningTableDefinition);
+        verifyPartitionPaths(tableSpec, sinkOptions.partitionPath().stream().toList());
+        return new IcebergTableSink(this, source, sinkOptions);
+    }
+
     /**
      * Writes data from Deephaven {@link IcebergWriteInstructions#tables()} to an Iceberg table without creating a new
      * snapshot. This method returns a list of data files that were written. Users can use this list to create a
@@ -404,18 +450,17 @@ public class IcebergTableWriter {
         verifyDefinitionCompatible(writeInstructions.tables(), nonPartitioningTableDefinition);
         final List<String> partitionPaths = writeInstructions.partitionPaths();
         verifyPartitionPaths(tableSpec, partitionPaths);
-        final List<PartitionData> partitionData;
-        final List<CompletedParquetWrite> parquetFileInfo;
+        final List<FileWrite> fileWrites;
         // Start a new query scope to avoid polluting the existing query scope with new parameters added for
         // partitioning columns
         try (final SafeCloseable _ignore =
                 ExecutionContext.getContext().withQueryScope(new StandaloneQueryScope()).open()) {
             final Pair<List<PartitionData>, List<String[]>> ret = partitionDataFromPaths(tableSpec, partitionPaths);
-            partitionData = ret.getFirst();
+            final List<PartitionData> partitionData = ret.getFirst();
             final List<String[]> dhTableUpdateStrings = ret.getSecond();
-            parquetFileInfo = writeTables(partitionData, dhTableUpdateStrings, writeInstructions);
+            fileWrites = writeTables(partitionData, dhTableUpdateStrings, writeInstructions);
         }
-        return dataFilesFromParquet(parquetFileInfo, partitionData);
+        return dataFilesFromParquet(fileWrites);
     }
 
     /**
@@ -560,8 +605,31 @@ public class IcebergTableWriter {
     }
 
     /**
-     * Write the provided Deephaven tables to parquet files and return a list of {@link CompletedParquetWrite} objects
-     * for each table written.
+     * A single data file to be written: a slice of one of the Deephaven tables being written.
+     */
+    private static final class FileWrite {
+        private final Table table;
+        @Nullable
+        private final PartitionData partitionData;
+        @Nullable
+        private final String[] dhTableUpdateString;
+        private CompletedParquetWrite completedWrite;
+
+        private FileWrite(
+                @NotNull final Table table,
+                @Nullable final PartitionData partitionData,
+                @Nullable final String[] dhTableUpdateString) {
+            this.table = table;
+            this.partitionData = partitionData;
+            this.dhTableUpdateString = dhTableUpdateString;
+        }
+    }
+
+    /**
+     * Write the provided Deephaven tables to parquet files and return a {@link FileWrite} for each data file written.
+     * Static tables larger than {@link #maxRowsPerFile(TableDefinition)} are split into multiple data files, and data
+     * files are written in parallel when the {@link ExecutionContext#getOperationInitializer() operation initializer}
+     * allows.
      *
      * @param partitionDataList The list of {@link PartitionData} objects for each table, empty if the table is not
      *        partitioned.
@@ -570,7 +638,7 @@ public class IcebergTableWriter {
      * @param writeInstructions The instructions for customizations while writing.
      */
     @NotNull
-    private List<CompletedParquetWrite> writeTables(
+    private List<FileWrite> writeTables(
             @NotNull final List<PartitionData> partitionDataList,
             @NotNull final List<String[]> dhTableUpdateStrings,
             @NotNull final IcebergWriteInstructions writeInstructions) {
@@ -586,28 +654,168 @@ public class IcebergTableWriter {
             Require.eqZero(dhTableUpdateStrings.size(), "dhTableUpdateStrings.size()");
         }
 
-        // Build the parquet instructions
-        final List<CompletedParquetWrite> parquetFilesWritten = new ArrayList<>(dhTables.size());
-        final ParquetInstructions.OnWriteCompleted onWriteCompleted = parquetFilesWritten::add;
-        final ParquetInstructions parquetInstructions = tableWriterOptions.toParquetInstructions(
-                onWriteCompleted, tableDefinition, fieldIdToColumnName, specialInstructions, channelsProvider);
-
-        // Write the data to parquet files
+        // Split the tables into data files
+        final long maxRowsPerFile = maxRowsPerFile(nonPartitioningTableDefinition);
+        final List<FileWrite> fileWrites = new ArrayList<>();
         final int numTables = dhTables.size();
         for (int idx = 0; idx < numTables; idx++) {
             final Table dhTable = dhTables.get(idx);
-            final PartitionData partitionData;
-            final String[] dhTableUpdateString;
-            if (isPartitioned) {
-                partitionData = partitionDataList.get(idx);
-                dhTableUpdateString = dhTableUpdateStrings.get(idx);
-            } else {
-                partitionData = null;
-                dhTableUpdateString = null;
+            if (dhTable.numColumns() == 0) {
+                // Skip writing empty tables with no columns
+                continue;
+            }
+            final PartitionData partitionData = isPartitioned ? partitionDataList.get(idx) : null;
+            final String[] dhTableUpdateString = isPartitioned ? dhTableUpdateStrings.get(idx) : null;
+            final long size = dhTable.size();
+            if (dhTable.isRefreshing() || size <= maxRowsPerFile) {
+                // Refreshing tables are not split, so that they are written from a single consistent snapshot
+                fileWrites.add(new FileWrite(dhTable, partitionData, dhTableUpdateString));
+                continue;
+            }
+            for (long firstPosition = 0; firstPosition < size; firstPosition += maxRowsPerFile) {
+                fileWrites.add(new FileWrite(
+                        dhTable.slice(firstPosition, Math.min(size, firstPosition + maxRowsPerFile)),
+                        partitionData, dhTableUpdateString));
+            }
+        }
+        if (fileWrites.isEmpty()) {
+            return fileWrites;
+        }
+
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        final JobScheduler jobScheduler = executionContext.getOperationInitializer().canParallelize()
+                && fileWrites.size() > 1
+                        ? new OperationInitializerJobScheduler()
+                        : new ImmediateJobScheduler();
+        // IterationManager invokes exactly one of cleanup (after onComplete) or onError, and only once every write it
+        // started has finished or failed, so no write is still running when the latch is released.
+        final AtomicReference<Exception> exception = new AtomicReference<>();
+        final AtomicBoolean abandoned = new AtomicBoolean();
+        final AtomicBoolean filesDeleted = new AtomicBoolean();
+        final CountDownLatch settled = new CountDownLatch(1);
+        jobScheduler.iterateParallel(executionContext, null, JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                0, fileWrites.size(), (context, fileIdx, nestedErrorConsumer) -> {
+                    final FileWrite fileWrite = fileWrites.get(fileIdx);
+                    final ParquetInstructions.OnWriteCompleted onWriteCompleted =
+                            completedWrite -> fileWrite.completedWrite = completedWrite;
+                    final ParquetInstructions parquetInstructions = tableWriterOptions.toParquetInstructions(
+                            onWriteCompleted, tableDefinition, fieldIdToColumnName, specialInstructions,
+                            channelsProvider);
+                    writeTable(fileWrite.table, isPartitioned, fileWrite.partitionData,
+                            fileWrite.dhTableUpdateString, parquetInstructions);
+                },
+                () -> {
+                },
+                () -> {
+                    if (abandoned.get() && filesDeleted.compareAndSet(false, true)) {
+                        // The caller was interrupted and will never commit these files
+                        deleteCompletedFiles(fileWrites, failure -> {
+                        });
+                    }
+                    settled.countDown();
+                },
+                err -> {
+                    try {
+                        if (filesDeleted.compareAndSet(false, true)) {
+                            deleteCompletedFiles(fileWrites, err::addSuppressed);
+                        }
+                    } finally {
+                        exception.set(err);
+                        settled.countDown();
+                    }
+                });
+        try {
+            settled.await();
+        } catch (final InterruptedException e) {
+            abandoned.set(true);
+            if (settled.getCount() == 0 && exception.get() == null && filesDeleted.compareAndSet(false, true)) {
+                // The writes settled successfully before cleanup could observe that they were abandoned
+                deleteCompletedFiles(fileWrites, failure -> {
+                });
+            }
+            throw new CancellationException("Interrupted while writing data files");
+        }
+        final Exception err = exception.get();
+        if (err != null) {
+            if (err instanceof RuntimeException) {
+                throw (RuntimeException) err;
+            }
+            throw new TableDataException("Failed to write data files", err);
+        }
+        return fileWrites;
+    }
+
+    /**
+     * Delete the data files that were completely written, after the writes they belong to failed or were abandoned, so
+     * that no uncommitted data files are left behind.
+     *
+     * @param fileWrites The file writes, of which those with a {@link FileWrite#completedWrite completed write} are
+     *        deleted
+     * @param onFailure Consumer for any failure to delete a data file
+     */
+    private void deleteCompletedFiles(
+            @NotNull final List<FileWrite> fileWrites,
+            @NotNull final Consumer<Exception> onFailure) {
+        for (final FileWrite fileWrite : fileWrites) {
+            final CompletedParquetWrite completedWrite = fileWrite.completedWrite;
+            if (completedWrite == null) {
+                continue;
+            }
+            try {
+                table.io().deleteFile(completedWrite.destination().toString());
+            } catch (final RuntimeException e) {
+                onFailure.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Compute the maximum number of rows to write to a single data file so that data files are close to the Iceberg
+     * table's {@link TableProperties#WRITE_TARGET_FILE_SIZE_BYTES target file size}. The size of a row is estimated
+     * from the data files already in the table, if any, or else from the uncompressed size of the columns, which
+     * errs toward smaller files.
+     */
+    private long maxRowsPerFile(@NotNull final TableDefinition definition) {
+        final long targetFileSizeBytes = PropertyUtil.propertyAsLong(table.properties(),
+                TableProperties.WRITE_TARGET_FILE_SIZE_BYTES, TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+        long bytesPerRow = 0;
+        final Snapshot currentSnapshot = table.currentSnapshot();
+        if (currentSnapshot != null && currentSnapshot.summary() != null) {
+            final long totalFileSize = PropertyUtil.propertyAsLong(currentSnapshot.summary(),
+                    SnapshotSummary.TOTAL_FILE_SIZE_PROP, 0);
+            final long totalRecords = PropertyUtil.propertyAsLong(currentSnapshot.summary(),
+                    SnapshotSummary.TOTAL_RECORDS_PROP, 0);
+            if (totalFileSize > 0 && totalRecords > 0) {
+                bytesPerRow = totalFileSize / totalRecords;
+            }
+        }
+        if (bytesPerRow <= 0) {
+            for (final ColumnDefinition<?> columnDefinition : definition.getColumns()) {
+                bytesPerRow += estimatedBytes(columnDefinition.getDataType());
             }
-            writeTable(dhTable, isPartitioned, partitionData, dhTableUpdateString, parquetInstructions);
         }
-        return parquetFilesWritten;
+        return Math.max(1, targetFileSizeBytes / Math.max(1, bytesPerRow));
+    }
+
+    /**
+     * The estimated uncompressed size of a single value of the given type.
+     */
+    private static int estimatedBytes(@NotNull final Class<?> dataType) {
+        final Class<?> primitiveType = TypeUtils.getUnboxedTypeIfBoxed(dataType);
+        if (primitiveType == boolean.class || primitiveType == byte.class) {
+            return Byte.BYTES;
+        }
+        if (primitiveType == char.class || primitiveType == short.class) {
+            return Short.BYTES;
+        }
+        if (primitiveType == int.class || primitiveType == float.class || dataType == LocalDate.class) {
+            return Integer.BYTES;
+        }
+        if (primitiveType == long.class || primitiveType == double.class || dataType == Instant.class
+                || dataType == LocalDateTime.class || dataType == LocalTime.class) {
+            return Long.BYTES;
+        }
+        return ESTIMATED_OBJECT_BYTES;
     }
 
     /**
@@ -625,10 +833,6 @@ public class IcebergTableWriter {
             @Nullable final PartitionData partitionData,
             @Nullable final String[] dhTableUpdateString,
             @NotNull final ParquetInstructions parquetInstructions) {
-        if (dhTable.numColumns() == 0) {
-            // Skip writing empty tables with no columns
-            return;
-        }
         try (final SafeCloseable ignored = LivenessScopeStack.open()) {
             final String newDataLocation;
             Table dhTableToWrite = dhTable;
@@ -669,11 +873,22 @@ public class IcebergTableWriter {
      * Commit the changes to the Iceberg table by creating a snapshot.
      */
     private void commit(@NotNull final Iterable<DataFile> dataFiles) {
+        commit(dataFiles, Map.of());
+    }
+
+    /**
+     * Commit the changes to the Iceberg table by creating a snapshot, recording the provided properties in the snapshot
+     * summary.
+     */
+    void commit(
+            @NotNull final Iterable<DataFile> dataFiles,
+            @NotNull final Map<String, String> summaryProperties) {
         final Transaction icebergTransaction = table.newTransaction();
 
         // Append the new data files to the table
         final AppendFiles append = icebergTransaction.newAppend();
         dataFiles.forEach(append::appendFile);
+        summaryProperties.forEach(append::set);
         append.commit();
 
         // Commit the transaction, creating new snapshot
@@ -683,14 +898,12 @@ public class IcebergTableWriter {
     /**
      * Generate a list of {@link DataFile} objects from a list of parquet files written.
      */
-    private List<DataFile> dataFilesFromParquet(
-            @NotNull final List<CompletedParquetWrite> parquetFilesWritten,
-            @NotNull final List<PartitionData> partitionDataList) {
-        final int numFiles = parquetFilesWritten.size();
+    private List<DataFile> dataFilesFromParquet(@NotNull final List<FileWrite> fileWrites) {
+        final int numFiles = fileWrites.size();
         final List<DataFile> dataFiles = new ArrayList<>(numFiles);
         final PartitionSpec partitionSpec = tableSpec;
-        for (int idx = 0; idx < numFiles; idx++) {
-            final CompletedParquetWrite completedWrite = parquetFilesWritten.get(idx);
+        for (final FileWrite fileWrite : fileWrites) {
+            final CompletedParquetWrite completedWrite = Objects.requireNonNull(fileWrite.completedWrite);
             final DataFiles.Builder dataFileBuilder = DataFiles.builder(partitionSpec)
                     .withPath(completedWrite.destination().toString())
                     .withFormat(FileFormat.PARQUET)
@@ -698,7 +911,7 @@ public class IcebergTableWriter {
                     .withFileSizeInBytes(completedWrite.numBytes())
                     .withSortOrder(sortOrderToWrite);
             if (partitionSpec.isPartitioned()) {
-                dataFileBuilder.withPartition(partitionDataList.get(idx));
+                dataFileBuilder.withPartition(fileWrite.partitionData);
             }
             dataFiles.add(dataFileBuilder.build());
         }
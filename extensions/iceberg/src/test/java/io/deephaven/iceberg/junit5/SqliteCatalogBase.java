@@ -8,23 +8,31 @@ import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.exceptions.TableInitializationException;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.PartitionAwareSourceTable;
+import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.select.FormulaEvaluationException;
 import io.deephaven.engine.table.impl.util.ColumnHolder;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.iceberg.base.IcebergTestUtils;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.iceberg.sqlite.CommitStateUnknownJdbcCatalog;
 import io.deephaven.iceberg.sqlite.SqliteHelper;
 import io.deephaven.iceberg.util.IcebergCatalogAdapter;
 import io.deephaven.iceberg.util.IcebergReadInstructions;
+import io.deephaven.iceberg.util.IcebergSinkOptions;
 import io.deephaven.iceberg.util.IcebergTableAdapter;
 import io.deephaven.iceberg.util.IcebergTableImpl;
+import io.deephaven.iceberg.util.IcebergTableSink;
 import io.deephaven.iceberg.util.IcebergTableWriter;
+import io.deephaven.iceberg.util.IcebergTools;
 import io.deephaven.iceberg.util.IcebergUpdateMode;
 import io.deephaven.iceberg.util.IcebergWriteInstructions;
 import io.deephaven.iceberg.util.InferenceInstructions;
@@ -57,13 +65,19 @@ import io.deephaven.vector.ObjectVectorDirect;
 import io.deephaven.vector.ShortVector;
 import io.deephaven.vector.ShortVectorDirect;
 import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.MetadataTableType;
+import org.apache.iceberg.Metrics;
 import org.apache.iceberg.NullOrder;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SortOrder;
@@ -72,11 +86,14 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.SupportsPrefixOperations;
 import org.apache.iceberg.mapping.MappedFields;
 import org.apache.iceberg.mapping.MappingUtil;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Types;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
@@ -91,7 +108,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -278,6 +297,66 @@ public abstract class SqliteCatalogBase {
         verifySnapshots(tableIdentifier, List.of("append", "append", "append", "append"));
     }
 
+    @Test
+    void appendRollsDataFilesByTargetSize() {
+        final Table source = TableTools.emptyTable(100)
+                .update("intCol = (int) 2 * i + 10",
+                        "doubleCol = (double) 2.5 * i + 10");
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.MyTable");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, source.getDefinition());
+        // With no data files to take the row size from, each row is estimated at 12 bytes, or 8 rows per file
+        tableAdapter.icebergTable().updateProperties()
+                .set(TableProperties.WRITE_TARGET_FILE_SIZE_BYTES, "100")
+                .commit();
+        final IcebergTableWriter tableWriter = tableAdapter.tableWriter(writerOptionsBuilder()
+                .tableDefinition(source.getDefinition())
+                .build());
+        final List<DataFile> dataFiles = tableWriter.writeDataFiles(IcebergWriteInstructions.builder()
+                .addTables(source)
+                .build());
+        assertThat(dataFiles).hasSize(13);
+        assertThat(dataFiles).map(DataFile::recordCount).allMatch(recordCount -> recordCount <= 8);
+
+        final AppendFiles append = tableAdapter.icebergTable().newAppend();
+        dataFiles.forEach(append::appendFile);
+        append.commit();
+        assertTableEquals(source, tableAdapter.table().sort("intCol"));
+    }
+
+    @Test
+    void failedWriteDeletesCompletedDataFiles() {
+        // Only the last few of the one-row data files fail to write
+        final Table badSource = TableTools.emptyTable(100)
+                .updateView(
+                        "stringCol = ii < 95 ? Long.toString(ii) : null",
+                        "intCol = (int) stringCol.charAt(0)");
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.MyTable");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, badSource.getDefinition());
+        tableAdapter.icebergTable().updateProperties()
+                .set(TableProperties.WRITE_TARGET_FILE_SIZE_BYTES, "1")
+                .commit();
+        final IcebergTableWriter tableWriter = tableAdapter.tableWriter(writerOptionsBuilder()
+                .tableDefinition(badSource.getDefinition())
+                .build());
+        try {
+            tableWriter.writeDataFiles(IcebergWriteInstructions.builder()
+                    .addTables(badSource)
+                    .build());
+            failBecauseExceptionWasNotThrown(UncheckedDeephavenException.class);
+        } catch (UncheckedDeephavenException e) {
+            // Exception expected for invalid formula in table
+            assertThat(e).cause().isInstanceOf(UncheckedDeephavenException.class);
+            assertThat(e).cause().cause().isInstanceOf(FormulaEvaluationException.class);
+        }
+
+        final org.apache.iceberg.Table icebergTable = tableAdapter.icebergTable();
+        if (icebergTable.io() instanceof SupportsPrefixOperations) {
+            final Iterable<FileInfo> files =
+                    ((SupportsPrefixOperations) icebergTable.io()).listPrefix(icebergTable.location());
+            assertThat(files).map(FileInfo::location).noneMatch(location -> location.endsWith(".parquet"));
+        }
+    }
+
     private void verifySnapshots(final TableIdentifier tableIdentifier, final List<String> expectedOperations) {
         final Iterable<Snapshot> snapshots = catalogAdapter.catalog().loadTable(tableIdentifier).snapshots();
         assertThat(snapshots).map(Snapshot::operation).isEqualTo(expectedOperations);
@@ -2296,6 +2375,155 @@ public abstract class SqliteCatalogBase {
         assertTableEquals(expected, tableAdapter.table());
     }
 
+    @Test
+    void sinkRefreshingTable() {
+        final QueryTable source = TstUtils.testRefreshingTable(
+                RowSetFactory.flat(4).toTracking(),
+                intCol("intCol", 1, 2, 3, 4),
+                doubleCol("doubleCol", 1.5, 2.5, 3.5, 4.5));
+        source.setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.MyTable");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, source.getDefinition());
+        final IcebergTableWriter tableWriter = tableAdapter.tableWriter(writerOptionsBuilder()
+                .tableDefinition(source.getDefinition())
+                .build());
+        final IcebergSinkOptions sinkOptions = IcebergSinkOptions.builder()
+                .sinkId("MySink")
+                .maxRowsPerFile(3)
+                .commitInterval(Duration.ofHours(1))
+                .build();
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        try (final IcebergTableSink sink =
+                updateGraph.sharedLock().computeLocked(() -> tableWriter.sink(source, sinkOptions))) {
+            assertThat(sink.lastCommittedSequence()).isZero();
+            sink.flush();
+            assertThat(sink.lastCommittedSequence()).isEqualTo(1);
+            assertTableEquals(source, tableAdapter.table());
+
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromRange(4, 8);
+                TstUtils.addToTable(source, added,
+                        intCol("intCol", 5, 6, 7, 8, 9),
+                        doubleCol("doubleCol", 5.5, 6.5, 7.5, 8.5, 9.5));
+                source.notifyListeners(added, RowSetFactory.empty(), RowSetFactory.empty());
+            });
+            // Flushing again without new rows does not commit
+            sink.flush();
+            sink.flush();
+            assertThat(sink.lastCommittedSequence()).isEqualTo(2);
+            assertTableEquals(source, tableAdapter.table());
+        }
+        verifySnapshots(tableIdentifier, List.of("append", "append"));
+        final Snapshot lastSnapshot = catalogAdapter.catalog().loadTable(tableIdentifier).currentSnapshot();
+        assertThat(lastSnapshot.summary())
+                .containsEntry(IcebergTableSink.SINK_ID_PROPERTY, "MySink")
+                .containsEntry(IcebergTableSink.SINK_SEQUENCE_PROPERTY, "2");
+
+        // A new sink with the same id resumes the sequence
+        try (final IcebergTableSink sink = tableWriter.sink(TableTools.emptyTable(0)
+                .update("intCol = (int) i", "doubleCol = (double) i"), sinkOptions)) {
+            assertThat(sink.lastCommittedSequence()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void sinkResumesAfterCommittedRows() {
+        final QueryTable source = TstUtils.testRefreshingTable(
+                RowSetFactory.flat(4).toTracking(),
+                intCol("intCol", 1, 2, 3, 4),
+                doubleCol("doubleCol", 1.5, 2.5, 3.5, 4.5));
+        source.setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.MyTable");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, source.getDefinition());
+        final IcebergTableWriter tableWriter = tableAdapter.tableWriter(writerOptionsBuilder()
+                .tableDefinition(source.getDefinition())
+                .build());
+        final IcebergSinkOptions sinkOptions = IcebergSinkOptions.builder()
+                .sinkId("MySink")
+                .commitInterval(Duration.ofHours(1))
+                .build();
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        try (final IcebergTableSink sink =
+                updateGraph.sharedLock().computeLocked(() -> tableWriter.sink(source, sinkOptions))) {
+            sink.flush();
+            assertThat(sink.lastCommittedOffset()).isEqualTo(4);
+        }
+
+        // A restarted sink is given the rows committed before, followed by new rows; only the new rows are committed
+        final Table restartedSource = TableTools.newTable(
+                intCol("intCol", 1, 2, 3, 4, 5, 6),
+                doubleCol("doubleCol", 1.5, 2.5, 3.5, 4.5, 5.5, 6.5));
+        try (final IcebergTableSink sink = tableWriter.sink(restartedSource, sinkOptions)) {
+            assertThat(sink.lastCommittedSequence()).isEqualTo(1);
+            assertThat(sink.lastCommittedOffset()).isEqualTo(4);
+            sink.flush();
+            assertThat(sink.lastCommittedSequence()).isEqualTo(2);
+            assertThat(sink.lastCommittedOffset()).isEqualTo(6);
+        }
+        verifySnapshots(tableIdentifier, List.of("append", "append"));
+        assertTableEquals(restartedSource, tableAdapter.table().sort("intCol"));
+        final Snapshot lastSnapshot = catalogAdapter.catalog().loadTable(tableIdentifier).currentSnapshot();
+        assertThat(lastSnapshot.summary()).containsEntry(IcebergTableSink.SINK_OFFSET_PROPERTY, "6");
+
+        // Restarting with no new rows commits nothing
+        try (final IcebergTableSink sink = tableWriter.sink(restartedSource, sinkOptions)) {
+            sink.flush();
+            assertThat(sink.lastCommittedSequence()).isEqualTo(2);
+        }
+        verifySnapshots(tableIdentifier, List.of("append", "append"));
+    }
+
+    @Test
+    void sinkRetriesOnlyCommitsThatDidNotLand(@TempDir final Path otherRootDir) throws Exception {
+        final String catalogName = "commit-state-unknown-catalog";
+        final Map<String, String> properties = new HashMap<>();
+        properties.put(CatalogProperties.CATALOG_IMPL, CommitStateUnknownJdbcCatalog.class.getName());
+        properties.put(CatalogProperties.URI, String.format("jdbc:sqlite:%s", otherRootDir.resolve("catalog.db")));
+        SqliteHelper.setLocalFileIoProperties(properties, otherRootDir, catalogName, false);
+        try (final IcebergCatalogAdapter failingAdapter = IcebergTools.createAdapter(catalogName, properties)) {
+            final CommitStateUnknownJdbcCatalog catalog = (CommitStateUnknownJdbcCatalog) failingAdapter.catalog();
+            final Table source = TableTools.newTable(
+                    intCol("intCol", 1, 2, 3),
+                    doubleCol("doubleCol", 1.5, 2.5, 3.5));
+            final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.MyTable");
+            final IcebergTableAdapter tableAdapter = failingAdapter.createTable(tableIdentifier, source.getDefinition());
+            final IcebergTableWriter tableWriter = tableAdapter.tableWriter(TableParquetWriterOptions.builder()
+                    .tableDefinition(source.getDefinition())
+                    .build());
+            final IcebergSinkOptions sinkOptions = IcebergSinkOptions.builder()
+                    .sinkId("MySink")
+                    .commitInterval(Duration.ofHours(1))
+                    .build();
+
+            // The commit lands, but its outcome is unknown to the sink, which must not commit it again
+            catalog.failNextCommit(CommitStateUnknownJdbcCatalog.Failure.AFTER_COMMIT);
+            try (final IcebergTableSink sink = tableWriter.sink(source, sinkOptions)) {
+                sink.flush();
+                assertThat(sink.lastCommittedSequence()).isEqualTo(1);
+                assertThat(sink.lastCommittedOffset()).isEqualTo(3);
+            }
+            tableAdapter.icebergTable().refresh();
+            assertThat(tableAdapter.icebergTable().snapshots()).hasSize(1);
+            assertTableEquals(source, tableAdapter.table().sort("intCol"));
+
+            // The commit does not land, and its outcome is unknown to the sink, which must commit it again
+            final Table moreSource = TableTools.newTable(
+                    intCol("intCol", 1, 2, 3, 4, 5),
+                    doubleCol("doubleCol", 1.5, 2.5, 3.5, 4.5, 5.5));
+            catalog.failNextCommit(CommitStateUnknownJdbcCatalog.Failure.BEFORE_COMMIT);
+            try (final IcebergTableSink sink = tableWriter.sink(moreSource, sinkOptions)) {
+                sink.flush();
+                assertThat(sink.lastCommittedSequence()).isEqualTo(2);
+                assertThat(sink.lastCommittedOffset()).isEqualTo(5);
+            }
+            tableAdapter.icebergTable().refresh();
+            assertThat(tableAdapter.icebergTable().snapshots()).hasSize(2);
+            assertTableEquals(moreSource, tableAdapter.table().sort("intCol"));
+        }
+    }
+
     @Test
     void testAutomaticRefreshingAppend() throws InterruptedException {
         final Table source = TableTools.emptyTable(10)
@@ -3407,4 +3635,234 @@ public abstract class SqliteCatalogBase {
     }
 
     /*--- End of tests for schema evolution ---*/
+
+    /*--- Tests for delete files ---*/
+
+    private static final TableDefinition DELETES_TEST_DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofInt("Id"),
+            ColumnDefinition.ofString("Name"));
+
+    private static final TableDefinition PARTITIONED_DELETES_TEST_DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofInt("Id"),
+            ColumnDefinition.ofString("Name"),
+            ColumnDefinition.ofString("PC").withPartitioning());
+
+    private static Table deletesTestSource(final int firstId, final int numRows) {
+        return TableTools.emptyTable(numRows).update("Id = (int) i + " + firstId, "Name = `N` + Id");
+    }
+
+    private List<DataFile> writeDataFiles(
+            final IcebergTableAdapter tableAdapter,
+            final TableDefinition definition,
+            final List<String> partitionPaths,
+            final Table... sources) {
+        final IcebergTableWriter tableWriter = tableAdapter.tableWriter(writerOptionsBuilder()
+                .tableDefinition(definition)
+                .build());
+        final List<DataFile> dataFiles = tableWriter.writeDataFiles(IcebergWriteInstructions.builder()
+                .addTables(sources)
+                .addAllPartitionPaths(partitionPaths)
+                .build());
+        assertThat(dataFiles).hasSize(sources.length);
+        return dataFiles;
+    }
+
+    private static void appendDataFiles(final IcebergTableAdapter tableAdapter, final List<DataFile> dataFiles) {
+        final AppendFiles append = tableAdapter.icebergTable().newAppend();
+        dataFiles.forEach(append::appendFile);
+        append.commit();
+    }
+
+    /**
+     * Write {@code deletes} as a parquet delete file of {@code tableAdapter}'s table, with the given field ids for its
+     * columns.
+     */
+    private DeleteFile writeDeleteFile(
+            final IcebergTableAdapter tableAdapter,
+            final Table deletes,
+            final Map<String, Integer> columnFieldIds,
+            final Consumer<FileMetadata.Builder> deleteFileConfigurer) {
+        final org.apache.iceberg.Table table = tableAdapter.icebergTable();
+        final String location = OutputFileFactory.builderFor(table, 0, 0)
+                .format(FileFormat.PARQUET)
+                .build()
+                .newOutputFile()
+                .encryptingOutputFile()
+                .location();
+        final CompletedParquetWrite[] completed = new CompletedParquetWrite[1];
+        final ParquetInstructions.Builder instructions = ParquetInstructions.builder()
+                .setTableDefinition(deletes.getDefinition())
+                .setSpecialInstructions(dataInstructions())
+                .setOnWriteCompleted(cpw -> completed[0] = cpw);
+        columnFieldIds.forEach(instructions::setFieldId);
+        ParquetTools.writeTable(deletes, location, instructions.build());
+        final FileMetadata.Builder builder = FileMetadata.deleteFileBuilder(table.spec())
+                .withFormat(FileFormat.PARQUET)
+                .withPath(completed[0].destination().toString())
+                .withRecordCount(completed[0].numRows())
+                .withFileSizeInBytes(completed[0].numBytes());
+        deleteFileConfigurer.accept(builder);
+        return builder.build();
+    }
+
+    /**
+     * Write a position delete file of the given rows, each deleting the position {@code positions[i]} of the data file
+     * at {@code dataFileLocations[i]}. The rows must be sorted by data file location, then position.
+     */
+    private DeleteFile writePositionDeletes(
+            final IcebergTableAdapter tableAdapter,
+            final String[] dataFileLocations,
+            final long[] positions,
+            final Consumer<FileMetadata.Builder> deleteFileConfigurer) {
+        final Table deletes = TableTools.newTable(
+                stringCol("file_path", dataFileLocations),
+                longCol("pos", positions));
+        return writeDeleteFile(tableAdapter, deletes, Map.of(
+                "file_path", MetadataColumns.DELETE_FILE_PATH.fieldId(),
+                "pos", MetadataColumns.DELETE_FILE_POS.fieldId()),
+                builder -> deleteFileConfigurer.accept(builder.ofPositionDeletes()));
+    }
+
+    /**
+     * Write an equality delete file that deletes the rows with the given values of the {@code Id} column.
+     */
+    private DeleteFile writeIdEqualityDeletes(
+            final IcebergTableAdapter tableAdapter,
+            final Consumer<FileMetadata.Builder> deleteFileConfigurer,
+            final int... ids) {
+        final int idFieldId = tableAdapter.icebergTable().schema().findField("Id").fieldId();
+        return writeDeleteFile(tableAdapter, TableTools.newTable(intCol("Id", ids)), Map.of("Id", idFieldId),
+                builder -> deleteFileConfigurer.accept(builder.ofEqualityDeletes(idFieldId)));
+    }
+
+    private static void commitDeletes(final IcebergTableAdapter tableAdapter, final DeleteFile... deleteFiles) {
+        final RowDelta rowDelta = tableAdapter.icebergTable().newRowDelta();
+        for (final DeleteFile deleteFile : deleteFiles) {
+            rowDelta.addDeletes(deleteFile);
+        }
+        rowDelta.commit();
+    }
+
+    @Test
+    void positionDeletes() {
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.PositionDeletes");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, DELETES_TEST_DEFINITION);
+        final Table source1 = deletesTestSource(0, 10);
+        final Table source2 = deletesTestSource(10, 10);
+        final List<DataFile> dataFiles =
+                writeDataFiles(tableAdapter, DELETES_TEST_DEFINITION, List.of(), source1, source2);
+        appendDataFiles(tableAdapter, dataFiles);
+        final String location1 = dataFiles.get(0).location();
+        final String location2 = dataFiles.get(1).location();
+        final boolean location1First = location1.compareTo(location2) < 0;
+
+        // One delete file deletes from both data files, and another only from the second
+        commitDeletes(tableAdapter,
+                writePositionDeletes(tableAdapter,
+                        location1First
+                                ? new String[] {location1, location1, location2}
+                                : new String[] {location2, location1, location1},
+                        location1First ? new long[] {0, 5, 9} : new long[] {9, 0, 5},
+                        builder -> {
+                        }));
+        commitDeletes(tableAdapter, writePositionDeletes(tableAdapter,
+                new String[] {location2, location2},
+                new long[] {3, 4},
+                builder -> builder.withReferencedDataFile(location2)));
+        final Table expected = TableTools.merge(source1, source2).where("!(Id in 0, 5, 13, 14, 19)");
+        assertTableEquals(expected, tableAdapter.table().sort("Id"));
+
+        // The file_path bounds of a delete file exclude the data files it cannot delete from; such a delete file is
+        // not read for them, even if (contrary to its bounds) it lists their positions
+        final String boundLocation = "file:/not/a/data/file.parquet";
+        final ByteBuffer bound = Conversions.toByteBuffer(Types.StringType.get(), boundLocation);
+        final int filePathFieldId = MetadataColumns.DELETE_FILE_PATH.fieldId();
+        commitDeletes(tableAdapter, writePositionDeletes(tableAdapter,
+                new String[] {location1},
+                new long[] {1},
+                builder -> builder.withMetrics(new Metrics(1L, null, null, null, null,
+                        Map.of(filePathFieldId, bound), Map.of(filePathFieldId, bound)))));
+        assertTableEquals(expected, tableAdapter.table().sort("Id"));
+    }
+
+    @Test
+    void equalityDeletes() {
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.EqualityDeletes");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, DELETES_TEST_DEFINITION);
+        final Table source1 = deletesTestSource(0, 10);
+        final Table source2 = deletesTestSource(10, 10);
+        appendDataFiles(tableAdapter,
+                writeDataFiles(tableAdapter, DELETES_TEST_DEFINITION, List.of(), source1, source2));
+
+        // The table is unpartitioned, so its equality deletes are global, and apply to both data files
+        commitDeletes(tableAdapter, writeIdEqualityDeletes(tableAdapter, builder -> {
+        }, 2, 11, 12, 100));
+        final Table merged = TableTools.merge(source1, source2);
+        assertTableEquals(merged.where("!(Id in 2, 11, 12)"), tableAdapter.table().sort("Id"));
+
+        // Equality deletes with more than one row per value
+        commitDeletes(tableAdapter, writeIdEqualityDeletes(tableAdapter, builder -> {
+        }, 3, 3, 19));
+        assertTableEquals(merged.where("!(Id in 2, 3, 11, 12, 19)"), tableAdapter.table().sort("Id"));
+    }
+
+    @Test
+    void deleteSequenceNumbers() {
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.DeleteSequenceNumbers");
+        final IcebergTableAdapter tableAdapter = catalogAdapter.createTable(tableIdentifier, DELETES_TEST_DEFINITION);
+        final Table source1 = deletesTestSource(0, 5);
+        appendDataFiles(tableAdapter, writeDataFiles(tableAdapter, DELETES_TEST_DEFINITION, List.of(), source1));
+        commitDeletes(tableAdapter, writeIdEqualityDeletes(tableAdapter, builder -> {
+        }, 1, 6));
+
+        // Data appended after an equality delete file is not deleted by it
+        final Table source2 = deletesTestSource(5, 5);
+        appendDataFiles(tableAdapter, writeDataFiles(tableAdapter, DELETES_TEST_DEFINITION, List.of(), source2));
+        assertTableEquals(TableTools.merge(source1.where("Id != 1"), source2), tableAdapter.table().sort("Id"));
+
+        // Position deletes committed with their data file apply to it, while equality deletes do not
+        final Table source3 = deletesTestSource(10, 5);
+        final DataFile dataFile3 =
+                writeDataFiles(tableAdapter, DELETES_TEST_DEFINITION, List.of(), source3).get(0);
+        tableAdapter.icebergTable().newRowDelta()
+                .addRows(dataFile3)
+                .addDeletes(writePositionDeletes(tableAdapter,
+                        new String[] {dataFile3.location()},
+                        new long[] {0},
+                        builder -> {
+                        }))
+                .addDeletes(writeIdEqualityDeletes(tableAdapter, builder -> {
+                }, 12))
+                .commit();
+        assertTableEquals(
+                TableTools.merge(source1.where("Id != 1"), source2, source3.where("Id != 10")),
+                tableAdapter.table().sort("Id"));
+    }
+
+    @Test
+    void partitionScopedDeletes() {
+        final TableIdentifier tableIdentifier = TableIdentifier.parse("MyNamespace.PartitionScopedDeletes");
+        final IcebergTableAdapter tableAdapter =
+                catalogAdapter.createTable(tableIdentifier, PARTITIONED_DELETES_TEST_DEFINITION);
+        final Table cat = deletesTestSource(0, 5);
+        final Table dog = deletesTestSource(0, 5);
+        final List<DataFile> dataFiles = writeDataFiles(tableAdapter, PARTITIONED_DELETES_TEST_DEFINITION,
+                List.of("PC=cat", "PC=dog"), cat, dog);
+        appendDataFiles(tableAdapter, dataFiles);
+        final String dogLocation = dataFiles.get(1).location();
+
+        // Each delete file applies only to the data files of its own partition
+        commitDeletes(tableAdapter,
+                writeIdEqualityDeletes(tableAdapter, builder -> builder.withPartitionPath("PC=cat"), 1, 3),
+                writePositionDeletes(tableAdapter,
+                        new String[] {dogLocation},
+                        new long[] {4},
+                        builder -> builder.withPartitionPath("PC=dog")));
+        final Table expected = TableTools.merge(
+                cat.where("!(Id in 1, 3)").update("PC = `cat`"),
+                dog.where("Id != 4").update("PC = `dog`"));
+        assertTableEquals(expected, tableAdapter.table().select().sort("PC", "Id"));
+    }
+
+    /*--- End of tests for delete files ---*/
 }
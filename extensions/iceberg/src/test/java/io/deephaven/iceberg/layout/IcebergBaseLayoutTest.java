@@ -0,0 +1,266 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.layout;
+
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.locations.impl.StandaloneTableKey;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.iceberg.base.IcebergUtils;
+import io.deephaven.iceberg.location.IcebergTableLocationKey;
+import io.deephaven.iceberg.location.IcebergTableParquetLocationKey;
+import io.deephaven.iceberg.sqlite.SqliteHelper;
+import io.deephaven.iceberg.util.IcebergCatalogAdapter;
+import io.deephaven.iceberg.util.IcebergReadInstructions;
+import io.deephaven.iceberg.util.IcebergTableAdapter;
+import io.deephaven.iceberg.util.IcebergTools;
+import io.deephaven.iceberg.util.IcebergUpdateMode;
+import io.deephaven.iceberg.util.IcebergWriteInstructions;
+import io.deephaven.iceberg.util.TableParquetWriterOptions;
+import io.deephaven.parquet.table.CompletedParquetWrite;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.deephaven.engine.util.TableTools.longCol;
+import static io.deephaven.engine.util.TableTools.stringCol;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IcebergBaseLayout#findKeyChanges}, which refreshing tables use to find the locations added and
+ * removed by each new snapshot.
+ */
+@Tag("security-manager-allow")
+class IcebergBaseLayoutTest {
+
+    private static final TableDefinition DEFINITION = TableDefinition.of(ColumnDefinition.ofInt("Id"));
+
+    private final EngineCleanup engineCleanup = new EngineCleanup();
+
+    private IcebergCatalogAdapter catalogAdapter;
+    private IcebergTableAdapter tableAdapter;
+    private IcebergBaseLayout layout;
+
+    private final List<IcebergTableLocationKey> addedKeys = new ArrayList<>();
+    private final List<IcebergTableLocationKey> removedKeys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp(final TestInfo testInfo, @TempDir final Path rootDir) throws Exception {
+        engineCleanup.setUp();
+        final String catalogName = testInfo.getTestMethod().orElseThrow().getName() + "-catalog";
+        final Map<String, String> properties = new HashMap<>();
+        SqliteHelper.setJdbcCatalogProperties(properties, rootDir);
+        SqliteHelper.setLocalFileIoProperties(properties, rootDir, catalogName, false);
+        catalogAdapter = IcebergTools.createAdapter(catalogName, properties);
+        tableAdapter = catalogAdapter.createTable(TableIdentifier.parse("MyNamespace.KeyChanges"), DEFINITION);
+        layout = tableAdapter.provider(StandaloneTableKey.getInstance(), IcebergReadInstructions.builder()
+                .updateMode(IcebergUpdateMode.manualRefreshingMode())
+                .build()).locationKeyFinder;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        engineCleanup.tearDown();
+        catalogAdapter.close();
+    }
+
+    /**
+     * Write a data file of {@code numRows} rows, and commit it in a manifest of its own.
+     */
+    private DataFile append(final int firstId, final int numRows) {
+        final Table source = TableTools.emptyTable(numRows).update("Id = (int) i + " + firstId);
+        final DataFile dataFile = tableAdapter.tableWriter(TableParquetWriterOptions.builder()
+                .tableDefinition(DEFINITION)
+                .build())
+                .writeDataFiles(IcebergWriteInstructions.builder()
+                        .addTables(source)
+                        .build())
+                .get(0);
+        tableAdapter.icebergTable().newFastAppend().appendFile(dataFile).commit();
+        return dataFile;
+    }
+
+    /**
+     * Commit a position delete file that deletes the first row of {@code dataFile}, and no other data file.
+     */
+    private void deleteFirstRow(final DataFile dataFile) {
+        final org.apache.iceberg.Table table = tableAdapter.icebergTable();
+        final String location = OutputFileFactory.builderFor(table, 0, 0)
+                .format(FileFormat.PARQUET)
+                .build()
+                .newOutputFile()
+                .encryptingOutputFile()
+                .location();
+        final CompletedParquetWrite[] completed = new CompletedParquetWrite[1];
+        ParquetTools.writeTable(
+                TableTools.newTable(stringCol("file_path", dataFile.location()), longCol("pos", 0)),
+                location,
+                ParquetInstructions.builder()
+                        .setFieldId("file_path", MetadataColumns.DELETE_FILE_PATH.fieldId())
+                        .setFieldId("pos", MetadataColumns.DELETE_FILE_POS.fieldId())
+                        .setOnWriteCompleted(cpw -> completed[0] = cpw)
+                        .build());
+        final DeleteFile deleteFile = FileMetadata.deleteFileBuilder(table.spec())
+                .ofPositionDeletes()
+                .withReferencedDataFile(dataFile.location())
+                .withFormat(FileFormat.PARQUET)
+                .withPath(completed[0].destination().toString())
+                .withRecordCount(completed[0].numRows())
+                .withFileSizeInBytes(completed[0].numBytes())
+                .build();
+        table.newRowDelta().addDeletes(deleteFile).commit();
+    }
+
+    /**
+     * Move the layout to the table's current snapshot, recording the keys it adds and removes.
+     */
+    private void refresh() {
+        addedKeys.clear();
+        removedKeys.clear();
+        layout.maybeUpdateSnapshot();
+        layout.findKeyChanges(addedKeys::add, removedKeys::add);
+    }
+
+    private List<URI> uris(final DataFile... dataFiles) {
+        final org.apache.iceberg.Table table = tableAdapter.icebergTable();
+        return Arrays.stream(dataFiles)
+                .map(dataFile -> IcebergUtils.dataFileUri(table, dataFile))
+                .collect(Collectors.toList());
+    }
+
+    private static List<URI> uris(final List<IcebergTableLocationKey> keys) {
+        return keys.stream()
+                .map(key -> ((IcebergTableParquetLocationKey) key).getURI())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void addedAndRemovedManifests() {
+        final DataFile dataFile1 = append(0, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile1).get(0));
+        assertThat(removedKeys).isEmpty();
+        final List<IcebergTableLocationKey> keys1 = List.copyOf(addedKeys);
+
+        // Only the new manifest's key is added
+        final DataFile dataFile2 = append(5, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile2).get(0));
+        assertThat(removedKeys).isEmpty();
+        final List<IcebergTableLocationKey> keys2 = List.copyOf(addedKeys);
+
+        // Removing a data file replaces its manifest with one that has no live files
+        tableAdapter.icebergTable().newDelete().deleteFile(dataFile1).commit();
+        refresh();
+        assertThat(addedKeys).isEmpty();
+        assertThat(removedKeys).containsExactlyElementsOf(keys1);
+
+        tableAdapter.icebergTable().newDelete().deleteFile(dataFile2).commit();
+        refresh();
+        assertThat(addedKeys).isEmpty();
+        assertThat(removedKeys).containsExactlyElementsOf(keys2);
+    }
+
+    @Test
+    void rolledBackSnapshot() {
+        final DataFile dataFile1 = append(0, 5);
+        final long snapshotId1 = tableAdapter.icebergTable().currentSnapshot().snapshotId();
+        final DataFile dataFile2 = append(5, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactlyInAnyOrderElementsOf(uris(dataFile1, dataFile2));
+        final IcebergTableLocationKey key2 = addedKeys.stream()
+                .filter(key -> uris(List.of(key)).equals(uris(dataFile2)))
+                .findFirst()
+                .orElseThrow();
+
+        // Roll back the second append, and commit a third on top of the first; the layout moves straight from the
+        // second snapshot to the fourth, and must drop the rolled back file along with adding the new one
+        tableAdapter.icebergTable().manageSnapshots().rollbackTo(snapshotId1).commit();
+        final DataFile dataFile3 = append(10, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile3).get(0));
+        assertThat(removedKeys).containsExactly(key2);
+    }
+
+    @Test
+    void rewrittenManifests() {
+        final DataFile dataFile1 = append(0, 5);
+        final DataFile dataFile2 = append(5, 5);
+        refresh();
+        final List<IcebergTableLocationKey> keys = List.copyOf(addedKeys);
+        assertThat(uris(keys)).containsExactlyInAnyOrderElementsOf(uris(dataFile1, dataFile2));
+
+        // Compacting the two manifests into one moves both files to a new manifest, with a new sequence number, so
+        // their keys are replaced
+        tableAdapter.icebergTable().rewriteManifests().rewriteIf(manifest -> true).commit();
+        assertThat(tableAdapter.icebergTable().currentSnapshot().dataManifests(tableAdapter.icebergTable().io()))
+                .hasSize(1);
+        refresh();
+        assertThat(removedKeys).containsExactlyInAnyOrderElementsOf(keys);
+        assertThat(uris(addedKeys)).containsExactlyInAnyOrderElementsOf(uris(dataFile1, dataFile2));
+        assertThat(addedKeys).doesNotContainAnyElementsOf(keys);
+
+        // The rewritten manifest is not read again while it remains part of the snapshot
+        final DataFile dataFile3 = append(10, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile3).get(0));
+        assertThat(removedKeys).isEmpty();
+    }
+
+    @Test
+    void changedDeleteManifests() {
+        final DataFile dataFile1 = append(0, 5);
+        final DataFile dataFile2 = append(5, 5);
+        refresh();
+        final IcebergTableLocationKey key1 = addedKeys.stream()
+                .filter(key -> uris(List.of(key)).equals(uris(dataFile1)))
+                .findFirst()
+                .orElseThrow();
+
+        // A new delete manifest re-reads every data manifest; only the key of the data file whose deletes changed is
+        // replaced, while the other data file's re-read key is unchanged and not reported
+        deleteFirstRow(dataFile1);
+        refresh();
+        assertThat(removedKeys).containsExactly(key1);
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile1).get(0));
+        assertThat(addedKeys.get(0)).isNotEqualTo(key1);
+        final IcebergTableLocationKey deletedKey1 = addedKeys.get(0);
+
+        // Unchanged delete manifests do not force a re-read
+        final DataFile dataFile3 = append(10, 5);
+        refresh();
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile3).get(0));
+        assertThat(removedKeys).isEmpty();
+
+        // Deletes for the second data file leave the first data file's key, and its deletes, as they were
+        deleteFirstRow(dataFile2);
+        refresh();
+        assertThat(uris(removedKeys)).containsExactly(uris(dataFile2).get(0));
+        assertThat(uris(addedKeys)).containsExactly(uris(dataFile2).get(0));
+        assertThat(removedKeys).doesNotContain(deletedKey1);
+    }
+}
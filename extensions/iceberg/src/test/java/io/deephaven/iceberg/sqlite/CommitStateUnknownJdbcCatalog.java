@@ -0,0 +1,106 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.sqlite;
+
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.jdbc.JdbcCatalog;
+
+/**
+ * A {@link JdbcCatalog} whose table commits can be made to fail with a {@link CommitStateUnknownException}, either
+ * after the commit has landed or before it is attempted.
+ */
+public class CommitStateUnknownJdbcCatalog extends JdbcCatalog {
+
+    public enum Failure {
+        /**
+         * Commit normally.
+         */
+        NONE,
+        /**
+         * Commit, then report that the state of the commit is unknown.
+         */
+        AFTER_COMMIT,
+        /**
+         * Report that the state of the commit is unknown without committing.
+         */
+        BEFORE_COMMIT
+    }
+
+    private volatile Failure nextFailure = Failure.NONE;
+
+    /**
+     * Fail the next commit to any table of this catalog as given; later commits succeed.
+     */
+    public void failNextCommit(final Failure failure) {
+        nextFailure = failure;
+    }
+
+    @Override
+    protected TableOperations newTableOps(final TableIdentifier tableIdentifier) {
+        return new FailingTableOperations(super.newTableOps(tableIdentifier));
+    }
+
+    private final class FailingTableOperations implements TableOperations {
+
+        private final TableOperations delegate;
+
+        private FailingTableOperations(final TableOperations delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TableMetadata current() {
+            return delegate.current();
+        }
+
+        @Override
+        public TableMetadata refresh() {
+            return delegate.refresh();
+        }
+
+        @Override
+        public void commit(final TableMetadata base, final TableMetadata metadata) {
+            final Failure failure = nextFailure;
+            nextFailure = Failure.NONE;
+            if (failure == Failure.BEFORE_COMMIT) {
+                throw new CommitStateUnknownException(new RuntimeException("Injected failure before commit"));
+            }
+            delegate.commit(base, metadata);
+            if (failure == Failure.AFTER_COMMIT) {
+                throw new CommitStateUnknownException(new RuntimeException("Injected failure after commit"));
+            }
+        }
+
+        @Override
+        public FileIO io() {
+            return delegate.io();
+        }
+
+        @Override
+        public EncryptionManager encryption() {
+            return delegate.encryption();
+        }
+
+        @Override
+        public String metadataFileLocation(final String fileName) {
+            return delegate.metadataFileLocation(fileName);
+        }
+
+        @Override
+        public LocationProvider locationProvider() {
+            return delegate.locationProvider();
+        }
+
+        @Override
+        public long newSnapshotId() {
+            return delegate.newSnapshotId();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.util;
+
+import io.deephaven.api.ColumnName;
+import io.deephaven.api.RawString;
+import io.deephaven.api.filter.Filter;
+import io.deephaven.api.filter.FilterComparison;
+import io.deephaven.api.filter.FilterIn;
+import io.deephaven.api.literal.Literal;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionUtil;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.types.Types.NestedField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcebergExpressionAdapterTest {
+
+    private static final Schema SCHEMA = new Schema(
+            NestedField.optional(1, "I", Types.IntegerType.get()),
+            NestedField.optional(2, "S", Types.StringType.get()),
+            NestedField.optional(3, "D", Types.DoubleType.get()),
+            NestedField.optional(4, "Date", Types.DateType.get()));
+
+    private final EngineCleanup engineCleanup = new EngineCleanup();
+
+    private Resolver resolver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        engineCleanup.setUp();
+        resolver = Resolver.infer(SCHEMA);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        engineCleanup.tearDown();
+    }
+
+    private void assertConverts(final Filter filter, final Expression expected) {
+        final Expression actual = IcebergExpressionAdapter.of(filter, resolver);
+        assertThat(ExpressionUtil.equivalent(expected, actual, SCHEMA.asStruct(), true))
+                .as("%s is equivalent to %s", actual, expected)
+                .isTrue();
+    }
+
+    @Test
+    void match() {
+        assertConverts(FilterComparison.eq(ColumnName.of("I"), Literal.of(5)), Expressions.equal("I", 5));
+        assertConverts(FilterIn.of(ColumnName.of("S"), Literal.of("A"), Literal.of("B")),
+                Expressions.in("S", "A", "B"));
+        assertConverts(RawString.of("Date == '2024-01-02'"),
+                Expressions.equal("Date", (int) LocalDate.of(2024, 1, 2).toEpochDay()));
+    }
+
+    @Test
+    void range() {
+        assertConverts(RawString.of("I > 5"),
+                Expressions.and(Expressions.notNull("I"), Expressions.greaterThan("I", 5)));
+        // Deephaven nulls are less than any other value
+        assertConverts(RawString.of("I <= 5"),
+                Expressions.or(Expressions.isNull("I"),
+                        Expressions.and(Expressions.notNull("I"), Expressions.lessThanOrEqual("I", 5))));
+    }
+
+    @Test
+    void conjunction() {
+        assertConverts(Filter.and(RawString.of("I > 5"), RawString.of("S == `A`")),
+                Expressions.and(
+                        Expressions.and(Expressions.notNull("I"), Expressions.greaterThan("I", 5)),
+                        Expressions.equal("S", "A")));
+        // Unsupported conjuncts are dropped
+        assertConverts(Filter.and(RawString.of("D > 1.0"), RawString.of("S == `A`")), Expressions.equal("S", "A"));
+    }
+
+    @Test
+    void signedZeroMatch() {
+        // A data file holding only -0.0 has bounds [-0.0, -0.0], which Iceberg orders below 0.0
+        final ByteBuffer negativeZero = Conversions.toByteBuffer(Types.DoubleType.get(), -0.0);
+        final DataFile negativeZeroFile = DataFiles.builder(PartitionSpec.unpartitioned())
+                .withPath("negative-zero.parquet")
+                .withFormat(FileFormat.PARQUET)
+                .withFileSizeInBytes(1024)
+                .withMetrics(new Metrics(10L, null, Map.of(3, 10L), Map.of(3, 0L), Map.of(3, 0L),
+                        Map.of(3, negativeZero), Map.of(3, negativeZero)))
+                .build();
+        for (final Filter filter : new Filter[] {
+                RawString.of("D == 0.0"),
+                RawString.of("D == -0.0"),
+                FilterIn.of(ColumnName.of("D"), Literal.of(0.0), Literal.of(1.0))}) {
+            final Expression expression = IcebergExpressionAdapter.of(filter, resolver);
+            assertThat(new InclusiveMetricsEvaluator(SCHEMA, expression).eval(negativeZeroFile))
+                    .as("%s may match a file of -0.0", filter)
+                    .isTrue();
+        }
+        assertConverts(RawString.of("D == 0.0"), Expressions.alwaysTrue());
+        assertConverts(RawString.of("D == 1.5"), Expressions.equal("D", 1.5));
+    }
+
+    @Test
+    void unsupported() {
+        // Deephaven orders NaN above all other values, which Iceberg bounds do not account for
+        assertConverts(RawString.of("D > 1.0"), Expressions.alwaysTrue());
+        assertConverts(Filter.or(RawString.of("D > 1.0"), RawString.of("S == `A`")), Expressions.alwaysTrue());
+        assertConverts(RawString.of("I % 2 == 0"), Expressions.alwaysTrue());
+        assertConverts(FilterComparison.eq(ColumnName.of("I"), Literal.of("A")), Expressions.alwaysTrue());
+    }
+}
@@ -0,0 +1,33 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.iceberg.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IcebergSinkOptionsTest {
+
+    @Test
+    void defaults() {
+        final IcebergSinkOptions options = IcebergSinkOptions.builder().sinkId("MySink").build();
+        assertThat(options.sinkId()).isEqualTo("MySink");
+        assertThat(options.partitionPath()).isEmpty();
+        assertThat(options.maxRowsPerFile()).isEqualTo(1_000_000);
+        assertThat(options.commitInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void invalid() {
+        assertThatThrownBy(() -> IcebergSinkOptions.builder().sinkId("").build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IcebergSinkOptions.builder().sinkId("MySink").maxRowsPerFile(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IcebergSinkOptions.builder().sinkId("MySink").commitInterval(Duration.ZERO).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
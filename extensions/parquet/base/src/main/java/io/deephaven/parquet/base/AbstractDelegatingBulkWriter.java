@@ -0,0 +1,75 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * The base class for bulk writers that encode values with one of parquet's own {@link ValuesWriter ValuesWriters}, used
+ * for the encodings other than PLAIN and RLE_DICTIONARY. Subclasses are responsible for filtering Deephaven
+ * {@code null} values and updating the statistics, and pass the non-null values on to the {@link #delegate}.
+ *
+ * @param <BUFFER_TYPE>
+ */
+abstract class AbstractDelegatingBulkWriter<BUFFER_TYPE> extends AbstractBulkValuesWriter<BUFFER_TYPE> {
+    /**
+     * The initial size of the slabs allocated by the delegate writers, which grow as needed up to the page size.
+     */
+    static final int INITIAL_SLAB_SIZE = 64;
+
+    final ValuesWriter delegate;
+    IntBuffer nullOffsets;
+
+    AbstractDelegatingBulkWriter(@NotNull final ValuesWriter delegate) {
+        this.delegate = delegate;
+        nullOffsets = IntBuffer.allocate(4);
+    }
+
+    @Override
+    public long getBufferedSize() {
+        return delegate.getBufferedSize();
+    }
+
+    @Override
+    public BytesInput getBytes() {
+        return delegate.getBytes();
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public ByteBuffer getByteBufferView() throws IOException {
+        return ByteBuffer.wrap(delegate.getBytes().toByteArray());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public long getAllocatedSize() {
+        return delegate.getAllocatedSize();
+    }
+
+    @Override
+    public Encoding getEncoding() {
+        return delegate.getEncoding();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+        return delegate.memUsageString(prefix + " " + getClass().getSimpleName());
+    }
+}
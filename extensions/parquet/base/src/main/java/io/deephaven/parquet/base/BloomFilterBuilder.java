@@ -0,0 +1,180 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Accumulates the non-null values written to a single column chunk into a split-block {@link BloomFilter}.
+ * <p>
+ * The filter is sized lazily on the first insertion. When a dictionary page is written, the number of dictionary keys
+ * is the exact number of distinct values in the column chunk and is used for sizing; otherwise the number of rows in
+ * the row group is used as an upper bound on the number of distinct values. In either case, the size is capped by the
+ * configured maximum number of bytes.
+ */
+final class BloomFilterBuilder {
+
+    private final PrimitiveType primitiveType;
+    private final long expectedDistinctValues;
+    private final double fpp;
+    private final int maximumBytes;
+    /**
+     * Type-specific {@code null} representation for INT32 columns, which can hold Byte, Char, and Short data as well.
+     */
+    private final int intNullValue;
+
+    private BlockSplitBloomFilter bloomFilter;
+
+    /**
+     * @param primitiveType The type of the column being written
+     * @return Whether we support writing bloom filters for columns of this type
+     */
+    static boolean isSupported(@NotNull final PrimitiveType primitiveType) {
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+            case INT64:
+            case FLOAT:
+            case DOUBLE:
+            case BINARY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    BloomFilterBuilder(
+            @NotNull final PrimitiveType primitiveType,
+            final long expectedDistinctValues,
+            final double fpp,
+            final int maximumBytes) {
+        if (!isSupported(primitiveType)) {
+            throw new IllegalArgumentException("Bloom filters are not supported for type " + primitiveType);
+        }
+        if (!(fpp > 0.0 && fpp < 1.0)) {
+            throw new IllegalArgumentException("Bloom filter false positive probability must be in (0, 1), found "
+                    + fpp);
+        }
+        this.primitiveType = primitiveType;
+        this.expectedDistinctValues = Math.max(1, expectedDistinctValues);
+        this.fpp = fpp;
+        this.maximumBytes = maximumBytes;
+        this.intNullValue = Helpers.intNullValue(primitiveType);
+    }
+
+    private BlockSplitBloomFilter ensureBloomFilter(final long numDistinctValues) {
+        if (bloomFilter == null) {
+            final long numBytes = Math.min(maximumBytes, BlockSplitBloomFilter.optimalNumOfBits(numDistinctValues, fpp)
+                    / Byte.SIZE);
+            bloomFilter = new BlockSplitBloomFilter(
+                    (int) Math.max(BlockSplitBloomFilter.LOWER_BOUND_BYTES, numBytes), maximumBytes);
+        }
+        return bloomFilter;
+    }
+
+    /**
+     * Insert all the keys of a dictionary page. Data pages that follow a dictionary page only contain dictionary
+     * positions and must not be {@link #insertPage inserted}.
+     *
+     * @param dictionaryValues The dictionary keys, in the same format as passed to the bulk writers
+     * @param valuesCount The number of dictionary keys
+     */
+    void insertDictionary(@NotNull final Object dictionaryValues, final int valuesCount) {
+        insert(ensureBloomFilter(valuesCount), dictionaryValues, valuesCount);
+    }
+
+    /**
+     * Insert all the non-null values of a data page.
+     *
+     * @param pageData The page values, in the same format as passed to the bulk writers
+     * @param bufferedValuesCount The number of values buffered in {@code pageData}. For vector pages, this is the
+     *        number of leaf values passed to the bulk writers, not the number of values in the written page, which
+     *        also counts null and empty vectors.
+     */
+    void insertPage(@NotNull final Object pageData, final int bufferedValuesCount) {
+        insert(ensureBloomFilter(expectedDistinctValues), pageData, bufferedValuesCount);
+    }
+
+    /**
+     * Insert the non-null values in {@code values}. Primitive buffers are bounded by their position and limit, while
+     * binary arrays are reused across pages and so must be bounded by {@code bufferedValuesCount}.
+     */
+    private void insert(
+            @NotNull final BlockSplitBloomFilter filter,
+            @NotNull final Object values,
+            final int bufferedValuesCount) {
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32: {
+                final IntBuffer buffer = (IntBuffer) values;
+                for (int ii = buffer.position(); ii < buffer.limit(); ++ii) {
+                    final int value = buffer.get(ii);
+                    if (value != intNullValue) {
+                        filter.insertHash(filter.hash(value));
+                    }
+                }
+                break;
+            }
+            case INT64: {
+                final LongBuffer buffer = (LongBuffer) values;
+                for (int ii = buffer.position(); ii < buffer.limit(); ++ii) {
+                    final long value = buffer.get(ii);
+                    if (value != QueryConstants.NULL_LONG) {
+                        filter.insertHash(filter.hash(value));
+                    }
+                }
+                break;
+            }
+            case FLOAT: {
+                final FloatBuffer buffer = (FloatBuffer) values;
+                for (int ii = buffer.position(); ii < buffer.limit(); ++ii) {
+                    final float value = buffer.get(ii);
+                    if (value != QueryConstants.NULL_FLOAT) {
+                        filter.insertHash(filter.hash(value));
+                    }
+                }
+                break;
+            }
+            case DOUBLE: {
+                final DoubleBuffer buffer = (DoubleBuffer) values;
+                for (int ii = buffer.position(); ii < buffer.limit(); ++ii) {
+                    final double value = buffer.get(ii);
+                    if (value != QueryConstants.NULL_DOUBLE) {
+                        filter.insertHash(filter.hash(value));
+                    }
+                }
+                break;
+            }
+            case BINARY: {
+                final Binary[] binaries = (Binary[]) values;
+                for (int ii = 0; ii < bufferedValuesCount; ++ii) {
+                    final Binary value = binaries[ii];
+                    if (value != null) {
+                        filter.insertHash(filter.hash(value));
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected type " + primitiveType);
+        }
+    }
+
+    /**
+     * @return The accumulated bloom filter, or {@code null} if no values were inserted
+     */
+    @Nullable
+    BloomFilter build() {
+        return bloomFilter;
+    }
+}
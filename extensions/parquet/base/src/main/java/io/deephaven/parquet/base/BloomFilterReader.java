@@ -0,0 +1,27 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+
+/**
+ * Interface for reading the split-block bloom filter for a column chunk.
+ */
+public interface BloomFilterReader {
+
+    /**
+     * @param context The channel context to use for reading the bloom filter.
+     * @return Reads, caches, and returns the bloom filter for a column chunk.
+     * @throws UnsupportedOperationException If the bloom filter cannot be read from this source.
+     */
+    BloomFilter getBloomFilter(SeekableChannelContext context);
+
+    /**
+     * A null implementation of the bloom filter reader which always throws an exception when called.
+     */
+    BloomFilterReader NULL = context -> {
+        throw new UnsupportedOperationException("Cannot read bloom filter from this source.");
+    };
+}
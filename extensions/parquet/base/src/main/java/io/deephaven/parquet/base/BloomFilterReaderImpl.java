@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import io.deephaven.util.channel.SeekableChannelsProvider;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.format.BloomFilterHeader;
+import org.apache.parquet.format.ColumnChunk;
+import org.apache.parquet.format.ColumnMetaData;
+import org.apache.parquet.format.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Implementation of {@link BloomFilterReader}, which reads the bloom filter for a column chunk on demand, and caches it
+ * for future requests.
+ */
+final class BloomFilterReaderImpl implements BloomFilterReader {
+
+    /**
+     * Upper bound on the number of bytes occupied by a thrift-encoded {@link BloomFilterHeader}, used when the writer
+     * did not record the total bloom filter length in the column metadata.
+     */
+    private static final int MAX_BLOOM_FILTER_HEADER_SIZE = 64;
+
+    private final SeekableChannelsProvider channelsProvider;
+    private final ColumnChunk columnChunk;
+    private final URI columnChunkURI;
+    private volatile BloomFilter bloomFilter;
+
+    BloomFilterReaderImpl(final SeekableChannelsProvider channelsProvider, final ColumnChunk columnChunk,
+            final URI columnChunkURI) {
+        this.channelsProvider = channelsProvider;
+        this.columnChunk = columnChunk;
+        this.columnChunkURI = columnChunkURI;
+        this.bloomFilter = null;
+    }
+
+    @Override
+    @NotNull
+    public BloomFilter getBloomFilter(@NotNull final SeekableChannelContext context) {
+        BloomFilter localBloomFilter;
+        if ((localBloomFilter = bloomFilter) != null) {
+            return localBloomFilter;
+        }
+        if (!columnChunk.getMeta_data().isSetBloom_filter_offset()) {
+            throw new UnsupportedOperationException("Cannot read bloom filter from this source.");
+        }
+        return bloomFilter = readBloomFilter(context);
+    }
+
+    private BloomFilter readBloomFilter(@NotNull final SeekableChannelContext channelContext) {
+        final ColumnMetaData columnMetaData = columnChunk.getMeta_data();
+        final long offset = columnMetaData.getBloom_filter_offset();
+        try (
+                final SeekableChannelContext.ContextHolder holder =
+                        SeekableChannelContext.ensureContext(channelsProvider, channelContext);
+                final SeekableByteChannel readChannel = channelsProvider.getReadChannel(holder.get(), columnChunkURI);
+                final InputStream in = channelsProvider.getInputStream(readChannel.position(offset),
+                        columnMetaData.isSetBloom_filter_length()
+                                ? columnMetaData.getBloom_filter_length()
+                                : MAX_BLOOM_FILTER_HEADER_SIZE + BlockSplitBloomFilter.UPPER_BOUND_BYTES)) {
+            final BloomFilterHeader header = Util.readBloomFilterHeader(in);
+            if (!header.getAlgorithm().isSetBLOCK()
+                    || !header.getHash().isSetXXHASH()
+                    || !header.getCompression().isSetUNCOMPRESSED()) {
+                throw new UnsupportedOperationException("Unsupported bloom filter " + header + " for column "
+                        + columnMetaData.getPath_in_schema() + " in " + columnChunkURI);
+            }
+            final int numBytes = header.getNumBytes();
+            if (numBytes <= 0 || numBytes > BlockSplitBloomFilter.UPPER_BOUND_BYTES) {
+                throw new UnsupportedOperationException("Invalid bloom filter size " + numBytes + " for column "
+                        + columnMetaData.getPath_in_schema() + " in " + columnChunkURI);
+            }
+            final byte[] bitset = new byte[numBytes];
+            new DataInputStream(in).readFully(bitset);
+            return new BlockSplitBloomFilter(bitset);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * A writer for encoding doubles in the BYTE_STREAM_SPLIT format
+ */
+final class ByteStreamSplitDoubleChunkedWriter extends AbstractDelegatingBulkWriter<DoubleBuffer> {
+
+    ByteStreamSplitDoubleChunkedWriter(final int targetPageSize, @NotNull final ByteBufferAllocator allocator) {
+        super(new ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter(
+                INITIAL_SLAB_SIZE, targetPageSize, allocator));
+    }
+
+    @Override
+    public void writeDouble(final double v) {
+        delegate.writeDouble(v);
+    }
+
+    @Override
+    public void writeBulk(@NotNull final DoubleBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        for (int i = 0; i < rowCount; i++) {
+            final double v = bulkValues.get(i);
+            writeDouble(v);
+            statistics.updateStats(v);
+        }
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkFilterNulls(@NotNull final DoubleBuffer bulkValues,
+            @NotNull final RunLengthBitPackingHybridEncoder dlEncoder,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) throws IOException {
+        while (bulkValues.hasRemaining()) {
+            final double v = bulkValues.get();
+            if (v != QueryConstants.NULL_DOUBLE) {
+                writeDouble(v);
+                statistics.updateStats(v);
+                dlEncoder.writeInt(DL_ITEM_PRESENT);
+            } else {
+                statistics.incrementNumNulls();
+                dlEncoder.writeInt(DL_ITEM_NULL);
+            }
+        }
+        return new WriteResult(rowCount);
+    }
+
+    @NotNull
+    @Override
+    public WriteResult writeBulkVectorFilterNulls(@NotNull final DoubleBuffer bulkValues,
+            final int rowCount,
+            @NotNull final Statistics<?> statistics) {
+        int i = 0;
+        nullOffsets.clear();
+        while (bulkValues.hasRemaining()) {
+            final double v = bulkValues.get();
+            if (v != QueryConstants.NULL_DOUBLE) {
+                writeDouble(v);
+                statistics.updateStats(v);
+            } else {
+                nullOffsets = Helpers.ensureCapacity(nullOffsets);
+                nullOffsets.put(i);
+                statistics.incrementNumNulls();
+            }
+            i++;
+        }
+        return new WriteResult(rowCount, nullOffsets);
+    }
+}
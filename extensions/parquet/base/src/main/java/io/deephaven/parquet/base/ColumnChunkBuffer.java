@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.configuration.Configuration;
+import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.bytes.CapacityByteArrayOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffer for a column chunk that is encoded concurrently with the column chunks preceding it in its row group, and so
+ * cannot be written to the file yet. Bytes are buffered in memory as long as they can be reserved from a {@link Budget}
+ * shared by all such buffers. Once a reservation fails, or the chunk outgrows what a single in-memory buffer can hold,
+ * the buffer spills its contents to a temporary file and continues there, so that the heap used for buffering is
+ * bounded and column chunks of any size can be written.
+ */
+final class ColumnChunkBuffer extends OutputStream {
+
+    /**
+     * The bytes that all column chunk buffers may hold in memory together.
+     */
+    static final class Budget {
+
+        private final long maxBytes;
+        private final AtomicLong reservedBytes = new AtomicLong();
+
+        /**
+         * @param maxBytes The maximum number of bytes to reserve
+         */
+        Budget(final long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean tryReserve(final long bytes) {
+            long current;
+            do {
+                current = reservedBytes.get();
+                if (current + bytes > maxBytes) {
+                    return false;
+                }
+            } while (!reservedBytes.compareAndSet(current, current + bytes));
+            return true;
+        }
+
+        private void release(final long bytes) {
+            reservedBytes.addAndGet(-bytes);
+        }
+
+        /**
+         * @return The number of bytes currently reserved
+         */
+        long getReservedBytes() {
+            return reservedBytes.get();
+        }
+    }
+
+    /**
+     * The budget shared by the column chunk buffers of all concurrent parquet writes in this process.
+     */
+    static final Budget DEFAULT_BUDGET = new Budget(Configuration.getInstance()
+            .getLongForClassWithDefault(ColumnChunkBuffer.class, "maxBufferedBytes", 256L << 20));
+
+    /**
+     * The most bytes a single in-memory buffer holds; {@link CapacityByteArrayOutputStream} cannot grow past this.
+     */
+    private static final long MAX_IN_MEMORY_BYTES = Integer.MAX_VALUE - 8;
+
+    private static final int SPILL_BUFFER_SIZE = 1 << 16;
+
+    private final Budget budget;
+    /**
+     * The in-memory buffer, or {@code null} once spilled.
+     */
+    @Nullable
+    private CapacityByteArrayOutputStream memoryBuffer;
+    /**
+     * The bytes reserved from {@link #budget} for {@link #memoryBuffer}.
+     */
+    private long reservedBytes;
+    /**
+     * The temporary file, or {@code null} if not spilled.
+     */
+    @Nullable
+    private Path spillFile;
+    @Nullable
+    private OutputStream spillOutput;
+    private long size;
+
+    /**
+     * @param budget The budget to reserve in-memory bytes from
+     * @param initialSlabSize The size of the first slab of the in-memory buffer
+     * @param allocator The allocator for the in-memory buffer
+     */
+    ColumnChunkBuffer(
+            @NotNull final Budget budget,
+            final int initialSlabSize,
+            @NotNull final ByteBufferAllocator allocator) {
+        this.budget = budget;
+        memoryBuffer = new CapacityByteArrayOutputStream(initialSlabSize, Integer.MAX_VALUE, allocator);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        outputFor(1).write(b);
+        ++size;
+    }
+
+    @Override
+    public void write(@NotNull final byte[] b, final int off, final int len) throws IOException {
+        outputFor(len).write(b, off, len);
+        size += len;
+    }
+
+    /**
+     * Get the stream to write the next {@code len} bytes to, spilling first if they cannot be kept in memory.
+     */
+    private OutputStream outputFor(final int len) throws IOException {
+        if (memoryBuffer == null) {
+            return spillOutput;
+        }
+        if (size + len <= MAX_IN_MEMORY_BYTES && budget.tryReserve(len)) {
+            reservedBytes += len;
+            return memoryBuffer;
+        }
+        spill();
+        return spillOutput;
+    }
+
+    private void spill() throws IOException {
+        spillFile = Files.createTempFile("deephaven-parquet-column-chunk", ".tmp");
+        spillOutput = new BufferedOutputStream(Files.newOutputStream(spillFile), SPILL_BUFFER_SIZE);
+        try (final CapacityByteArrayOutputStream ignored = memoryBuffer) {
+            memoryBuffer.writeTo(spillOutput);
+        } finally {
+            memoryBuffer = null;
+            budget.release(reservedBytes);
+            reservedBytes = 0;
+        }
+    }
+
+    /**
+     * @return The number of bytes written to this buffer
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return Whether this buffer has spilled to a temporary file
+     */
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Write the contents of this buffer to {@code out}.
+     */
+    void writeTo(@NotNull final OutputStream out) throws IOException {
+        if (memoryBuffer != null) {
+            memoryBuffer.writeTo(out);
+            return;
+        }
+        spillOutput.flush();
+        Files.copy(spillFile, out);
+    }
+
+    /**
+     * Release the memory reservation and delete the temporary file, if any.
+     */
+    @Override
+    public void close() {
+        if (memoryBuffer != null) {
+            memoryBuffer.close();
+            memoryBuffer = null;
+            budget.release(reservedBytes);
+            reservedBytes = 0;
+        }
+        if (spillFile != null) {
+            try {
+                try {
+                    spillOutput.close();
+                } finally {
+                    Files.deleteIfExists(spillFile);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete spilled column chunk " + spillFile, e);
+            } finally {
+                spillFile = null;
+                spillOutput = null;
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ package io.deephaven.parquet.base;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.Nullable;
@@ -53,6 +55,30 @@ public interface ColumnChunkReader {
      */
     OffsetIndex getOffsetIndex(final SeekableChannelContext context);
 
+    /**
+     * @return Whether the column chunk has column index information set in the metadata or not.
+     */
+    boolean hasColumnIndex();
+
+    /**
+     * @param context The channel context to use for reading the column index.
+     * @return Get the column index, with the page-level statistics, for a column chunk.
+     * @throws UnsupportedOperationException If the column chunk does not have a column index.
+     */
+    ColumnIndex getColumnIndex(final SeekableChannelContext context);
+
+    /**
+     * @return Whether the column chunk has a bloom filter referenced from the metadata or not.
+     */
+    boolean hasBloomFilter();
+
+    /**
+     * @param context The channel context to use for reading the bloom filter.
+     * @return Get the bloom filter for a column chunk.
+     * @throws UnsupportedOperationException If the column chunk does not have a bloom filter.
+     */
+    BloomFilter getBloomFilter(final SeekableChannelContext context);
+
     /**
      * Used to iterate over column page readers for each page with the capability to set channel context to for reading
      * the pages.
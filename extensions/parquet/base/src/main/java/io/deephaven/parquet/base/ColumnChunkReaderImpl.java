@@ -11,12 +11,15 @@ import io.deephaven.parquet.compress.CompressorAdapter;
 import io.deephaven.parquet.compress.DeephavenCompressorAdapterFactory;
 import io.deephaven.util.channel.SeekableChannelContext.ContextHolder;
 import io.deephaven.util.datastructures.SoftCachingFunction;
+import org.apache.parquet.CorruptDeltaByteArrays;
 import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.format.*;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -45,6 +48,8 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
     private final CompressorAdapter decompressor;
     private final ColumnDescriptor path;
     private final OffsetIndexReader offsetIndexReader;
+    private final ColumnIndexReader columnIndexReader;
+    private final BloomFilterReader bloomFilterReader;
     private final List<Type> fieldTypes;
     private final Function<SeekableChannelContext, Dictionary> dictionarySupplier;
     private final URI columnChunkURI;
@@ -56,6 +61,10 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
      * Version string from deephaven specific parquet metadata, or null if it's not present.
      */
     private final String version;
+    /**
+     * The "created_by" string from the file metadata, or null if it's not present.
+     */
+    private final String createdBy;
 
     ColumnChunkReaderImpl(
             final String columnName,
@@ -65,7 +74,8 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
             final MessageType type,
             final List<Type> fieldTypes,
             final long numRows,
-            final String version) {
+            final String version,
+            final String createdBy) {
         this.columnName = columnName;
         this.channelsProvider = channelsProvider;
         this.columnChunk = columnChunk;
@@ -81,6 +91,7 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         this.dictionarySupplier = new SoftCachingFunction<>(this::getDictionary);
         this.numRows = numRows;
         this.version = version;
+        this.createdBy = createdBy;
         if (columnChunk.isSetFile_path()) {
             columnChunkURI = resolve(rootURI, columnChunk.getFile_path());
         } else {
@@ -90,6 +101,13 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         this.offsetIndexReader = (columnChunk.isSetOffset_index_offset())
                 ? new OffsetIndexReaderImpl(channelsProvider, columnChunk, columnChunkURI)
                 : OffsetIndexReader.NULL;
+        // Similarly, the column index and bloom filter are only read if a filter is pushed down to this column chunk
+        this.columnIndexReader = (columnChunk.isSetColumn_index_offset())
+                ? new ColumnIndexReaderImpl(channelsProvider, columnChunk, columnChunkURI, path.getPrimitiveType())
+                : ColumnIndexReader.NULL;
+        this.bloomFilterReader = (columnChunk.getMeta_data().isSetBloom_filter_offset())
+                ? new BloomFilterReaderImpl(channelsProvider, columnChunk, columnChunkURI)
+                : BloomFilterReader.NULL;
     }
 
     @Override
@@ -124,6 +142,30 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         return offsetIndexReader.getOffsetIndex(context);
     }
 
+    @Override
+    public boolean hasColumnIndex() {
+        return columnChunk.isSetColumn_index_offset();
+    }
+
+    @Override
+    public ColumnIndex getColumnIndex(final SeekableChannelContext context) {
+        // Reads and caches the column index if it hasn't been read yet. Throws an exception if the column index cannot
+        // be read from this source
+        return columnIndexReader.getColumnIndex(context);
+    }
+
+    @Override
+    public boolean hasBloomFilter() {
+        return columnChunk.getMeta_data().isSetBloom_filter_offset();
+    }
+
+    @Override
+    public BloomFilter getBloomFilter(final SeekableChannelContext context) {
+        // Reads and caches the bloom filter if it hasn't been read yet. Throws an exception if the bloom filter cannot
+        // be read from this source
+        return bloomFilterReader.getBloomFilter(context);
+    }
+
     @Override
     public ColumnPageReaderIterator getPageIterator(final PageMaterializerFactory pageMaterializerFactory) {
         return new ColumnPageReaderIteratorImpl(pageMaterializerFactory);
@@ -278,6 +320,7 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
                 }
                 final int numValuesInPage = getNumValues(pageHeader);
                 remainingValues -= numValuesInPage;
+                verifyEncodingSupported(pageHeader);
                 final Function<SeekableChannelContext, Dictionary> pageDictionarySupplier =
                         getPageDictionarySupplier(pageHeader);
                 return new ColumnPageReaderImpl(columnName, channelsProvider, decompressor, pageDictionarySupplier,
@@ -289,6 +332,18 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         }
     }
 
+    /**
+     * Pages written with DELTA_BYTE_ARRAY by some old writers depend on the last value of the previous page (see
+     * PARQUET-246), which we cannot support since pages are read independently.
+     */
+    private void verifyEncodingSupported(final PageHeader pageHeader) {
+        if (getEncoding(pageHeader) == org.apache.parquet.format.Encoding.DELTA_BYTE_ARRAY
+                && CorruptDeltaByteArrays.requiresSequentialReads(createdBy, Encoding.DELTA_BYTE_ARRAY)) {
+            throw new UnsupportedOperationException("DELTA_BYTE_ARRAY encoding not supported for files written by "
+                    + createdBy + ", column: " + columnName + ", uri: " + getURI());
+        }
+    }
+
     private Function<SeekableChannelContext, Dictionary> getPageDictionarySupplier(final PageHeader pageHeader) {
         final org.apache.parquet.format.Encoding encoding = getEncoding(pageHeader);
         return (encoding == PLAIN_DICTIONARY || encoding == RLE_DICTIONARY)
@@ -356,6 +411,7 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
                     throw new IllegalStateException("Expected data page, but got " + pageType + " for page number "
                             + pageNum + " at offset " + headerOffset + " for file " + getURI());
                 }
+                verifyEncodingSupported(pageHeader);
                 final Function<SeekableChannelContext, Dictionary> pageDictionarySupplier =
                         getPageDictionarySupplier(pageHeader);
                 return new ColumnPageReaderImpl(columnName, channelsProvider, decompressor, pageDictionarySupplier,
@@ -0,0 +1,88 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The encoding to use for the values of data pages that are not dictionary encoded. Columns that are written with a
+ * dictionary always use {@link Encoding#RLE_DICTIONARY} for their data pages.
+ */
+public enum ColumnEncoding {
+    /**
+     * Values are stored back to back, supported for all types.
+     */
+    PLAIN(Encoding.PLAIN),
+
+    /**
+     * Deltas between consecutive values are bit-packed in blocks, which is very compact for sorted or slowly changing
+     * integers such as timestamps and sequence numbers. Supported for int, long, and Instant columns, and other
+     * columns stored as INT32 or INT64.
+     */
+    DELTA_BINARY_PACKED(Encoding.DELTA_BINARY_PACKED),
+
+    /**
+     * The lengths of byte arrays are stored with {@link #DELTA_BINARY_PACKED}, followed by their concatenated bytes.
+     * Supported for columns stored as BINARY, like Strings.
+     */
+    DELTA_LENGTH_BYTE_ARRAY(Encoding.DELTA_LENGTH_BYTE_ARRAY),
+
+    /**
+     * Incremental encoding, where each byte array is stored as the length of the prefix it shares with the previous
+     * value followed by the remaining suffix. Works well for sorted Strings or Strings with common prefixes. Supported
+     * for columns stored as BINARY.
+     */
+    DELTA_BYTE_ARRAY(Encoding.DELTA_BYTE_ARRAY),
+
+    /**
+     * The bytes of each value are scattered into separate streams, one per byte position. This does not reduce the
+     * size by itself, but greatly improves the compression of floating point data. Supported for float and double
+     * columns.
+     */
+    BYTE_STREAM_SPLIT(Encoding.BYTE_STREAM_SPLIT),
+
+    /**
+     * Pick one of the encodings above for each column chunk, based on the type and a sample of the values of the first
+     * data page written.
+     */
+    AUTO(null);
+
+    private final Encoding encoding;
+
+    ColumnEncoding(final Encoding encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * @return The parquet encoding, or {@code null} for {@link #AUTO}
+     */
+    Encoding encoding() {
+        return encoding;
+    }
+
+    /**
+     * @param typeName The physical type of the column
+     * @return Whether this encoding can be used for values of the given type
+     */
+    public boolean supports(@NotNull final PrimitiveType.PrimitiveTypeName typeName) {
+        switch (this) {
+            case PLAIN:
+            case AUTO:
+                return true;
+            case DELTA_BINARY_PACKED:
+                return typeName == PrimitiveType.PrimitiveTypeName.INT32
+                        || typeName == PrimitiveType.PrimitiveTypeName.INT64;
+            case DELTA_LENGTH_BYTE_ARRAY:
+            case DELTA_BYTE_ARRAY:
+                return typeName == PrimitiveType.PrimitiveTypeName.BINARY;
+            case BYTE_STREAM_SPLIT:
+                return typeName == PrimitiveType.PrimitiveTypeName.FLOAT
+                        || typeName == PrimitiveType.PrimitiveTypeName.DOUBLE;
+            default:
+                throw new IllegalStateException("Unexpected encoding " + this);
+        }
+    }
+}
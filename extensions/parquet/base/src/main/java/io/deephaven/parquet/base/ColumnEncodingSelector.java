@@ -0,0 +1,151 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Picks the encoding for the data pages of a column chunk written with {@link ColumnEncoding#AUTO}, based on the type
+ * and a sample of the values of the first data page.
+ * <ul>
+ * <li>Integers use DELTA_BINARY_PACKED if the range of deltas between consecutive values needs at most half the bits of
+ * the type, which is typical for timestamps, sequence numbers, and other sorted or slowly changing data.</li>
+ * <li>Byte arrays use DELTA_BYTE_ARRAY if consecutive values share at least a quarter of their bytes as a common
+ * prefix.</li>
+ * <li>Floating point values use BYTE_STREAM_SPLIT if the column is compressed, since the encoding only helps the
+ * compression codec.</li>
+ * <li>Everything else uses PLAIN.</li>
+ * </ul>
+ */
+final class ColumnEncodingSelector {
+
+    /**
+     * The maximum number of non-null values to inspect.
+     */
+    private static final int SAMPLE_SIZE = 4096;
+
+    private ColumnEncodingSelector() {}
+
+    /**
+     * @param primitiveType The type of the column
+     * @param pageData The values of the first data page, in the same format as passed to the bulk writers
+     * @param valuesCount The number of values in the page
+     * @param compressed Whether the column is written with a compression codec
+     * @return The encoding to use for the data pages of this column chunk
+     */
+    static Encoding select(
+            @NotNull final PrimitiveType primitiveType,
+            @NotNull final Object pageData,
+            final int valuesCount,
+            final boolean compressed) {
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32: {
+                final IntBuffer buffer = (IntBuffer) pageData;
+                final int nullValue = Helpers.intNullValue(primitiveType);
+                final DeltaRange deltaRange = new DeltaRange();
+                for (int ii = buffer.position(); ii < buffer.limit() && deltaRange.sampled < SAMPLE_SIZE; ++ii) {
+                    final int value = buffer.get(ii);
+                    if (value != nullValue) {
+                        deltaRange.add(value);
+                    }
+                }
+                return deltaRange.select(Integer.SIZE);
+            }
+            case INT64: {
+                final LongBuffer buffer = (LongBuffer) pageData;
+                final DeltaRange deltaRange = new DeltaRange();
+                for (int ii = buffer.position(); ii < buffer.limit() && deltaRange.sampled < SAMPLE_SIZE; ++ii) {
+                    final long value = buffer.get(ii);
+                    if (value != QueryConstants.NULL_LONG) {
+                        deltaRange.add(value);
+                    }
+                }
+                return deltaRange.select(Long.SIZE);
+            }
+            case FLOAT:
+            case DOUBLE:
+                return compressed ? Encoding.BYTE_STREAM_SPLIT : Encoding.PLAIN;
+            case BINARY: {
+                final Binary[] values = (Binary[]) pageData;
+                long totalLength = 0;
+                long sharedPrefixLength = 0;
+                int sampled = 0;
+                ByteBuffer previous = null;
+                for (int ii = 0; ii < valuesCount && sampled < SAMPLE_SIZE; ++ii) {
+                    if (values[ii] == null) {
+                        continue;
+                    }
+                    final ByteBuffer current = values[ii].toByteBuffer();
+                    totalLength += current.remaining();
+                    if (previous != null) {
+                        sharedPrefixLength += commonPrefixLength(previous, current);
+                    }
+                    previous = current;
+                    ++sampled;
+                }
+                return totalLength > 0 && sharedPrefixLength * 4 >= totalLength
+                        ? Encoding.DELTA_BYTE_ARRAY
+                        : Encoding.PLAIN;
+            }
+            default:
+                return Encoding.PLAIN;
+        }
+    }
+
+    private static int commonPrefixLength(@NotNull final ByteBuffer first, @NotNull final ByteBuffer second) {
+        final int maxLength = Math.min(first.remaining(), second.remaining());
+        int length = 0;
+        while (length < maxLength
+                && first.get(first.position() + length) == second.get(second.position() + length)) {
+            ++length;
+        }
+        return length;
+    }
+
+    /**
+     * Tracks the range of the deltas between consecutive values.
+     */
+    private static final class DeltaRange {
+        private int sampled;
+        private long previous;
+        private long minDelta = Long.MAX_VALUE;
+        private long maxDelta = Long.MIN_VALUE;
+        private boolean overflowed;
+
+        private void add(final long value) {
+            if (sampled > 0) {
+                final long delta = value - previous;
+                // Same overflow check as Math.subtractExact
+                if (((value ^ previous) & (value ^ delta)) < 0) {
+                    overflowed = true;
+                }
+                minDelta = Math.min(minDelta, delta);
+                maxDelta = Math.max(maxDelta, delta);
+            }
+            previous = value;
+            ++sampled;
+        }
+
+        private Encoding select(final int typeBits) {
+            if (sampled < 2 || overflowed) {
+                return Encoding.PLAIN;
+            }
+            final long range = maxDelta - minDelta;
+            if (range < 0) {
+                // The range itself overflowed
+                return Encoding.PLAIN;
+            }
+            final int bitWidth = Long.SIZE - Long.numberOfLeadingZeros(range);
+            return bitWidth <= typeBits / 2 ? Encoding.DELTA_BINARY_PACKED : Encoding.PLAIN;
+        }
+    }
+}
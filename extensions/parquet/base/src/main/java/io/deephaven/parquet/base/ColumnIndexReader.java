@@ -0,0 +1,27 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+
+/**
+ * Interface for reading the column index (page-level statistics) for a column chunk.
+ */
+public interface ColumnIndexReader {
+
+    /**
+     * @param context The channel context to use for reading the column index.
+     * @return Reads, caches, and returns the column index for a column chunk.
+     * @throws UnsupportedOperationException If the column index cannot be read from this source.
+     */
+    ColumnIndex getColumnIndex(SeekableChannelContext context);
+
+    /**
+     * A null implementation of the column index reader which always throws an exception when called.
+     */
+    ColumnIndexReader NULL = context -> {
+        throw new UnsupportedOperationException("Cannot read column index from this source.");
+    };
+}
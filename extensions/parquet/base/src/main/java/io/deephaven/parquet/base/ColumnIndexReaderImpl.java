@@ -0,0 +1,75 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.util.channel.SeekableChannelContext;
+import io.deephaven.util.channel.SeekableChannelsProvider;
+import org.apache.parquet.format.ColumnChunk;
+import org.apache.parquet.format.Util;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Implementation of {@link ColumnIndexReader}, which reads the column index for a column chunk on demand, and caches it
+ * for future requests.
+ */
+final class ColumnIndexReaderImpl implements ColumnIndexReader {
+
+    private final SeekableChannelsProvider channelsProvider;
+    private final ColumnChunk columnChunk;
+    private final URI columnChunkURI;
+    private final PrimitiveType primitiveType;
+    private volatile ColumnIndex columnIndex;
+
+    ColumnIndexReaderImpl(final SeekableChannelsProvider channelsProvider, final ColumnChunk columnChunk,
+            final URI columnChunkURI, final PrimitiveType primitiveType) {
+        this.channelsProvider = channelsProvider;
+        this.columnChunk = columnChunk;
+        this.columnChunkURI = columnChunkURI;
+        this.primitiveType = primitiveType;
+        this.columnIndex = null;
+    }
+
+    @Override
+    @NotNull
+    public ColumnIndex getColumnIndex(@NotNull final SeekableChannelContext context) {
+        ColumnIndex localColumnIndex;
+        if ((localColumnIndex = columnIndex) != null) {
+            return localColumnIndex;
+        }
+        if (!columnChunk.isSetColumn_index_offset()) {
+            throw new UnsupportedOperationException("Cannot read column index from this source.");
+        }
+        return columnIndex = readColumnIndex(context);
+    }
+
+    private ColumnIndex readColumnIndex(@NotNull final SeekableChannelContext channelContext) {
+        try (
+                final SeekableChannelContext.ContextHolder holder =
+                        SeekableChannelContext.ensureContext(channelsProvider, channelContext);
+                final SeekableByteChannel readChannel = channelsProvider.getReadChannel(holder.get(), columnChunkURI);
+                final InputStream in =
+                        channelsProvider.getInputStream(readChannel.position(columnChunk.getColumn_index_offset()),
+                                columnChunk.getColumn_index_length())) {
+            final ColumnIndex result =
+                    ParquetMetadataConverter.fromParquetColumnIndex(primitiveType, Util.readColumnIndex(in));
+            if (result == null) {
+                // The converter returns null for column indexes it cannot interpret, like ones with unknown types
+                throw new UnsupportedOperationException("Unsupported column index for column "
+                        + columnChunk.getMeta_data().getPath_in_schema() + " in " + columnChunkURI);
+            }
+            return result;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -650,9 +650,6 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final ByteBuffer in,
             final int valueCount,
             @NotNull final SeekableChannelContext channelContext) {
-        if (dataEncoding == Encoding.DELTA_BYTE_ARRAY) {
-            throw new RuntimeException("DELTA_BYTE_ARRAY encoding not supported");
-        }
         final ValuesReader dataReader;
         if (dataEncoding.usesDictionary()) {
             final Dictionary dictionary = dictionarySupplier.apply(channelContext);
@@ -13,24 +13,33 @@ import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.column.values.rle.RunLengthBitPackingHybridEncoder;
 import org.apache.parquet.format.*;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.ColumnIndexBuilder;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndexBuilder;
 import org.apache.parquet.io.ParquetEncodingException;
-import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
@@ -42,6 +51,12 @@ final class ColumnWriterImpl implements ColumnWriter {
 
     private static final int MIN_SLAB_SIZE = 64;
 
+    /**
+     * The maximum length of the binary min/max values stored in the column index, same as the parquet-mr default.
+     * Longer values are truncated to a prefix for the min, and to an incremented prefix for the max.
+     */
+    private static final int COLUMN_INDEX_TRUNCATE_LENGTH = 64;
+
     private final CountingOutputStream countingOutput;
     private final ColumnDescriptor column;
     private final RowGroupWriterImpl owner;
@@ -67,7 +82,24 @@ final class ColumnWriterImpl implements ColumnWriter {
     private long totalValueCount;
     private DictionaryPageHeader dictionaryPage;
     private final OffsetIndexBuilder offsetIndexBuilder;
+    /**
+     * Collects the statistics of each data page for the column index, or {@code null} if we are not writing a column
+     * index for this column chunk.
+     */
+    private ColumnIndexBuilder columnIndexBuilder;
+    /**
+     * The values of the dictionary page, if any, used to compute the statistics of dictionary encoded data pages for
+     * the column index.
+     */
+    private Object dictionaryValues;
+    private BitSet pageDictionaryPositions;
     private final boolean writeStatistics;
+    private final BloomFilterBuilder bloomFilterBuilder;
+    private final ColumnEncoding columnEncoding;
+    /**
+     * The encoding of the data pages, resolved when the first data page is written.
+     */
+    private Encoding dataEncoding;
 
     private final EncodingStats.Builder encodingStatsBuilder = new EncodingStats.Builder();
 
@@ -78,7 +110,9 @@ final class ColumnWriterImpl implements ColumnWriter {
             final CompressorAdapter compressorAdapter,
             final int targetPageSize,
             final ByteBufferAllocator allocator,
-            final boolean writeStatistics) {
+            final boolean writeStatistics,
+            @Nullable final BloomFilterBuilder bloomFilterBuilder,
+            @NotNull final ColumnEncoding columnEncoding) {
         this.countingOutput = Objects.requireNonNull(countingOutput);
         this.column = Objects.requireNonNull(column);
         this.compressorAdapter = Objects.requireNonNull(compressorAdapter);
@@ -92,7 +126,13 @@ final class ColumnWriterImpl implements ColumnWriter {
                         getWidthFromMaxInt(column.getMaxRepetitionLevel()), MIN_SLAB_SIZE, targetPageSize, allocator);
         this.owner = owner;
         offsetIndexBuilder = OffsetIndexBuilder.getBuilder();
+        // Page level statistics are only useful for flat columns, since we only push down filters to those
+        columnIndexBuilder = writeStatistics && column.getMaxRepetitionLevel() == 0
+                ? ColumnIndexBuilder.getBuilder(column.getPrimitiveType(), COLUMN_INDEX_TRUNCATE_LENGTH)
+                : null;
         this.writeStatistics = writeStatistics;
+        this.bloomFilterBuilder = bloomFilterBuilder;
+        this.columnEncoding = Objects.requireNonNull(columnEncoding);
         resetStats();
     }
 
@@ -101,9 +141,12 @@ final class ColumnWriterImpl implements ColumnWriter {
             final int valuesCount,
             @NotNull final Statistics<?> statistics)
             throws IOException {
-        initWriter();
+        initWriter(pageData, valuesCount);
+        maybeUpdateBloomFilter(pageData, valuesCount);
+        final Statistics<?> pageStatistics = makePageStatistics(pageData, statistics);
         // noinspection unchecked
-        bulkWriter.writeBulk(pageData, valuesCount, statistics);
+        bulkWriter.writeBulk(pageData, valuesCount, pageStatistics);
+        addPageStatistics(statistics, pageStatistics);
         if (dlEncoder != null) {
             for (int i = 0; i < valuesCount; i++) {
                 dlEncoder.writeInt(1); // TODO implement a bulk RLE writer
@@ -113,13 +156,109 @@ final class ColumnWriterImpl implements ColumnWriter {
         bulkWriter.reset();
     }
 
-    private void initWriter() {
+    /**
+     * Add the values of a data page to the bloom filter, if we are building one. Pages which follow a dictionary page
+     * hold dictionary positions, and the bloom filter is populated from the dictionary keys instead.
+     */
+    private void maybeUpdateBloomFilter(@NotNull final Object pageData, final int valuesCount) {
+        if (bloomFilterBuilder != null && !hasDictionary) {
+            bloomFilterBuilder.insertPage(pageData, valuesCount);
+        }
+    }
+
+    /**
+     * Make the statistics object the bulk writer should update for a data page. If we are building a column index, this
+     * is a new object for the page which is later merged into the statistics for the column chunk by
+     * {@link #addPageStatistics}. Dictionary encoded pages hold dictionary positions, so their statistics are computed
+     * here from the dictionary values instead, and the bulk writer keeps updating the statistics passed by the caller.
+     *
+     * @param pageData The page values, in the same format as passed to the bulk writers
+     * @param statistics The statistics passed by the caller
+     * @return The statistics object to pass to the bulk writer
+     */
+    private Statistics<?> makePageStatistics(@NotNull final Object pageData, @NotNull final Statistics<?> statistics) {
+        if (columnIndexBuilder == null) {
+            return statistics;
+        }
+        if (hasDictionary) {
+            columnIndexBuilder.add(dictionaryPageStatistics((IntBuffer) pageData));
+            return statistics;
+        }
+        if (statistics instanceof NullStatistics || !column.getPrimitiveType().equals(statistics.type())) {
+            // We cannot merge page statistics into these, so skip the column index for this column chunk
+            columnIndexBuilder = null;
+            return statistics;
+        }
+        return Statistics.createStats(column.getPrimitiveType());
+    }
+
+    /**
+     * Add the statistics of a data page to the column index and merge them into the statistics for the column chunk.
+     */
+    private void addPageStatistics(@NotNull final Statistics<?> statistics,
+            @NotNull final Statistics<?> pageStatistics) {
+        if (pageStatistics != statistics) {
+            statistics.mergeStatistics(pageStatistics);
+            columnIndexBuilder.add(pageStatistics);
+        }
+    }
+
+    /**
+     * Compute the statistics of a dictionary encoded data page from the dictionary values it references.
+     */
+    private Statistics<?> dictionaryPageStatistics(@NotNull final IntBuffer positions) {
+        final Statistics<?> pageStatistics = Statistics.createStats(column.getPrimitiveType());
+        if (pageDictionaryPositions == null) {
+            pageDictionaryPositions = new BitSet(dictionaryPage.num_values);
+        } else {
+            pageDictionaryPositions.clear();
+        }
+        for (int ii = positions.position(); ii < positions.limit(); ++ii) {
+            final int position = positions.get(ii);
+            if (position == QueryConstants.NULL_INT) {
+                pageStatistics.incrementNumNulls();
+            } else {
+                pageDictionaryPositions.set(position);
+            }
+        }
+        for (int position = pageDictionaryPositions.nextSetBit(0); position >= 0;
+                position = pageDictionaryPositions.nextSetBit(position + 1)) {
+            switch (column.getPrimitiveType().getPrimitiveTypeName()) {
+                case INT32:
+                    pageStatistics.updateStats(((IntBuffer) dictionaryValues).get(position));
+                    break;
+                case INT64:
+                    pageStatistics.updateStats(((LongBuffer) dictionaryValues).get(position));
+                    break;
+                case FLOAT:
+                    pageStatistics.updateStats(((FloatBuffer) dictionaryValues).get(position));
+                    break;
+                case DOUBLE:
+                    pageStatistics.updateStats(((DoubleBuffer) dictionaryValues).get(position));
+                    break;
+                case BINARY:
+                    pageStatistics.updateStats(((Binary[]) dictionaryValues)[position]);
+                    break;
+                default:
+                    throw new UnsupportedOperationException(
+                            "Unsupported dictionary type " + column.getPrimitiveType().getPrimitiveTypeName());
+            }
+        }
+        return pageStatistics;
+    }
+
+    private void initWriter(@NotNull final Object pageData, final int valuesCount) {
         if (bulkWriter == null) {
             if (hasDictionary) {
+                dataEncoding = Encoding.RLE_DICTIONARY;
                 bulkWriter = new RleIntChunkedWriter(targetPageSize, allocator,
                         (byte) (32 - Integer.numberOfLeadingZeros(dictionaryPage.num_values)));
             } else {
-                bulkWriter = getWriter(column.getPrimitiveType());
+                dataEncoding = columnEncoding == ColumnEncoding.AUTO
+                        ? ColumnEncodingSelector.select(column.getPrimitiveType(), pageData, valuesCount,
+                                compressorAdapter.getCodecName() != CompressionCodecName.UNCOMPRESSED)
+                        : columnEncoding.encoding();
+                bulkWriter = getWriter(column.getPrimitiveType(), dataEncoding);
             }
         } else {
             bulkWriter.reset();
@@ -135,8 +274,11 @@ final class ColumnWriterImpl implements ColumnWriter {
         encodingStatsBuilder.addDictEncoding(org.apache.parquet.column.Encoding.PLAIN);
 
         // noinspection rawtypes
-        final BulkWriter dictionaryWriter = getWriter(column.getPrimitiveType());
+        final BulkWriter dictionaryWriter = getWriter(column.getPrimitiveType(), Encoding.PLAIN);
 
+        if (bloomFilterBuilder != null) {
+            bloomFilterBuilder.insertDictionary(dictionaryValues, valuesCount);
+        }
         // noinspection unchecked
         dictionaryWriter.writeBulk(dictionaryValues, valuesCount, NullStatistics.INSTANCE);
         dictionaryOffset = countingOutput.getCount();
@@ -144,6 +286,7 @@ final class ColumnWriterImpl implements ColumnWriter {
         pageCount++;
         hasDictionary = true;
         dictionaryPage = new DictionaryPageHeader(valuesCount, org.apache.parquet.format.Encoding.PLAIN);
+        this.dictionaryValues = dictionaryValues;
     }
 
     private void writeDictionaryPage(final ByteBuffer dictionaryBuffer, final int valuesCount) throws IOException {
@@ -172,31 +315,37 @@ final class ColumnWriterImpl implements ColumnWriter {
         encodings.add(Encoding.PLAIN);
     }
 
-    private BulkWriter getWriter(final PrimitiveType primitiveType) {
+    private BulkWriter getWriter(final PrimitiveType primitiveType, final Encoding encoding) {
         switch (primitiveType.getPrimitiveTypeName()) {
             case INT96:
             case FIXED_LEN_BYTE_ARRAY:
                 throw new UnsupportedOperationException("No support for writing FIXED_LENGTH or INT96 types");
             case INT32:
-                final LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
-                if (annotation != null) {
-                    // Appropriately set the null value for different type of integers
-                    if (LogicalTypeAnnotation.intType(8, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_BYTE);
-                    } else if (LogicalTypeAnnotation.intType(16, true).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_SHORT);
-                    } else if (LogicalTypeAnnotation.intType(16, false).equals(annotation)) {
-                        return new PlainIntChunkedWriter(targetPageSize, allocator, QueryConstants.NULL_CHAR);
-                    }
+                // Appropriately set the null value for different type of integers
+                final int nullValue = Helpers.intNullValue(primitiveType);
+                if (encoding == Encoding.DELTA_BINARY_PACKED) {
+                    return new DeltaIntChunkedWriter(targetPageSize, allocator, nullValue);
                 }
-                return new PlainIntChunkedWriter(targetPageSize, allocator);
+                return new PlainIntChunkedWriter(targetPageSize, allocator, nullValue);
             case INT64:
+                if (encoding == Encoding.DELTA_BINARY_PACKED) {
+                    return new DeltaLongChunkedWriter(targetPageSize, allocator);
+                }
                 return new PlainLongChunkedWriter(targetPageSize, allocator);
             case FLOAT:
+                if (encoding == Encoding.BYTE_STREAM_SPLIT) {
+                    return new ByteStreamSplitFloatChunkedWriter(targetPageSize, allocator);
+                }
                 return new PlainFloatChunkedWriter(targetPageSize, allocator);
             case DOUBLE:
+                if (encoding == Encoding.BYTE_STREAM_SPLIT) {
+                    return new ByteStreamSplitDoubleChunkedWriter(targetPageSize, allocator);
+                }
                 return new PlainDoubleChunkedWriter(targetPageSize, allocator);
             case BINARY:
+                if (encoding == Encoding.DELTA_LENGTH_BYTE_ARRAY || encoding == Encoding.DELTA_BYTE_ARRAY) {
+                    return new DeltaBinaryChunkedWriter(targetPageSize, allocator, encoding);
+                }
                 return new PlainBinaryChunkedWriter(targetPageSize, allocator);
             case BOOLEAN:
                 return new PlainBooleanChunkedWriter();
@@ -214,9 +363,12 @@ final class ColumnWriterImpl implements ColumnWriter {
         if (dlEncoder == null) {
             throw new IllegalStateException("Null values not supported");
         }
-        initWriter();
+        initWriter(pageData, valuesCount);
+        maybeUpdateBloomFilter(pageData, valuesCount);
+        final Statistics<?> pageStatistics = makePageStatistics(pageData, statistics);
         // noinspection unchecked
-        bulkWriter.writeBulkFilterNulls(pageData, dlEncoder, valuesCount, statistics);
+        bulkWriter.writeBulkFilterNulls(pageData, dlEncoder, valuesCount, pageStatistics);
+        addPageStatistics(statistics, pageStatistics);
         writePage(bulkWriter.getByteBufferView(), valuesCount, valuesCount);
         bulkWriter.reset();
     }
@@ -232,7 +384,9 @@ final class ColumnWriterImpl implements ColumnWriter {
         if (rlEncoder == null) {
             throw new IllegalStateException("Repeating values not supported");
         }
-        initWriter();
+        initWriter(pageData, nonNullValueCount);
+        // The buffer holds only the leaf values, so bound the bloom filter by those rather than the page's value count
+        maybeUpdateBloomFilter(pageData, nonNullValueCount);
         // noinspection unchecked
         final int valueCount =
                 bulkWriter.writeBulkVector(pageData, repeatCount, rlEncoder, dlEncoder, nonNullValueCount, statistics);
@@ -410,7 +564,7 @@ final class ColumnWriterImpl implements ColumnWriter {
                 final BytesInput rlBytesInput = rlEncoder.toBytes();
                 bytes = BytesInput.concat(BytesInput.fromInt((int) rlBytesInput.size()), rlBytesInput, bytes);
             }
-            writePage(bytes, (int) valueCount, rowCount, hasDictionary ? Encoding.RLE_DICTIONARY : Encoding.PLAIN);
+            writePage(bytes, (int) valueCount, rowCount, dataEncoding);
         } catch (IOException e) {
             throw new ParquetEncodingException("could not write page for " + column.getPath()[0], e);
         }
@@ -424,18 +578,7 @@ final class ColumnWriterImpl implements ColumnWriter {
 
     @Override
     public void close() {
-        owner.releaseWriter(this,
-                ColumnChunkMetaData.get(ColumnPath.get(column.getPath()),
-                        column.getPrimitiveType(),
-                        compressorAdapter.getCodecName(),
-                        encodingStatsBuilder.build(),
-                        encodings,
-                        statistics,
-                        firstDataPageOffset,
-                        dictionaryOffset,
-                        totalValueCount,
-                        compressedLength,
-                        uncompressedLength));
+        owner.releaseWriter(this);
 
         // We do not call bout.close() because it closes the underlying writeChannel, and this class does not own the
         // writeChannel. Also, we are assuming that all the buffered data has already been flushed to the writeChannel.
@@ -445,8 +588,45 @@ final class ColumnWriterImpl implements ColumnWriter {
         return column;
     }
 
-    OffsetIndex getOffsetIndex() {
-        return offsetIndexBuilder.build(firstDataPageOffset);
+    /**
+     * @param offsetShift The position in the file of the first byte written by this writer, which is non-zero if this
+     *        writer was writing to a buffer instead of the file
+     * @return The metadata for the column chunk written by this writer
+     */
+    ColumnChunkMetaData getColumnChunkMetaData(final long offsetShift) {
+        return ColumnChunkMetaData.get(ColumnPath.get(column.getPath()),
+                column.getPrimitiveType(),
+                compressorAdapter.getCodecName(),
+                encodingStatsBuilder.build(),
+                encodings,
+                statistics,
+                shiftOffset(firstDataPageOffset, offsetShift),
+                shiftOffset(dictionaryOffset, offsetShift),
+                totalValueCount,
+                compressedLength,
+                uncompressedLength);
+    }
+
+    OffsetIndex getOffsetIndex(final long offsetShift) {
+        return offsetIndexBuilder.build(shiftOffset(firstDataPageOffset, offsetShift));
+    }
+
+    /**
+     * @return The column index for the column chunk written by this writer, or {@code null} if we did not write one
+     *         because statistics are disabled, the column is repeated, or the page statistics are not representable
+     */
+    @Nullable
+    ColumnIndex getColumnIndex() {
+        return columnIndexBuilder == null ? null : columnIndexBuilder.build();
+    }
+
+    @Nullable
+    BloomFilter getBloomFilter() {
+        return bloomFilterBuilder == null ? null : bloomFilterBuilder.build();
+    }
+
+    private static long shiftOffset(final long offset, final long offsetShift) {
+        return offset == -1 ? -1 : offset + offsetShift;
     }
 
     @Override
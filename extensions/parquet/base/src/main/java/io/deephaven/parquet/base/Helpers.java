@@ -3,8 +3,11 @@
 //
 package io.deephaven.parquet.base;
 
+import io.deephaven.util.QueryConstants;
 import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.bytes.BytesUtils;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.EOFException;
@@ -102,4 +105,25 @@ final class Helpers {
         }
         return nullOffset;
     }
+
+    /**
+     * Get the Deephaven {@code null} representation for values of an INT32 column, which can hold Byte, Char, and
+     * Short data as well as ints.
+     *
+     * @param primitiveType The type of the column
+     * @return The type-specific {@code null} value
+     */
+    static int intNullValue(@NotNull final PrimitiveType primitiveType) {
+        final LogicalTypeAnnotation annotation = primitiveType.getLogicalTypeAnnotation();
+        if (annotation != null) {
+            if (LogicalTypeAnnotation.intType(8, true).equals(annotation)) {
+                return QueryConstants.NULL_BYTE;
+            } else if (LogicalTypeAnnotation.intType(16, true).equals(annotation)) {
+                return QueryConstants.NULL_SHORT;
+            } else if (LogicalTypeAnnotation.intType(16, false).equals(annotation)) {
+                return QueryConstants.NULL_CHAR;
+            }
+        }
+        return QueryConstants.NULL_INT;
+    }
 }
@@ -75,23 +75,43 @@ public class ParquetFileReader {
         } else {
             rootURI = parquetFileURI;
         }
+        final ParquetFooterCache.Footer footer;
         try (
                 final SeekableChannelContext context = channelsProvider.makeSingleUseReadContext();
                 final SeekableByteChannel ch = channelsProvider.getReadChannel(context, parquetFileURI)) {
-            final int footerLength = positionToFileMetadata(parquetFileURI, ch);
-            try (final InputStream in = channelsProvider.getInputStream(ch, footerLength)) {
-                // Ideally, we would be able to get rid of our dependency on the underlying thrift structures, but there
-                // is a non-trivial chain of usages stemming from fileMetaData. For now, we will create ParquetMetadata
-                // in a two-step process that preserves the thrift structure.
-                // metadata = PARQUET_METADATA_CONVERTER.readParquetMetadata(in, ParquetMetadataConverter.NO_FILTER);
-                fileMetaData = Util.readFileMetaData(in);
+            final long fileSize = ch.size();
+            final String version = channelsProvider.getVersion(parquetFileURI);
+            final ParquetFooterCache.Footer cachedFooter = ParquetFooterCache.get(parquetFileURI, fileSize, version);
+            if (cachedFooter != null) {
+                footer = cachedFooter;
+            } else {
+                footer = readFooter(parquetFileURI, ch);
+                ParquetFooterCache.put(parquetFileURI, fileSize, version, footer);
             }
         }
+        fileMetaData = footer.fileMetaData;
+        metadata = footer.metadata;
+    }
+
+    private ParquetFooterCache.Footer readFooter(
+            @NotNull final URI parquetFileURI,
+            @NotNull final SeekableByteChannel ch) throws IOException {
+        final int footerLength = positionToFileMetadata(parquetFileURI, ch);
+        final FileMetaData fileMetaData;
+        try (final InputStream in = channelsProvider.getInputStream(ch, footerLength)) {
+            // Ideally, we would be able to get rid of our dependency on the underlying thrift structures, but there
+            // is a non-trivial chain of usages stemming from fileMetaData. For now, we will create ParquetMetadata
+            // in a two-step process that preserves the thrift structure.
+            // metadata = PARQUET_METADATA_CONVERTER.readParquetMetadata(in, ParquetMetadataConverter.NO_FILTER);
+            fileMetaData = Util.readFileMetaData(in);
+        }
+        final ParquetMetadata metadata;
         try {
             metadata = PARQUET_METADATA_CONVERTER.fromParquetMetadata(fileMetaData);
         } catch (IOException e) {
             throw new IOException("Failed to convert Parquet file metadata: " + parquetFileURI, e);
         }
+        return new ParquetFooterCache.Footer(fileMetaData, metadata, footerLength);
     }
 
     /**
@@ -149,7 +169,8 @@ public class ParquetFileReader {
                 rootURI,
                 getSchema(),
                 getSchema(),
-                version);
+                version,
+                fileMetaData.getCreated_by());
     }
 
     public ParquetMetadata getMetadata() {
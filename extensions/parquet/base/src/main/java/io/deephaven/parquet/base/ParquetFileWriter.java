@@ -9,12 +9,16 @@ import io.deephaven.parquet.compress.CompressorAdapter;
 import io.deephaven.parquet.compress.DeephavenCompressorAdapterFactory;
 import org.apache.parquet.Version;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 
 import org.apache.parquet.format.Util;
 import org.apache.parquet.hadoop.metadata.*;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.hadoop.metadata.IndexReference;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -24,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.deephaven.parquet.base.ParquetUtils.MAGIC;
 import static org.apache.parquet.format.Util.writeFileMetaData;
@@ -36,14 +41,29 @@ public final class ParquetFileWriter implements AutoCloseable {
     private final MessageType type;
     private final int targetPageSize;
     private final ByteBufferAllocator allocator;
+    private final String codecName;
     private final CompressorAdapter compressorAdapter;
     private final Map<String, String> extraMetaData;
     private final List<BlockMetaData> blocks = new ArrayList<>();
+    private final List<List<ColumnIndex>> columnIndexes = new ArrayList<>();
     private final List<List<OffsetIndex>> offsetIndexes = new ArrayList<>();
+    private final List<List<BloomFilter>> bloomFilters = new ArrayList<>();
     private final URI dest;
     private final ParquetMetadataFileWriter metadataFileWriter;
     private final boolean writeStatistics;
+    private final Set<String> bloomFilterColumns;
+    private final double bloomFilterFpp;
+    private final int maximumBloomFilterBytes;
+    private final Map<String, ColumnEncoding> columnEncodings;
 
+    /**
+     * @param bloomFilterColumns The names of the (top-level) parquet columns for which a split-block bloom filter should
+     *        be written for each column chunk
+     * @param bloomFilterFpp The target false positive probability for the bloom filters
+     * @param maximumBloomFilterBytes The maximum size of a single bloom filter, in bytes
+     * @param columnEncodings The encodings to use for the non-dictionary data pages of (top-level) parquet columns;
+     *        columns that are not present are written with {@link ColumnEncoding#PLAIN}
+     */
     public ParquetFileWriter(
             final URI dest,
             final OutputStream destOutputStream,
@@ -53,26 +73,72 @@ public final class ParquetFileWriter implements AutoCloseable {
             final String codecName,
             final Map<String, String> extraMetaData,
             @NotNull final ParquetMetadataFileWriter metadataFileWriter,
-            final boolean writeStatistics) throws IOException {
+            final boolean writeStatistics,
+            @NotNull final Set<String> bloomFilterColumns,
+            final double bloomFilterFpp,
+            final int maximumBloomFilterBytes,
+            @NotNull final Map<String, ColumnEncoding> columnEncodings) throws IOException {
+        validateColumnEncodings(type, columnEncodings);
         this.targetPageSize = targetPageSize;
         this.allocator = allocator;
         this.extraMetaData = new HashMap<>(extraMetaData);
         this.countingOutput = new CountingOutputStream(destOutputStream);
         countingOutput.write(MAGIC);
         this.type = type;
+        this.codecName = codecName;
         this.compressorAdapter = DeephavenCompressorAdapterFactory.getInstance().getByName(codecName);
         this.dest = dest;
         this.metadataFileWriter = metadataFileWriter;
         this.writeStatistics = writeStatistics;
+        this.bloomFilterColumns = Set.copyOf(bloomFilterColumns);
+        this.bloomFilterFpp = bloomFilterFpp;
+        this.maximumBloomFilterBytes = maximumBloomFilterBytes;
+        this.columnEncodings = Map.copyOf(columnEncodings);
+    }
+
+    private static void validateColumnEncodings(
+            @NotNull final MessageType type,
+            @NotNull final Map<String, ColumnEncoding> columnEncodings) {
+        for (final Map.Entry<String, ColumnEncoding> entry : columnEncodings.entrySet()) {
+            // Vectors are written as a group wrapping a single repeated leaf, and the encoding applies to the leaf
+            Type leafType = type.getType(entry.getKey());
+            while (!leafType.isPrimitive()) {
+                leafType = leafType.asGroupType().getType(0);
+            }
+            final PrimitiveType.PrimitiveTypeName typeName = leafType.asPrimitiveType().getPrimitiveTypeName();
+            if (!entry.getValue().supports(typeName)) {
+                throw new IllegalArgumentException("Encoding " + entry.getValue() + " is not supported for column "
+                        + entry.getKey() + " of type " + typeName);
+            }
+        }
     }
 
     public RowGroupWriter addRowGroup(final long size) {
+        return addRowGroup(size, false);
+    }
+
+    /**
+     * Add a row group to the file. All the column chunks of a row group must be written before adding the next one.
+     *
+     * @param size The number of rows in the row group
+     * @param concurrentColumns Whether the column writers of this row group may be used concurrently from different
+     *        threads. Columns must still be added in file order. A column chunk with preceding column chunks still
+     *        open is encoded and compressed into a buffer, held in memory within a process-wide budget and spilled to
+     *        a temporary file beyond it, which is appended to the file once all preceding column chunks are closed.
+     * @return The writer for the row group
+     */
+    public RowGroupWriter addRowGroup(final long size, final boolean concurrentColumns) {
         final RowGroupWriterImpl rowGroupWriter =
                 new RowGroupWriterImpl(countingOutput, type, targetPageSize, allocator, compressorAdapter,
-                        writeStatistics);
+                        writeStatistics, bloomFilterColumns, bloomFilterFpp, maximumBloomFilterBytes,
+                        columnEncodings, concurrentColumns
+                                ? () -> DeephavenCompressorAdapterFactory.getInstance().getByName(codecName)
+                                : null);
         rowGroupWriter.getBlock().setRowCount(size);
         blocks.add(rowGroupWriter.getBlock());
+        columnIndexes.add(rowGroupWriter.columnIndexes());
         offsetIndexes.add(rowGroupWriter.offsetIndexes());
+        bloomFilters.add(rowGroupWriter.bloomFilters());
         return rowGroupWriter;
     }
 
@@ -85,7 +151,9 @@ public final class ParquetFileWriter implements AutoCloseable {
 
     @Override
     public void close() throws IOException {
+        serializeColumnIndexes();
         serializeOffsetIndexes();
+        serializeBloomFilters();
         final ParquetMetadata footer =
                 new ParquetMetadata(new FileMetaData(type, extraMetaData, Version.FULL_VERSION), blocks);
         serializeFooter(footer, countingOutput);
@@ -114,6 +182,26 @@ public final class ParquetFileWriter implements AutoCloseable {
         };
     }
 
+    private void serializeColumnIndexes() throws IOException {
+        for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+            final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
+            final List<ColumnIndex> blockColumnIndexes = columnIndexes.get(bIndex);
+            for (int cIndex = 0, cSize = columns.size(); cIndex < cSize; ++cIndex) {
+                final ColumnIndex columnIndex = blockColumnIndexes.get(cIndex);
+                if (columnIndex == null) {
+                    continue;
+                }
+                final ColumnChunkMetaData column = columns.get(cIndex);
+                final long offset = countingOutput.getCount();
+                Util.writeColumnIndex(
+                        ParquetMetadataConverter.toParquetColumnIndex(column.getPrimitiveType(), columnIndex),
+                        countingOutput);
+                column.setColumnIndexReference(
+                        new IndexReference(offset, (int) (countingOutput.getCount() - offset)));
+            }
+        }
+    }
+
     private void serializeOffsetIndexes() throws IOException {
         for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
             final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
@@ -131,4 +219,23 @@ public final class ParquetFileWriter implements AutoCloseable {
             }
         }
     }
+
+    private void serializeBloomFilters() throws IOException {
+        for (int bIndex = 0, bSize = blocks.size(); bIndex < bSize; ++bIndex) {
+            final List<ColumnChunkMetaData> columns = blocks.get(bIndex).getColumns();
+            final List<BloomFilter> blockBloomFilters = bloomFilters.get(bIndex);
+            for (int cIndex = 0, cSize = columns.size(); cIndex < cSize; ++cIndex) {
+                final BloomFilter bloomFilter = blockBloomFilters.get(cIndex);
+                if (bloomFilter == null) {
+                    continue;
+                }
+                final ColumnChunkMetaData column = columns.get(cIndex);
+                final long offset = countingOutput.getCount();
+                Util.writeBloomFilterHeader(ParquetMetadataConverter.toBloomFilterHeader(bloomFilter), countingOutput);
+                bloomFilter.writeTo(countingOutput);
+                column.setBloomFilterOffset(offset);
+                column.setBloomFilterLength((int) (countingOutput.getCount() - offset));
+            }
+        }
+    }
 }
@@ -0,0 +1,249 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.util.channel.SeekableChannelsProvider;
+import org.apache.parquet.format.FileMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A process-wide cache of parsed parquet footers, shared by every {@link ParquetFileReader}. Footers are keyed by the
+ * file URI, its size, and its {@link SeekableChannelsProvider#getVersion(URI) version}, so a footer is never served for
+ * a file that has been rewritten; files whose version is unknown are not cached. The cache is bounded by the total
+ * serialized size of the cached footers, set via the {@code ParquetFooterCache.maxFooterBytes} configuration property
+ * or {@link #setMaxFooterBytes(long)}, and evicted in least recently used order. A limit of zero disables caching.
+ * <p>
+ * The limit counts serialized bytes, not heap. Each cached footer is held both as the thrift {@link FileMetaData} and
+ * as the {@link ParquetMetadata} built from it, and these decoded object graphs retain several times the serialized
+ * size, so the default limit of 8 MiB is deliberately small.
+ * <p>
+ * Footers can also be {@link #prefetch(URI, SeekableChannelsProvider) prefetched} in parallel while table locations are
+ * being discovered, using {@code ParquetFooterCache.prefetchThreads} threads. Prefetching is disabled by default, since
+ * it reads the footers of every discovered location, including those that would later be excluded by partition
+ * filters.
+ */
+public final class ParquetFooterCache {
+
+    private static final int PREFETCH_THREADS = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ParquetFooterCache.class, "prefetchThreads", 0);
+    private static final int PREFETCH_QUEUE_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(ParquetFooterCache.class, "prefetchQueueSize", 4096);
+
+    private static final Value HITS = Stats.makeItem("ParquetFooterCache", "hits", ThreadSafeCounter.FACTORY)
+            .getValue();
+    private static final Value MISSES = Stats.makeItem("ParquetFooterCache", "misses", ThreadSafeCounter.FACTORY)
+            .getValue();
+    private static final Value EVICTIONS =
+            Stats.makeItem("ParquetFooterCache", "evictions", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value PREFETCHED =
+            Stats.makeItem("ParquetFooterCache", "prefetched", ThreadSafeCounter.FACTORY).getValue();
+
+    /**
+     * Guards all of the static state below.
+     */
+    private static final Object LOCK = new Object();
+
+    private static long maxFooterBytes = Configuration.getInstance()
+            .getLongForClassWithDefault(ParquetFooterCache.class, "maxFooterBytes", 8L << 20);
+    private static long footerBytes;
+
+    /**
+     * The cached footers, in access order.
+     */
+    private static final LinkedHashMap<Key, Footer> FOOTERS = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static ThreadPoolExecutor prefetchExecutor;
+
+    private ParquetFooterCache() {}
+
+    private static final class Key {
+        private final URI uri;
+        private final long fileSize;
+        private final String version;
+
+        private Key(@NotNull final URI uri, final long fileSize, @NotNull final String version) {
+            this.uri = uri;
+            this.fileSize = fileSize;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key otherKey = (Key) other;
+            return fileSize == otherKey.fileSize && uri.equals(otherKey.uri) && version.equals(otherKey.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, fileSize, version);
+        }
+    }
+
+    /**
+     * A parsed footer. Both representations are kept, since {@link ParquetFileReader} exposes both; neither is ever
+     * modified after parsing, so they are safe to share between readers.
+     */
+    static final class Footer {
+        final FileMetaData fileMetaData;
+        final ParquetMetadata metadata;
+        final int footerLength;
+
+        Footer(@NotNull final FileMetaData fileMetaData, @NotNull final ParquetMetadata metadata,
+                final int footerLength) {
+            this.fileMetaData = fileMetaData;
+            this.metadata = metadata;
+            this.footerLength = footerLength;
+        }
+    }
+
+    /**
+     * @return The maximum total serialized size of the cached footers, which is smaller than the heap they retain
+     */
+    public static long getMaxFooterBytes() {
+        synchronized (LOCK) {
+            return maxFooterBytes;
+        }
+    }
+
+    /**
+     * Set the maximum total serialized size of the cached footers, evicting footers if the new limit is smaller than
+     * the bytes already cached. The heap retained by the cached footers is several times this limit.
+     *
+     * @param newMaxFooterBytes The new limit; must be non-negative, and zero disables caching
+     */
+    public static void setMaxFooterBytes(final long newMaxFooterBytes) {
+        if (newMaxFooterBytes < 0) {
+            throw new IllegalArgumentException("Footer cache size must be non-negative, found " + newMaxFooterBytes);
+        }
+        synchronized (LOCK) {
+            maxFooterBytes = newMaxFooterBytes;
+            evictToMaxSize();
+        }
+    }
+
+    /**
+     * @return The number of footers currently cached
+     */
+    public static int size() {
+        synchronized (LOCK) {
+            return FOOTERS.size();
+        }
+    }
+
+    /**
+     * Remove all cached footers.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            FOOTERS.clear();
+            footerBytes = 0;
+        }
+    }
+
+    @Nullable
+    static Footer get(@NotNull final URI uri, final long fileSize, @Nullable final String version) {
+        if (version == null) {
+            return null;
+        }
+        final Footer footer;
+        synchronized (LOCK) {
+            footer = FOOTERS.get(new Key(uri, fileSize, version));
+        }
+        (footer == null ? MISSES : HITS).increment(1);
+        return footer;
+    }
+
+    static void put(
+            @NotNull final URI uri,
+            final long fileSize,
+            @Nullable final String version,
+            @NotNull final Footer footer) {
+        if (version == null) {
+            return;
+        }
+        synchronized (LOCK) {
+            if (footer.footerLength > maxFooterBytes) {
+                return;
+            }
+            final Footer previous = FOOTERS.put(new Key(uri, fileSize, version), footer);
+            if (previous != null) {
+                footerBytes -= previous.footerLength;
+            }
+            footerBytes += footer.footerLength;
+            evictToMaxSize();
+        }
+    }
+
+    private static void evictToMaxSize() {
+        final Iterator<Map.Entry<Key, Footer>> iterator = FOOTERS.entrySet().iterator();
+        while (footerBytes > maxFooterBytes && iterator.hasNext()) {
+            footerBytes -= iterator.next().getValue().footerLength;
+            iterator.remove();
+            EVICTIONS.increment(1);
+        }
+    }
+
+    /**
+     * Read the footer of the given file in the background, if prefetching is enabled, so that a later
+     * {@link ParquetFileReader#create(URI, SeekableChannelsProvider)} finds it in the cache. Failures are ignored; they
+     * will surface again when the file is actually opened.
+     *
+     * @param uri The URI of the parquet file
+     * @param channelsProvider The provider to read the file with
+     */
+    public static void prefetch(@NotNull final URI uri, @NotNull final SeekableChannelsProvider channelsProvider) {
+        if (PREFETCH_THREADS <= 0 || getMaxFooterBytes() == 0) {
+            return;
+        }
+        getPrefetchExecutor().execute(() -> {
+            try {
+                ParquetFileReader.create(uri, channelsProvider);
+                PREFETCHED.increment(1);
+            } catch (final RuntimeException ignored) {
+            }
+        });
+    }
+
+    private static ThreadPoolExecutor getPrefetchExecutor() {
+        synchronized (LOCK) {
+            if (prefetchExecutor == null) {
+                final AtomicInteger threadCount = new AtomicInteger();
+                prefetchExecutor = new ThreadPoolExecutor(PREFETCH_THREADS, PREFETCH_THREADS,
+                        60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+                        runnable -> {
+                            final Thread thread =
+                                    new Thread(runnable, "ParquetFooterPrefetch-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        // Prefetching is only an optimization; drop footers we cannot keep up with
+                        new ThreadPoolExecutor.DiscardPolicy());
+                prefetchExecutor.allowCoreThreadTimeOut(true);
+            }
+            return prefetchExecutor;
+        }
+    }
+}
@@ -29,6 +29,10 @@ final class RowGroupReaderImpl implements RowGroupReader {
      */
     private final URI rootURI;
     private final String version;
+    /**
+     * The "created_by" string from the file metadata, or null if it's not present.
+     */
+    private final String createdBy;
 
     RowGroupReaderImpl(
             @NotNull final RowGroup rowGroup,
@@ -36,7 +40,8 @@ final class RowGroupReaderImpl implements RowGroupReader {
             @NotNull final URI rootURI,
             @NotNull final MessageType type,
             @NotNull final MessageType schema,
-            @Nullable final String version) {
+            @Nullable final String version,
+            @Nullable final String createdBy) {
         this.channelsProvider = channelsProvider;
         this.rowGroup = rowGroup;
         this.rootURI = rootURI;
@@ -56,6 +61,7 @@ final class RowGroupReaderImpl implements RowGroupReader {
             schemaMap.put(key, nonRequiredFields);
         }
         this.version = version;
+        this.createdBy = createdBy;
     }
 
     @Override
@@ -68,7 +74,7 @@ final class RowGroupReaderImpl implements RowGroupReader {
             return null;
         }
         return new ColumnChunkReaderImpl(columnName, columnChunk, channelsProvider, rootURI, type, fieldTypes,
-                numRows(), version);
+                numRows(), version, createdBy);
     }
 
     @Override
@@ -7,36 +7,99 @@ import com.google.common.io.CountingOutputStream;
 import io.deephaven.parquet.compress.CompressorAdapter;
 import io.deephaven.parquet.impl.ParquetSchemaUtil;
 import org.apache.parquet.bytes.ByteBufferAllocator;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.Type;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
+/**
+ * Writes the column chunks of a single row group. Column writers are appended to the file in the order they were added.
+ * By default, only one column writer can be active at a time and it writes directly to the file. If constructed with a
+ * {@code concurrentCompressorFactory}, multiple column writers can be active at once and used from different threads.
+ * A column writer added when all preceding chunks have been appended writes directly to the file; the others buffer
+ * their column chunks in a {@link ColumnChunkBuffer}, which holds them in memory within a process-wide budget and spills
+ * them to temporary files beyond it. Completed chunks are appended to the file as soon as all the chunks preceding them
+ * have been appended.
+ */
 final class RowGroupWriterImpl implements RowGroupWriter {
     private final CountingOutputStream countingOutput;
     private final MessageType schema;
     private final int targetPageSize;
     private final ByteBufferAllocator allocator;
-    private ColumnWriterImpl activeWriter;
+    /**
+     * The column writers that have been added but not yet appended to the file, in the order they were added
+     */
+    private final Deque<PendingColumn> pendingColumns = new ArrayDeque<>();
     private final BlockMetaData blockMetaData;
+    private final List<ColumnIndex> currentColumnIndexes = new ArrayList<>();
     private final List<OffsetIndex> currentOffsetIndexes = new ArrayList<>();
+    private final List<BloomFilter> currentBloomFilters = new ArrayList<>();
     private final CompressorAdapter compressorAdapter;
     private final boolean writeStatistics;
+    private final Set<String> bloomFilterColumns;
+    private final double bloomFilterFpp;
+    private final int maximumBloomFilterBytes;
+    private final Map<String, ColumnEncoding> columnEncodings;
+    @Nullable
+    private final Supplier<CompressorAdapter> concurrentCompressorFactory;
 
+    /**
+     * A column writer, along with the compressor it owns if it is writing concurrently, and its buffer if it is not
+     * writing directly to the file
+     */
+    private static final class PendingColumn {
+        private final ColumnWriterImpl writer;
+        @Nullable
+        private final ColumnChunkBuffer buffer;
+        @Nullable
+        private final CompressorAdapter compressorAdapter;
+        private boolean closed;
+
+        private PendingColumn(
+                final ColumnWriterImpl writer,
+                @Nullable final ColumnChunkBuffer buffer,
+                @Nullable final CompressorAdapter compressorAdapter) {
+            this.writer = writer;
+            this.buffer = buffer;
+            this.compressorAdapter = compressorAdapter;
+        }
+    }
+
+    /**
+     * @param concurrentCompressorFactory If non-null, column writers may be used concurrently and each of them uses a
+     *        new compressor from this factory, otherwise only one column writer may be active at a time and all of them
+     *        share {@code compressorAdapter}
+     */
     RowGroupWriterImpl(
             CountingOutputStream countingOutput,
             MessageType schema,
             int targetPageSize,
             ByteBufferAllocator allocator,
             CompressorAdapter compressorAdapter,
-            boolean writeStatistics) {
+            boolean writeStatistics,
+            Set<String> bloomFilterColumns,
+            double bloomFilterFpp,
+            int maximumBloomFilterBytes,
+            Map<String, ColumnEncoding> columnEncodings,
+            @Nullable Supplier<CompressorAdapter> concurrentCompressorFactory) {
         this.countingOutput = Objects.requireNonNull(countingOutput);
         this.schema = Objects.requireNonNull(schema);
         this.targetPageSize = targetPageSize;
@@ -44,6 +107,11 @@ final class RowGroupWriterImpl implements RowGroupWriter {
         this.blockMetaData = new BlockMetaData();
         this.compressorAdapter = Objects.requireNonNull(compressorAdapter);
         this.writeStatistics = writeStatistics;
+        this.bloomFilterColumns = Objects.requireNonNull(bloomFilterColumns);
+        this.bloomFilterFpp = bloomFilterFpp;
+        this.maximumBloomFilterBytes = maximumBloomFilterBytes;
+        this.columnEncodings = Objects.requireNonNull(columnEncodings);
+        this.concurrentCompressorFactory = concurrentCompressorFactory;
     }
 
     String[] getPrimitivePath(String columnName) {
@@ -61,21 +129,65 @@ final class RowGroupWriterImpl implements RowGroupWriter {
         return result;
     }
 
+    /**
+     * Add a writer for the next column chunk of this row group. Column chunks are written to the file in the order in
+     * which this method is called.
+     */
     @Override
-    public ColumnWriter addColumn(String columnName) {
-        if (activeWriter != null) {
+    public synchronized ColumnWriter addColumn(String columnName) {
+        if (concurrentCompressorFactory == null && !pendingColumns.isEmpty()) {
             throw new IllegalStateException(
-                    "There is already an active column writer for " + activeWriter.getColumn().getPath()[0]
+                    "There is already an active column writer for "
+                            + pendingColumns.getFirst().writer.getColumn().getPath()[0]
                             + " need to close that before opening a writer for " + columnName);
         }
-        activeWriter = new ColumnWriterImpl(this,
-                countingOutput,
-                ParquetSchemaUtil.columnDescriptor(schema, getPrimitivePath(columnName)).orElseThrow(),
-                compressorAdapter,
+        final ColumnDescriptor column =
+                ParquetSchemaUtil.columnDescriptor(schema, getPrimitivePath(columnName)).orElseThrow();
+        final PendingColumn pendingColumn;
+        if (concurrentCompressorFactory == null) {
+            pendingColumn = new PendingColumn(
+                    makeColumnWriter(columnName, column, countingOutput, compressorAdapter), null, null);
+        } else if (pendingColumns.isEmpty()) {
+            // Nothing precedes this column chunk, so it can be streamed to the file instead of buffered
+            final CompressorAdapter columnCompressorAdapter = concurrentCompressorFactory.get();
+            pendingColumn = new PendingColumn(
+                    makeColumnWriter(columnName, column, countingOutput, columnCompressorAdapter),
+                    null, columnCompressorAdapter);
+        } else {
+            final ColumnChunkBuffer buffer =
+                    new ColumnChunkBuffer(ColumnChunkBuffer.DEFAULT_BUDGET, targetPageSize, allocator);
+            final CompressorAdapter columnCompressorAdapter = concurrentCompressorFactory.get();
+            pendingColumn = new PendingColumn(
+                    makeColumnWriter(columnName, column, new CountingOutputStream(buffer), columnCompressorAdapter),
+                    buffer, columnCompressorAdapter);
+        }
+        pendingColumns.addLast(pendingColumn);
+        return pendingColumn.writer;
+    }
+
+    private ColumnWriterImpl makeColumnWriter(
+            final String columnName,
+            final ColumnDescriptor column,
+            final CountingOutputStream output,
+            final CompressorAdapter columnCompressorAdapter) {
+        return new ColumnWriterImpl(this,
+                output,
+                column,
+                columnCompressorAdapter,
                 targetPageSize,
                 allocator,
-                writeStatistics);
-        return activeWriter;
+                writeStatistics,
+                makeBloomFilterBuilder(columnName, column),
+                columnEncodings.getOrDefault(columnName, ColumnEncoding.PLAIN));
+    }
+
+    @Nullable
+    private BloomFilterBuilder makeBloomFilterBuilder(final String columnName, final ColumnDescriptor column) {
+        if (!bloomFilterColumns.contains(columnName) || !BloomFilterBuilder.isSupported(column.getPrimitiveType())) {
+            return null;
+        }
+        return new BloomFilterBuilder(column.getPrimitiveType(), blockMetaData.getRowCount(), bloomFilterFpp,
+                maximumBloomFilterBytes);
     }
 
     @Override
@@ -83,17 +195,54 @@ final class RowGroupWriterImpl implements RowGroupWriter {
         return blockMetaData;
     }
 
-    void releaseWriter(ColumnWriterImpl columnWriter, ColumnChunkMetaData columnChunkMetaData) {
-        if (activeWriter != columnWriter) {
-            throw new RuntimeException(columnWriter.getColumn().getPath()[0] + " is not the active column");
+    synchronized void releaseWriter(ColumnWriterImpl columnWriter) {
+        final PendingColumn pendingColumn = pendingColumns.stream()
+                .filter(pc -> pc.writer == columnWriter && !pc.closed)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException(
+                        columnWriter.getColumn().getPath()[0] + " is not an active column"));
+        pendingColumn.closed = true;
+        while (!pendingColumns.isEmpty() && pendingColumns.getFirst().closed) {
+            appendColumnChunk(pendingColumns.removeFirst());
         }
-        currentOffsetIndexes.add(columnWriter.getOffsetIndex());
+    }
+
+    private void appendColumnChunk(PendingColumn pendingColumn) {
+        final ColumnWriterImpl columnWriter = pendingColumn.writer;
+        final long offsetShift;
+        if (pendingColumn.buffer == null) {
+            // Already written to the file
+            offsetShift = 0;
+            if (pendingColumn.compressorAdapter != null) {
+                pendingColumn.compressorAdapter.close();
+            }
+        } else {
+            offsetShift = countingOutput.getCount();
+            try (final ColumnChunkBuffer buffer = pendingColumn.buffer;
+                    final CompressorAdapter ignored = pendingColumn.compressorAdapter) {
+                buffer.writeTo(countingOutput);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        "Failed to append column chunk for " + columnWriter.getColumn().getPath()[0], e);
+            }
+        }
+        final ColumnChunkMetaData columnChunkMetaData = columnWriter.getColumnChunkMetaData(offsetShift);
+        currentColumnIndexes.add(columnWriter.getColumnIndex());
+        currentOffsetIndexes.add(columnWriter.getOffsetIndex(offsetShift));
+        currentBloomFilters.add(columnWriter.getBloomFilter());
         blockMetaData.addColumn(columnChunkMetaData);
         blockMetaData.setTotalByteSize(columnChunkMetaData.getTotalSize() + blockMetaData.getTotalByteSize());
-        activeWriter = null;
+    }
+
+    List<ColumnIndex> columnIndexes() {
+        return currentColumnIndexes;
     }
 
     List<OffsetIndex> offsetIndexes() {
         return currentOffsetIndexes;
     }
+
+    List<BloomFilter> bloomFilters() {
+        return currentBloomFilters;
+    }
 }
@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnChunkBufferTest {
+
+    private static byte[] bytes(final int size, final int seed) {
+        final byte[] result = new byte[size];
+        for (int ii = 0; ii < size; ++ii) {
+            result[ii] = (byte) (ii * 31 + seed);
+        }
+        return result;
+    }
+
+    @Test
+    void staysInMemoryWithinBudget() throws IOException {
+        final ColumnChunkBuffer.Budget budget = new ColumnChunkBuffer.Budget(1000);
+        final byte[] data = bytes(600, 1);
+        try (final ColumnChunkBuffer buffer = new ColumnChunkBuffer(budget, 64, new HeapByteBufferAllocator())) {
+            buffer.write(data, 0, 300);
+            buffer.write(data, 300, 300);
+            assertThat(buffer.isSpilled()).isFalse();
+            assertThat(budget.getReservedBytes()).isEqualTo(600);
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            buffer.writeTo(out);
+            assertThat(out.toByteArray()).isEqualTo(data);
+        }
+        assertThat(budget.getReservedBytes()).isZero();
+    }
+
+    @Test
+    void spillsPastSharedBudget() throws IOException {
+        // The first buffer takes most of the budget, so the second must spill
+        final ColumnChunkBuffer.Budget budget = new ColumnChunkBuffer.Budget(1000);
+        final byte[] firstData = bytes(800, 1);
+        final byte[] secondData = bytes(5000, 2);
+        try (final ColumnChunkBuffer first = new ColumnChunkBuffer(budget, 64, new HeapByteBufferAllocator());
+                final ColumnChunkBuffer second = new ColumnChunkBuffer(budget, 64, new HeapByteBufferAllocator())) {
+            first.write(firstData, 0, firstData.length);
+            second.write(secondData, 0, 100);
+            assertThat(second.isSpilled()).isFalse();
+            assertThat(budget.getReservedBytes()).isEqualTo(900);
+
+            second.write(secondData, 100, 200);
+            assertThat(second.isSpilled()).isTrue();
+            assertThat(budget.getReservedBytes()).isEqualTo(800);
+            for (int ii = 300; ii < secondData.length; ++ii) {
+                second.write(secondData[ii]);
+            }
+            assertThat(second.size()).isEqualTo(secondData.length);
+            assertThat(budget.getReservedBytes()).isEqualTo(800);
+
+            final ByteArrayOutputStream firstOut = new ByteArrayOutputStream();
+            first.writeTo(firstOut);
+            assertThat(firstOut.toByteArray()).isEqualTo(firstData);
+            final ByteArrayOutputStream secondOut = new ByteArrayOutputStream();
+            second.writeTo(secondOut);
+            assertThat(secondOut.toByteArray()).isEqualTo(secondData);
+        }
+        assertThat(budget.getReservedBytes()).isZero();
+    }
+}
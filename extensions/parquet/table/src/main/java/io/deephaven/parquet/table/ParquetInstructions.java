@@ -11,6 +11,7 @@ import io.deephaven.engine.table.impl.ColumnToCodecMappings;
 import io.deephaven.hash.KeyedObjectHashMap;
 import io.deephaven.hash.KeyedObjectKey;
 import io.deephaven.hash.KeyedObjectKey.Basic;
+import io.deephaven.parquet.base.ColumnEncoding;
 import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.parquet.table.location.ParquetColumnResolver;
 import io.deephaven.parquet.table.metadata.RowGroupInfo;
@@ -50,6 +51,20 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
     public static final int DEFAULT_TARGET_PAGE_SIZE = Configuration.getInstance().getIntegerWithDefault(
             "Parquet.defaultTargetPageSize", 1 << 16); // 64KB
 
+    public static final double DEFAULT_BLOOM_FILTER_FPP = 0.01;
+
+    public static final int DEFAULT_WRITE_PARALLELISM = 1;
+
+    public static final boolean DEFAULT_DICTIONARY_ENCODE_PRIMITIVE_COLUMNS = false;
+
+    public static final int DEFAULT_READ_AHEAD_PAGE_COUNT = 0;
+
+    /**
+     * The maximum size of a single bloom filter written for a column chunk.
+     */
+    public static final int MAXIMUM_BLOOM_FILTER_BYTES = Configuration.getInstance().getIntegerWithDefault(
+            "Parquet.maximumBloomFilterBytes", 1 << 20); // 1MB
+
     /**
      * Throws an exception if {@link ParquetInstructions#getTableDefinition()} is empty.
      *
@@ -122,11 +137,54 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
     public abstract String getCodecArgs(final String columnName);
 
     /**
-     * @return A hint that the writer should use dictionary-based encoding for writing this column; never evaluated for
-     *         non-String columns, defaults to false
+     * @return A hint that the writer should use dictionary-based encoding for writing this column, regardless of the
+     *         dictionary size limits; evaluated for String columns and for the primitive columns that support
+     *         {@link #dictionaryEncodePrimitiveColumns() dictionary encoding}, defaults to false
      */
     public abstract boolean useDictionary(String columnName);
 
+    /**
+     * @return Whether the writer should try dictionary-based encoding for {@code int}, {@code long}, {@code float},
+     *         {@code double}, and {@link java.time.Instant} columns, falling back to non-dictionary encoding for column
+     *         chunks that exceed {@link #getMaximumDictionaryKeys()} or {@link #getMaximumDictionarySize()}; defaults
+     *         to {@value #DEFAULT_DICTIONARY_ENCODE_PRIMITIVE_COLUMNS}
+     */
+    public abstract boolean dictionaryEncodePrimitiveColumns();
+
+    /**
+     * @return The number of pages to read and decode ahead of a sequential reader of a column chunk, defaults to
+     *         {@value #DEFAULT_READ_AHEAD_PAGE_COUNT} which disables read-ahead
+     */
+    public abstract int getReadAheadPageCount();
+
+    /**
+     * @return Whether the writer should write a split-block bloom filter for each column chunk of this column, defaults
+     *         to false. Bloom filters are used when reading to skip row groups that cannot contain the values of a
+     *         {@code MatchFilter}.
+     */
+    public abstract boolean useBloomFilter(String columnName);
+
+    /**
+     * @return The target false positive probability for bloom filters written for columns with
+     *         {@link #useBloomFilter(String)} set
+     */
+    public abstract double getBloomFilterFpp();
+
+    /**
+     * @return The encoding the writer should use for the data pages of this column that are not dictionary encoded,
+     *         defaults to {@link ColumnEncoding#PLAIN}
+     */
+    public abstract ColumnEncoding getColumnEncoding(String columnName);
+
+    /**
+     * @return The maximum number of column chunks (and, when writing multiple tables, files) the writer should encode
+     *         and compress concurrently, defaults to {@value #DEFAULT_WRITE_PARALLELISM}. Concurrent work is submitted
+     *         to the {@link io.deephaven.engine.updategraph.OperationInitializer OperationInitializer} of the current
+     *         {@link io.deephaven.engine.context.ExecutionContext ExecutionContext}, and everything is written on the
+     *         calling thread if it cannot parallelize.
+     */
+    public abstract int getWriteParallelism();
+
     /**
      * The field ID for the given {@code columnName}.
      *
@@ -141,14 +199,16 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
 
     /**
      * @return The maximum number of unique keys the writer should add to a dictionary page before switching to
-     *         non-dictionary encoding; never evaluated for non-String columns, ignored if
+     *         non-dictionary encoding; evaluated for String columns and, if
+     *         {@link #dictionaryEncodePrimitiveColumns()}, supported primitive columns, ignored if
      *         {@link #useDictionary(String)}
      */
     public abstract int getMaximumDictionaryKeys();
 
     /**
      * @return The maximum number of bytes the writer should add to a dictionary before switching to non-dictionary
-     *         encoding; never evaluated for non-String columns, ignored if {@link #useDictionary(String)}
+     *         encoding; evaluated for String columns and, if {@link #dictionaryEncodePrimitiveColumns()}, supported
+     *         primitive columns, ignored if {@link #useDictionary(String)}
      */
     public abstract int getMaximumDictionarySize();
 
@@ -178,7 +238,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
     public abstract Optional<ParquetColumnResolver.Factory> getColumnResolverFactory();
 
     /**
-     * Whether the parquet writer should write row group statistics, enabled by default.
+     * Whether the parquet writer should write row group statistics and page-level column indexes, enabled by default.
      */
     @InternalUseOnly
     abstract boolean writeRowGroupStatistics();
@@ -268,6 +328,36 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return false;
         }
 
+        @Override
+        public boolean useBloomFilter(final String columnName) {
+            return false;
+        }
+
+        @Override
+        public double getBloomFilterFpp() {
+            return DEFAULT_BLOOM_FILTER_FPP;
+        }
+
+        @Override
+        public ColumnEncoding getColumnEncoding(final String columnName) {
+            return ColumnEncoding.PLAIN;
+        }
+
+        @Override
+        public int getWriteParallelism() {
+            return DEFAULT_WRITE_PARALLELISM;
+        }
+
+        @Override
+        public boolean dictionaryEncodePrimitiveColumns() {
+            return DEFAULT_DICTIONARY_ENCODE_PRIMITIVE_COLUMNS;
+        }
+
+        @Override
+        public int getReadAheadPageCount() {
+            return DEFAULT_READ_AHEAD_PAGE_COUNT;
+        }
+
         @Override
         public OptionalInt getFieldId(String columnName) {
             return OptionalInt.empty();
@@ -372,7 +462,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
                     useLayout, useDefinition, null, getRowGroupInfo(), null, null, null,
-                    writeRowGroupStatistics());
+                    writeRowGroupStatistics(), getBloomFilterFpp(), getWriteParallelism(),
+                    dictionaryEncodePrimitiveColumns(), getReadAheadPageCount());
         }
 
         @Override
@@ -381,7 +472,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
                     null, null, indexColumns, getRowGroupInfo(), null, null, null,
-                    writeRowGroupStatistics());
+                    writeRowGroupStatistics(), getBloomFilterFpp(), getWriteParallelism(),
+                    dictionaryEncodePrimitiveColumns(), getReadAheadPageCount());
         }
 
         @Override
@@ -411,6 +503,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private String codecName;
         private String codecArgs;
         private boolean useDictionary;
+        private boolean useBloomFilter;
+        private ColumnEncoding columnEncoding;
         private Integer fieldId;
 
         public ColumnInstructions(final String columnName) {
@@ -463,6 +557,22 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             this.useDictionary = useDictionary;
         }
 
+        public boolean useBloomFilter() {
+            return useBloomFilter;
+        }
+
+        public void useBloomFilter(final boolean useBloomFilter) {
+            this.useBloomFilter = useBloomFilter;
+        }
+
+        public ColumnEncoding getColumnEncoding() {
+            return columnEncoding != null ? columnEncoding : ColumnEncoding.PLAIN;
+        }
+
+        public void setColumnEncoding(final ColumnEncoding columnEncoding) {
+            this.columnEncoding = columnEncoding;
+        }
+
         public OptionalInt fieldId() {
             return fieldId == null ? OptionalInt.empty() : OptionalInt.of(fieldId);
         }
@@ -502,6 +612,10 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private final ParquetColumnResolver.Factory columnResolver;
         private final SeekableChannelsProvider seekableChannelsProviderForWriting;
         private final boolean writeRowGroupStatistics;
+        private final double bloomFilterFpp;
+        private final int writeParallelism;
+        private final boolean dictionaryEncodePrimitiveColumns;
+        private final int readAheadPageCount;
 
         private ReadOnly(
                 final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructions,
@@ -522,7 +636,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 final OnWriteCompleted onWriteCompleted,
                 final ParquetColumnResolver.Factory columnResolver,
                 final SeekableChannelsProvider seekableChannelsProviderForWriting,
-                final boolean writeRowGroupStatistics) {
+                final boolean writeRowGroupStatistics,
+                final double bloomFilterFpp,
+                final int writeParallelism,
+                final boolean dictionaryEncodePrimitiveColumns,
+                final int readAheadPageCount) {
             this.columnNameToInstructions = columnNameToInstructions;
             this.parquetColumnNameToInstructions = parquetColumnNameToColumnName;
             this.compressionCodecName = compressionCodecName;
@@ -550,6 +668,10 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             }
             this.seekableChannelsProviderForWriting = seekableChannelsProviderForWriting;
             this.writeRowGroupStatistics = writeRowGroupStatistics;
+            this.bloomFilterFpp = bloomFilterFpp;
+            this.writeParallelism = writeParallelism;
+            this.dictionaryEncodePrimitiveColumns = dictionaryEncodePrimitiveColumns;
+            this.readAheadPageCount = readAheadPageCount;
         }
 
         private <T> T getOrDefault(final String columnName, final T defaultValue,
@@ -608,6 +730,36 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return getOrDefault(columnName, false, ColumnInstructions::useDictionary);
         }
 
+        @Override
+        public boolean useBloomFilter(final String columnName) {
+            return getOrDefault(columnName, false, ColumnInstructions::useBloomFilter);
+        }
+
+        @Override
+        public double getBloomFilterFpp() {
+            return bloomFilterFpp;
+        }
+
+        @Override
+        public ColumnEncoding getColumnEncoding(final String columnName) {
+            return getOrDefault(columnName, ColumnEncoding.PLAIN, ColumnInstructions::getColumnEncoding);
+        }
+
+        @Override
+        public int getWriteParallelism() {
+            return writeParallelism;
+        }
+
+        @Override
+        public boolean dictionaryEncodePrimitiveColumns() {
+            return dictionaryEncodePrimitiveColumns;
+        }
+
+        @Override
+        public int getReadAheadPageCount() {
+            return readAheadPageCount;
+        }
+
         @Override
         public OptionalInt getFieldId(String columnName) {
             return getOrDefault(columnName, OptionalInt.empty(), ColumnInstructions::fieldId);
@@ -713,7 +865,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), useLayout, useDefinition,
                     indexColumns, rowGroupInfo, onWriteCompleted, columnResolver, seekableChannelsProviderForWriting,
-                    writeRowGroupStatistics);
+                    writeRowGroupStatistics, bloomFilterFpp, writeParallelism, dictionaryEncodePrimitiveColumns,
+                    readAheadPageCount);
         }
 
         @Override
@@ -724,7 +877,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), fileLayout,
                     tableDefinition, useIndexColumns, rowGroupInfo, onWriteCompleted, columnResolver,
                     seekableChannelsProviderForWriting,
-                    writeRowGroupStatistics);
+                    writeRowGroupStatistics, bloomFilterFpp, writeParallelism, dictionaryEncodePrimitiveColumns,
+                    readAheadPageCount);
         }
 
         @Override
@@ -793,6 +947,10 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private ParquetColumnResolver.Factory columnResolverFactory;
         private SeekableChannelsProvider seekableChannelsProviderForWriting;
         private boolean writeRowGroupStatistics = DEFAULT_WRITE_ROW_GROUP_STATISTICS;
+        private double bloomFilterFpp = DEFAULT_BLOOM_FILTER_FPP;
+        private int writeParallelism = DEFAULT_WRITE_PARALLELISM;
+        private boolean dictionaryEncodePrimitiveColumns = DEFAULT_DICTIONARY_ENCODE_PRIMITIVE_COLUMNS;
+        private int readAheadPageCount = DEFAULT_READ_AHEAD_PAGE_COUNT;
 
         /**
          * For each additional field added, make sure to update the copy constructor builder
@@ -826,6 +984,10 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             seekableChannelsProviderForWriting =
                     readOnlyParquetInstructions.getSeekableChannelsProviderForWriting().orElse(null);
             writeRowGroupStatistics = readOnlyParquetInstructions.writeRowGroupStatistics();
+            bloomFilterFpp = readOnlyParquetInstructions.getBloomFilterFpp();
+            writeParallelism = readOnlyParquetInstructions.getWriteParallelism();
+            dictionaryEncodePrimitiveColumns = readOnlyParquetInstructions.dictionaryEncodePrimitiveColumns();
+            readAheadPageCount = readOnlyParquetInstructions.getReadAheadPageCount();
         }
 
         public Builder addColumnNameMapping(final String parquetColumnName, final String columnName) {
@@ -863,8 +1025,9 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         }
 
         /**
-         * Set a hint that the writer should use dictionary-based encoding for writing this column; never evaluated for
-         * non-String columns.
+         * Set a hint that the writer should use dictionary-based encoding for writing this column, regardless of the
+         * dictionary size limits. Evaluated for String columns and for {@code int}, {@code long}, {@code float},
+         * {@code double}, and {@link java.time.Instant} columns.
          *
          * @param columnName The column name
          * @param useDictionary The hint value
@@ -875,6 +1038,118 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Set whether the writer should write a split-block bloom filter for each column chunk of this column. Bloom
+         * filters are consulted when reading to skip row groups that cannot contain any of the values of a
+         * {@code MatchFilter}, which is most useful for high-cardinality columns where min/max statistics are not
+         * selective. Supported for primitive, {@link java.time.Instant}, and String columns.
+         *
+         * @param columnName The column name
+         * @param useBloomFilter Whether to write a bloom filter
+         */
+        public Builder useBloomFilter(final String columnName, final boolean useBloomFilter) {
+            final ColumnInstructions ci = getOrCreateColumnInstructions(columnName);
+            ci.useBloomFilter(useBloomFilter);
+            return this;
+        }
+
+        /**
+         * Set the target false positive probability for the bloom filters written for columns configured with
+         * {@link #useBloomFilter(String, boolean)}. Lower values produce larger bloom filters, which are capped at
+         * {@link ParquetInstructions#MAXIMUM_BLOOM_FILTER_BYTES} bytes.
+         *
+         * @param bloomFilterFpp The false positive probability; must be in {@code (0, 1)}
+         */
+        public Builder setBloomFilterFpp(final double bloomFilterFpp) {
+            if (!(bloomFilterFpp > 0.0 && bloomFilterFpp < 1.0)) {
+                throw new IllegalArgumentException("Bloom filter false positive probability must be in (0, 1)");
+            }
+            this.bloomFilterFpp = bloomFilterFpp;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of column chunks the writer should encode and compress concurrently. When writing
+         * multiple tables with {@link ParquetTools#writeTables}, this is also the maximum number of files written
+         * concurrently. Column chunks are buffered until all preceding column chunks of the same row group have been
+         * written. Buffers are held in memory up to a process-wide limit, set by the
+         * {@code ColumnChunkBuffer.maxBufferedBytes} configuration property, and are spilled to temporary files
+         * beyond it.
+         * <p>
+         * Concurrent work is submitted to the {@link io.deephaven.engine.updategraph.OperationInitializer
+         * OperationInitializer} of the current {@link io.deephaven.engine.context.ExecutionContext ExecutionContext};
+         * use {@link io.deephaven.engine.context.ExecutionContext#withOperationInitializer} to write on a different
+         * pool.
+         *
+         * @param writeParallelism The maximum number of concurrent writes; must be positive, defaults to
+         *        {@value ParquetInstructions#DEFAULT_WRITE_PARALLELISM} which writes everything sequentially on the
+         *        calling thread
+         */
+        public Builder setWriteParallelism(final int writeParallelism) {
+            if (writeParallelism < 1) {
+                throw new IllegalArgumentException("Write parallelism must be positive, found " + writeParallelism);
+            }
+            this.writeParallelism = writeParallelism;
+            return this;
+        }
+
+        /**
+         * Set whether the writer should try dictionary-based encoding for {@code int}, {@code long}, {@code float},
+         * {@code double}, and {@link java.time.Instant} columns. Each column chunk falls back to non-dictionary encoding
+         * once it exceeds {@link #setMaximumDictionaryKeys(int) maximum dictionary keys} or
+         * {@link #setMaximumDictionarySize(int) maximum dictionary size}, so this is cheap for high-cardinality columns
+         * and can substantially shrink low-cardinality ones such as codes, flags, and bucketed timestamps.
+         * <p>
+         * When reading primitive columns, filters are evaluated against the dictionaries of column chunks in which
+         * every page is dictionary encoded, and matched to rows by dictionary key. {@link java.time.Instant} columns
+         * are not filtered by dictionary, and symbol tables remain available only for String and other object columns.
+         *
+         * @param dictionaryEncodePrimitiveColumns Whether to try dictionary encoding for primitive columns, defaults to
+         *        {@value ParquetInstructions#DEFAULT_DICTIONARY_ENCODE_PRIMITIVE_COLUMNS}
+         */
+        public Builder setDictionaryEncodePrimitiveColumns(final boolean dictionaryEncodePrimitiveColumns) {
+            this.dictionaryEncodePrimitiveColumns = dictionaryEncodePrimitiveColumns;
+            return this;
+        }
+
+        /**
+         * Set the number of pages to read and decode ahead of a sequential reader of a column chunk. When a reader
+         * moves from one page to the next, the following pages are fetched, decompressed, and decoded asynchronously
+         * on a shared, bounded pool, so that they are already cached when the reader gets to them. This benefits full
+         * scans of local and remote files alike, at the cost of holding more decoded pages in memory.
+         * <p>
+         * The pool is shared by all readers in the process and sized by configuration properties rather than by these
+         * instructions. {@code PageReadAhead.threads} sets its number of threads, 4 by default.
+         * {@code PageReadAhead.queueSize} sets the number of pending page reads, 256 by default. Requests beyond that
+         * are dropped, and the reader then reads those pages itself. Idle threads exit after a minute.
+         *
+         * @param readAheadPageCount The number of pages to read ahead; must be non-negative, defaults to
+         *        {@value ParquetInstructions#DEFAULT_READ_AHEAD_PAGE_COUNT} which disables read-ahead
+         */
+        public Builder setReadAheadPageCount(final int readAheadPageCount) {
+            if (readAheadPageCount < 0) {
+                throw new IllegalArgumentException(
+                        "Read-ahead page count must be non-negative, found " + readAheadPageCount);
+            }
+            this.readAheadPageCount = readAheadPageCount;
+            return this;
+        }
+
+        /**
+         * Set the encoding the writer should use for the data pages of this column that are not dictionary encoded.
+         * Dictionary encoding, when used for a column chunk, takes precedence. Use {@link ColumnEncoding#AUTO} to let
+         * the writer pick an encoding for each column chunk based on a sample of the data.
+         *
+         * @param columnName The column name
+         * @param columnEncoding The encoding, which must be {@link ColumnEncoding#supports supported} for the parquet
+         *        type of the column
+         */
+        public Builder setColumnEncoding(final String columnName, @NotNull final ColumnEncoding columnEncoding) {
+            final ColumnInstructions ci = getOrCreateColumnInstructions(columnName);
+            ci.setColumnEncoding(Objects.requireNonNull(columnEncoding));
+            return this;
+        }
+
         /**
          * This is currently only used for writing, allowing the setting of {@code field_id} in the proper Parquet
          * {@code SchemaElement}.
@@ -908,8 +1183,9 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
 
         /**
          * Set the maximum number of unique keys the writer should add to a dictionary page before switching to
-         * non-dictionary encoding; never evaluated for non-String columns, ignored if {@link #useDictionary(String) use
-         * dictionary} is set for the column.
+         * non-dictionary encoding; evaluated for String columns and, if
+         * {@link #setDictionaryEncodePrimitiveColumns(boolean) enabled}, supported primitive columns, ignored if
+         * {@link #useDictionary(String, boolean) use dictionary} is set for the column.
          *
          * @param maximumDictionaryKeys The maximum number of dictionary keys; must be {@code >= 0}
          */
@@ -920,7 +1196,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
 
         /**
          * Set the maximum number of bytes the writer should add to the dictionary before switching to non-dictionary
-         * encoding; never evaluated for non-String columns, ignored if {@link #useDictionary(String) use dictionary} is
+         * encoding; evaluated for String columns and, if {@link #setDictionaryEncodePrimitiveColumns(boolean)
+         * enabled}, supported primitive columns, ignored if {@link #useDictionary(String, boolean) use dictionary} is
          * set for the column.
          *
          * @param maximumDictionarySize The maximum size of dictionary (in bytes); must be {@code >= 0}
@@ -1106,7 +1383,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         }
 
         /**
-         * @param writeRowGroupStatistics whether to write statistics for each column in the row group
+         * @param writeRowGroupStatistics whether to write statistics for each column in the row group, along with a
+         *        column index holding the statistics of each page of the (non-repeated) columns
          */
         @InternalUseOnly
         public Builder setWriteRowGroupStatistics(final boolean writeRowGroupStatistics) {
@@ -1124,7 +1402,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     maximumDictionaryKeys, maximumDictionarySize, isLegacyParquet, targetPageSize, isRefreshing,
                     specialInstructions, generateMetadataFiles, baseNameForPartitionedParquetData, fileLayout,
                     tableDefinition, indexColumns, rowGroupInfo, onWriteCompleted, columnResolverFactory,
-                    seekableChannelsProviderForWriting, writeRowGroupStatistics);
+                    seekableChannelsProviderForWriting, writeRowGroupStatistics, bloomFilterFpp, writeParallelism,
+                    dictionaryEncodePrimitiveColumns, readAheadPageCount);
         }
     }
 
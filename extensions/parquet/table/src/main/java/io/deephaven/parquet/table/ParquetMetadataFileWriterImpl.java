@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +54,10 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
     }
 
     private final URI metadataRootDir;
+    /**
+     * The position of each destination, used to order the metadata for files that were written concurrently
+     */
+    private final Map<URI, Integer> destinationIndices;
     private final List<ParquetFileMetadata> parquetFileMetadataList;
     private final MessageType partitioningColumnsSchema;
 
@@ -82,7 +87,9 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
         }
         this.metadataRootDir = metadataRootDir;
         final String metadataRootDirStr = metadataRootDir.toString();
+        this.destinationIndices = new HashMap<>(destinations.length);
         for (final URI destination : destinations) {
+            destinationIndices.putIfAbsent(destination, destinationIndices.size());
             if (!destination.toString().startsWith(metadataRootDirStr)) {
                 throw new UncheckedDeephavenException("All destinations must be nested under the provided metadata root"
                         + " directory, provided destination " + destination + " is not under " + metadataRootDir);
@@ -105,7 +112,7 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
      * @param parquetFileURI The parquet file destination URI
      * @param metadata The parquet metadata
      */
-    public void addParquetFileMetadata(final URI parquetFileURI, final ParquetMetadata metadata) {
+    public synchronized void addParquetFileMetadata(final URI parquetFileURI, final ParquetMetadata metadata) {
         parquetFileMetadataList.add(new ParquetFileMetadata(parquetFileURI, metadata));
     }
 
@@ -122,6 +129,8 @@ final class ParquetMetadataFileWriterImpl implements ParquetMetadataFileWriter {
         if (parquetFileMetadataList.isEmpty()) {
             throw new UncheckedDeephavenException("No parquet files to write metadata for");
         }
+        parquetFileMetadataList.sort(Comparator.comparingInt(
+                parquetFileMetadata -> destinationIndices.getOrDefault(parquetFileMetadata.uri, Integer.MAX_VALUE)));
         mergeMetadata();
         final ParquetMetadata metadataFooter = new ParquetMetadata(new FileMetaData(mergedSchema,
                 mergedKeyValueMetaData, mergedCreatedByString), mergedBlocks);
@@ -5,6 +5,7 @@ package io.deephaven.parquet.table;
 
 import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.SortColumn;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.TrackingRowSet;
@@ -15,6 +16,8 @@ import io.deephaven.engine.table.impl.select.FormulaColumn;
 import io.deephaven.engine.table.impl.select.NullSelectColumn;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.select.SourceColumn;
+import io.deephaven.engine.updategraph.OperationInitializer;
+import io.deephaven.parquet.base.ColumnEncoding;
 import io.deephaven.parquet.base.ColumnWriter;
 import io.deephaven.parquet.base.NullParquetMetadataFileWriter;
 import io.deephaven.parquet.base.ParquetMetadataFileWriter;
@@ -23,6 +26,8 @@ import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.parquet.base.RowGroupWriter;
 import io.deephaven.parquet.table.metadata.*;
 import io.deephaven.parquet.table.transfer.ArrayAndVectorTransfer;
+import io.deephaven.parquet.table.transfer.ColumnDictionary;
+import io.deephaven.parquet.table.transfer.PrimitiveDictionary;
 import io.deephaven.parquet.table.transfer.StringDictionary;
 import io.deephaven.parquet.table.transfer.TransferObject;
 import io.deephaven.stringset.StringSet;
@@ -41,9 +46,14 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.IntBuffer;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static io.deephaven.parquet.base.ParquetUtils.METADATA_KEY;
 
@@ -255,12 +265,23 @@ public class ParquetTableWriter {
         final Map<String, ? extends ColumnSource<?>> columnSourceMap = table.getColumnSourceMap();
         final long nRows = table.size();
         if (nRows > 0) {
-            final RowGroupWriter rowGroupWriter = parquetFileWriter.addRowGroup(nRows);
+            final OperationInitializer operationInitializer =
+                    ExecutionContext.getContext().getOperationInitializer();
+            final boolean concurrentColumns = writeInstructions.getWriteParallelism() > 1
+                    && columnSourceMap.size() > 1
+                    && operationInitializer.canParallelize();
+            final RowGroupWriter rowGroupWriter = parquetFileWriter.addRowGroup(nRows, concurrentColumns);
+            if (concurrentColumns) {
+                writeColumnSourcesConcurrently(tableRowSet, writeInstructions, rowGroupWriter, computedCache,
+                        columnSourceMap, operationInitializer);
+                return;
+            }
             for (final Map.Entry<String, ? extends ColumnSource<?>> nameToSource : columnSourceMap.entrySet()) {
                 final String columnName = nameToSource.getKey();
                 final ColumnSource<?> columnSource = nameToSource.getValue();
-                try {
-                    writeColumnSource(tableRowSet, writeInstructions, rowGroupWriter, computedCache, columnName,
+                try (final ColumnWriter columnWriter = rowGroupWriter.addColumn(
+                        writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName))) {
+                    writeColumnSource(tableRowSet, writeInstructions, columnWriter, computedCache, columnName,
                             columnSource);
                 } catch (final RuntimeException e) {
                     throw new UncheckedDeephavenException("Failed to write column " + columnName, e);
@@ -269,6 +290,91 @@ public class ParquetTableWriter {
         }
     }
 
+    /**
+     * Writes the columns of a row group, encoding and compressing up to
+     * {@link ParquetInstructions#getWriteParallelism()} column chunks concurrently. Columns are added to the row group
+     * writer on the calling thread in the same order as a sequential write, and the row group writer appends the
+     * buffered column chunks to the file in that order.
+     */
+    private static void writeColumnSourcesConcurrently(
+            @NotNull final RowSet tableRowSet,
+            @NotNull final ParquetInstructions writeInstructions,
+            @NotNull final RowGroupWriter rowGroupWriter,
+            @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
+            @NotNull final Map<String, ? extends ColumnSource<?>> columnSourceMap,
+            @NotNull final OperationInitializer operationInitializer) {
+        final ExecutionContext executionContext = ExecutionContext.getContext();
+        final Deque<Pair<String, Future<?>>> pendingWrites = new ArrayDeque<>();
+        try {
+            for (final Map.Entry<String, ? extends ColumnSource<?>> nameToSource : columnSourceMap.entrySet()) {
+                if (pendingWrites.size() >= writeInstructions.getWriteParallelism()) {
+                    final Pair<String, Future<?>> pendingWrite = pendingWrites.removeFirst();
+                    awaitWrite("column " + pendingWrite.getLeft(), pendingWrite.getRight());
+                }
+                final String columnName = nameToSource.getKey();
+                final ColumnSource<?> columnSource = nameToSource.getValue();
+                final ColumnWriter columnWriter = rowGroupWriter.addColumn(
+                        writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName));
+                pendingWrites.addLast(Pair.of(columnName, operationInitializer.submit(() -> {
+                    try (final SafeCloseable ignored = executionContext.open();
+                            final ColumnWriter ignored2 = columnWriter) {
+                        writeColumnSource(tableRowSet, writeInstructions, columnWriter, computedCache, columnName,
+                                columnSource);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })));
+            }
+            while (!pendingWrites.isEmpty()) {
+                final Pair<String, Future<?>> pendingWrite = pendingWrites.removeFirst();
+                awaitWrite("column " + pendingWrite.getLeft(), pendingWrite.getRight());
+            }
+        } finally {
+            // If anything failed, make sure nothing is still writing before we return
+            awaitQuietly(pendingWrites.stream().map(Pair::getRight).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Wait for a write submitted to the {@link OperationInitializer} to complete, rethrowing any failure.
+     *
+     * @param description What is being written, for error messages
+     * @param pendingWrite The future for the write
+     */
+    static void awaitWrite(@NotNull final String description, @NotNull final Future<?> pendingWrite) {
+        try {
+            pendingWrite.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedDeephavenException("Interrupted while writing " + description, e);
+        } catch (final ExecutionException e) {
+            throw new UncheckedDeephavenException("Failed to write " + description, e.getCause());
+        }
+    }
+
+    /**
+     * Wait for all the provided writes to complete, ignoring failures. Used to make sure no writes are in progress
+     * after a failure.
+     */
+    static void awaitQuietly(@NotNull final Collection<Future<?>> pendingWrites) {
+        boolean interrupted = false;
+        for (final Future<?> pendingWrite : pendingWrites) {
+            while (true) {
+                try {
+                    pendingWrite.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Get the parquet schema for a table
      *
@@ -360,8 +466,18 @@ public class ParquetTableWriter {
         // First, map the TableDefinition to a parquet Schema
         final MappedSchema mappedSchema =
                 MappedSchema.create(computedCache, definition, tableRowSet, columnSourceMap, writeInstructions);
+        final Set<String> bloomFilterColumns = new HashSet<>();
+        final Map<String, ColumnEncoding> columnEncodings = new HashMap<>();
         for (final ColumnDefinition<?> column : definition.getColumns()) {
             final String colName = column.getName();
+            if (writeInstructions.useBloomFilter(colName)) {
+                bloomFilterColumns.add(writeInstructions.getParquetColumnNameFromColumnNameOrDefault(colName));
+            }
+            final ColumnEncoding columnEncoding = writeInstructions.getColumnEncoding(colName);
+            if (columnEncoding != ColumnEncoding.PLAIN) {
+                columnEncodings.put(writeInstructions.getParquetColumnNameFromColumnNameOrDefault(colName),
+                        columnEncoding);
+            }
             final ColumnTypeInfo.Builder columnInfoBuilder = ColumnTypeInfo.builder()
                     .columnName(writeInstructions.getParquetColumnNameFromColumnNameOrDefault(colName));
             boolean usedColumnInfo = false;
@@ -400,26 +516,28 @@ public class ParquetTableWriter {
         return new ParquetFileWriter(dest, destOutputStream, writeInstructions.getTargetPageSize(),
                 new HeapByteBufferAllocator(), mappedSchema.getParquetSchema(),
                 writeInstructions.getCompressionCodecName(), extraMetaData, metadataFileWriter,
-                writeInstructions.writeRowGroupStatistics());
+                writeInstructions.writeRowGroupStatistics(), bloomFilterColumns,
+                writeInstructions.getBloomFilterFpp(), ParquetInstructions.MAXIMUM_BLOOM_FILTER_BYTES,
+                columnEncodings);
     }
 
     private static <DATA_TYPE> void writeColumnSource(
             @NotNull final RowSet tableRowSet,
             @NotNull final ParquetInstructions writeInstructions,
-            @NotNull final RowGroupWriter rowGroupWriter,
+            @NotNull final ColumnWriter columnWriter,
             @NotNull final Map<String, Map<ParquetCacheTags, Object>> computedCache,
             @NotNull final String columnName,
             @NotNull final ColumnSource<DATA_TYPE> columnSource) throws IOException {
-        try (final ColumnWriter columnWriter = rowGroupWriter.addColumn(
-                writeInstructions.getParquetColumnNameFromColumnNameOrDefault(columnName))) {
-            boolean usedDictionary = false;
-            if (String.class.equals(columnSource.getType()) || String.class.equals(columnSource.getComponentType())) {
-                usedDictionary =
-                        tryEncodeDictionary(tableRowSet, writeInstructions, columnWriter, columnName, columnSource);
-            }
-            if (!usedDictionary) {
-                encodePlain(tableRowSet, writeInstructions, columnWriter, computedCache, columnName, columnSource);
-            }
+        boolean usedDictionary = false;
+        if (String.class.equals(columnSource.getType()) || String.class.equals(columnSource.getComponentType())
+                || (PrimitiveDictionary.isSupported(columnSource.getType())
+                        && (writeInstructions.dictionaryEncodePrimitiveColumns()
+                                || writeInstructions.useDictionary(columnName)))) {
+            usedDictionary =
+                    tryEncodeDictionary(tableRowSet, writeInstructions, columnWriter, columnName, columnSource);
+        }
+        if (!usedDictionary) {
+            encodePlain(tableRowSet, writeInstructions, columnWriter, computedCache, columnName, columnSource);
         }
     }
 
@@ -441,17 +559,29 @@ public class ParquetTableWriter {
         final boolean useDictionaryHint = writeInstructions.useDictionary(columnName);
         final int maxKeys = useDictionaryHint ? Integer.MAX_VALUE : writeInstructions.getMaximumDictionaryKeys();
         final int maxDictSize = useDictionaryHint ? Integer.MAX_VALUE : writeInstructions.getMaximumDictionarySize();
-        // We encode dictionary positions as integers, therefore for a null string, we use NULL_INT as the position
+        // We encode dictionary positions as integers, therefore for a null value, we use NULL_INT as the position
         final int NULL_POS = QueryConstants.NULL_INT;
         final Statistics<?> statistics = columnWriter.getStats();
         final List<IntBuffer> pageBuffers = new ArrayList<>();
         final List<IntBuffer> lengthsBuffers = new ArrayList<>();
         final BitSet pageBufferHasNull = new BitSet();
         final boolean isArrayOrVector = (columnSource.getComponentType() != null);
-        final StringDictionary dictionary = new StringDictionary(maxKeys, maxDictSize, statistics, NULL_POS);
+        final ColumnDictionary dictionary;
+        final TransferObject<IntBuffer> dictEncodedTransferObject;
+        if (PrimitiveDictionary.isSupported(columnSource.getType())) {
+            final PrimitiveDictionary primitiveDictionary = new PrimitiveDictionary(
+                    columnSource.getType(), maxKeys, maxDictSize, statistics, NULL_POS);
+            dictionary = primitiveDictionary;
+            dictEncodedTransferObject = TransferObject.createDictEncodedPrimitiveTransfer(
+                    tableRowSet, columnSource, writeInstructions.getTargetPageSize(), primitiveDictionary);
+        } else {
+            final StringDictionary stringDictionary = new StringDictionary(maxKeys, maxDictSize, statistics, NULL_POS);
+            dictionary = stringDictionary;
+            dictEncodedTransferObject = TransferObject.createDictEncodedStringTransfer(
+                    tableRowSet, columnSource, writeInstructions.getTargetPageSize(), stringDictionary);
+        }
         int curPage = 0;
-        try (final TransferObject<IntBuffer> transferObject = TransferObject.createDictEncodedStringTransfer(
-                tableRowSet, columnSource, writeInstructions.getTargetPageSize(), dictionary)) {
+        try (final TransferObject<IntBuffer> transferObject = dictEncodedTransferObject) {
             boolean done;
             do {
                 // Paginate the data and prepare the dictionary. Then add the dictionary page followed by all data pages
@@ -490,7 +620,7 @@ public class ParquetTableWriter {
             return false;
         }
         columnWriter.addDictionaryPage(dictionary.getEncodedKeys(), dictionary.getKeyCount());
-        // We've already determined min/max statistics for the strings while building the dictionary. The buffer now
+        // We've already determined min/max statistics for the values while building the dictionary. The buffer now
         // stores only the offsets in the dictionary, and we don't need statistics for offsets. Therefore, we create a
         // temporary integer stats object just to track the number of nulls and pass it to lower layers.
         // We use the following fake type object to create proper statistics object
@@ -20,6 +20,7 @@ import io.deephaven.engine.table.impl.TableUpdateMode;
 import io.deephaven.engine.table.impl.locations.util.PartitionFormatter;
 import io.deephaven.engine.table.impl.locations.util.TableDataRefreshService;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.engine.updategraph.UpdateSourceRegistrar;
 import io.deephaven.parquet.base.ParquetMetadataFileWriter;
 import io.deephaven.parquet.base.NullParquetMetadataFileWriter;
@@ -56,9 +57,12 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -590,7 +594,8 @@ public class ParquetTools {
     private static Map<String, Map<ParquetCacheTags, Object>> buildComputedCache(
             @NotNull final Supplier<Table> mergedTableSupplier,
             @NotNull final TableDefinition definition) {
-        final Map<String, Map<ParquetCacheTags, Object>> computedCache = new HashMap<>();
+        // Concurrent, since the cache may be accessed by concurrent writes
+        final Map<String, Map<ParquetCacheTags, Object>> computedCache = new ConcurrentHashMap<>();
         Table mergedTable = null;
         final List<ColumnDefinition<?>> leafColumnDefinitions = definition.getColumns();
         for (final ColumnDefinition<?> columnDefinition : leafColumnDefinitions) {
@@ -651,40 +656,85 @@ public class ParquetTools {
         try (final SeekableChannelsProvider.WriteContext writeContext = channelsProvider.makeWriteContext();
                 final SafeCloseable ignored = () -> SafeCloseable.closeAll(outputStreams.stream())) {
             try {
-                if (indexColumns.isEmpty()) {
-                    // Write the tables without any index info
-                    for (int tableIdx = 0; tableIdx < sources.length; tableIdx++) {
-                        final Table source = sources[tableIdx];
-                        final URI tableDestination = destinations[tableIdx];
-                        final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
-                                writeContext, tableDestination, PARQUET_OUTPUT_BUFFER_SIZE);
-                        outputStreams.add(outputStream);
-                        ParquetTableWriter.write(source, definition, writeInstructions, tableDestination, outputStream,
-                                Collections.emptyMap(), (List<ParquetTableWriter.IndexWritingInfo>) null,
-                                metadataFileWriter, computedCache);
-                    }
-                } else {
-                    // Shared parquet column names across all tables
-                    final String[][] parquetColumnNameArr = indexColumns.stream()
-                            .map((Collection<String> columns) -> columns.stream()
-                                    .map(writeInstructions::getParquetColumnNameFromColumnNameOrDefault)
-                                    .toArray(String[]::new))
-                            .toArray(String[][]::new);
-
+                // Shared parquet column names across all tables
+                final String[][] parquetColumnNameArr = indexColumns.isEmpty() ? null
+                        : indexColumns.stream()
+                                .map((Collection<String> columns) -> columns.stream()
+                                        .map(writeInstructions::getParquetColumnNameFromColumnNameOrDefault)
+                                        .toArray(String[]::new))
+                                .toArray(String[][]::new);
+                final OperationInitializer operationInitializer =
+                        ExecutionContext.getContext().getOperationInitializer();
+                final boolean concurrentTables = writeInstructions.getWriteParallelism() > 1
+                        && sources.length > 1
+                        && Arrays.stream(sources).noneMatch(Table::isRefreshing)
+                        && operationInitializer.canParallelize();
+                final ParquetInstructions.OnWriteCompleted onWriteCompleted =
+                        writeInstructions.onWriteCompleted().orElse(null);
+                // When writing concurrently, we collect the completed writes and invoke the callback in table order
+                final CompletedParquetWrite[] completedWrites =
+                        concurrentTables && onWriteCompleted != null ? new CompletedParquetWrite[sources.length] : null;
+                final Deque<Map.Entry<URI, Future<?>>> pendingWrites = new ArrayDeque<>();
+                try {
                     for (int tableIdx = 0; tableIdx < sources.length; tableIdx++) {
                         final URI tableDestination = destinations[tableIdx];
-                        final List<ParquetTableWriter.IndexWritingInfo> indexInfoList =
-                                indexInfoBuilderHelper(indexColumns, parquetColumnNameArr, tableDestination,
+                        final List<ParquetTableWriter.IndexWritingInfo> indexInfoList = parquetColumnNameArr == null
+                                ? null
+                                : indexInfoBuilderHelper(indexColumns, parquetColumnNameArr, tableDestination,
                                         channelsProvider, writeContext);
                         final CompletableOutputStream outputStream = channelsProvider.getOutputStream(
-                                writeContext, destinations[tableIdx], PARQUET_OUTPUT_BUFFER_SIZE);
+                                writeContext, tableDestination, PARQUET_OUTPUT_BUFFER_SIZE);
                         outputStreams.add(outputStream);
-                        for (final ParquetTableWriter.IndexWritingInfo info : indexInfoList) {
-                            outputStreams.add(info.destOutputStream);
+                        if (indexInfoList != null) {
+                            for (final ParquetTableWriter.IndexWritingInfo info : indexInfoList) {
+                                outputStreams.add(info.destOutputStream);
+                            }
                         }
                         final Table source = sources[tableIdx];
-                        ParquetTableWriter.write(source, definition, writeInstructions, tableDestination, outputStream,
-                                Collections.emptyMap(), indexInfoList, metadataFileWriter, computedCache);
+                        if (!concurrentTables) {
+                            ParquetTableWriter.write(source, definition, writeInstructions, tableDestination,
+                                    outputStream, Collections.emptyMap(), indexInfoList, metadataFileWriter,
+                                    computedCache);
+                            continue;
+                        }
+                        if (pendingWrites.size() >= writeInstructions.getWriteParallelism()) {
+                            final Map.Entry<URI, Future<?>> pendingWrite = pendingWrites.removeFirst();
+                            ParquetTableWriter.awaitWrite("table to " + pendingWrite.getKey(),
+                                    pendingWrite.getValue());
+                        }
+                        final ParquetInstructions tableWriteInstructions;
+                        if (completedWrites != null) {
+                            final int completedWriteIdx = tableIdx;
+                            tableWriteInstructions = new ParquetInstructions.Builder(writeInstructions)
+                                    .setOnWriteCompleted(
+                                            completedWrite -> completedWrites[completedWriteIdx] = completedWrite)
+                                    .build();
+                        } else {
+                            tableWriteInstructions = writeInstructions;
+                        }
+                        final ExecutionContext executionContext = ExecutionContext.getContext();
+                        pendingWrites.addLast(Map.entry(tableDestination, operationInitializer.submit(() -> {
+                            try (final SafeCloseable ignoredContext = executionContext.open()) {
+                                ParquetTableWriter.write(source, definition, tableWriteInstructions,
+                                        tableDestination, outputStream, Collections.emptyMap(), indexInfoList,
+                                        metadataFileWriter, computedCache);
+                            } catch (final IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })));
+                    }
+                    while (!pendingWrites.isEmpty()) {
+                        final Map.Entry<URI, Future<?>> pendingWrite = pendingWrites.removeFirst();
+                        ParquetTableWriter.awaitWrite("table to " + pendingWrite.getKey(), pendingWrite.getValue());
+                    }
+                } finally {
+                    // If anything failed, make sure nothing is still writing before we roll back
+                    ParquetTableWriter.awaitQuietly(
+                            pendingWrites.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+                }
+                if (completedWrites != null) {
+                    for (final CompletedParquetWrite completedWrite : completedWrites) {
+                        onWriteCompleted.onWriteCompleted(completedWrite);
                     }
                 }
 
@@ -30,6 +30,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import static io.deephaven.engine.util.BigDecimalUtils.PrecisionAndScale;
@@ -133,7 +134,7 @@ public class TypeInfos {
             @NotNull final RowSet rowSet,
             @NotNull final Supplier<ColumnSource<?>> columnSourceSupplier) {
         return (PrecisionAndScale) computedCache
-                .computeIfAbsent(columnName, unusedColumnName -> new HashMap<>())
+                .computeIfAbsent(columnName, unusedColumnName -> new ConcurrentHashMap<>())
                 .computeIfAbsent(ParquetCacheTags.DECIMAL_ARGS,
                         uct -> parquetCompatible(computePrecisionAndScale(rowSet, columnSourceSupplier.get())));
     }
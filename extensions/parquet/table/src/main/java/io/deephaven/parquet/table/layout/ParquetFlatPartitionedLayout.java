@@ -10,6 +10,7 @@ import io.deephaven.base.stats.Value;
 import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.locations.impl.TableLocationKeyFinder;
 import io.deephaven.engine.readtracker.impl.QueryPerformanceReadTracker;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
@@ -77,6 +78,7 @@ public final class ParquetFlatPartitionedLayout implements TableLocationKeyFinde
                         return existingLocationKey;
                     }
                     final ParquetTableLocationKey newLocationKey = locationKey(uri);
+                    ParquetFooterCache.prefetch(uri, channelsProvider);
                     locationKeyObserver.accept(newLocationKey);
                     return newLocationKey;
                 });
@@ -17,6 +17,7 @@ import io.deephaven.engine.table.impl.locations.local.LocationTableBuilderDefini
 import io.deephaven.engine.table.impl.locations.local.URIStreamKeyValuePartitionLayout;
 import io.deephaven.engine.table.impl.locations.local.KeyValuePartitionLayout;
 import io.deephaven.engine.readtracker.impl.QueryPerformanceReadTracker;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
@@ -137,7 +138,10 @@ public class ParquetKeyValuePartitionedLayout
         }
         final long start = System.nanoTime();
         try (final Stream<URI> filteredUriStream = channelsProvider.walk(tableRootDirectory).filter(uriFilter)) {
-            findKeys(filteredUriStream, locationKeyObserver);
+            findKeys(filteredUriStream, locationKey -> {
+                ParquetFooterCache.prefetch(locationKey.getURI(), channelsProvider);
+                locationKeyObserver.accept(locationKey);
+            });
         } catch (final IOException e) {
             throw new TableDataException("Error finding parquet locations under " + tableRootDirectory, e);
         } finally {
@@ -0,0 +1,159 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.location;
+
+import io.deephaven.time.DateTimeUtils;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+
+/**
+ * Probes the split-block bloom filter of a column chunk for single Deephaven values, hashing each value the same way as
+ * the writer hashed the values of the column chunk's parquet type. Bloom filters can have false positives but no false
+ * negatives, so they can only be used to exclude row groups for regular (non-inverted) matches. The per-type pushdown
+ * handlers use these methods to evaluate {@link io.deephaven.engine.table.impl.select.MatchFilter MatchFilters}.
+ * <p>
+ * Each method returns {@code true} if the value may be present, including whenever the value cannot be mapped to the
+ * parquet representation of the column chunk. Callers must not pass null values, since nulls are not recorded in bloom
+ * filters.
+ */
+final class BloomFilterPushdownHandler {
+
+    static boolean maybeContainsChar(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final char value) {
+        // Deephaven writes chars as unsigned 16-bit integers
+        if (parquetType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.INT32
+                || !LogicalTypeAnnotation.intType(16, false).equals(parquetType.getLogicalTypeAnnotation())) {
+            return true;
+        }
+        return bloomFilter.findHash(bloomFilter.hash((int) value));
+    }
+
+    static boolean maybeContainsByte(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final byte value) {
+        return maybeContainsIntegral(bloomFilter, parquetType, value);
+    }
+
+    static boolean maybeContainsShort(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final short value) {
+        return maybeContainsIntegral(bloomFilter, parquetType, value);
+    }
+
+    static boolean maybeContainsInt(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final int value) {
+        return maybeContainsIntegral(bloomFilter, parquetType, value);
+    }
+
+    static boolean maybeContainsLong(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final long value) {
+        return maybeContainsIntegral(bloomFilter, parquetType, value);
+    }
+
+    private static boolean maybeContainsIntegral(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final long value) {
+        final LogicalTypeAnnotation annotation = parquetType.getLogicalTypeAnnotation();
+        if (annotation != null && !isSignedInt(annotation)) {
+            return true;
+        }
+        switch (parquetType.getPrimitiveTypeName()) {
+            case INT32:
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    return true;
+                }
+                return bloomFilter.findHash(bloomFilter.hash((int) value));
+            case INT64:
+                return bloomFilter.findHash(bloomFilter.hash(value));
+            default:
+                return true;
+        }
+    }
+
+    static boolean maybeContainsFloat(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final float value) {
+        // Zeros and NaNs have multiple bit representations that compare equal for matching purposes
+        if (parquetType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.FLOAT
+                || value == 0.0f || Float.isNaN(value)) {
+            return true;
+        }
+        return bloomFilter.findHash(bloomFilter.hash(value));
+    }
+
+    static boolean maybeContainsDouble(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            final double value) {
+        // Zeros and NaNs have multiple bit representations that compare equal for matching purposes
+        if (parquetType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.DOUBLE
+                || value == 0.0 || Double.isNaN(value)) {
+            return true;
+        }
+        return bloomFilter.findHash(bloomFilter.hash(value));
+    }
+
+    static boolean maybeContainsInstant(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            @NotNull final Instant value) {
+        final LogicalTypeAnnotation annotation = parquetType.getLogicalTypeAnnotation();
+        if (parquetType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.INT64
+                || !(annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation)) {
+            return true;
+        }
+        final long epochNanos = DateTimeUtils.epochNanos(value);
+        final long nanosPerUnit;
+        switch (((LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation).getUnit()) {
+            case NANOS:
+                nanosPerUnit = 1;
+                break;
+            case MICROS:
+                nanosPerUnit = DateTimeUtils.MICRO;
+                break;
+            case MILLIS:
+                nanosPerUnit = DateTimeUtils.MILLI;
+                break;
+            default:
+                return true;
+        }
+        if (epochNanos % nanosPerUnit != 0) {
+            // Not representable in the stored unit, the materializer would never produce this value
+            return true;
+        }
+        return bloomFilter.findHash(bloomFilter.hash(epochNanos / nanosPerUnit));
+    }
+
+    static boolean maybeContainsString(
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType,
+            @NotNull final String value) {
+        final LogicalTypeAnnotation annotation = parquetType.getLogicalTypeAnnotation();
+        if (parquetType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.BINARY
+                || !(annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation)) {
+            return true;
+        }
+        return bloomFilter.findHash(bloomFilter.hash(Binary.fromString(value)));
+    }
+
+    private static boolean isSignedInt(@NotNull final LogicalTypeAnnotation annotation) {
+        return annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) annotation).isSigned();
+    }
+}
@@ -8,6 +8,8 @@ import io.deephaven.engine.table.impl.select.MatchFilter;
 import io.deephaven.util.compare.ObjectComparisons;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -102,6 +104,35 @@ final class ComparablePushdownHandler {
         return maybeMatchesInverse(mutableMin.get(), mutableMax.get(), comparableValues);
     }
 
+    /**
+     * Verifies that the bloom filter of a column chunk may contain any point provided in the match filter. Only
+     * {@link String} values are probed, since those are the only comparable values whose parquet representation we
+     * hash; any other value is assumed to be present.
+     */
+    static boolean maybeMatches(
+            @NotNull final MatchFilter matchFilter,
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType) {
+        if (matchFilter.getMatchOptions().inverted() || matchFilter.getMatchOptions().caseInsensitive()) {
+            // Bloom filters cannot prove that a value other than the given ones is present, and only hold the exact
+            // case of each string
+            return true;
+        }
+        final Object[] values = matchFilter.getValues();
+        if (values == null || values.length == 0) {
+            // No values to check against
+            return false;
+        }
+        for (final Object value : values) {
+            // Nulls are not recorded in bloom filters
+            if (!(value instanceof String)
+                    || BloomFilterPushdownHandler.maybeContainsString(bloomFilter, parquetType, (String) value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Verifies that the {@code [min, max]} range intersects any point supplied in {@code values}.
      */
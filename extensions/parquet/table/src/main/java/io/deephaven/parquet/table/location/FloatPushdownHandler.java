@@ -9,6 +9,8 @@ import io.deephaven.util.QueryConstants;
 import io.deephaven.util.type.ArrayTypeUtils;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -93,6 +95,33 @@ final class FloatPushdownHandler {
         return maybeMatchesInverse(mutableMin.get(), mutableMax.get(), unboxedValues);
     }
 
+    /**
+     * Verifies that the bloom filter of a column chunk may contain any point provided in the match filter.
+     */
+    static boolean maybeMatches(
+            @NotNull final MatchFilter matchFilter,
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType) {
+        if (matchFilter.getMatchOptions().inverted()) {
+            // Bloom filters cannot prove that a value other than the given ones is present
+            return true;
+        }
+        final Object[] values = matchFilter.getValues();
+        if (values == null || values.length == 0) {
+            // No values to check against
+            return false;
+        }
+        final float[] unboxedValues = ArrayTypeUtils.getUnboxedFloatArray(values);
+        for (final float value : unboxedValues) {
+            // Nulls are not recorded in bloom filters
+            if (value == QueryConstants.NULL_FLOAT
+                    || BloomFilterPushdownHandler.maybeContainsFloat(bloomFilter, parquetType, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Verifies that the {@code [min, max]} range intersects any point supplied in {@code values}.
      */
@@ -9,6 +9,8 @@ import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.QueryConstants;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Instant;
@@ -77,4 +79,30 @@ final class InstantPushdownHandler {
         }
         return LongPushdownHandler.maybeMatchesInverse(min, max, instantNanos);
     }
+
+    /**
+     * Verifies that the bloom filter of a column chunk may contain any point provided in the match filter.
+     */
+    static boolean maybeMatches(
+            @NotNull final MatchFilter matchFilter,
+            @NotNull final BloomFilter bloomFilter,
+            @NotNull final PrimitiveType parquetType) {
+        if (matchFilter.getMatchOptions().inverted()) {
+            // Bloom filters cannot prove that a value other than the given ones is present
+            return true;
+        }
+        final Object[] values = matchFilter.getValues();
+        if (values == null || values.length == 0) {
+            // No values to check against
+            return false;
+        }
+        for (final Object value : values) {
+            // Nulls are not recorded in bloom filters, and other values cannot be hashed as instants
+            if (!(value instanceof Instant)
+                    || BloomFilterPushdownHandler.maybeContainsInstant(bloomFilter, parquetType, (Instant) value)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -21,6 +21,7 @@ import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.metadata.CodecInfo;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
+import io.deephaven.parquet.table.pagestore.ByteBudgetedPageCache;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.parquet.table.pagestore.PageCache;
 import io.deephaven.parquet.table.pagestore.topage.*;
@@ -340,7 +341,10 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
 
             // We should consider moving this page-cache to column level if needed.
             // Column-location level likely allows more parallelism.
-            final PageCache<ATTR> pageCache = new PageCache<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE);
+            final PageCache<ATTR> pageCache = ByteBudgetedPageCache.isEnabled()
+                    ? new ByteBudgetedPageCache<>(tl().toString(), getName(), INITIAL_PAGE_CACHE_SIZE,
+                            MAX_PAGE_CACHE_SIZE)
+                    : new PageCache<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE);
 
             for (int psi = 0; psi < pageStoreCount; ++psi) {
                 final ColumnChunkReader columnChunkReader = columnChunkReaders[psi];
@@ -353,7 +357,8 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
                                     makeToPage(tl().getColumnTypes().get(parquetColumnName),
                                             tl().getReadInstructions(), parquetColumnName, columnChunkReader,
                                             columnDefinition),
-                                    columnDefinition);
+                                    columnDefinition,
+                                    tl().getReadInstructions().getReadAheadPageCount());
                     pageStores[psi] = creatorResult.pageStore;
                     dictionaryChunkSuppliers[psi] = creatorResult.dictionaryChunkSupplier;
                     dictionaryKeysPageStores[psi] = creatorResult.dictionaryKeysPageStore;
@@ -496,6 +501,13 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
                                 " with logical type " + logicalTypeAnnotation + " and page type " + pageType);
             }
 
+            if (!isArray && !isCodec && specialTypeName == null && dataType.isPrimitive()
+                    && columnChunkReader.usesDictionaryOnEveryPage()) {
+                // Expose the dictionary of fully dictionary-encoded primitive column chunks, so that filters can be
+                // pushed down to the dictionary rather than evaluated against every row
+                toPage = ToPrimitivePageWithDictionary.create(toPage, columnChunkReader.getDictionarySupplier());
+            }
+
             if (specialTypeName == ColumnTypeInfo.SpecialType.StringSet) {
                 Assert.assertion(isArray, "isArray");
                 toPage = ToStringSetPage.create(dataType, toPage);
@@ -33,6 +33,7 @@ import io.deephaven.engine.table.impl.select.*;
 import io.deephaven.engine.table.vectors.ColumnVectors;
 import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
+import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ParquetFileReader;
 import io.deephaven.parquet.base.RowGroupReader;
 import io.deephaven.parquet.impl.ParquetSchemaUtil;
@@ -46,13 +47,19 @@ import io.deephaven.parquet.table.metadata.SortColumnInfo;
 import io.deephaven.parquet.table.metadata.TableInfo;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.mutable.MutableLong;
 import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.format.ColumnChunk;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.ColumnOrder;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -60,10 +67,12 @@ import org.jetbrains.annotations.Nullable;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -156,11 +165,12 @@ public class ParquetTableLocation extends AbstractTableLocation {
             columnTypes = tableInfo.columnTypeMap();
             sortingColumns = SortColumnInfo.sortColumns(tableInfo.sortingColumns());
 
+            final RowSet rowSet = computeRowSet(rowGroups);
             if (!FILE_URI_SCHEME.equals(tableLocationKey.getURI().getScheme())) {
                 // We do not have the last modified time for non-file URIs
-                handleUpdateInternal(computeRowSet(rowGroups), TableLocationState.NULL_TIME);
+                handleUpdateInternal(rowSet, TableLocationState.NULL_TIME);
             } else {
-                handleUpdateInternal(computeRowSet(rowGroups), new File(tableLocationKey.getURI()).lastModified());
+                handleUpdateInternal(rowSet, new File(tableLocationKey.getURI()).lastModified());
             }
 
             isInitialized = true;
@@ -179,7 +189,7 @@ public class ParquetTableLocation extends AbstractTableLocation {
         return (ParquetTableLocationKey) getKey();
     }
 
-    ParquetInstructions getReadInstructions() {
+    protected ParquetInstructions getReadInstructions() {
         return readInstructions;
     }
 
@@ -251,7 +261,56 @@ public class ParquetTableLocation extends AbstractTableLocation {
                 : Collections.unmodifiableList(Arrays.asList(columnPath));
     }
 
+    /**
+     * Get the positions of the rows of this location's file that have been deleted, and must be excluded from this
+     * location's {@link RowSet}. Positions count rows from the start of the file, across all of its row groups in file
+     * order. Called once, while the location is being initialized; the caller takes ownership of the result.
+     *
+     * @return The deleted row positions, or {@code null} if no rows have been deleted
+     */
+    @Nullable
+    protected RowSet getDeletedRowPositions() {
+        return null;
+    }
+
     private RowSet computeRowSet(@NotNull final RowGroup[] rowGroups) {
+        final WritableRowSet rowSet = computeRowGroupsRowSet(rowGroups);
+        try (final RowSet deletedRowPositions = getDeletedRowPositions()) {
+            if (deletedRowPositions != null && deletedRowPositions.isNonempty()) {
+                try (final RowSet deletedRowKeys = positionsToRowKeys(rowGroups, deletedRowPositions)) {
+                    rowSet.remove(deletedRowKeys);
+                }
+            }
+        }
+        return rowSet;
+    }
+
+    private RowSet positionsToRowKeys(@NotNull final RowGroup[] rowGroups, @NotNull final RowSet positions) {
+        // The position of the first row of each row group, in file order
+        final Map<RowGroup, Long> firstPositions = new IdentityHashMap<>();
+        long nextPosition = 0;
+        for (final RowGroup rowGroup : parquetFileReader.fileMetaData.getRow_groups()) {
+            firstPositions.put(rowGroup, nextPosition);
+            nextPosition += rowGroup.getNum_rows();
+        }
+        final RowSetBuilderSequential rowKeysBuilder = RowSetFactory.builderSequential();
+        for (int rgi = 0; rgi < rowGroups.length; ++rgi) {
+            final long subRegionSize = rowGroups[rgi].getNum_rows();
+            if (subRegionSize == 0) {
+                continue;
+            }
+            final long firstPosition = firstPositions.get(rowGroups[rgi]);
+            final long positionToKey = getSubRegionFirstKey(rgi) - firstPosition;
+            try (final RowSet rowGroupPositions =
+                    positions.subSetByKeyRange(firstPosition, firstPosition + subRegionSize - 1)) {
+                rowGroupPositions.forAllRowKeyRanges((firstKey, lastKey) -> rowKeysBuilder.appendRange(
+                        firstKey + positionToKey, lastKey + positionToKey));
+            }
+        }
+        return rowKeysBuilder.build();
+    }
+
+    private WritableRowSet computeRowGroupsRowSet(@NotNull final RowGroup[] rowGroups) {
         final RowSetBuilderSequential sequentialBuilder = RowSetFactory.builderSequential();
 
         for (int rgi = 0; rgi < rowGroups.length; ++rgi) {
@@ -461,6 +520,20 @@ public class ParquetTableLocation extends AbstractTableLocation {
                     BasePushdownFilterContext::supportsMetadataFiltering,
                     (tl, cr) -> ((ParquetTableLocation) tl).supportsMetadataFiltering());
 
+    private static final RegionedPushdownAction.Location PARQUET_BLOOM_FILTER =
+            new RegionedPushdownAction.Location(
+                    () -> QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_BLOOM_FILTER,
+                    PushdownResult.REGION_BLOOM_FILTER_COST,
+                    BasePushdownFilterContext::supportsMetadataFiltering,
+                    (tl, cr) -> ((ParquetTableLocation) tl).supportsMetadataFiltering());
+
+    private static final RegionedPushdownAction.Location PARQUET_PAGE_INDEX =
+            new RegionedPushdownAction.Location(
+                    () -> QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_PAGE_INDEX,
+                    PushdownResult.REGION_PAGE_INDEX_COST,
+                    BasePushdownFilterContext::supportsMetadataFiltering,
+                    (tl, cr) -> ((ParquetTableLocation) tl).supportsMetadataFiltering());
+
     private static final RegionedPushdownAction.Location IN_MEMORY_DATA_INDEX =
             new RegionedPushdownAction.Location(
                     () -> QueryTable.DISABLE_WHERE_PUSHDOWN_DATA_INDEX,
@@ -484,6 +557,8 @@ public class ParquetTableLocation extends AbstractTableLocation {
 
     private static final List<RegionedPushdownAction> supportedActions = List.of(
             ROW_GROUP_METADATA,
+            PARQUET_BLOOM_FILTER,
+            PARQUET_PAGE_INDEX,
             IN_MEMORY_DATA_INDEX,
             PARQUET_DICTIONARY,
             DEFERRED_DATA_INDEX);
@@ -522,12 +597,15 @@ public class ParquetTableLocation extends AbstractTableLocation {
 
         private final ResolveState resolveState;
         private final String[] parquetColumnNames;
+        private final int[] columnIndices;
 
         private EstimateContext(
                 final ResolveState resolveState,
-                final String[] parquetColumnNames) {
+                final String[] parquetColumnNames,
+                final int[] columnIndices) {
             this.resolveState = resolveState;
             this.parquetColumnNames = parquetColumnNames;
+            this.columnIndices = columnIndices;
         }
 
         @Override
@@ -546,7 +624,7 @@ public class ParquetTableLocation extends AbstractTableLocation {
         final Optional<List<ResolvedColumnInfo>> maybeResolvedColumns =
                 resolveColumns(filter, filterCtx.filterColumnToManagerColumnName());
         if (maybeResolvedColumns.isEmpty()) {
-            return new EstimateContext(EstimateContext.ResolveState.FAILED, null);
+            return new EstimateContext(EstimateContext.ResolveState.FAILED, null, null);
         }
 
         final List<ResolvedColumnInfo> resolvedColumnsInfo = maybeResolvedColumns.get();
@@ -554,7 +632,10 @@ public class ParquetTableLocation extends AbstractTableLocation {
         final String[] parquetColumnNames = resolvedColumnsInfo.stream()
                 .map(resolvedColumn -> resolvedColumn.columnPath.get(0))
                 .toArray(String[]::new);
-        return new EstimateContext(EstimateContext.ResolveState.RESOLVED, parquetColumnNames);
+        final int[] columnIndices = resolvedColumnsInfo.stream()
+                .mapToInt(resolvedColumn -> resolvedColumn.columnIndex)
+                .toArray();
+        return new EstimateContext(EstimateContext.ResolveState.RESOLVED, parquetColumnNames, columnIndices);
     }
 
     @Override
@@ -578,6 +659,13 @@ public class ParquetTableLocation extends AbstractTableLocation {
         if (action == ROW_GROUP_METADATA) {
             // Note: it should be possible to check if there are any statistics
             isApplicable = true;
+        } else if (action == PARQUET_BLOOM_FILTER) {
+            isApplicable = filterCtx.filterForMetadataFiltering() instanceof MatchFilter
+                    && anyColumnChunk(estimateCtx.columnIndices[0],
+                            columnChunk -> columnChunk.getMeta_data().isSetBloom_filter_offset());
+        } else if (action == PARQUET_PAGE_INDEX) {
+            isApplicable = anyColumnChunk(estimateCtx.columnIndices[0],
+                    columnChunk -> columnChunk.isSetColumn_index_offset() && columnChunk.isSetOffset_index_offset());
         } else if (action == IN_MEMORY_DATA_INDEX) {
             isApplicable = hasCachedDataIndex(estimateCtx.parquetColumnNames);
         } else if (action == PARQUET_DICTIONARY) {
@@ -585,7 +673,7 @@ public class ParquetTableLocation extends AbstractTableLocation {
         } else if (action == DEFERRED_DATA_INDEX) {
             isApplicable = hasDataIndex(estimateCtx.parquetColumnNames);
         } else {
-            // TODO(DH-19666): Add support for bloom filters, sortedness, etc.
+            // TODO(DH-19666): Add support for sortedness, etc.
             return PushdownResult.UNSUPPORTED_ACTION_COST;
         }
 
@@ -665,6 +753,17 @@ public class ParquetTableLocation extends AbstractTableLocation {
             return pushdownRowGroupMetadata(selection, filterCtx.filterForMetadataFiltering(), actionCtx.columnIndices,
                     input);
         }
+        if (action == PARQUET_BLOOM_FILTER) {
+            final WhereFilter metadataFilter = filterCtx.filterForMetadataFiltering();
+            if (!(metadataFilter instanceof MatchFilter)) {
+                return input.copy();
+            }
+            return pushdownBloomFilter(selection, (MatchFilter) metadataFilter, actionCtx.parquetColumnNames, input);
+        }
+        if (action == PARQUET_PAGE_INDEX) {
+            return pushdownPageIndex(selection, filterCtx.filterForMetadataFiltering(), actionCtx.parquetColumnNames,
+                    input);
+        }
         if (action == IN_MEMORY_DATA_INDEX) {
             final BasicDataIndex dataIndex =
                     hasCachedDataIndex(actionCtx.parquetColumnNames) ? getDataIndex(actionCtx.parquetColumnNames)
@@ -822,6 +921,19 @@ public class ParquetTableLocation extends AbstractTableLocation {
 
     // ---------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Check whether the footer metadata of any row group's column chunk at {@code columnIndex} satisfies the
+     * {@code predicate}, without reading anything else from the file.
+     */
+    private boolean anyColumnChunk(final int columnIndex, final Predicate<ColumnChunk> predicate) {
+        for (final RowGroupReader rowGroupReader : getRowGroupReaders()) {
+            if (predicate.test(rowGroupReader.getRowGroup().getColumns().get(columnIndex))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Consumer for row groups and row sets.
      */
@@ -850,7 +962,7 @@ public class ParquetTableLocation extends AbstractTableLocation {
     }
 
     /**
-     * Apply the filter to the row group metadata and return the result.
+     * Apply the filter to the row group statistics and return the result.
      */
     @NotNull
     private PushdownResult pushdownRowGroupMetadata(
@@ -866,66 +978,216 @@ public class ParquetTableLocation extends AbstractTableLocation {
         final List<BlockMetaData> blocks = parquetMetadata.getBlocks();
         iterateRowGroupsAndRowSet(result.maybeMatch(), (rgIdx, rs) -> {
             final Statistics<?> statistics = blocks.get(rgIdx).getColumns().get(columnIndex).getStatistics();
-            final boolean maybeOverlaps;
-            // TODO (DH-19666) Right now, the pushdown logic only returns maybeMatch for row group. For the future, we
-            // can return "match" for scenarios like filter of {X == 3}, and statistics of {min=3, max=3, num_nulls=0}.
-            // Similarly, if filter is {X == null}, and statistics is {hasNonNullValue=false, num_nulls=<row-group
-            // size>}, we can return "match" for the row group.
-            if (!ParquetPushdownUtils.areStatisticsUsable(statistics)) {
-                // We assume it overlaps if we cannot use the statistics.
-                maybeOverlaps = true;
-            } else if (filter instanceof ByteRangeFilter) {
-                maybeOverlaps = BytePushdownHandler.maybeOverlaps((ByteRangeFilter) filter, statistics);
-            } else if (filter instanceof CharRangeFilter) {
-                maybeOverlaps = CharPushdownHandler.maybeOverlaps((CharRangeFilter) filter, statistics);
-            } else if (filter instanceof ShortRangeFilter) {
-                maybeOverlaps = ShortPushdownHandler.maybeOverlaps((ShortRangeFilter) filter, statistics);
-            } else if (filter instanceof IntRangeFilter) {
-                maybeOverlaps = IntPushdownHandler.maybeOverlaps((IntRangeFilter) filter, statistics);
-            } else if (filter instanceof InstantRangeFilter) {
-                maybeOverlaps = InstantPushdownHandler.maybeOverlaps((InstantRangeFilter) filter, statistics);
-            } else if (filter instanceof LongRangeFilter) {
-                maybeOverlaps = LongPushdownHandler.maybeOverlaps((LongRangeFilter) filter, statistics);
-            } else if (filter instanceof FloatRangeFilter) {
-                maybeOverlaps = FloatPushdownHandler.maybeOverlaps((FloatRangeFilter) filter, statistics);
-            } else if (filter instanceof DoubleRangeFilter) {
-                maybeOverlaps = DoublePushdownHandler.maybeOverlaps((DoubleRangeFilter) filter, statistics);
-            } else if (filter instanceof ComparableRangeFilter) {
-                maybeOverlaps = ComparablePushdownHandler.maybeOverlaps((ComparableRangeFilter) filter, statistics);
-            } else if (filter instanceof SingleSidedComparableRangeFilter) {
-                maybeOverlaps = SingleSidedComparableRangePushdownHandler.maybeOverlaps(
-                        (SingleSidedComparableRangeFilter) filter, statistics);
-            } else if (filter instanceof MatchFilter) {
-                final MatchFilter matchFilter = (MatchFilter) filter;
-                final Class<?> dhColumnType = matchFilter.getColumnType();
-                if (dhColumnType == null) {
-                    throw new IllegalStateException("Filter not initialized with a column type: " + filter);
-                } else if (dhColumnType == byte.class || dhColumnType == Byte.class) {
-                    maybeOverlaps = BytePushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == char.class || dhColumnType == Character.class) {
-                    maybeOverlaps = CharPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == short.class || dhColumnType == Short.class) {
-                    maybeOverlaps = ShortPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == int.class || dhColumnType == Integer.class) {
-                    maybeOverlaps = IntPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == long.class || dhColumnType == Long.class) {
-                    maybeOverlaps = LongPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == float.class || dhColumnType == Float.class) {
-                    maybeOverlaps = FloatPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == double.class || dhColumnType == Double.class) {
-                    maybeOverlaps = DoublePushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == String.class && matchFilter.getMatchOptions().caseInsensitive()) {
-                    maybeOverlaps = CaseInsensitiveStringMatchPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else if (dhColumnType == Instant.class) {
-                    maybeOverlaps = InstantPushdownHandler.maybeOverlaps(matchFilter, statistics);
-                } else {
-                    maybeOverlaps = ComparablePushdownHandler.maybeOverlaps(matchFilter, statistics);
-                }
+            if (!statisticsMaybeOverlap(filter, statistics)) {
+                return;
+            }
+            maybeBuilder.appendRowSequence(rs);
+            maybeCount.add(rs.size());
+        });
+        if (maybeCount.get() == result.maybeMatch().size()) {
+            return result.copy();
+        }
+        try (final WritableRowSet maybeMatch = maybeBuilder.build()) {
+            return PushdownResult.of(selection, result.match(), maybeMatch);
+        }
+    }
+
+    /**
+     * Check whether any value described by the {@code statistics} (of a row group or of a single page) may match the
+     * {@code filter}.
+     */
+    private static boolean statisticsMaybeOverlap(final WhereFilter filter, final Statistics<?> statistics) {
+        // TODO (DH-19666) Right now, the pushdown logic only returns maybeMatch for row groups and pages. For the
+        // future, we can return "match" for scenarios like filter of {X == 3}, and statistics of {min=3, max=3,
+        // num_nulls=0}. Similarly, if filter is {X == null}, and statistics is {hasNonNullValue=false,
+        // num_nulls=<row-group size>}, we can return "match" for the row group.
+        if (!ParquetPushdownUtils.areStatisticsUsable(statistics)) {
+            // We assume it overlaps if we cannot use the statistics.
+            return true;
+        } else if (filter instanceof ByteRangeFilter) {
+            return BytePushdownHandler.maybeOverlaps((ByteRangeFilter) filter, statistics);
+        } else if (filter instanceof CharRangeFilter) {
+            return CharPushdownHandler.maybeOverlaps((CharRangeFilter) filter, statistics);
+        } else if (filter instanceof ShortRangeFilter) {
+            return ShortPushdownHandler.maybeOverlaps((ShortRangeFilter) filter, statistics);
+        } else if (filter instanceof IntRangeFilter) {
+            return IntPushdownHandler.maybeOverlaps((IntRangeFilter) filter, statistics);
+        } else if (filter instanceof InstantRangeFilter) {
+            return InstantPushdownHandler.maybeOverlaps((InstantRangeFilter) filter, statistics);
+        } else if (filter instanceof LongRangeFilter) {
+            return LongPushdownHandler.maybeOverlaps((LongRangeFilter) filter, statistics);
+        } else if (filter instanceof FloatRangeFilter) {
+            return FloatPushdownHandler.maybeOverlaps((FloatRangeFilter) filter, statistics);
+        } else if (filter instanceof DoubleRangeFilter) {
+            return DoublePushdownHandler.maybeOverlaps((DoubleRangeFilter) filter, statistics);
+        } else if (filter instanceof ComparableRangeFilter) {
+            return ComparablePushdownHandler.maybeOverlaps((ComparableRangeFilter) filter, statistics);
+        } else if (filter instanceof SingleSidedComparableRangeFilter) {
+            return SingleSidedComparableRangePushdownHandler.maybeOverlaps(
+                    (SingleSidedComparableRangeFilter) filter, statistics);
+        } else if (filter instanceof MatchFilter) {
+            final MatchFilter matchFilter = (MatchFilter) filter;
+            final Class<?> dhColumnType = matchFilter.getColumnType();
+            if (dhColumnType == null) {
+                throw new IllegalStateException("Filter not initialized with a column type: " + filter);
+            } else if (dhColumnType == byte.class || dhColumnType == Byte.class) {
+                return BytePushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == char.class || dhColumnType == Character.class) {
+                return CharPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == short.class || dhColumnType == Short.class) {
+                return ShortPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == int.class || dhColumnType == Integer.class) {
+                return IntPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == long.class || dhColumnType == Long.class) {
+                return LongPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == float.class || dhColumnType == Float.class) {
+                return FloatPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == double.class || dhColumnType == Double.class) {
+                return DoublePushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == String.class && matchFilter.getMatchOptions().caseInsensitive()) {
+                return CaseInsensitiveStringMatchPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else if (dhColumnType == Instant.class) {
+                return InstantPushdownHandler.maybeOverlaps(matchFilter, statistics);
+            } else {
+                return ComparablePushdownHandler.maybeOverlaps(matchFilter, statistics);
+            }
+        } else {
+            // Unsupported filter type for push down, so assume it overlaps.
+            return true;
+        }
+    }
+
+    /**
+     * Apply the filter to the page-level statistics in the column indexes of the row groups that the row group
+     * statistics and bloom filters could not exclude, and return the result. Since this action costs more than those,
+     * column and offset indexes are only read for the row groups that remain.
+     */
+    @NotNull
+    private PushdownResult pushdownPageIndex(
+            final RowSet selection,
+            final WhereFilter filter,
+            final String[] parquetColumnNames,
+            final PushdownResult result) {
+        final RowSetBuilderSequential maybeBuilder = RowSetFactory.builderSequential();
+        final MutableLong maybeCount = new MutableLong(0);
+
+        // Only one column in these filters
+        iterateRowGroupsAndRowSet(result.maybeMatch(),
+                (rgIdx, rs) -> maybeCount.add(
+                        appendPagesMaybeMatching(rgIdx, parquetColumnNames[0], filter, rs, maybeBuilder)));
+        if (maybeCount.get() == result.maybeMatch().size()) {
+            return result.copy();
+        }
+        try (final WritableRowSet maybeMatch = maybeBuilder.build()) {
+            return PushdownResult.of(selection, result.match(), maybeMatch);
+        }
+    }
+
+    /**
+     * Append the rows of {@code rs} that belong to pages of the column chunk in the given row group which may match the
+     * {@code filter}, based on the page-level statistics in the column index, if one was written.
+     *
+     * @return The number of rows appended to {@code maybeBuilder}
+     */
+    private long appendPagesMaybeMatching(
+            final int rowGroupIndex,
+            final String parquetColumnName,
+            final WhereFilter filter,
+            final RowSequence rs,
+            final RowSetBuilderSequential maybeBuilder) {
+        final RowGroupReader rowGroupReader = getRowGroupReaders()[rowGroupIndex];
+        final ColumnChunkReader columnChunkReader =
+                rowGroupReader.getColumnChunk(parquetColumnName, List.of(parquetColumnName));
+        if (columnChunkReader == null || !columnChunkReader.hasColumnIndex() || !columnChunkReader.hasOffsetIndex()) {
+            maybeBuilder.appendRowSequence(rs);
+            return rs.size();
+        }
+        final ColumnIndex pageIndex;
+        final OffsetIndex offsetIndex;
+        try {
+            pageIndex = columnChunkReader.getColumnIndex(SeekableChannelContext.NULL);
+            offsetIndex = columnChunkReader.getOffsetIndex(SeekableChannelContext.NULL);
+        } catch (final RuntimeException e) {
+            // A missing or unreadable column index must not fail the filter, it only means we cannot skip pages
+            log.warn().append("Failed to read column index for column ").append(parquetColumnName)
+                    .append(" in ").append(getKey().toString()).append(": ").append(e).endl();
+            maybeBuilder.appendRowSequence(rs);
+            return rs.size();
+        }
+        final int pageCount = offsetIndex.getPageCount();
+        if (pageIndex.getNullPages().size() != pageCount) {
+            maybeBuilder.appendRowSequence(rs);
+            return rs.size();
+        }
+
+        final PrimitiveType type = columnChunkReader.getType();
+        final long rowGroupFirstKey = getSubRegionFirstKey(rowGroupIndex);
+        final long rowGroupSize = rowGroupReader.getRowGroup().getNum_rows();
+        final RowSetBuilderSequential pagesBuilder = RowSetFactory.builderSequential();
+        boolean allPagesMaybeMatch = true;
+        for (int pageIdx = 0; pageIdx < pageCount; ++pageIdx) {
+            if (statisticsMaybeOverlap(filter, pageStatistics(type, pageIndex, pageIdx))) {
+                pagesBuilder.appendRange(
+                        rowGroupFirstKey + offsetIndex.getFirstRowIndex(pageIdx),
+                        rowGroupFirstKey + offsetIndex.getLastRowIndex(pageIdx, rowGroupSize));
             } else {
-                // Unsupported filter type for push down, so assume it overlaps.
-                maybeOverlaps = true;
+                allPagesMaybeMatch = false;
             }
-            if (maybeOverlaps) {
+        }
+        if (allPagesMaybeMatch) {
+            maybeBuilder.appendRowSequence(rs);
+            return rs.size();
+        }
+        try (final WritableRowSet pagesRowSet = pagesBuilder.build();
+                final RowSet rsRowSet = rs.asRowSet();
+                final WritableRowSet maybeRowSet = pagesRowSet.intersect(rsRowSet)) {
+            maybeBuilder.appendRowSequence(maybeRowSet);
+            return maybeRowSet.size();
+        }
+    }
+
+    /**
+     * Make a statistics object for a single page from the min, max, and null count stored in the column index.
+     */
+    private static Statistics<?> pageStatistics(
+            final PrimitiveType type,
+            final ColumnIndex pageIndex,
+            final int pageIdx) {
+        final Statistics.Builder builder = Statistics.getBuilderForReading(type);
+        if (!pageIndex.getNullPages().get(pageIdx)) {
+            builder.withMin(toByteArray(pageIndex.getMinValues().get(pageIdx)))
+                    .withMax(toByteArray(pageIndex.getMaxValues().get(pageIdx)));
+        }
+        final List<Long> nullCounts = pageIndex.getNullCounts();
+        if (nullCounts != null) {
+            builder.withNumNulls(nullCounts.get(pageIdx));
+        }
+        return builder.build();
+    }
+
+    private static byte[] toByteArray(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Apply the match filter to the bloom filters of the row groups that the statistics could not exclude, and return
+     * the result. Since this action costs more than {@link #ROW_GROUP_METADATA}, the input only holds the row groups
+     * that the statistics could not exclude, so bloom filters are only read for those.
+     */
+    @NotNull
+    private PushdownResult pushdownBloomFilter(
+            final RowSet selection,
+            final MatchFilter filter,
+            final String[] parquetColumnNames,
+            final PushdownResult result) {
+        final RowSetBuilderSequential maybeBuilder = RowSetFactory.builderSequential();
+        final MutableLong maybeCount = new MutableLong(0);
+
+        // Only one column in these filters
+        iterateRowGroupsAndRowSet(result.maybeMatch(), (rgIdx, rs) -> {
+            if (bloomFilterMaybeMatches(rgIdx, parquetColumnNames[0], filter)) {
                 maybeBuilder.appendRowSequence(rs);
                 maybeCount.add(rs.size());
             }
@@ -938,6 +1200,65 @@ public class ParquetTableLocation extends AbstractTableLocation {
         }
     }
 
+    /**
+     * Check the bloom filter for the column chunk in the given row group, if one was written.
+     *
+     * @return {@code false} if the bloom filter proves that no value in the column chunk matches, {@code true}
+     *         otherwise
+     */
+    private boolean bloomFilterMaybeMatches(
+            final int rowGroupIndex,
+            final String parquetColumnName,
+            final MatchFilter matchFilter) {
+        final ColumnChunkReader columnChunkReader = getRowGroupReaders()[rowGroupIndex]
+                .getColumnChunk(parquetColumnName, List.of(parquetColumnName));
+        if (columnChunkReader == null || !columnChunkReader.hasBloomFilter()) {
+            return true;
+        }
+        final BloomFilter bloomFilter;
+        try {
+            bloomFilter = columnChunkReader.getBloomFilter(SeekableChannelContext.NULL);
+        } catch (final RuntimeException e) {
+            // A missing or unreadable bloom filter must not fail the filter, it only means we cannot skip data
+            log.warn().append("Failed to read bloom filter for column ").append(parquetColumnName)
+                    .append(" in ").append(getKey().toString()).append(": ").append(e).endl();
+            return true;
+        }
+        return bloomFilterMaybeMatches(matchFilter, bloomFilter, columnChunkReader.getType());
+    }
+
+    /**
+     * Check whether the {@code bloomFilter} of a column chunk with the given parquet type may contain any value that
+     * matches the {@code matchFilter}.
+     */
+    private static boolean bloomFilterMaybeMatches(
+            final MatchFilter matchFilter,
+            final BloomFilter bloomFilter,
+            final PrimitiveType parquetType) {
+        final Class<?> dhColumnType = matchFilter.getColumnType();
+        if (dhColumnType == null) {
+            throw new IllegalStateException("Filter not initialized with a column type: " + matchFilter);
+        } else if (dhColumnType == byte.class || dhColumnType == Byte.class) {
+            return BytePushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == char.class || dhColumnType == Character.class) {
+            return CharPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == short.class || dhColumnType == Short.class) {
+            return ShortPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == int.class || dhColumnType == Integer.class) {
+            return IntPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == long.class || dhColumnType == Long.class) {
+            return LongPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == float.class || dhColumnType == Float.class) {
+            return FloatPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == double.class || dhColumnType == Double.class) {
+            return DoublePushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else if (dhColumnType == Instant.class) {
+            return InstantPushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        } else {
+            return ComparablePushdownHandler.maybeMatches(matchFilter, bloomFilter, parquetType);
+        }
+    }
+
     /**
      * Apply the chunk filter to the row group dictionaries and return the result.
      */
@@ -0,0 +1,707 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.base.stats.State;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.page.ChunkPage;
+import io.deephaven.engine.page.ChunkPageFactory;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.util.TableTools;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A {@link PageCache} that keeps copies of primitive pages off-heap, in direct memory, within a
+ * {@link #getBudgetBytes() byte budget} shared by all byte-budgeted caches in the process. Residency does not depend
+ * on garbage collector heuristics, and cached pages do not occupy the Java heap: once a page is no longer referenced on
+ * the heap, the next request for it is served by copying its off-heap copy into a new page, rather than by reading and
+ * decoding it again.
+ * <p>
+ * The budget is set via the {@code ByteBudgetedPageCache.budgetBytes} configuration property, or
+ * {@link #setBudgetBytes(long)}; a budget of zero (the default) disables byte-budgeted caching. Since the budget is
+ * allocated as direct memory, the JVM's {@code -XX:MaxDirectMemorySize} must exceed it. Object pages, pages that do not
+ * fit in the budget, and pages for which direct memory cannot be allocated are cached with soft references, as by the
+ * default {@link PageCache}.
+ * <p>
+ * To avoid a single point of contention, pages are spread over {@code ByteBudgetedPageCache.shards} independent
+ * shards, each of which holds at most an equal share of the budget. Each shard evicts pages with W-TinyLFU: new pages
+ * enter a small LRU window ({@code ByteBudgetedPageCache.windowFraction} of the shard), and pages leaving the window
+ * are admitted to the LRU main region only if a frequency sketch estimates that they are used more often than the pages
+ * they would displace. This keeps large scans from flushing frequently used pages. Each cache counts its own hits and
+ * misses, which are reported per column location, along with the pages it holds, by {@link #getStatistics()}.
+ * <p>
+ * Pages are {@link #release(Object) released} when their page store releases its cached resources, e.g. when its
+ * location is removed or its table is closed, and the direct memory of released and evicted pages is freed as soon as
+ * no copy from it is in progress, rather than when the garbage collector gets to it.
+ */
+public final class ByteBudgetedPageCache<ATTR extends Any> extends PageCache<ATTR> {
+
+    private static final int NUM_SHARDS = Integer.highestOneBit(Math.max(1, Configuration.getInstance()
+            .getIntegerForClassWithDefault(ByteBudgetedPageCache.class, "shards", 16)));
+
+    /**
+     * The fraction of each shard's budget given to the window, which holds new pages before they compete for admission
+     * to the main region.
+     */
+    private static final double WINDOW_FRACTION = Math.max(0, Math.min(1, Configuration.getInstance()
+            .getDoubleForClassWithDefault(ByteBudgetedPageCache.class, "windowFraction", 0.01)));
+
+    private static final Value HITS = Stats.makeItem("ByteBudgetedPageCache", "hits", ThreadSafeCounter.FACTORY)
+            .getValue();
+    private static final Value MISSES = Stats.makeItem("ByteBudgetedPageCache", "misses", ThreadSafeCounter.FACTORY)
+            .getValue();
+    private static final Value EVICTIONS =
+            Stats.makeItem("ByteBudgetedPageCache", "evictions", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value ALLOCATION_FAILURES =
+            Stats.makeItem("ByteBudgetedPageCache", "allocationFailures", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value RESIDENT_BYTES =
+            Stats.makeItem("ByteBudgetedPageCache", "residentBytes", State.FACTORY).getValue();
+
+    private static volatile long budgetBytes = Configuration.getInstance()
+            .getLongForClassWithDefault(ByteBudgetedPageCache.class, "budgetBytes", 0);
+
+    private static final AtomicLong RESIDENT_BYTES_TOTAL = new AtomicLong();
+
+    private static final Shard[] SHARDS = new Shard[NUM_SHARDS];
+    static {
+        for (int si = 0; si < NUM_SHARDS; ++si) {
+            SHARDS[si] = new Shard();
+        }
+    }
+
+    /**
+     * Frees the direct memory of a buffer immediately, via {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)}, or
+     * {@code null} if that is not accessible, in which case buffers are freed by the garbage collector.
+     */
+    @Nullable
+    private static final MethodHandle FREE_DIRECT_BUFFER = lookupFreeDirectBuffer();
+
+    @Nullable
+    private static MethodHandle lookupFreeDirectBuffer() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Identifies a page by the page store it belongs to and its number within that store.
+     */
+    private static final class PageKey {
+        private final Object owner;
+        private final int pageNum;
+        private final int hash;
+
+        private PageKey(@NotNull final Object owner, final int pageNum) {
+            this.owner = owner;
+            this.pageNum = pageNum;
+            this.hash = (System.identityHashCode(owner) * 31 + pageNum) * 0x9E3779B9;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof PageKey)) {
+                return false;
+            }
+            final PageKey otherKey = (PageKey) other;
+            return owner == otherKey.owner && pageNum == otherKey.pageNum;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The off-heap copy of a page.
+     */
+    private static final class Entry {
+        private final ByteBudgetedPageCache<?> cache;
+        private final ChunkType chunkType;
+        private final ByteBuffer data;
+        private final int size;
+        private final long firstRow;
+        private final long mask;
+        /**
+         * The number of copies from {@link #data} in progress, guarded by the shard holding this entry.
+         */
+        private int pins;
+        /**
+         * Whether this entry was removed from its shard, so that {@link #data} must be freed once it is unpinned,
+         * guarded by the shard holding this entry.
+         */
+        private boolean discarded;
+
+        private Entry(
+                @NotNull final ByteBudgetedPageCache<?> cache,
+                @NotNull final ChunkType chunkType,
+                @NotNull final ByteBuffer data,
+                final int size,
+                final long firstRow,
+                final long mask) {
+            this.cache = cache;
+            this.chunkType = chunkType;
+            this.data = data;
+            this.size = size;
+            this.firstRow = firstRow;
+            this.mask = mask;
+        }
+
+        private long bytes() {
+            return data.capacity();
+        }
+
+        /**
+         * Free the direct memory of {@link #data}, which must no longer be read.
+         */
+        private void free() {
+            if (FREE_DIRECT_BUFFER == null) {
+                return;
+            }
+            try {
+                FREE_DIRECT_BUFFER.invokeExact(data);
+            } catch (final Throwable t) {
+                // Leave the buffer to the garbage collector
+            }
+        }
+    }
+
+    /**
+     * A page whose off-heap copy was cached, so that touching it records an access to the copy.
+     */
+    private static final class OffHeapPage<ATTR extends Any> extends IntrusivePage<ATTR> {
+        private final PageKey key;
+
+        private OffHeapPage(@NotNull final PageKey key, @NotNull final ChunkPage<ATTR> page) {
+            super(page);
+            this.key = key;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters that estimates how often each page was accessed recently, as in TinyLFU.
+     * The counters are halved after every {@link #SAMPLE_SIZE} increments, so that estimates favor recent accesses.
+     * Guarded by the enclosing shard.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        /**
+         * The number of longs in the table, each holding sixteen counters.
+         */
+        private static final int TABLE_SIZE = 1 << 10;
+        private static final int SAMPLE_SIZE = 10 * TABLE_SIZE;
+
+        private final long[] table = new long[TABLE_SIZE];
+        private int additions;
+
+        private int frequency(final int keyHash) {
+            final int hash = rehash(keyHash);
+            final int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int di = 0; di < SEEDS.length; ++di) {
+                final long counters = table[indexOf(hash, di)];
+                frequency = Math.min(frequency, (int) ((counters >>> ((start + di) << 2)) & 0xfL));
+            }
+            return frequency;
+        }
+
+        private void increment(final int keyHash) {
+            final int hash = rehash(keyHash);
+            final int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int di = 0; di < SEEDS.length; ++di) {
+                added |= incrementAt(indexOf(hash, di), start + di);
+            }
+            if (added && ++additions == SAMPLE_SIZE) {
+                for (int ti = 0; ti < TABLE_SIZE; ++ti) {
+                    table[ti] = (table[ti] >>> 1) & RESET_MASK;
+                }
+                additions >>>= 1;
+            }
+        }
+
+        private boolean incrementAt(final int index, final int counter) {
+            final int shift = counter << 2;
+            final long mask = 0xfL << shift;
+            if ((table[index] & mask) == mask) {
+                return false;
+            }
+            table[index] += 1L << shift;
+            return true;
+        }
+
+        private static int rehash(final int keyHash) {
+            // Shards are chosen by the key hash, so decorrelate the bits used here from the shard bits
+            final int hash = keyHash * 0x31848bab;
+            return hash ^ (hash >>> 14);
+        }
+
+        private static int indexOf(final int hash, final int depth) {
+            long index = (hash + SEEDS[depth]) * SEEDS[depth];
+            index += index >>> 32;
+            return ((int) index) & (TABLE_SIZE - 1);
+        }
+    }
+
+    /**
+     * One W-TinyLFU cache of off-heap pages, holding at most {@code budgetBytes / NUM_SHARDS} bytes.
+     */
+    private static final class Shard {
+
+        /**
+         * The most recently added pages of this shard, in access order, guarded by {@code this}.
+         */
+        private final LinkedHashMap<PageKey, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        /**
+         * The pages of this shard admitted from the window, in access order, guarded by {@code this}.
+         */
+        private final LinkedHashMap<PageKey, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch = new FrequencySketch();
+        /**
+         * The bytes of the pages in {@link #window} and {@link #main}, guarded by {@code this}.
+         */
+        private long windowBytes;
+        private long mainBytes;
+
+        /**
+         * Record an access to a page, and get its off-heap copy.
+         *
+         * @return The off-heap copy, or {@code null} if this shard does not hold the page
+         */
+        @Nullable
+        private synchronized Entry get(@NotNull final PageKey key) {
+            sketch.increment(key.hashCode());
+            final Entry entry = window.get(key);
+            return entry != null ? entry : main.get(key);
+        }
+
+        /**
+         * Record an access to a page, and pin its off-heap copy so that it is not freed until {@link #unpin(Entry)
+         * unpinned}.
+         *
+         * @return The pinned off-heap copy, or {@code null} if this shard does not hold the page
+         */
+        @Nullable
+        private synchronized Entry pin(@NotNull final PageKey key) {
+            final Entry entry = get(key);
+            if (entry != null) {
+                ++entry.pins;
+            }
+            return entry;
+        }
+
+        private synchronized void unpin(@NotNull final Entry entry) {
+            if (--entry.pins == 0 && entry.discarded) {
+                entry.free();
+            }
+        }
+
+        /**
+         * Free an entry that was removed from this shard, or have the last copy from it do so.
+         */
+        private synchronized void discard(@NotNull final Entry entry) {
+            entry.discarded = true;
+            if (entry.pins == 0) {
+                entry.free();
+            }
+        }
+
+        private synchronized void put(
+                @NotNull final PageKey key,
+                @NotNull final Entry entry,
+                final long shardBudgetBytes) {
+            if (window.containsKey(key) || main.containsKey(key)) {
+                discard(entry);
+                return;
+            }
+            window.put(key, entry);
+            windowBytes += entry.bytes();
+            RESIDENT_BYTES_TOTAL.addAndGet(entry.bytes());
+            evictToBudget(shardBudgetBytes);
+        }
+
+        private synchronized void evictToBudget(final long shardBudgetBytes) {
+            final long windowBudgetBytes = (long) (shardBudgetBytes * WINDOW_FRACTION);
+            final long mainBudgetBytes = shardBudgetBytes - windowBudgetBytes;
+            long evictedBytes = 0;
+            final Iterator<Map.Entry<PageKey, Entry>> windowIterator = window.entrySet().iterator();
+            while (windowBytes > windowBudgetBytes) {
+                final Map.Entry<PageKey, Entry> candidate = windowIterator.next();
+                windowIterator.remove();
+                final long candidateBytes = candidate.getValue().bytes();
+                windowBytes -= candidateBytes;
+                if (admit(candidate.getKey(), candidateBytes, mainBudgetBytes)) {
+                    main.put(candidate.getKey(), candidate.getValue());
+                    mainBytes += candidateBytes;
+                } else {
+                    discard(candidate.getValue());
+                    evictedBytes += candidateBytes;
+                    EVICTIONS.increment(1);
+                }
+            }
+            final Iterator<Entry> mainIterator = main.values().iterator();
+            while (mainBytes > mainBudgetBytes) {
+                final Entry victim = mainIterator.next();
+                mainIterator.remove();
+                discard(victim);
+                mainBytes -= victim.bytes();
+                evictedBytes += victim.bytes();
+                EVICTIONS.increment(1);
+            }
+            RESIDENT_BYTES.sample(RESIDENT_BYTES_TOTAL.addAndGet(-evictedBytes));
+        }
+
+        /**
+         * Remove and free the pages of a page store.
+         */
+        private synchronized void remove(@NotNull final Object owner) {
+            final long removedWindowBytes = remove(window, owner);
+            final long removedMainBytes = remove(main, owner);
+            if (removedWindowBytes + removedMainBytes == 0) {
+                return;
+            }
+            windowBytes -= removedWindowBytes;
+            mainBytes -= removedMainBytes;
+            RESIDENT_BYTES.sample(RESIDENT_BYTES_TOTAL.addAndGet(-(removedWindowBytes + removedMainBytes)));
+        }
+
+        /**
+         * @return The bytes removed
+         */
+        private long remove(@NotNull final Map<PageKey, Entry> pages, @NotNull final Object owner) {
+            long removedBytes = 0;
+            for (final Iterator<Map.Entry<PageKey, Entry>> it = pages.entrySet().iterator(); it.hasNext();) {
+                final Map.Entry<PageKey, Entry> page = it.next();
+                if (page.getKey().owner == owner) {
+                    it.remove();
+                    discard(page.getValue());
+                    removedBytes += page.getValue().bytes();
+                }
+            }
+            return removedBytes;
+        }
+
+        /**
+         * Decide whether a page leaving the window should enter the main region, which is the case if it fits, or if it
+         * is estimated to be used more often than each of the least recently used pages that would be evicted to make
+         * room for it.
+         */
+        private boolean admit(
+                @NotNull final PageKey candidateKey,
+                final long candidateBytes,
+                final long mainBudgetBytes) {
+            if (candidateBytes > mainBudgetBytes) {
+                return false;
+            }
+            long remainingBytes = mainBytes;
+            if (remainingBytes + candidateBytes <= mainBudgetBytes) {
+                return true;
+            }
+            final int candidateFrequency = sketch.frequency(candidateKey.hashCode());
+            for (final Map.Entry<PageKey, Entry> victim : main.entrySet()) {
+                if (sketch.frequency(victim.getKey().hashCode()) >= candidateFrequency) {
+                    return false;
+                }
+                remainingBytes -= victim.getValue().bytes();
+                if (remainingBytes + candidateBytes <= mainBudgetBytes) {
+                    return true;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final String location;
+    private final String column;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param location A description of the table location whose pages are cached, for accounting purposes
+     * @param column The name of the column whose pages are cached, for accounting purposes
+     * @param initialCapacity The initial capacity of the soft reference cache for pages that are not held off-heap
+     * @param maxCapacity The maximum capacity of the soft reference cache for pages that are not held off-heap
+     */
+    public ByteBudgetedPageCache(
+            @NotNull final String location,
+            @NotNull final String column,
+            final int initialCapacity,
+            final int maxCapacity) {
+        super(initialCapacity, maxCapacity);
+        this.location = location;
+        this.column = column;
+    }
+
+    /**
+     * @return Whether byte-budgeted page caching is enabled, i.e. whether the budget is positive
+     */
+    public static boolean isEnabled() {
+        return budgetBytes > 0;
+    }
+
+    /**
+     * @return The number of bytes that all byte-budgeted caches may hold, in total
+     */
+    public static long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Set the number of bytes that all byte-budgeted caches may hold off-heap, in total, evicting pages if the new
+     * budget is smaller than the bytes already cached. Caches created while the budget was zero use soft references
+     * and are not affected.
+     *
+     * @param newBudgetBytes The new budget; must be non-negative
+     */
+    public static void setBudgetBytes(final long newBudgetBytes) {
+        if (newBudgetBytes < 0) {
+            throw new IllegalArgumentException("Page cache budget must be non-negative, found " + newBudgetBytes);
+        }
+        budgetBytes = newBudgetBytes;
+        for (final Shard shard : SHARDS) {
+            shard.evictToBudget(newBudgetBytes / NUM_SHARDS);
+        }
+    }
+
+    /**
+     * @return The number of bytes currently held off-heap by all byte-budgeted caches
+     */
+    public static long getResidentBytes() {
+        return RESIDENT_BYTES_TOTAL.get();
+    }
+
+    private static Shard shardFor(@NotNull final PageKey key) {
+        final int hash = key.hashCode();
+        return SHARDS[(hash ^ (hash >>> 16)) & (NUM_SHARDS - 1)];
+    }
+
+    @Override
+    public IntrusivePage<ATTR> getPage(
+            @NotNull final Object owner,
+            final int pageNum,
+            @NotNull final Supplier<ChunkPage<ATTR>> materializer) {
+        final PageKey key = new PageKey(owner, pageNum);
+        final Shard shard = shardFor(key);
+        final Entry cached = shard.pin(key);
+        if (cached != null) {
+            hits.increment();
+            HITS.increment(1);
+            try {
+                return new OffHeapPage<>(key, restore(cached));
+            } finally {
+                shard.unpin(cached);
+            }
+        }
+        misses.increment();
+        MISSES.increment(1);
+        final ChunkPage<ATTR> page = materializer.get();
+        final long shardBudgetBytes = budgetBytes / NUM_SHARDS;
+        final Entry entry = copyOffHeap(page, shardBudgetBytes);
+        if (entry == null) {
+            return new IntrusivePage<>(page);
+        }
+        shard.put(key, entry, shardBudgetBytes);
+        return new OffHeapPage<>(key, page);
+    }
+
+    /**
+     * Remove and free the off-heap copies of the pages of {@code owner}. Pages are spread over all shards, so this
+     * visits each of them.
+     */
+    @Override
+    public void release(@NotNull final Object owner) {
+        for (final Shard shard : SHARDS) {
+            shard.remove(owner);
+        }
+    }
+
+    @Override
+    public void touch(@NotNull final IntrusivePage<ATTR> page) {
+        if (page instanceof OffHeapPage) {
+            final PageKey key = ((OffHeapPage<ATTR>) page).key;
+            if (shardFor(key).get(key) != null) {
+                return;
+            }
+            // The off-heap copy was evicted or not admitted; keep the page as the default cache would
+        }
+        super.touch(page);
+    }
+
+    /**
+     * Copy a page off-heap.
+     *
+     * @return The copy, or {@code null} if the page is not primitive, is too large for a shard, or direct memory could
+     *         not be allocated for it
+     */
+    @Nullable
+    private Entry copyOffHeap(@NotNull final ChunkPage<ATTR> page, final long shardBudgetBytes) {
+        final ChunkType chunkType = page.getChunkType();
+        final int elementBytes = elementBytes(chunkType);
+        final long bytes = (long) page.size() * elementBytes;
+        if (elementBytes == 0 || bytes > shardBudgetBytes || bytes > Integer.MAX_VALUE) {
+            return null;
+        }
+        final ByteBuffer data;
+        try {
+            data = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+        } catch (final OutOfMemoryError e) {
+            // Direct memory is exhausted, typically because -XX:MaxDirectMemorySize is less than the budget
+            ALLOCATION_FAILURES.increment(1);
+            return null;
+        }
+        page.copyToBuffer(0, typedView(data, chunkType), 0, page.size());
+        return new Entry(this, chunkType, data, page.size(), page.firstRowOffset(), page.mask());
+    }
+
+    /**
+     * Copy an off-heap page into a new page on the heap.
+     * <p>
+     * Chunk pages are backed by heap arrays, so a hit costs one bulk copy of the page's bytes, in exchange for the read,
+     * decompression, and decoding of a miss. The copy is only made when the page store no longer holds the previous
+     * copy, i.e. once per garbage collection of the page rather than per access; keeping the copies reachable instead
+     * would hold every cached page on the heap as well as off-heap.
+     */
+    private ChunkPage<ATTR> restore(@NotNull final Entry entry) {
+        final Object array = entry.chunkType.makeArray(entry.size);
+        final WritableChunk<ATTR> destination = entry.chunkType.writableChunkWrap(array, 0, entry.size);
+        destination.copyFromBuffer(typedView(entry.data, entry.chunkType), 0, 0, entry.size);
+        return ChunkPageFactory.forChunkType(entry.chunkType).pageWrap(entry.firstRow, array, entry.mask);
+    }
+
+    /**
+     * @return The bytes per element of pages of {@code chunkType} that can be held off-heap, or zero if they cannot
+     */
+    private static int elementBytes(@NotNull final ChunkType chunkType) {
+        switch (chunkType) {
+            case Byte:
+                return Byte.BYTES;
+            case Char:
+                return Character.BYTES;
+            case Short:
+                return Short.BYTES;
+            case Int:
+                return Integer.BYTES;
+            case Float:
+                return Float.BYTES;
+            case Long:
+                return Long.BYTES;
+            case Double:
+                return Double.BYTES;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get a view of {@code data} typed for {@code chunkType}, with its own position, so that concurrent copies do not
+     * interfere with one another.
+     */
+    private static Buffer typedView(@NotNull final ByteBuffer data, @NotNull final ChunkType chunkType) {
+        switch (chunkType) {
+            case Byte:
+                return data.duplicate();
+            case Char:
+                return data.asCharBuffer();
+            case Short:
+                return data.asShortBuffer();
+            case Int:
+                return data.asIntBuffer();
+            case Float:
+                return data.asFloatBuffer();
+            case Long:
+                return data.asLongBuffer();
+            case Double:
+                return data.asDoubleBuffer();
+            default:
+                throw new IllegalStateException("Unexpected chunk type " + chunkType);
+        }
+    }
+
+    /**
+     * Get a snapshot of the byte-budgeted caches that currently hold pages off-heap. The result has one row per cache,
+     * with the columns {@code Location}, {@code Column}, {@code Pages}, {@code ResidentBytes}, {@code Hits}, and
+     * {@code Misses}. Hits and misses are counted since the cache was created.
+     *
+     * @return A static table of cache statistics
+     */
+    public static Table getStatistics() {
+        // The pages and bytes held by each cache, in the order the caches are first found
+        final Map<ByteBudgetedPageCache<?>, long[]> residency = new LinkedHashMap<>();
+        for (final Shard shard : SHARDS) {
+            synchronized (shard) {
+                accumulateResidency(shard.window, residency);
+                accumulateResidency(shard.main, residency);
+            }
+        }
+        final List<String> locations = new ArrayList<>();
+        final List<String> columns = new ArrayList<>();
+        final List<Long> pageCounts = new ArrayList<>();
+        final List<Long> byteCounts = new ArrayList<>();
+        final List<Long> hitCounts = new ArrayList<>();
+        final List<Long> missCounts = new ArrayList<>();
+        residency.forEach((cache, pagesAndBytes) -> {
+            locations.add(cache.location);
+            columns.add(cache.column);
+            pageCounts.add(pagesAndBytes[0]);
+            byteCounts.add(pagesAndBytes[1]);
+            hitCounts.add(cache.hits.sum());
+            missCounts.add(cache.misses.sum());
+        });
+        return TableTools.newTable(
+                TableTools.stringCol("Location", locations.toArray(String[]::new)),
+                TableTools.stringCol("Column", columns.toArray(String[]::new)),
+                TableTools.longCol("Pages", toLongArray(pageCounts)),
+                TableTools.longCol("ResidentBytes", toLongArray(byteCounts)),
+                TableTools.longCol("Hits", toLongArray(hitCounts)),
+                TableTools.longCol("Misses", toLongArray(missCounts)));
+    }
+
+    private static void accumulateResidency(
+            @NotNull final Map<PageKey, Entry> pages,
+            @NotNull final Map<ByteBudgetedPageCache<?>, long[]> residency) {
+        for (final Entry entry : pages.values()) {
+            final long[] pagesAndBytes = residency.computeIfAbsent(entry.cache, cache -> new long[2]);
+            ++pagesAndBytes[0];
+            pagesAndBytes[1] += entry.bytes();
+        }
+    }
+
+    private static long[] toLongArray(@NotNull final List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+}
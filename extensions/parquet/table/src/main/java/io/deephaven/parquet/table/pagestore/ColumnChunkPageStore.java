@@ -24,10 +24,12 @@ import io.deephaven.parquet.base.ColumnPageReader;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.channel.SeekableChannelContext.ContextHolder;
 import io.deephaven.vector.Vector;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
+import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.io.IOException;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -96,24 +98,38 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return major > 0 || major == 0 && minor >= 31;
     }
 
+    /**
+     * Create the page stores for a column chunk.
+     *
+     * @param pageCache The cache for materialized pages
+     * @param columnChunkReader The reader for the column chunk
+     * @param mask The mask for row keys within the column chunk
+     * @param toPage The conversion from parquet pages to chunk pages
+     * @param columnDefinition The definition of the column
+     * @param readAheadPageCount The number of pages to read and decode asynchronously ahead of a sequential reader, or
+     *        zero to disable read-ahead; only applicable to column chunks with an {@link OffsetIndex}
+     * @return The page stores
+     */
     public static <ATTR extends Any> CreatorResult<ATTR> create(
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
             @NotNull final ToPage<ATTR, ?> toPage,
-            @NotNull final ColumnDefinition<?> columnDefinition) throws IOException {
+            @NotNull final ColumnDefinition<?> columnDefinition,
+            final int readAheadPageCount) throws IOException {
         final boolean canUseOffsetIndex = canUseOffsetIndexBasedPageStore(columnChunkReader, columnDefinition);
         // TODO(deephaven-core#4879): Rather than this fall back logic for supporting incorrect offset index, we should
         // instead log an error and explain to user how to fix the parquet file
         final ColumnChunkPageStore<ATTR> columnChunkPageStore = canUseOffsetIndex
-                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage)
+                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage,
+                        readAheadPageCount)
                 : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage);
         final ToPage<DictionaryKeys, long[]> dictionaryKeysToPage = toPage.getDictionaryKeysToPage();
         final ColumnChunkPageStore<DictionaryKeys> dictionaryKeysColumnChunkPageStore =
                 dictionaryKeysToPage == null ? null
                         : canUseOffsetIndex
                                 ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage)
+                                        mask, dictionaryKeysToPage, readAheadPageCount)
                                 : new VariablePageSizeColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
                                         mask, dictionaryKeysToPage);
         return new CreatorResult<>(columnChunkPageStore, toPage::getDictionaryChunk,
@@ -171,6 +187,13 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return columnChunkReader.usesDictionaryOnEveryPage();
     }
 
+    @Override
+    @OverridingMethodsMustInvokeSuper
+    public void releaseCachedResources() {
+        Releasable.super.releaseCachedResources();
+        pageCache.release(this);
+    }
+
     @Override
     public void close() {}
 
@@ -8,7 +8,6 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.ChunkPage;
-import io.deephaven.parquet.table.pagestore.PageCache.IntrusivePage;
 import io.deephaven.parquet.table.pagestore.topage.ToPage;
 import io.deephaven.parquet.base.ColumnChunkReader;
 import io.deephaven.parquet.base.ColumnPageReader;
@@ -33,6 +32,10 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
 
     private static final class PageState<ATTR extends Any> {
         private volatile WeakReference<PageCache.IntrusivePage<ATTR>> pageRef;
+        /**
+         * Whether the page was last materialized by read-ahead, and not yet requested by a reader.
+         */
+        private volatile boolean readAhead;
 
         PageState() {
             pageRef = null; // Initialized when used for the first time
@@ -54,14 +57,29 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
     private AtomicReferenceArray<PageState<ATTR>> pageStates;
     private ColumnChunkReader.ColumnPageDirectAccessor columnPageDirectAccessor;
 
+    /**
+     * The number of pages to read ahead of a sequential reader, or zero if read-ahead is disabled.
+     */
+    private final int readAheadPageCount;
+    /**
+     * The page most recently requested by a reader, used to detect sequential access.
+     */
+    private volatile int lastPageNum = -1;
+    /**
+     * The highest page number for which read-ahead has been requested.
+     */
+    private volatile int readAheadThroughPageNum = -1;
+
     OffsetIndexBasedColumnChunkPageStore(
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
+            @NotNull final ToPage<ATTR, ?> toPage,
+            final int readAheadPageCount) throws IOException {
         super(pageCache, columnChunkReader, mask, toPage);
         numPages = NUM_PAGES_NOT_INITIALIZED;
         fixedPageSize = PAGE_SIZE_NOT_FIXED;
+        this.readAheadPageCount = readAheadPageCount;
     }
 
     private void ensureInitialized(@Nullable final FillContext fillContext) {
@@ -122,10 +140,7 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
         return (low - 1); // 'row' is somewhere in the middle of page
     }
 
-    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
-        if (pageNum < 0 || pageNum >= numPages) {
-            throw new IllegalArgumentException("pageNum " + pageNum + " is out of range [0, " + numPages + ")");
-        }
+    private PageState<ATTR> getPageState(final int pageNum) {
         PageState<ATTR> pageState;
         while ((pageState = pageStates.get(pageNum)) == null) {
             pageState = new PageState<>();
@@ -133,21 +148,94 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
                 break;
             }
         }
+        return pageState;
+    }
+
+    private ChunkPage<ATTR> getPage(@Nullable final FillContext fillContext, final int pageNum) {
+        if (pageNum < 0 || pageNum >= numPages) {
+            throw new IllegalArgumentException("pageNum " + pageNum + " is out of range [0, " + numPages + ")");
+        }
+        final PageState<ATTR> pageState = getPageState(pageNum);
         PageCache.IntrusivePage<ATTR> page;
         WeakReference<PageCache.IntrusivePage<ATTR>> localRef;
         if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
             synchronized (pageState) {
                 // Make sure no one materialized this page as we waited for the lock
                 if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
-                    page = new IntrusivePage<>(getPageImpl(fillContext, pageNum));
+                    if (pageState.readAhead) {
+                        // Read ahead, but evicted before anyone used it
+                        PageReadAhead.WASTED.increment(1);
+                        pageState.readAhead = false;
+                    }
+                    if (readAheadPageCount > 0) {
+                        PageReadAhead.MISSES.increment(1);
+                    }
+                    page = pageCache.getPage(this, pageNum, () -> getPageImpl(fillContext, pageNum));
                     pageState.pageRef = new WeakReference<>(page);
                 }
             }
         }
+        if (pageState.readAhead) {
+            PageReadAhead.HITS.increment(1);
+            pageState.readAhead = false;
+        }
         pageCache.touch(page);
+        maybeReadAhead(pageNum);
         return page.getPage();
     }
 
+    /**
+     * If the reader has moved on to the page following the one it last requested, asynchronously materialize up to
+     * {@link #readAheadPageCount} pages after {@code pageNum} so they are cached by the time the reader gets to them.
+     */
+    private void maybeReadAhead(final int pageNum) {
+        if (readAheadPageCount == 0) {
+            return;
+        }
+        final int previousPageNum = lastPageNum;
+        lastPageNum = pageNum;
+        if (pageNum != previousPageNum + 1) {
+            // Random access; start over if the reader begins a new sequential scan
+            readAheadThroughPageNum = -1;
+            return;
+        }
+        final int lastReadAheadPageNum = Math.min(numPages - 1, pageNum + readAheadPageCount);
+        final int firstReadAheadPageNum;
+        synchronized (this) {
+            firstReadAheadPageNum = Math.max(pageNum, readAheadThroughPageNum) + 1;
+            if (firstReadAheadPageNum > lastReadAheadPageNum) {
+                return;
+            }
+            readAheadThroughPageNum = lastReadAheadPageNum;
+        }
+        for (int readAheadPageNum = firstReadAheadPageNum; readAheadPageNum <= lastReadAheadPageNum;
+                ++readAheadPageNum) {
+            final int pageNumToRead = readAheadPageNum;
+            PageReadAhead.submit(() -> readAhead(pageNumToRead));
+        }
+    }
+
+    private void readAhead(final int pageNum) {
+        final PageState<ATTR> pageState = getPageState(pageNum);
+        final PageCache.IntrusivePage<ATTR> page;
+        WeakReference<PageCache.IntrusivePage<ATTR>> localRef;
+        synchronized (pageState) {
+            if ((localRef = pageState.pageRef) != null && localRef.get() != null) {
+                return;
+            }
+            try {
+                page = pageCache.getPage(this, pageNum, () -> getPageImpl(null, pageNum));
+            } catch (final RuntimeException e) {
+                // Read-ahead is best effort; the reader will surface the failure if it needs this page
+                return;
+            }
+            pageState.pageRef = new WeakReference<>(page);
+            pageState.readAhead = true;
+        }
+        PageReadAhead.PREFETCHED.increment(1);
+        pageCache.touch(page);
+    }
+
     private ChunkPage<ATTR> getPageImpl(@Nullable FillContext fillContext, int pageNum) {
         // Use the latest context while reading the page, or create (and close) new one
         try (final ContextHolder holder = ensureContext(fillContext)) {
@@ -6,16 +6,22 @@ package io.deephaven.parquet.table.pagestore;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.util.datastructures.intrusive.IntrusiveSoftLRU;
+import org.jetbrains.annotations.NotNull;
 
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
 
 /**
- * A cache for {@link IntrusivePage IntrusivePages}. This data structure stores pages as {@link SoftReference soft
- * references} and maintains them as an LRU cache. External references to cached pages should be held via
- * {@link WeakReference weak references} so that as memory pressure builds the pages can be evicted from the cache.
+ * A cache for {@link IntrusivePage IntrusivePages}. External references to cached pages should be held via
+ * {@link WeakReference weak references} so that pages can be reclaimed once the cache evicts them.
+ * <p>
+ * The default implementation, created via {@link #PageCache(int, int)}, stores pages as {@link SoftReference soft
+ * references} and maintains them as an LRU cache, so pages are evicted as memory pressure builds. A
+ * {@link ByteBudgetedPageCache} instead keeps copies of primitive pages off-heap within an explicit byte budget, from
+ * which it {@link #getPage(Object, int, Supplier) supplies} pages that are no longer referenced on the heap.
  */
-public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.IntrusivePage<ATTR>> {
+public class PageCache<ATTR extends Any> {
 
     /**
      * Sentinel reference for a null page
@@ -51,7 +57,47 @@ public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.Intr
         return (PageCache<ATTR2>) this;
     }
 
+    private final IntrusiveSoftLRU<IntrusivePage<ATTR>> softLRU;
+
     public PageCache(final int initialCapacity, final int maxCapacity) {
-        super(IntrusiveSoftLRU.Node.Adapter.getInstance(), initialCapacity, maxCapacity);
+        softLRU = new IntrusiveSoftLRU<>(IntrusiveSoftLRU.Node.Adapter.getInstance(), initialCapacity, maxCapacity);
+    }
+
+    /**
+     * Get a page to cache, either from this cache or by materializing it. Page stores call this when they hold no
+     * reference to the page, and must then {@link #touch(IntrusivePage) touch} the result.
+     * <p>
+     * The default implementation always materializes the page.
+     *
+     * @param owner The page store the page belongs to
+     * @param pageNum The number of the page in {@code owner}
+     * @param materializer Materializes the page from its source
+     * @return The page
+     */
+    public IntrusivePage<ATTR> getPage(
+            @NotNull final Object owner,
+            final int pageNum,
+            @NotNull final Supplier<ChunkPage<ATTR>> materializer) {
+        return new IntrusivePage<>(materializer.get());
+    }
+
+    /**
+     * Release the pages cached for a page store that is releasing its cached resources.
+     * <p>
+     * The default implementation holds pages via soft references, which the garbage collector reclaims, and does
+     * nothing.
+     *
+     * @param owner The page store whose pages to release
+     */
+    public void release(@NotNull final Object owner) {}
+
+    /**
+     * Touch a page. If it is not in the cache yet, it will be added, potentially evicting the least recently accessed
+     * pages.
+     *
+     * @param page The page to touch
+     */
+    public void touch(@NotNull final IntrusivePage<ATTR> page) {
+        softLRU.touch(page);
     }
 }
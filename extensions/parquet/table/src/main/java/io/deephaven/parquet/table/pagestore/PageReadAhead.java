@@ -0,0 +1,94 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
+import io.deephaven.configuration.Configuration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared, bounded pool for reading and decoding parquet pages ahead of sequential readers, along with the metrics that
+ * describe how effective read-ahead is. Read-ahead is best effort: if the pool's queue is full, new requests are
+ * dropped and the reader falls back to materializing pages itself.
+ * <p>
+ * The pool has {@code PageReadAhead.threads} threads, 4 by default, and queues up to {@code PageReadAhead.queueSize}
+ * requests, 256 by default; see {@link io.deephaven.parquet.table.ParquetInstructions.Builder#setReadAheadPageCount}.
+ * It is created on first use and never shut down. Instead, its daemon threads exit after a minute without work, so the
+ * pool holds no threads unless read-ahead is in use.
+ */
+final class PageReadAhead {
+
+    private static final int NUM_THREADS = Configuration.getInstance()
+            .getIntegerForClassWithDefault(PageReadAhead.class, "threads", 4);
+    private static final int QUEUE_SIZE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(PageReadAhead.class, "queueSize", 256);
+
+    /**
+     * Pages requested by a reader that had already been read ahead.
+     */
+    static final Value HITS = Stats.makeItem("PageReadAhead", "hits", ThreadSafeCounter.FACTORY).getValue();
+    /**
+     * Pages requested by a reader, with read-ahead enabled, that the reader had to materialize itself.
+     */
+    static final Value MISSES = Stats.makeItem("PageReadAhead", "misses", ThreadSafeCounter.FACTORY).getValue();
+    /**
+     * Pages materialized by read-ahead.
+     */
+    static final Value PREFETCHED =
+            Stats.makeItem("PageReadAhead", "prefetched", ThreadSafeCounter.FACTORY).getValue();
+    /**
+     * Pages materialized by read-ahead that were evicted before any reader used them, counted when a reader later
+     * requests the page. Pages read ahead but never requested show up as the excess of {@link #PREFETCHED} over
+     * {@link #HITS}.
+     */
+    static final Value WASTED = Stats.makeItem("PageReadAhead", "wasted", ThreadSafeCounter.FACTORY).getValue();
+    /**
+     * Read-ahead requests dropped because the pool was saturated.
+     */
+    static final Value REJECTED = Stats.makeItem("PageReadAhead", "rejected", ThreadSafeCounter.FACTORY).getValue();
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static volatile ThreadPoolExecutor executor;
+
+    private PageReadAhead() {}
+
+    /**
+     * Submit a read-ahead task to the shared pool, or drop it if the pool is saturated.
+     *
+     * @param task The task to run
+     */
+    static void submit(@NotNull final Runnable task) {
+        ensureExecutor().execute(task);
+    }
+
+    private static ThreadPoolExecutor ensureExecutor() {
+        if (executor == null) {
+            synchronized (PageReadAhead.class) {
+                if (executor == null) {
+                    final ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(
+                            NUM_THREADS, NUM_THREADS, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(QUEUE_SIZE),
+                            PageReadAhead::newThread,
+                            (task, pool) -> REJECTED.increment(1));
+                    newExecutor.allowCoreThreadTimeOut(true);
+                    executor = newExecutor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static Thread newThread(@NotNull final Runnable task) {
+        final Thread thread = new Thread(task, "PageReadAhead-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -82,7 +82,8 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
                     numRows = columnPageReader.numRows(channelContext);
 
                     if (numRows < 0) {
-                        page = new PageCache.IntrusivePage<>(toPage(prevRowOffset, columnPageReader, channelContext));
+                        page = pageCache.getPage(this, localNumPages,
+                                () -> toPageUnchecked(prevRowOffset, columnPageReader, channelContext));
                         pageRef = new WeakReference<>(page);
                         numRows = page.getPage().size();
                     }
@@ -102,6 +103,15 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
         }
     }
 
+    private ChunkPage<ATTR> toPageUnchecked(final long offset, @NotNull final ColumnPageReader columnPageReader,
+            @NotNull final SeekableChannelContext channelContext) {
+        try {
+            return toPage(offset, columnPageReader, channelContext);
+        } catch (final IOException except) {
+            throw new UncheckedIOException(except);
+        }
+    }
+
     private int fillToRow(@NotNull final SeekableChannelContext channelContext, int minPageNum,
             long row) {
         int localNumPages = numPages;
@@ -125,12 +135,8 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
                 page = pages[pageNum].get();
 
                 if (page == null) {
-                    try {
-                        page = new PageCache.IntrusivePage<>(toPage(pageRowOffsets[pageNum], columnPageReaders[pageNum],
-                                channelContext));
-                    } catch (final IOException except) {
-                        throw new UncheckedIOException(except);
-                    }
+                    page = pageCache.getPage(this, pageNum,
+                            () -> toPageUnchecked(pageRowOffsets[pageNum], columnPageReaders[pageNum], channelContext));
 
                     synchronized (this) {
                         pages[pageNum] = new WeakReference<>(page);
@@ -64,8 +64,23 @@ public class ToPageWithDictionary<DATA_TYPE, ATTR extends Any>
     @NotNull
     public final Object getResult(@NotNull final ColumnPageReader columnPageReader,
             @NotNull final SeekableChannelContext channelContext) throws IOException {
+        return getKeysResult(columnPageReader, channelContext, nullValue());
+    }
+
+    /**
+     * Read the dictionary keys of a page, or its values if the page is not dictionary-encoded.
+     *
+     * @param columnPageReader The reader for the page
+     * @param channelContext The channel context to read with
+     * @param nullValue The null value to materialize values with, if the page is not dictionary-encoded
+     * @return The dictionary keys as an {@code int[]} or {@link DataWithOffsets}, or the materialized values
+     */
+    static Object getKeysResult(
+            @NotNull final ColumnPageReader columnPageReader,
+            @NotNull final SeekableChannelContext channelContext,
+            final Object nullValue) throws IOException {
         if (columnPageReader.getDictionary(channelContext) == ColumnChunkReader.NULL_DICTIONARY) {
-            return ToPage.super.getResult(columnPageReader, channelContext);
+            return columnPageReader.materialize(nullValue, channelContext);
         }
 
         final int[] keys = new int[columnPageReader.numValues()];
@@ -106,52 +121,67 @@ public class ToPageWithDictionary<DATA_TYPE, ATTR extends Any>
     @Override
     @NotNull
     public final ToPage<DictionaryKeys, long[]> getDictionaryKeysToPage() {
-        return new ToPage<DictionaryKeys, long[]>() {
+        return new DictionaryKeysToPage(nullValue());
+    }
 
-            @Override
-            @NotNull
-            public Class<?> getNativeType() {
-                return long.class;
-            }
+    /**
+     * Reads the integral dictionary keys of dictionary-encoded pages, rather than the values they map to.
+     */
+    static final class DictionaryKeysToPage implements ToPage<DictionaryKeys, long[]> {
 
-            @Override
-            @NotNull
-            public ChunkType getChunkType() {
-                return ChunkType.Long;
-            }
+        private final Object valuesNullValue;
 
-            @Override
-            public Object nullValue() {
-                return NULL_INT;
-            }
+        /**
+         * @param valuesNullValue The null value of the values {@link ToPage}, used to materialize pages that are not
+         *        dictionary-encoded
+         */
+        DictionaryKeysToPage(final Object valuesNullValue) {
+            this.valuesNullValue = valuesNullValue;
+        }
 
-            @Override
-            @NotNull
-            public PageMaterializerFactory getPageMaterializerFactory() {
-                // This factory should not be used for materializing any pages.
-                // The factory used for reading dictionary keys is provided inside ColumnPageReader#readKeyValues
-                return PageMaterializerFactory.NULL_FACTORY;
-            }
+        @Override
+        @NotNull
+        public Class<?> getNativeType() {
+            return long.class;
+        }
 
-            @Override
-            public Object getResult(@NotNull final ColumnPageReader columnPageReader,
-                    @NotNull final SeekableChannelContext channelContext)
-                    throws IOException {
-                return ToPageWithDictionary.this.getResult(columnPageReader, channelContext);
-            }
+        @Override
+        @NotNull
+        public ChunkType getChunkType() {
+            return ChunkType.Long;
+        }
 
-            @Override
-            public long[] convertResult(@NotNull final Object result) {
-                final int[] from = (int[]) result;
-                final long[] to = new long[from.length];
+        @Override
+        public Object nullValue() {
+            return NULL_INT;
+        }
 
-                for (int ii = 0; ii < from.length; ++ii) {
-                    final int intKey = from[ii];
-                    to[ii] = intKey == NULL_INT ? NULL_LONG : intKey;
-                }
+        @Override
+        @NotNull
+        public PageMaterializerFactory getPageMaterializerFactory() {
+            // This factory should not be used for materializing any pages.
+            // The factory used for reading dictionary keys is provided inside ColumnPageReader#readKeyValues
+            return PageMaterializerFactory.NULL_FACTORY;
+        }
 
-                return to;
+        @Override
+        public Object getResult(@NotNull final ColumnPageReader columnPageReader,
+                @NotNull final SeekableChannelContext channelContext)
+                throws IOException {
+            return getKeysResult(columnPageReader, channelContext, valuesNullValue);
+        }
+
+        @Override
+        public long[] convertResult(@NotNull final Object result) {
+            final int[] from = (int[]) result;
+            final long[] to = new long[from.length];
+
+            for (int ii = 0; ii < from.length; ++ii) {
+                final int intKey = from[ii];
+                to[ii] = intKey == NULL_INT ? NULL_LONG : intKey;
             }
-        };
+
+            return to;
+        }
     }
 }
@@ -0,0 +1,140 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore.topage;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.engine.table.impl.chunkattributes.DictionaryKeys;
+import io.deephaven.util.channel.SeekableChannelContext;
+import io.deephaven.util.datastructures.SoftCachingSupplier;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.values.ValuesReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Exposes the dictionary of a dictionary-encoded column chunk of a primitive column, so that filters can be evaluated
+ * against the dictionary's values and then matched to rows by their dictionary keys. Pages are still materialized by
+ * the wrapped {@link ToPage}, which decodes dictionary-encoded pages itself.
+ * <p>
+ * Unlike {@link ToPageWithDictionary}, no {@link #getReversibleLookup() reversible lookup} is provided, since primitive
+ * columns are not read as string sets.
+ */
+public final class ToPrimitivePageWithDictionary<ATTR extends Any, RESULT> extends ToPage.Wrap<ATTR, RESULT, RESULT> {
+
+    /**
+     * Wrap {@code toPage}, which must produce a primitive chunk type, to expose the dictionary of its column chunk.
+     *
+     * @param toPage The {@link ToPage} for the column's values
+     * @param dictionarySupplier The supplier for the column chunk's dictionary
+     * @return The wrapped {@link ToPage}
+     */
+    public static <ATTR extends Any, RESULT> ToPage<ATTR, RESULT> create(
+            @NotNull final ToPage<ATTR, RESULT> toPage,
+            @NotNull final Function<SeekableChannelContext, Dictionary> dictionarySupplier) {
+        final ChunkType chunkType = toPage.getChunkType();
+        if (chunkType == ChunkType.Object || chunkType == ChunkType.Boolean) {
+            throw new IllegalArgumentException("Expected a primitive chunk type, found " + chunkType);
+        }
+        return new ToPrimitivePageWithDictionary<>(toPage, dictionarySupplier);
+    }
+
+    private final Supplier<Chunk<ATTR>> dictionaryChunkSupplier;
+
+    private ToPrimitivePageWithDictionary(
+            @NotNull final ToPage<ATTR, RESULT> toPage,
+            @NotNull final Function<SeekableChannelContext, Dictionary> dictionarySupplier) {
+        super(toPage);
+        this.dictionaryChunkSupplier = new SoftCachingSupplier<>(() -> {
+            // We use NULL channel context here and rely on materialization logic to provide the correct context
+            final Dictionary dictionary = dictionarySupplier.apply(SeekableChannelContext.NULL);
+            final int dictionarySize = dictionary.getMaxId() + 1;
+            // Decode the dictionary the same way as the wrapped ToPage decodes pages, so that the dictionary holds
+            // the values that the column's chunks will contain
+            final Object values = toPage.convertResult(toPage.getPageMaterializerFactory()
+                    .makeMaterializerNonNull(new DictionaryReader(dictionary), dictionarySize)
+                    .fillAll());
+            return toPage.getChunkType().chunkWrap(values, 0, dictionarySize);
+        });
+    }
+
+    @Override
+    @NotNull
+    public Class<?> getNativeType() {
+        return toPage.getNativeType();
+    }
+
+    @Override
+    @NotNull
+    public Class<?> getNativeComponentType() {
+        return toPage.getNativeComponentType();
+    }
+
+    @Override
+    @NotNull
+    public ChunkType getChunkType() {
+        return toPage.getChunkType();
+    }
+
+    @Override
+    public RESULT convertResult(@NotNull final Object result) {
+        return toPage.convertResult(result);
+    }
+
+    @Override
+    public Chunk<ATTR> getDictionaryChunk() {
+        return dictionaryChunkSupplier.get();
+    }
+
+    @Override
+    public ToPage<DictionaryKeys, long[]> getDictionaryKeysToPage() {
+        return new ToPageWithDictionary.DictionaryKeysToPage(nullValue());
+    }
+
+    /**
+     * Reads each entry of a {@link Dictionary} in order of its keys.
+     */
+    private static final class DictionaryReader extends ValuesReader {
+
+        private final Dictionary dictionary;
+        private int nextKey;
+
+        private DictionaryReader(@NotNull final Dictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public void skip() {
+            ++nextKey;
+        }
+
+        @Override
+        public boolean readBoolean() {
+            return dictionary.decodeToBoolean(nextKey++);
+        }
+
+        @Override
+        public int readInteger() {
+            return dictionary.decodeToInt(nextKey++);
+        }
+
+        @Override
+        public long readLong() {
+            return dictionary.decodeToLong(nextKey++);
+        }
+
+        @Override
+        public float readFloat() {
+            return dictionary.decodeToFloat(nextKey++);
+        }
+
+        @Override
+        public double readDouble() {
+            return dictionary.decodeToDouble(nextKey++);
+        }
+    }
+}
@@ -83,6 +83,13 @@ public abstract class ParquetColumnRegionBase<ATTR extends Any>
         return columnChunkPageStore.getPageContaining(null, elementIndex);
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        // The region will not be read again, so its pages need not stay cached
+        columnChunkPageStore.releaseCachedResources();
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
@@ -0,0 +1,22 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.transfer;
+
+/**
+ * A dictionary built while transferring the values of a column, which maps each distinct non-null value to its
+ * position in the dictionary page.
+ */
+public interface ColumnDictionary {
+
+    /**
+     * @return The number of distinct keys added to the dictionary
+     */
+    int getKeyCount();
+
+    /**
+     * @return The dictionary keys, in the format expected for the dictionary page of the column. Only the first
+     *         {@link #getKeyCount()} keys are valid.
+     */
+    Object getEncodedKeys();
+}
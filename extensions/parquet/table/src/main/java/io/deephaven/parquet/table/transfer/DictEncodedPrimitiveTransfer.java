@@ -0,0 +1,98 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.transfer;
+
+import io.deephaven.chunk.ChunkBase;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.util.QueryConstants;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Transfer object for dictionary encoded {@code int}, {@code long}, {@code float} and {@code double} columns. This
+ * class updates the {@link PrimitiveDictionary} with all the values it encounters and generates an IntBuffer of
+ * dictionary position values. The class extends from {@link IntCastablePrimitiveTransfer} to manage the dictionary
+ * positions similar to an Int column.
+ */
+final class DictEncodedPrimitiveTransfer extends IntCastablePrimitiveTransfer<ChunkBase<Values>> {
+    private final PrimitiveDictionary dictionary;
+    private boolean pageHasNull;
+
+    DictEncodedPrimitiveTransfer(@NotNull ColumnSource<?> columnSource, @NotNull RowSequence tableRowSet,
+            int targetPageSizeInBytes, PrimitiveDictionary dictionary) {
+        super(columnSource, tableRowSet, targetPageSizeInBytes);
+        this.dictionary = dictionary;
+        this.pageHasNull = false;
+    }
+
+    @Override
+    public int transferOnePageToBuffer() {
+        // Reset state before transferring each page
+        pageHasNull = false;
+        return super.transferOnePageToBuffer();
+    }
+
+    @Override
+    public void copyAllFromChunkToBuffer() {
+        final int chunkSize = chunk.size();
+        switch (chunk.getChunkType()) {
+            case Int: {
+                final IntChunk<Values> values = chunk.asIntChunk();
+                for (int i = 0; i < chunkSize; i++) {
+                    final int value = values.get(i);
+                    if (value == QueryConstants.NULL_INT) {
+                        pageHasNull = true;
+                    }
+                    buffer.put(dictionary.add(value));
+                }
+                break;
+            }
+            case Long: {
+                final LongChunk<Values> values = chunk.asLongChunk();
+                for (int i = 0; i < chunkSize; i++) {
+                    final long value = values.get(i);
+                    if (value == QueryConstants.NULL_LONG) {
+                        pageHasNull = true;
+                    }
+                    buffer.put(dictionary.add(value));
+                }
+                break;
+            }
+            case Float: {
+                final FloatChunk<Values> values = chunk.asFloatChunk();
+                for (int i = 0; i < chunkSize; i++) {
+                    final float value = values.get(i);
+                    if (value == QueryConstants.NULL_FLOAT) {
+                        pageHasNull = true;
+                    }
+                    buffer.put(dictionary.add(value));
+                }
+                break;
+            }
+            case Double: {
+                final DoubleChunk<Values> values = chunk.asDoubleChunk();
+                for (int i = 0; i < chunkSize; i++) {
+                    final double value = values.get(i);
+                    if (value == QueryConstants.NULL_DOUBLE) {
+                        pageHasNull = true;
+                    }
+                    buffer.put(dictionary.add(value));
+                }
+                break;
+            }
+            default:
+                throw new UnsupportedOperationException(
+                        "Dictionary encoding not supported for chunk type " + chunk.getChunkType());
+        }
+    }
+
+    public boolean pageHasNull() {
+        return pageHasNull;
+    }
+}
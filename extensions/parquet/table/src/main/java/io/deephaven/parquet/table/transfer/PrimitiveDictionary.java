@@ -0,0 +1,225 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.transfer;
+
+import io.deephaven.parquet.table.DictionarySizeExceededException;
+import io.deephaven.util.QueryConstants;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import org.apache.parquet.column.statistics.Statistics;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Stores a dictionary of {@code int}, {@code long}, {@code float} or {@code double} values and returns their position
+ * in the dictionary, useful for encoding low cardinality primitive columns. {@link Instant} columns are stored as
+ * {@code long} epoch nanoseconds. Keys are tracked by their raw bits, so distinct bit patterns (like {@code 0.0} and
+ * {@code -0.0}) are distinct keys.
+ */
+final public class PrimitiveDictionary implements ColumnDictionary {
+
+    private static final int INITIAL_DICTIONARY_SIZE = 1 << 8;
+
+    /**
+     * The primitive type of the keys, one of {@code int}, {@code long}, {@code float} or {@code double}.
+     */
+    private final Class<?> keyType;
+    private final int keyWidth;
+    private final int maxKeys;
+    private final int maxDictSize;
+    private final Statistics<?> statistics;
+    /**
+     * {@code null} is not added to the dictionary. This class will return the following position value on encountering
+     * a {@code null}.
+     */
+    private final int nullPos;
+
+    private final Long2IntMap keyToPos;
+
+    /**
+     * The raw bits of the keys, in the order they were added
+     */
+    private long[] keys;
+    private int keyCount;
+
+    /**
+     * @param dataType The data type of the column
+     * @return Whether columns of this data type can be encoded using a {@link PrimitiveDictionary}
+     */
+    public static boolean isSupported(@NotNull final Class<?> dataType) {
+        return dataType == int.class
+                || dataType == long.class
+                || dataType == float.class
+                || dataType == double.class
+                || dataType == Instant.class;
+    }
+
+    public PrimitiveDictionary(@NotNull final Class<?> dataType, final int maxKeys, final int maxDictSize,
+            final Statistics<?> statistics, final int nullPos) {
+        if (!isSupported(dataType)) {
+            throw new IllegalArgumentException("Dictionary encoding not supported for type " + dataType.getName());
+        }
+        this.keyType = dataType == Instant.class ? long.class : dataType;
+        this.keyWidth = keyType == int.class || keyType == float.class ? Integer.BYTES : Long.BYTES;
+        this.maxKeys = maxKeys;
+        this.maxDictSize = maxDictSize;
+        this.statistics = statistics;
+        this.nullPos = nullPos;
+
+        // Kept as a negative value since 0 is a valid position in the dictionary.
+        final int NO_ENTRY_VALUE = -1;
+        final Long2IntMap tmpKeyToPos = new Long2IntOpenHashMap();
+        tmpKeyToPos.defaultReturnValue(NO_ENTRY_VALUE);
+        this.keyToPos = tmpKeyToPos;
+
+        this.keys = new long[Math.min(INITIAL_DICTIONARY_SIZE, maxKeys)];
+        this.keyCount = 0;
+    }
+
+    /**
+     * @return The primitive type of the keys, which is {@code long} for {@link Instant} columns
+     */
+    Class<?> getKeyType() {
+        return keyType;
+    }
+
+    @Override
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @return A buffer of the keys matching the primitive type of the keys, positioned to be read from the start
+     */
+    @Override
+    public Buffer getEncodedKeys() {
+        if (keyType == long.class) {
+            return LongBuffer.wrap(keys, 0, keyCount);
+        }
+        if (keyType == int.class) {
+            final int[] intKeys = new int[keyCount];
+            for (int ii = 0; ii < keyCount; ++ii) {
+                intKeys[ii] = (int) keys[ii];
+            }
+            return IntBuffer.wrap(intKeys);
+        }
+        if (keyType == float.class) {
+            final float[] floatKeys = new float[keyCount];
+            for (int ii = 0; ii < keyCount; ++ii) {
+                floatKeys[ii] = Float.intBitsToFloat((int) keys[ii]);
+            }
+            return FloatBuffer.wrap(floatKeys);
+        }
+        final double[] doubleKeys = new double[keyCount];
+        for (int ii = 0; ii < keyCount; ++ii) {
+            doubleKeys[ii] = Double.longBitsToDouble(keys[ii]);
+        }
+        return DoubleBuffer.wrap(doubleKeys);
+    }
+
+    /**
+     * Add an {@code int} key to the dictionary if it's not already present.
+     *
+     * @param key The key to add and/or find the position for
+     * @return {@code key}'s position in the dictionary, or special null key position (passed in constructor) if
+     *         {@code key == NULL_INT}
+     */
+    public int add(final int key) {
+        if (key == QueryConstants.NULL_INT) {
+            return nullPos;
+        }
+        final int prevKeyCount = keyCount;
+        final int posInDictionary = addBits(key);
+        if (keyCount != prevKeyCount) {
+            // Track the min/max statistics while the dictionary is being built.
+            statistics.updateStats(key);
+        }
+        return posInDictionary;
+    }
+
+    /**
+     * Add a {@code long} key to the dictionary if it's not already present.
+     *
+     * @param key The key to add and/or find the position for
+     * @return {@code key}'s position in the dictionary, or special null key position (passed in constructor) if
+     *         {@code key == NULL_LONG}
+     */
+    public int add(final long key) {
+        if (key == QueryConstants.NULL_LONG) {
+            return nullPos;
+        }
+        final int prevKeyCount = keyCount;
+        final int posInDictionary = addBits(key);
+        if (keyCount != prevKeyCount) {
+            statistics.updateStats(key);
+        }
+        return posInDictionary;
+    }
+
+    /**
+     * Add a {@code float} key to the dictionary if it's not already present.
+     *
+     * @param key The key to add and/or find the position for
+     * @return {@code key}'s position in the dictionary, or special null key position (passed in constructor) if
+     *         {@code key == NULL_FLOAT}
+     */
+    public int add(final float key) {
+        if (key == QueryConstants.NULL_FLOAT) {
+            return nullPos;
+        }
+        final int prevKeyCount = keyCount;
+        final int posInDictionary = addBits(Float.floatToRawIntBits(key));
+        if (keyCount != prevKeyCount) {
+            statistics.updateStats(key);
+        }
+        return posInDictionary;
+    }
+
+    /**
+     * Add a {@code double} key to the dictionary if it's not already present.
+     *
+     * @param key The key to add and/or find the position for
+     * @return {@code key}'s position in the dictionary, or special null key position (passed in constructor) if
+     *         {@code key == NULL_DOUBLE}
+     */
+    public int add(final double key) {
+        if (key == QueryConstants.NULL_DOUBLE) {
+            return nullPos;
+        }
+        final int prevKeyCount = keyCount;
+        final int posInDictionary = addBits(Double.doubleToRawLongBits(key));
+        if (keyCount != prevKeyCount) {
+            statistics.updateStats(key);
+        }
+        return posInDictionary;
+    }
+
+    private int addBits(final long bits) {
+        int posInDictionary = keyToPos.get(bits);
+        if (posInDictionary == keyToPos.defaultReturnValue()) {
+            if (keyCount == keys.length) {
+                // Copy into an array of double the size with upper limit at maxKeys
+                if (keyCount == maxKeys) {
+                    throw new DictionarySizeExceededException("Dictionary maximum keys exceeded");
+                }
+                keys = Arrays.copyOf(keys, (int) Math.min(keyCount * 2L, maxKeys));
+            }
+            if ((long) (keyCount + 1) * keyWidth > maxDictSize) {
+                throw new DictionarySizeExceededException("Dictionary maximum size exceeded");
+            }
+            keys[keyCount] = bits;
+            posInDictionary = keyCount;
+            keyCount++;
+            keyToPos.put(bits, posInDictionary);
+        }
+        return posInDictionary;
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Arrays;
 /**
  * Stores a dictionary of strings and returns their position in the dictionary, useful for encoding string columns.
  */
-final public class StringDictionary {
+final public class StringDictionary implements ColumnDictionary {
 
     private static final int INITIAL_DICTIONARY_SIZE = 1 << 8;
 
@@ -51,10 +51,12 @@ final public class StringDictionary {
         this.dictSize = this.keyCount = 0;
     }
 
+    @Override
     public int getKeyCount() {
         return keyCount;
     }
 
+    @Override
     public Binary[] getEncodedKeys() {
         return encodedKeys;
     }
@@ -238,10 +238,27 @@ public interface TransferObject<BUFFER_TYPE> extends SafeCloseable {
         throw new UnsupportedOperationException("Dictionary encoding not supported for type " + dataType.getName());
     }
 
+    static <DATA_TYPE> @NotNull TransferObject<IntBuffer> createDictEncodedPrimitiveTransfer(
+            @NotNull final RowSet tableRowSet, @NotNull final ColumnSource<DATA_TYPE> columnSource,
+            final int targetPageSize, @NotNull final PrimitiveDictionary dictionary) {
+        final Class<?> dataType = columnSource.getType();
+        if (dataType == Instant.class) {
+            // noinspection unchecked
+            final ColumnSource<Long> longColumnSource =
+                    ReinterpretUtils.instantToLongSource((ColumnSource<Instant>) columnSource);
+            return new DictEncodedPrimitiveTransfer(longColumnSource, tableRowSet, targetPageSize, dictionary);
+        }
+        if (PrimitiveDictionary.isSupported(dataType)) {
+            return new DictEncodedPrimitiveTransfer(columnSource, tableRowSet, targetPageSize, dictionary);
+        }
+        // Dictionary encoding not supported for other types
+        throw new UnsupportedOperationException("Dictionary encoding not supported for type " + dataType.getName());
+    }
+
     /**
      * Transfer one page size worth of fetched data into an internal buffer, which can then be accessed using
      * {@link TransferObject#getBuffer()}. The target page size is passed in the constructor. For dictionary encoded
-     * string transfers, this method also updates the dictionary with the strings encountered.
+     * transfers, this method also updates the dictionary with the values encountered.
      *
      * @return The number of fetched data entries copied into the buffer. This can be different from the total number of
      *         entries fetched in case of variable-width types (e.g. strings) when used with additional page size limits
@@ -263,11 +280,11 @@ public interface TransferObject<BUFFER_TYPE> extends SafeCloseable {
 
     /**
      * Returns whether we encountered any null value while transferring page data to buffer. This method is only used
-     * for dictionary encoded string transfer objects. This method should be called after
+     * for dictionary encoded transfer objects. This method should be called after
      * {@link #transferOnePageToBuffer()} and the state resets everytime we call {@link #transferOnePageToBuffer()}.
      */
     default boolean pageHasNull() {
-        throw new UnsupportedOperationException("Only supported for dictionary encoded string transfer objects");
+        throw new UnsupportedOperationException("Only supported for dictionary encoded transfer objects");
     }
 
     /**
@@ -36,6 +36,53 @@ public class ParquetInstructionsTest {
         assertThat(ParquetInstructions.EMPTY.getRowGroupInfo().equals(RowGroupInfo.singleGroup())).isTrue();
         assertThat(ParquetInstructions.EMPTY.getColumnResolverFactory()).isEmpty();
         assertThat(ParquetInstructions.EMPTY.baseNameForPartitionedParquetData()).isEqualTo("{uuid}");
+        assertThat(ParquetInstructions.EMPTY.getWriteParallelism())
+                .isEqualTo(ParquetInstructions.DEFAULT_WRITE_PARALLELISM);
+    }
+
+    @Test
+    public void setWriteParallelism() {
+        final ParquetInstructions instructions = ParquetInstructions.builder()
+                .setWriteParallelism(8)
+                .build();
+        assertThat(instructions.getWriteParallelism()).isEqualTo(8);
+        assertThat(new ParquetInstructions.Builder(instructions).build().getWriteParallelism()).isEqualTo(8);
+
+        try {
+            ParquetInstructions.builder().setWriteParallelism(0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessage("Write parallelism must be positive, found 0");
+        }
+    }
+
+    @Test
+    public void setDictionaryEncodePrimitiveColumns() {
+        assertThat(ParquetInstructions.EMPTY.dictionaryEncodePrimitiveColumns()).isFalse();
+        final ParquetInstructions instructions = ParquetInstructions.builder()
+                .setDictionaryEncodePrimitiveColumns(true)
+                .build();
+        assertThat(instructions.dictionaryEncodePrimitiveColumns()).isTrue();
+        assertThat(new ParquetInstructions.Builder(instructions).build().dictionaryEncodePrimitiveColumns()).isTrue();
+        assertThat(instructions.withLayout(null).dictionaryEncodePrimitiveColumns()).isTrue();
+    }
+
+    @Test
+    public void setReadAheadPageCount() {
+        assertThat(ParquetInstructions.EMPTY.getReadAheadPageCount()).isZero();
+        final ParquetInstructions instructions = ParquetInstructions.builder()
+                .setReadAheadPageCount(4)
+                .build();
+        assertThat(instructions.getReadAheadPageCount()).isEqualTo(4);
+        assertThat(new ParquetInstructions.Builder(instructions).build().getReadAheadPageCount()).isEqualTo(4);
+        assertThat(instructions.withLayout(null).getReadAheadPageCount()).isEqualTo(4);
+
+        try {
+            ParquetInstructions.builder().setReadAheadPageCount(-1);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessage("Read-ahead page count must be non-negative, found -1");
+        }
     }
 
     @Test
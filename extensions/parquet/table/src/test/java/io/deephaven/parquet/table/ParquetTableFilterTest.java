@@ -9,6 +9,7 @@ import io.deephaven.api.filter.Filter;
 import io.deephaven.base.FileUtils;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.QueryScope;
+import io.deephaven.engine.primitive.iterator.CloseablePrimitiveIteratorOfLong;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.engine.table.impl.PushdownFilterContext;
@@ -25,9 +26,11 @@ import io.deephaven.engine.util.TableTools;
 import io.deephaven.parquet.table.location.ParquetColumnResolverMap;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
 import io.deephaven.parquet.table.metadata.RowGroupInfo;
+import io.deephaven.parquet.table.pagestore.ByteBudgetedPageCache;
 import io.deephaven.stringset.ArrayStringSet;
 import io.deephaven.stringset.StringSet;
 import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.util.SafeCloseable;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
@@ -1360,13 +1363,19 @@ public final class ParquetTableFilterTest {
         // Cycle to disk to get the proper column sources
         writeTable(source, destPath, writeInstructions);
         final Table disk_table = ParquetTools.readTable(destPath);
+        Assert.assertEquals(PushdownResult.UNSUPPORTED_ACTION_COST, estimatePushdownCost(disk_table, filterExpr));
+    }
 
+    /**
+     * Estimate the cost of pushing the single-column filter {@code filterExpr} down to the source of {@code table}.
+     */
+    private static long estimatePushdownCost(final Table table, final String filterExpr) {
         final WhereFilter filter = getExpression(filterExpr);
-        filter.init(disk_table.getDefinition());
+        filter.init(table.getDefinition());
         Assert.assertEquals("Expected a single column in the filter: " + filterExpr, 1, filter.getColumns().size());
 
         final AbstractColumnSource<?> diskColumnSource =
-                (AbstractColumnSource<?>) disk_table.getColumnSource(filter.getColumns().get(0));
+                (AbstractColumnSource<?>) table.getColumnSource(filter.getColumns().get(0));
 
         final PushdownFilterContext context =
                 diskColumnSource.makePushdownFilterContext(filter, List.of(diskColumnSource));
@@ -1374,14 +1383,14 @@ public final class ParquetTableFilterTest {
         final CompletableFuture<Long> costFuture = new CompletableFuture<>();
         diskColumnSource.estimatePushdownFilterCost(
                 filter,
-                source.getRowSet(),
+                table.getRowSet(),
                 false,
                 context,
                 new ImmediateJobScheduler(),
                 costFuture::complete,
                 costFuture::completeExceptionally);
         Assert.assertTrue(costFuture.isDone());
-        Assert.assertEquals(PushdownResult.UNSUPPORTED_ACTION_COST, (long) costFuture.join());
+        return costFuture.join();
     }
 
     /**
@@ -1853,6 +1862,54 @@ public final class ParquetTableFilterTest {
         filterAndVerifyResults(diskTable, memTable, ConditionFilter.createConditionFilter("animal.startsWith(`C`)"));
     }
 
+    @Test
+    public void primitiveDictionaryFilterTest() {
+        final Table source = TableTools.emptyTable(1_000).update(
+                "IntCol = ii % 7 == 0 ? NULL_INT : (int) (ii % 5)",
+                "LongCol = (ii % 3) * 1_000_000_000L",
+                "DoubleCol = (ii % 4) / 2.0");
+
+        // Disable writing row group statistics to verify filtering using dictionary
+        final ParquetInstructions writeInstructions = new ParquetInstructions.Builder()
+                .setDictionaryEncodePrimitiveColumns(true)
+                .setRowGroupInfo(RowGroupInfo.maxRows(100))
+                .setWriteRowGroupStatistics(false)
+                .build();
+
+        final String destPath = Path.of(rootFile.getPath(), "primitiveDictionaryFilter") + ".parquet";
+        writeTable(source, destPath, writeInstructions);
+
+        // Read back and test filtering
+        final Table diskTable = ParquetTools.readTable(destPath);
+        final Table memTable = diskTable.select();
+
+        // Conditional filters can only be pushed down to the dictionaries of these columns
+        assertEquals(PushdownResult.REGION_DICTIONARY_DATA_COST,
+                estimatePushdownCost(diskTable, "IntCol % 2 == 1"));
+        assertEquals(PushdownResult.REGION_DICTIONARY_DATA_COST,
+                estimatePushdownCost(diskTable, "LongCol / 1_000_000_000L == 2"));
+        assertEquals(PushdownResult.REGION_DICTIONARY_DATA_COST,
+                estimatePushdownCost(diskTable, "DoubleCol * 2 < 3"));
+
+        filterAndVerifyResults(diskTable, memTable, ConditionFilter.createConditionFilter("IntCol % 2 == 1"));
+        filterAndVerifyResults(diskTable, memTable, "IntCol = 3");
+        filterAndVerifyResults(diskTable, memTable, "IntCol != 3");
+        filterAndVerifyResults(diskTable, memTable, "IntCol in 1, 2");
+        filterAndVerifyResults(diskTable, memTable, "IntCol > 2");
+        filterAndVerifyResults(diskTable, memTable, "isNull(IntCol)");
+        filterAndVerifyResults(diskTable, memTable, "!isNull(IntCol)");
+        filterAndVerifyResultsAllowEmpty(diskTable, memTable, "IntCol = 9");
+
+        filterAndVerifyResults(diskTable, memTable,
+                ConditionFilter.createConditionFilter("LongCol / 1_000_000_000L == 2"));
+        filterAndVerifyResults(diskTable, memTable, "LongCol >= 1_000_000_000L");
+        filterAndVerifyResultsAllowEmpty(diskTable, memTable, "LongCol = 3_000_000_000L");
+
+        filterAndVerifyResults(diskTable, memTable, ConditionFilter.createConditionFilter("DoubleCol * 2 < 3"));
+        filterAndVerifyResults(diskTable, memTable, "DoubleCol = 0.5");
+        filterAndVerifyResultsAllowEmpty(diskTable, memTable, "DoubleCol = 0.25");
+    }
+
     @Test
     public void dictionaryNullEntryFilterTest() {
         final Table source = TableTools.newTable(
@@ -2291,4 +2348,194 @@ public final class ParquetTableFilterTest {
             allFilters.forEach(RowSetCapturingFilter::reset);
         }
     }
+
+    @Test
+    public void bloomFilterPushdownTest() {
+        final String destPath = Path.of(rootFile.getPath(), "ParquetTest_bloomFilterPushdownTest").toString();
+        final int tableSize = 100_000;
+
+        // Every row group spans (almost) the whole value range, so min/max statistics cannot exclude any of them
+        final Table largeTable = TableTools.emptyTable(tableSize).update(
+                "id = ii * 7919 % 1_000_003",
+                "price = randomInt(0,10000) * 0.01");
+        final long probe = 55_555L * 7919 % 1_000_003;
+
+        final ParquetInstructions withBloomFilter = ParquetInstructions.builder()
+                .setRowGroupInfo(RowGroupInfo.maxRows(10_000))
+                .useBloomFilter("id", true)
+                .setBloomFilterFpp(0.001)
+                .build();
+        final ParquetInstructions withoutBloomFilter = ParquetInstructions.builder()
+                .setRowGroupInfo(RowGroupInfo.maxRows(10_000))
+                .build();
+
+        final String bloomPath = Path.of(destPath, "bloom.parquet").toString();
+        final String plainPath = Path.of(destPath, "plain.parquet").toString();
+        ParquetTools.writeTable(largeTable, bloomPath, withBloomFilter);
+        ParquetTools.writeTable(largeTable, plainPath, withoutBloomFilter);
+
+        final Table bloomTable = ParquetTools.readTable(bloomPath);
+        final Table plainTable = ParquetTools.readTable(plainPath);
+        final Table memTable = plainTable.select();
+        assertTableEquals(bloomTable, memTable);
+
+        // Turn off memoization on the tables to we get accurate results.
+        QueryTable.setMemoizeResults(false);
+
+        final RowSetCapturingFilter filter = new ParallelizedRowSetCapturingFilter(RawString.of("id = " + probe));
+
+        memTable.where(filter).coalesce();
+        final long memRowsProcessed = filter.numRowsProcessed();
+        filter.reset();
+
+        plainTable.where(filter).coalesce();
+        final long plainRowsProcessed = filter.numRowsProcessed();
+        filter.reset();
+
+        final Table result = bloomTable.where(filter).coalesce();
+        final long bloomRowsProcessed = filter.numRowsProcessed();
+
+        assertEquals(1, result.size());
+        assertEquals(tableSize, memRowsProcessed);
+        assertEquals("Statistics should not be able to exclude any row group", memRowsProcessed, plainRowsProcessed);
+        assertTrue("Bloom filters did not exclude row groups, rows processed: " + bloomRowsProcessed,
+                bloomRowsProcessed < memRowsProcessed / 2);
+
+        // The bloom filters are read by their own pushdown action, which can be disabled on its own
+        final boolean restore = QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_BLOOM_FILTER;
+        try (final SafeCloseable ignored = () -> QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_BLOOM_FILTER = restore) {
+            QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_BLOOM_FILTER = true;
+            filter.reset();
+            bloomTable.where(filter).coalesce();
+            assertEquals(memRowsProcessed, filter.numRowsProcessed());
+        }
+
+        // Values that are absent from the file, and inverted matches, must still produce correct results
+        filterAndVerifyResults(bloomTable, memTable, "id = " + probe);
+        filterAndVerifyResults(bloomTable, memTable, "id in " + probe + ", 7919, 15838");
+        filterAndVerifyResults(bloomTable, memTable, "id not in " + probe);
+        filterAndVerifyResultsAllowEmpty(bloomTable, memTable, "id = 1_000_004");
+        filterAndVerifyResultsAllowEmpty(bloomTable, memTable, "id = null");
+    }
+
+    @Test
+    public void columnIndexPushdownTest() {
+        final String destPath = Path.of(rootFile.getPath(), "ParquetTest_columnIndexPushdownTest").toString();
+        final int tableSize = 100_000;
+
+        // A single large row group of sorted data, so row group statistics cannot exclude anything but page-level
+        // statistics can exclude most pages
+        final Table largeTable = TableTools.emptyTable(tableSize).update(
+                "id = ii",
+                "ts = DateTimeUtils.epochNanosToInstant(1_700_000_000_000_000_000L + ii * 1_000_000_000L)",
+                "name = ii % 1000 == 0 ? null : String.format(`key_%08d`, ii)",
+                "price = randomInt(0,10000) * 0.01");
+        final ParquetInstructions withStatistics = ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build();
+        final ParquetInstructions withoutStatistics = ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .setWriteRowGroupStatistics(false)
+                .build();
+
+        final String indexedPath = Path.of(destPath, "indexed.parquet").toString();
+        final String plainPath = Path.of(destPath, "plain.parquet").toString();
+        ParquetTools.writeTable(largeTable, indexedPath, withStatistics);
+        ParquetTools.writeTable(largeTable, plainPath, withoutStatistics);
+
+        final ParquetMetadata metadata = new ParquetTableLocationKey(
+                new File(indexedPath).toURI(), 0, null, ParquetInstructions.EMPTY).getMetadata();
+        assertEquals(1, metadata.getBlocks().size());
+        for (final ColumnChunkMetaData column : metadata.getBlocks().get(0).getColumns()) {
+            assertTrue(column.getPath().toDotString(), column.getColumnIndexReference() != null);
+        }
+
+        final Table indexedTable = ParquetTools.readTable(indexedPath);
+        final Table plainTable = ParquetTools.readTable(plainPath);
+        final Table memTable = plainTable.select();
+        assertTableEquals(indexedTable, memTable);
+
+        // Turn off memoization on the tables to we get accurate results.
+        QueryTable.setMemoizeResults(false);
+
+        final RowSetCapturingFilter filter = new ParallelizedRowSetCapturingFilter(RawString.of("id >= 99_000"));
+
+        plainTable.where(filter).coalesce();
+        final long plainRowsProcessed = filter.numRowsProcessed();
+        filter.reset();
+
+        final Table result = indexedTable.where(filter).coalesce();
+        final long indexedRowsProcessed = filter.numRowsProcessed();
+
+        assertEquals(1_000, result.size());
+        assertEquals(tableSize, plainRowsProcessed);
+        assertTrue("Column index did not exclude pages, rows processed: " + indexedRowsProcessed,
+                indexedRowsProcessed < tableSize / 10);
+
+        filterAndVerifyResults(indexedTable, memTable, "id >= 50_000 && id < 50_100");
+        filterAndVerifyResults(indexedTable, memTable, "id < 10 || id > 99_990");
+        filterAndVerifyResults(indexedTable, memTable, "id in 5, 50_005, 99_995");
+        filterAndVerifyResults(indexedTable, memTable, "id not in 5");
+        filterAndVerifyResults(indexedTable, memTable, "ts >= '2023-11-15T00:00:00Z' && ts < '2023-11-15T01:00:00Z'");
+        filterAndVerifyResults(indexedTable, memTable, "name > `key_00098000`");
+        filterAndVerifyResults(indexedTable, memTable, "name = `key_00012345`");
+        filterAndVerifyResults(indexedTable, memTable, "name = null");
+        filterAndVerifyResultsAllowEmpty(indexedTable, memTable, "id > 100_000");
+    }
+
+    @Test
+    public void columnIndexSkipsPageReads() {
+        final String destPath = Path.of(rootFile.getPath(), "ParquetTest_columnIndexSkipsPageReads").toString();
+        final int tableSize = 100_000;
+        final Table largeTable = TableTools.emptyTable(tableSize).update("id = ii");
+        final String indexedPath = Path.of(destPath, "indexed.parquet").toString();
+        final String plainPath = Path.of(destPath, "plain.parquet").toString();
+        ParquetTools.writeTable(largeTable, indexedPath, ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+        ParquetTools.writeTable(largeTable, plainPath, ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .setWriteRowGroupStatistics(false)
+                .build());
+
+        // Count the pages read from each file as the misses of the byte-budgeted page caches, which are only created
+        // while a budget is set
+        final long previousBudgetBytes = ByteBudgetedPageCache.getBudgetBytes();
+        final boolean restorePageIndex = QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_PAGE_INDEX;
+        try (final SafeCloseable ignored = () -> {
+            ByteBudgetedPageCache.setBudgetBytes(previousBudgetBytes);
+            QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_PAGE_INDEX = restorePageIndex;
+        }) {
+            ByteBudgetedPageCache.setBudgetBytes(64L << 20);
+            QueryTable.setMemoizeResults(false);
+
+            assertEquals(1_000, ParquetTools.readTable(plainPath).where("id >= 99_000").size());
+            final long plainPagesRead = pagesRead("plain.parquet");
+
+            assertEquals(1_000, ParquetTools.readTable(indexedPath).where("id >= 99_000").size());
+            final long indexedPagesRead = pagesRead("indexed.parquet");
+
+            assertTrue("Too few pages to measure skipping: " + plainPagesRead, plainPagesRead >= 100);
+            assertTrue("Column index did not skip page reads: " + indexedPagesRead + " of " + plainPagesRead,
+                    indexedPagesRead > 0 && indexedPagesRead <= plainPagesRead / 20);
+
+            // Without the page index action, every page of the indexed file is read as well
+            QueryTable.DISABLE_WHERE_PUSHDOWN_PARQUET_PAGE_INDEX = true;
+            final Table unindexed = ParquetTools.readTable(indexedPath);
+            assertEquals(1_000, unindexed.where("id >= 99_000").size());
+            assertEquals(plainPagesRead, pagesRead("indexed.parquet") - indexedPagesRead);
+        }
+    }
+
+    /**
+     * @return The number of pages of column {@code id} that the byte-budgeted caches of the locations whose names
+     *         contain {@code fileName} have read
+     */
+    private static long pagesRead(final String fileName) {
+        final Table statistics = ByteBudgetedPageCache.getStatistics()
+                .where("Column == `id`", "Location.contains(`" + fileName + "`)");
+        try (final CloseablePrimitiveIteratorOfLong misses = statistics.longColumnIterator("Misses")) {
+            return misses.longStream().sum();
+        }
+    }
 }
@@ -10,6 +10,9 @@ import io.deephaven.api.Selectable;
 import io.deephaven.api.SortColumn;
 import io.deephaven.api.filter.Filter;
 import io.deephaven.base.FileUtils;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.QueryScope;
@@ -35,6 +38,7 @@ import io.deephaven.engine.table.impl.SortedColumnsAttribute;
 import io.deephaven.engine.table.impl.SortingOrder;
 import io.deephaven.engine.table.impl.SourceTable;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.dataindex.DataIndexUtils;
@@ -52,16 +56,19 @@ import io.deephaven.engine.util.TableTools;
 import io.deephaven.engine.util.file.TrackedFileHandleFactory;
 import io.deephaven.parquet.base.BigDecimalParquetBytesCodec;
 import io.deephaven.parquet.base.BigIntegerParquetBytesCodec;
+import io.deephaven.parquet.base.ColumnEncoding;
 import io.deephaven.parquet.base.ColumnWriter;
 import io.deephaven.parquet.base.InvalidParquetFileException;
 import io.deephaven.parquet.base.NullParquetMetadataFileWriter;
 import io.deephaven.parquet.base.NullStatistics;
+import io.deephaven.parquet.base.ParquetFooterCache;
 import io.deephaven.parquet.base.ParquetFileWriter;
 import io.deephaven.parquet.base.RowGroupWriter;
 import io.deephaven.parquet.base.materializers.ParquetMaterializerUtils;
 import io.deephaven.parquet.table.location.ParquetTableLocation;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
 import io.deephaven.parquet.table.metadata.RowGroupInfo;
+import io.deephaven.parquet.table.pagestore.ByteBudgetedPageCache;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.parquet.table.transfer.StringDictionary;
 import io.deephaven.qst.type.Type;
@@ -4188,6 +4195,59 @@ public final class ParquetTableReadWriteTest {
         dest.delete();
     }
 
+    @Test
+    public void testDeletedRowPositions() {
+        final File dest = new File(rootFile, "deletedRowPositions.parquet");
+        final Table table = TableTools.emptyTable(10).update("A = (int) i");
+        writeTable(table, dest.getPath(), ParquetInstructions.builder()
+                .setRowGroupInfo(RowGroupInfo.maxRows(4))
+                .build());
+
+        // The row groups hold positions 0-3, 4-7 and 8-9; these deletes fall in each of them
+        try (final RowSet deletedPositions = RowSetFactory.fromKeys(1, 4, 5, 9);
+                final RowSet allExpected = RowSetFactory.fromKeys(1, 4, 5, 9);
+                final RowSet lastRowGroupsExpected = RowSetFactory.fromKeys(0, 1, 5)) {
+            checkDeletedRowPositions(dest, null, deletedPositions, allExpected);
+            // Without the first row group, position 1 is not part of the location, and the location's own positions
+            // start at file position 4
+            checkDeletedRowPositions(dest, new int[] {1, 2}, deletedPositions, lastRowGroupsExpected);
+        }
+        dest.delete();
+    }
+
+    /**
+     * Check that a location whose {@code deletedPositions} (positions within the file) are deleted excludes the rows
+     * at {@code expectedLocationPositions} (positions within the location) of the same location without deletes.
+     */
+    private static void checkDeletedRowPositions(
+            final File dest,
+            @Nullable final int[] rowGroupIndices,
+            final RowSet deletedPositions,
+            final RowSet expectedLocationPositions) {
+        final ParquetTableLocationKey allRowsKey = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY);
+        final ParquetTableLocationKey withDeletesKey = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY);
+        if (rowGroupIndices != null) {
+            allRowsKey.setRowGroupIndices(rowGroupIndices);
+            withDeletesKey.setRowGroupIndices(rowGroupIndices);
+        }
+        final ParquetTableLocation allRows =
+                new ParquetTableLocation(StandaloneTableKey.getInstance(), allRowsKey, EMPTY);
+        final ParquetTableLocation withDeletes =
+                new ParquetTableLocation(StandaloneTableKey.getInstance(), withDeletesKey, EMPTY) {
+                    @Override
+                    protected RowSet getDeletedRowPositions() {
+                        return deletedPositions.copy();
+                    }
+                };
+        try (final RowSet allRowKeys = allRows.getRowSet();
+                final RowSet deletedRowKeys = allRowKeys.subSetForPositions(expectedLocationPositions);
+                final RowSet expected = allRowKeys.minus(deletedRowKeys);
+                final RowSet actual = withDeletes.getRowSet()) {
+            assertEquals(expected, actual);
+            assertEquals(allRowKeys.size() - expectedLocationPositions.size(), actual.size());
+        }
+    }
+
     @Test
     public void testTableLocationReading() {
         // Make a new ParquetTableLocation for a non-existent parquet file
@@ -4301,6 +4361,328 @@ public final class ParquetTableReadWriteTest {
         }
     }
 
+    @Test
+    public void parallelWriteTest() throws IOException {
+        final Table table = TableTools.emptyTable(100_000).update(
+                "someInt = ii % 100 == 0 ? NULL_INT : (int) ii",
+                "someLong = ii * 31",
+                "someDouble = ii / 3.0",
+                "someString = `str_` + (ii % 1000)",
+                "uniqueString = Long.toString(ii * 7919)",
+                "someBoolean = ii % 3 == 0",
+                "someInstant = DateTimeUtils.epochNanosToInstant(ii * 1_000_000L)",
+                "intArray = new int[] {(int) ii, (int) ii + 1}");
+        final ParquetInstructions sequentialInstructions = new ParquetInstructions.Builder()
+                .setRowGroupInfo(RowGroupInfo.maxRows(30_000))
+                .setCompressionCodecName("ZSTD")
+                .build();
+        final ParquetInstructions parallelInstructions = new ParquetInstructions.Builder(sequentialInstructions)
+                .setWriteParallelism(4)
+                .build();
+
+        // Concurrently encoded column chunks are appended in order, so the files should be identical
+        final File sequentialDest = new File(rootFile, "sequential.parquet");
+        final File parallelDest = new File(rootFile, "parallel.parquet");
+        writeTable(table, sequentialDest.getPath(), sequentialInstructions);
+        writeTable(table, parallelDest.getPath(), parallelInstructions);
+        assertTableEquals(table, readTable(parallelDest.getPath()));
+        assertArrayEquals(Files.readAllBytes(sequentialDest.toPath()), Files.readAllBytes(parallelDest.toPath()));
+
+        // Write multiple tables concurrently, along with metadata files
+        final File parentDir = new File(rootFile, "parallelWriteTest");
+        final Table[] sources = new Table[5];
+        final String[] destinations = new String[sources.length];
+        for (int ii = 0; ii < sources.length; ++ii) {
+            sources[ii] = table.head(20_000 * (ii + 1)).update("tableIndex = " + ii);
+            destinations[ii] = new File(parentDir, "table" + ii + ".parquet").getPath();
+        }
+        final List<URI> completedDestinations = new ArrayList<>();
+        writeTables(sources, destinations, new ParquetInstructions.Builder(parallelInstructions)
+                .setGenerateMetadataFiles(true)
+                .setOnWriteCompleted(completedWrite -> completedDestinations.add(completedWrite.destination()))
+                .build());
+        for (int ii = 0; ii < sources.length; ++ii) {
+            assertTableEquals(sources[ii], readTable(destinations[ii]));
+            assertEquals(new File(destinations[ii]).toURI(), completedDestinations.get(ii));
+        }
+        final Table expected = merge(sources);
+        assertTableEquals(expected, readTable(new File(parentDir, "_metadata").getPath()));
+    }
+
+    @Test
+    public void columnEncodingsTest() {
+        final Table table = TableTools.emptyTable(20_000).update(
+                "seqLong = ii",
+                "seqInt = ii % 1000 == 0 ? NULL_INT : (int) ii",
+                "someByte = (byte) (ii % 100)",
+                "someChar = ii % 97 == 0 ? NULL_CHAR : (char) (65 + ii % 26)",
+                "ts = ii % 100 == 0 ? null : DateTimeUtils.epochNanosToInstant(1_700_000_000_000_000_000L + ii * 1_000_000L)",
+                "sortedString = ii % 1000 == 0 ? null : String.format(`key_%08d`, ii)",
+                "otherString = ii % 3 == 0 ? null : Long.toString(ii * 7919)",
+                "someDouble = ii % 50 == 0 ? NULL_DOUBLE : ii * 0.25",
+                "someFloat = (float) (ii * 0.5)",
+                "intArray = new int[] {(int) ii, ii % 10 == 0 ? NULL_INT : (int) ii + 1}");
+        final Map<String, ColumnEncoding> columnEncodings = Map.of(
+                "seqLong", ColumnEncoding.DELTA_BINARY_PACKED,
+                "seqInt", ColumnEncoding.DELTA_BINARY_PACKED,
+                "someByte", ColumnEncoding.DELTA_BINARY_PACKED,
+                "someChar", ColumnEncoding.DELTA_BINARY_PACKED,
+                "ts", ColumnEncoding.DELTA_BINARY_PACKED,
+                "sortedString", ColumnEncoding.DELTA_BYTE_ARRAY,
+                "otherString", ColumnEncoding.DELTA_LENGTH_BYTE_ARRAY,
+                "someDouble", ColumnEncoding.BYTE_STREAM_SPLIT,
+                "someFloat", ColumnEncoding.BYTE_STREAM_SPLIT,
+                "intArray", ColumnEncoding.DELTA_BINARY_PACKED);
+        final ParquetInstructions.Builder builder = new ParquetInstructions.Builder()
+                // Write many pages, and force the string columns to not use dictionary encoding
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .setMaximumDictionaryKeys(100);
+        columnEncodings.forEach(builder::setColumnEncoding);
+        final File dest = new File(rootFile, "columnEncodingsTest.parquet");
+        writeReadTableTest(table, dest, builder.build());
+
+        final Map<String, Encoding> expectedEncodings = new HashMap<>();
+        columnEncodings.forEach((name, encoding) -> expectedEncodings.put(name, Encoding.valueOf(encoding.name())));
+        assertDataEncodings(dest, expectedEncodings);
+
+        // Encodings that are not supported for the type of a column are rejected
+        try {
+            writeTable(table, dest.getPath(), new ParquetInstructions.Builder()
+                    .setColumnEncoding("sortedString", ColumnEncoding.BYTE_STREAM_SPLIT)
+                    .build());
+            fail("Expected exception because BYTE_STREAM_SPLIT is not supported for strings");
+        } catch (final RuntimeException expected) {
+            assertTrue(expected instanceof IllegalArgumentException
+                    || expected.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void autoColumnEncodingTest() {
+        final Table table = TableTools.emptyTable(20_000).update(
+                "seqLong = ii",
+                "randomLong = (long) (Math.random() * Long.MAX_VALUE)",
+                "someDouble = ii * 0.1",
+                "prefixString = String.format(`some_common_prefix_%06d`, ii)",
+                "randomString = Long.toString((long) (Math.random() * Long.MAX_VALUE), 36)",
+                "someBoolean = ii % 3 == 0");
+        final ParquetInstructions.Builder builder = new ParquetInstructions.Builder()
+                .setMaximumDictionaryKeys(100);
+        for (final String columnName : table.getDefinition().getColumnNames()) {
+            builder.setColumnEncoding(columnName, ColumnEncoding.AUTO);
+        }
+        final File dest = new File(rootFile, "autoColumnEncodingTest.parquet");
+        writeReadTableTest(table, dest, builder.build());
+        assertDataEncodings(dest, Map.of(
+                "seqLong", Encoding.DELTA_BINARY_PACKED,
+                "randomLong", Encoding.PLAIN,
+                "someDouble", Encoding.BYTE_STREAM_SPLIT,
+                "prefixString", Encoding.DELTA_BYTE_ARRAY,
+                "randomString", Encoding.PLAIN,
+                "someBoolean", Encoding.PLAIN));
+
+        // Byte stream split is only useful with compression
+        writeReadTableTest(table, dest, builder.setCompressionCodecName("UNCOMPRESSED").build());
+        assertDataEncodings(dest, Map.of("someDouble", Encoding.PLAIN));
+    }
+
+    @Test
+    public void dictionaryEncodePrimitiveColumnsTest() {
+        final Table table = TableTools.emptyTable(20_000).update(
+                "someInt = ii % 1000 == 0 ? NULL_INT : (int) (ii % 7) - 3",
+                "someLong = ii % 999 == 0 ? NULL_LONG : (ii % 11) * 1_000_000_000_000L",
+                "someFloat = ii % 998 == 0 ? NULL_FLOAT : (float) (ii % 5) * 0.5f",
+                "someDouble = ii % 997 == 0 ? NULL_DOUBLE : (ii % 13) * 0.25",
+                "ts = ii % 100 == 0 ? null : DateTimeUtils.epochNanosToInstant(1_700_000_000_000_000_000L + (ii % 24) * 3_600_000_000_000L)",
+                "allNullInt = NULL_INT",
+                "seqLong = ii",
+                "someShort = (short) (ii % 3)");
+        final File dest = new File(rootFile, "dictionaryEncodePrimitiveColumnsTest.parquet");
+
+        // Disabled by default
+        writeReadTableTest(table, dest);
+        assertDictionaryEncoded(dest, Map.of("someInt", false, "someLong", false, "ts", false));
+
+        final ParquetInstructions instructions = new ParquetInstructions.Builder()
+                .setDictionaryEncodePrimitiveColumns(true)
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .setMaximumDictionaryKeys(100)
+                .build();
+        writeReadTableTest(table, dest, instructions);
+        assertTableStatistics(table, dest);
+        assertDictionaryEncoded(dest, Map.of(
+                "someInt", true,
+                "someLong", true,
+                "someFloat", true,
+                "someDouble", true,
+                "ts", true,
+                // Columns without any non-null values and columns exceeding the dictionary limits fall back to PLAIN
+                "allNullInt", false,
+                "seqLong", false,
+                // Types other than int, long, float, double and Instant are never dictionary encoded
+                "someShort", false));
+
+        // The dictionary hint ignores the limits
+        writeReadTableTest(table, dest, new ParquetInstructions.Builder(instructions)
+                .useDictionary("seqLong", true)
+                .build());
+        assertDictionaryEncoded(dest, Map.of("seqLong", true));
+
+        // The dictionary size limit applies to primitive columns too
+        writeReadTableTest(table, dest, new ParquetInstructions.Builder(instructions)
+                .setMaximumDictionarySize(8 * Long.BYTES)
+                .build());
+        assertDictionaryEncoded(dest, Map.of("someInt", true, "someLong", false, "someDouble", false));
+    }
+
+    private static void assertDictionaryEncoded(final File dest, final Map<String, Boolean> expectedDictionaryEncoded) {
+        final ParquetMetadata metadata = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata();
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            final Boolean expected = expectedDictionaryEncoded.get(columnMetadata.getPath().toArray()[0]);
+            if (expected != null) {
+                assertEquals(columnMetadata.getPath().toDotString(), expected,
+                        columnMetadata.getEncodingStats().hasDictionaryEncodedPages());
+                assertEquals(columnMetadata.getPath().toDotString(), !expected,
+                        columnMetadata.getEncodingStats().hasNonDictionaryEncodedPages());
+            }
+        }
+    }
+
+    @Test
+    public void readAheadTest() {
+        final Table table = TableTools.emptyTable(100_000).update(
+                "someLong = ii",
+                "someString = `s` + (ii % 100)");
+        final File dest = new File(rootFile, "readAheadTest.parquet");
+        writeTable(table, dest.getPath(), new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+
+        final Value hits = Stats.makeItem("PageReadAhead", "hits", ThreadSafeCounter.FACTORY).getValue();
+        final Value misses = Stats.makeItem("PageReadAhead", "misses", ThreadSafeCounter.FACTORY).getValue();
+        final Value prefetched = Stats.makeItem("PageReadAhead", "prefetched", ThreadSafeCounter.FACTORY).getValue();
+        final long hitsBefore = hits.getSum();
+        final long missesBefore = misses.getSum();
+        final long prefetchedBefore = prefetched.getSum();
+
+        // Disabled by default
+        assertTableEquals(table, readTable(dest.getPath()).select());
+        assertEquals(hitsBefore, hits.getSum());
+        assertEquals(missesBefore, misses.getSum());
+        assertEquals(prefetchedBefore, prefetched.getSum());
+
+        final int readAheadPageCount = 4;
+        final ParquetInstructions readInstructions = new ParquetInstructions.Builder()
+                .setReadAheadPageCount(readAheadPageCount)
+                .build();
+        final Table fromDisk = readTable(dest.getPath(), readInstructions);
+
+        // Reading the first page starts reading the following pages ahead; wait for them, so that the reader is sure
+        // to find them when it gets there
+        assertEquals(0L, fromDisk.getColumnSource("someLong").getLong(0));
+        final long deadlineMillis = System.currentTimeMillis() + 10_000;
+        while (prefetched.getSum() < prefetchedBefore + readAheadPageCount) {
+            if (System.currentTimeMillis() > deadlineMillis) {
+                fail("Timed out waiting for pages to be read ahead, prefetched="
+                        + (prefetched.getSum() - prefetchedBefore));
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        assertTableEquals(table, fromDisk.select());
+        assertTrue(prefetched.getSum() > prefetchedBefore);
+        assertTrue(hits.getSum() > hitsBefore);
+        // Every page request is either served by read-ahead or materialized by the reader
+        assertTrue(misses.getSum() > missesBefore);
+    }
+
+    @Test
+    public void byteBudgetedPageCacheTest() {
+        final Table table = TableTools.emptyTable(100_000).update(
+                "someLong = ii",
+                "someInt = (int) (ii % 1000)");
+        final File dest = new File(rootFile, "byteBudgetedPageCacheTest.parquet");
+        writeTable(table, dest.getPath(), new ParquetInstructions.Builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+
+        // Less than the decoded table, so that pages are evicted, but enough for each shard to hold several pages
+        final long budgetBytes = 1 << 20;
+        final long previousBudgetBytes = ByteBudgetedPageCache.getBudgetBytes();
+        ByteBudgetedPageCache.setBudgetBytes(budgetBytes);
+        try {
+            assertTrue(ByteBudgetedPageCache.isEnabled());
+            assertEquals(budgetBytes, ByteBudgetedPageCache.getBudgetBytes());
+            final Table fromDisk = readTable(dest.getPath());
+            assertTableEquals(table, fromDisk.select());
+            assertTrue(ByteBudgetedPageCache.getResidentBytes() > 0);
+            assertTrue(ByteBudgetedPageCache.getResidentBytes() <= budgetBytes);
+
+            final Table statistics = ByteBudgetedPageCache.getStatistics();
+            assertTrue(statistics.size() > 0);
+            try (final CloseablePrimitiveIteratorOfLong residentBytes =
+                    statistics.longColumnIterator("ResidentBytes")) {
+                assertEquals(ByteBudgetedPageCache.getResidentBytes(), residentBytes.longStream().sum());
+            }
+
+            // Shrinking the budget evicts pages right away
+            ByteBudgetedPageCache.setBudgetBytes(budgetBytes / 4);
+            assertTrue(ByteBudgetedPageCache.getResidentBytes() <= budgetBytes / 4);
+            assertTableEquals(table, fromDisk.select());
+
+            // Pages are held off-heap, so budgets are not limited by the heap size
+            ByteBudgetedPageCache.setBudgetBytes(Long.MAX_VALUE);
+            assertEquals(Long.MAX_VALUE, ByteBudgetedPageCache.getBudgetBytes());
+        } finally {
+            ByteBudgetedPageCache.setBudgetBytes(previousBudgetBytes);
+        }
+    }
+
+    @Test
+    public void footerCacheTest() {
+        final Table table = TableTools.emptyTable(1000).update("someLong = ii");
+        final File dest = new File(rootFile, "footerCacheTest.parquet");
+        writeTable(table, dest.getPath());
+
+        final long maxFooterBytes = ParquetFooterCache.getMaxFooterBytes();
+        assertTrue(maxFooterBytes > 0);
+        ParquetFooterCache.clear();
+        try {
+            final ParquetMetadata first = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata();
+            assertEquals(1, ParquetFooterCache.size());
+            // Readers for the same file share the parsed footer
+            assertSame(first, new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata());
+
+            // Rewriting the file invalidates its footer
+            final Table rewritten = TableTools.emptyTable(2000).update("someLong = ii * 2");
+            writeTable(rewritten, dest.getPath());
+            final ParquetMetadata second = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata();
+            assertNotSame(first, second);
+            assertEquals(2000, second.getBlocks().get(0).getRowCount());
+            assertTableEquals(rewritten, readTable(dest.getPath()));
+
+            ParquetFooterCache.setMaxFooterBytes(0);
+            assertEquals(0, ParquetFooterCache.size());
+            assertNotSame(second, new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata());
+        } finally {
+            ParquetFooterCache.setMaxFooterBytes(maxFooterBytes);
+        }
+    }
+
+    private static void assertDataEncodings(final File dest, final Map<String, Encoding> expectedEncodings) {
+        final ParquetMetadata metadata = new ParquetTableLocationKey(dest.toURI(), 0, null, EMPTY).getMetadata();
+        for (final ColumnChunkMetaData columnMetadata : metadata.getBlocks().get(0).getColumns()) {
+            final Encoding expected = expectedEncodings.get(columnMetadata.getPath().toArray()[0]);
+            if (expected != null) {
+                assertEquals(columnMetadata.getPath().toDotString(), Set.of(expected),
+                        columnMetadata.getEncodingStats().getDataEncodings());
+            }
+        }
+    }
+
     @Test
     public void readWriteStatisticsTest() {
         // Test simple structured table.
@@ -5067,7 +5449,9 @@ public final class ParquetTableReadWriteTest {
         try (final java.io.OutputStream os = Files.newOutputStream(dest.toPath());
                 final ParquetFileWriter fileWriter = new ParquetFileWriter(dest.toURI(), os,
                         ParquetInstructions.EMPTY.getTargetPageSize(), new HeapByteBufferAllocator(), schema,
-                        "UNCOMPRESSED", Collections.emptyMap(), NullParquetMetadataFileWriter.INSTANCE, true)) {
+                        "UNCOMPRESSED", Collections.emptyMap(), NullParquetMetadataFileWriter.INSTANCE, true,
+                        Collections.emptySet(), ParquetInstructions.DEFAULT_BLOOM_FILTER_FPP,
+                        ParquetInstructions.MAXIMUM_BLOOM_FILTER_BYTES, Collections.emptyMap())) {
             final RowGroupWriter rowGroupWriter = fileWriter.addRowGroup(values.length);
             try (final ColumnWriter columnWriter = rowGroupWriter.addColumn("status")) {
                 columnWriter.addPageNoNulls(values, values.length, stats);
@@ -0,0 +1,160 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.location;
+
+import io.deephaven.engine.table.MatchOptions;
+import io.deephaven.engine.table.impl.select.MatchFilter;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Types;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.Instant;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.DOUBLE;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.junit.Assert.*;
+
+@Category(OutOfBandTest.class)
+public class BloomFilterPushdownHandlerTest {
+
+    private static BloomFilter newBloomFilter() {
+        return new BlockSplitBloomFilter(1024);
+    }
+
+    @Test
+    public void intScenarios() {
+        final PrimitiveType type = Types.optional(INT32)
+                .as(LogicalTypeAnnotation.intType(32, true))
+                .named("i");
+        final BloomFilter bloomFilter = newBloomFilter();
+        for (int ii = 0; ii < 100; ii += 2) {
+            bloomFilter.insertHash(bloomFilter.hash(ii));
+        }
+
+        assertTrue(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i", 10), bloomFilter, type));
+        assertTrue(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i", 11, 12), bloomFilter, type));
+        assertFalse(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i", 1_000_001), bloomFilter, type));
+
+        // null values are not recorded in the bloom filter
+        assertTrue(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i", QueryConstants.NULL_INT), bloomFilter, type));
+        assertTrue(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i", (Object) null), bloomFilter, type));
+
+        // inverted matches cannot be excluded
+        assertTrue(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.INVERTED, "i", 1_000_001), bloomFilter, type));
+
+        // empty match list
+        assertFalse(IntPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "i"), bloomFilter, type));
+    }
+
+    @Test
+    public void charScenarios() {
+        final PrimitiveType type = Types.optional(INT32)
+                .as(LogicalTypeAnnotation.intType(16, false))
+                .named("c");
+        final BloomFilter bloomFilter = newBloomFilter();
+        bloomFilter.insertHash(bloomFilter.hash((int) 'a'));
+
+        assertTrue(CharPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "c", 'a'), bloomFilter, type));
+        assertFalse(CharPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "c", 'z'), bloomFilter, type));
+        assertTrue(CharPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "c", QueryConstants.NULL_CHAR), bloomFilter, type));
+    }
+
+    @Test
+    public void longAndInstantScenarios() {
+        final PrimitiveType longType = Types.optional(INT64)
+                .as(LogicalTypeAnnotation.intType(64, true))
+                .named("l");
+        final BloomFilter longFilter = newBloomFilter();
+        longFilter.insertHash(longFilter.hash(1L << 40));
+
+        assertTrue(LongPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "l", 1L << 40), longFilter, longType));
+        assertFalse(LongPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "l", 1L << 41), longFilter, longType));
+        assertTrue(LongPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "l", QueryConstants.NULL_LONG), longFilter, longType));
+
+        final PrimitiveType instantType = Types.optional(INT64)
+                .as(LogicalTypeAnnotation.timestampType(true, LogicalTypeAnnotation.TimeUnit.MICROS))
+                .named("t");
+        final Instant stored = DateTimeUtils.parseInstant("2024-01-01T00:00:00.000001 UTC");
+        final BloomFilter instantFilter = newBloomFilter();
+        instantFilter.insertHash(instantFilter.hash(DateTimeUtils.epochMicros(stored)));
+
+        assertTrue(InstantPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "t", stored), instantFilter, instantType));
+        assertFalse(InstantPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "t", stored.plusSeconds(1)), instantFilter, instantType));
+        // not representable in micros, so cannot be excluded based on the hash
+        assertTrue(InstantPushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "t", stored.plusNanos(1)), instantFilter, instantType));
+    }
+
+    @Test
+    public void doubleScenarios() {
+        final PrimitiveType type = Types.optional(DOUBLE).named("d");
+        final BloomFilter bloomFilter = newBloomFilter();
+        bloomFilter.insertHash(bloomFilter.hash(1.5));
+
+        assertTrue(DoublePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "d", 1.5), bloomFilter, type));
+        assertFalse(DoublePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "d", 2.5), bloomFilter, type));
+
+        // zeros and NaNs have multiple representations
+        assertTrue(DoublePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "d", -0.0), bloomFilter, type));
+        assertTrue(DoublePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "d", Double.NaN), bloomFilter, type));
+        assertTrue(DoublePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "d", QueryConstants.NULL_DOUBLE), bloomFilter, type));
+    }
+
+    @Test
+    public void stringScenarios() {
+        final PrimitiveType type = Types.optional(BINARY)
+                .as(LogicalTypeAnnotation.stringType())
+                .named("s");
+        final BloomFilter bloomFilter = newBloomFilter();
+        bloomFilter.insertHash(bloomFilter.hash(Binary.fromString("AAPL")));
+        bloomFilter.insertHash(bloomFilter.hash(Binary.fromString("MSFT")));
+
+        assertTrue(ComparablePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "s", "AAPL"), bloomFilter, type));
+        assertTrue(ComparablePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "s", "GOOG", "MSFT"), bloomFilter, type));
+        assertFalse(ComparablePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "s", "GOOG"), bloomFilter, type));
+
+        // case-insensitive matches cannot use the hash
+        final MatchOptions caseInsensitive = MatchOptions.builder().caseInsensitive(true).build();
+        assertTrue(ComparablePushdownHandler.maybeMatches(
+                new MatchFilter(caseInsensitive, "s", "aapl"), bloomFilter, type));
+
+        // binary columns without a string annotation are not handled
+        final PrimitiveType rawType = Types.optional(BINARY).named("b");
+        assertTrue(ComparablePushdownHandler.maybeMatches(
+                new MatchFilter(MatchOptions.REGULAR, "b", "GOOG"), bloomFilter, rawType));
+    }
+}
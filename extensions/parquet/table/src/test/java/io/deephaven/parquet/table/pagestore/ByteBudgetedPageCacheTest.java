@@ -0,0 +1,122 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.engine.page.ChunkPage;
+import io.deephaven.engine.page.LongChunkPage;
+import io.deephaven.engine.page.ObjectChunkPage;
+import io.deephaven.test.types.OutOfBandTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@Category(OutOfBandTest.class)
+public class ByteBudgetedPageCacheTest {
+
+    private static final int PAGE_SIZE = 1024;
+    private static final long MASK = (1L << 40) - 1;
+
+    private long previousBudgetBytes;
+    private ByteBudgetedPageCache<Any> cache;
+
+    @Before
+    public void setUp() {
+        previousBudgetBytes = ByteBudgetedPageCache.getBudgetBytes();
+        ByteBudgetedPageCache.setBudgetBytes(0);
+        // Each of the (up to 16) shards holds four pages
+        ByteBudgetedPageCache.setBudgetBytes(16L * 4 * PAGE_SIZE * Long.BYTES);
+        cache = new ByteBudgetedPageCache<>("location", "column", 16, 64);
+    }
+
+    @After
+    public void tearDown() {
+        ByteBudgetedPageCache.setBudgetBytes(previousBudgetBytes);
+    }
+
+    private static Supplier<ChunkPage<Any>> longPage(final long firstRow) {
+        return () -> {
+            final long[] data = new long[PAGE_SIZE];
+            for (int ii = 0; ii < PAGE_SIZE; ++ii) {
+                data[ii] = firstRow + ii;
+            }
+            return LongChunkPage.pageWrap(firstRow, data, MASK);
+        };
+    }
+
+    private static <T> Supplier<T> unexpected() {
+        return () -> {
+            throw new AssertionError("Page should have been supplied by the cache");
+        };
+    }
+
+    @Test
+    public void restoresPrimitivePagesFromOffHeap() {
+        final Object owner = new Object();
+        final ChunkPage<Any> materialized = cache.getPage(owner, 3, longPage(3 * PAGE_SIZE)).getPage();
+        assertEquals(PAGE_SIZE * Long.BYTES, ByteBudgetedPageCache.getResidentBytes());
+
+        final ChunkPage<Any> restored = cache.getPage(owner, 3, unexpected()).getPage();
+        assertNotSame(materialized, restored);
+        assertEquals(3 * PAGE_SIZE, restored.firstRowOffset());
+        assertEquals(MASK, restored.mask());
+        assertEquals(PAGE_SIZE, restored.size());
+        for (int ii = 0; ii < PAGE_SIZE; ++ii) {
+            assertEquals(3 * PAGE_SIZE + ii, restored.asLongChunk().get(ii));
+        }
+
+        ByteBudgetedPageCache.setBudgetBytes(0);
+        assertEquals(0, ByteBudgetedPageCache.getResidentBytes());
+    }
+
+    @Test
+    public void releaseRemovesOnlyTheOwnersPages() {
+        final Object released = new Object();
+        final Object retained = new Object();
+        cache.getPage(released, 0, longPage(0));
+        cache.getPage(released, 1, longPage(PAGE_SIZE));
+        cache.getPage(retained, 0, longPage(0));
+        assertEquals(3 * PAGE_SIZE * Long.BYTES, ByteBudgetedPageCache.getResidentBytes());
+
+        cache.release(released);
+        assertEquals(PAGE_SIZE * Long.BYTES, ByteBudgetedPageCache.getResidentBytes());
+        cache.getPage(retained, 0, unexpected());
+        final ChunkPage<Any> rematerialized = cache.getPage(released, 1, longPage(PAGE_SIZE)).getPage();
+        assertEquals(PAGE_SIZE, rematerialized.asLongChunk().get(0));
+    }
+
+    @Test
+    public void doesNotHoldObjectPagesOffHeap() {
+        final PageCache.IntrusivePage<Any> page = cache.getPage(new Object(), 0,
+                () -> ObjectChunkPage.pageWrap(0, new String[] {"a", "b"}, MASK));
+        assertEquals(0, ByteBudgetedPageCache.getResidentBytes());
+        // Falls back to soft references
+        cache.touch(page);
+    }
+
+    @Test
+    public void budgetIsNotLimitedByHeap() {
+        ByteBudgetedPageCache.setBudgetBytes(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, ByteBudgetedPageCache.getBudgetBytes());
+    }
+
+    @Test
+    public void frequentPagesSurviveScans() {
+        final Object owner = new Object();
+        for (int ai = 0; ai < 8; ++ai) {
+            cache.getPage(owner, 0, longPage(0));
+        }
+        // Scan many more pages than the cache holds, touching each once
+        for (int pi = 1; pi <= 1000; ++pi) {
+            cache.getPage(owner, pi, longPage((long) pi * PAGE_SIZE));
+        }
+        assertTrue(ByteBudgetedPageCache.getResidentBytes() <= ByteBudgetedPageCache.getBudgetBytes());
+        cache.getPage(owner, 0, unexpected());
+    }
+}
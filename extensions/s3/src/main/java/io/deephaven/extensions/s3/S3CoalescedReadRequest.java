@@ -0,0 +1,298 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.base.stats.Counter;
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.Value;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Uri;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+import static io.deephaven.extensions.s3.S3Utils.addTimeout;
+
+/**
+ * A single ranged GET that fetches the data for several consecutive {@link S3ReadRequest fragment requests} of a single
+ * read, i.e. the fragment being read and its read-ahead fragments; requests of separate reads are not merged. Each
+ * fragment request is completed as soon as its bytes have arrived, so readers of the first fragments do not wait for
+ * the whole range. The range may include fragments that were already requested, up to
+ * {@link S3Instructions#maxCoalescedReadGap()} bytes, whose data is discarded; this trades a little bandwidth for fewer
+ * requests.
+ */
+final class S3CoalescedReadRequest
+        implements AsyncResponseTransformer<GetObjectResponse, Boolean>, BiConsumer<Boolean, Throwable> {
+
+    private static final Logger log = LoggerFactory.getLogger(S3CoalescedReadRequest.class);
+
+    private static final Value FRAGMENTS_PER_REQUEST =
+            Stats.makeItem("S3CoalescedReadRequest", "fragmentsPerRequest", Counter.FACTORY).getValue();
+    private static final Value GAP_BYTES =
+            Stats.makeItem("S3CoalescedReadRequest", "gapBytes", Counter.FACTORY).getValue();
+
+    /**
+     * A fragment within the range of a coalesced request.
+     */
+    private static final class Member {
+        private final S3ReadRequest request;
+        /**
+         * The future to complete once the fragment is filled, or {@code null} if the fragment is only fetched to avoid
+         * splitting the range.
+         */
+        @Nullable
+        private final CompletableFuture<Boolean> future;
+
+        private Member(@NotNull final S3ReadRequest request, @Nullable final CompletableFuture<Boolean> future) {
+            this.request = request;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Send the given consecutive fragment requests, merging the ones not yet sent into as few GETs as allowed by
+     * {@link S3Instructions#maxCoalescedReadSize()} and {@link S3Instructions#maxCoalescedReadGap()}.
+     *
+     * @param requests The acquired fragment requests, in order of consecutive fragment indices
+     * @param context The context for the requests
+     */
+    static void send(
+            @NotNull final S3ReadRequest.Acquired[] requests,
+            @NotNull final S3ReadContext context) {
+        final int maxSize = context.instructions.maxCoalescedReadSize();
+        final int maxGap = context.instructions.maxCoalescedReadGap();
+        final List<Member> run = new ArrayList<>();
+        final List<Member> gap = new ArrayList<>();
+        long runBytes = 0;
+        long gapBytes = 0;
+        for (final S3ReadRequest.Acquired acquired : requests) {
+            final S3ReadRequest request = acquired.request();
+            final int length = request.requestLength();
+            final CompletableFuture<Boolean> future = acquired.claim();
+            if (future == null) {
+                // Already sent or read from the disk cache; bridge it only if it keeps the range within limits
+                if (!run.isEmpty() && gapBytes + length <= maxGap && runBytes + gapBytes + length <= maxSize) {
+                    gap.add(new Member(request, null));
+                    gapBytes += length;
+                } else {
+                    sendRun(run, context);
+                    runBytes = 0;
+                    gap.clear();
+                    gapBytes = 0;
+                }
+                continue;
+            }
+            if (!run.isEmpty() && runBytes + gapBytes + length > maxSize) {
+                sendRun(run, context);
+                runBytes = 0;
+                gap.clear();
+                gapBytes = 0;
+            }
+            if (gapBytes > 0) {
+                run.addAll(gap);
+                runBytes += gapBytes;
+                GAP_BYTES.sample(gapBytes);
+            }
+            gap.clear();
+            gapBytes = 0;
+            run.add(new Member(request, future));
+            runBytes += length;
+        }
+        sendRun(run, context);
+    }
+
+    private static void sendRun(@NotNull final List<Member> run, @NotNull final S3ReadContext context) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (run.size() == 1) {
+            // Runs only start with claimed fragments
+            final Member member = run.get(0);
+            run.clear();
+            member.request.send(member.future);
+            return;
+        }
+        final S3CoalescedReadRequest coalesced = new S3CoalescedReadRequest(List.copyOf(run), context);
+        run.clear();
+        coalesced.sendImpl();
+    }
+
+    private final List<Member> members;
+    private final S3Uri s3Uri;
+    private final S3Instructions instructions;
+    private final S3AsyncClient client;
+    private final long from;
+    private final long to;
+    private volatile CompletableFuture<Boolean> producerFuture;
+
+    private S3CoalescedReadRequest(@NotNull final List<Member> members, @NotNull final S3ReadContext context) {
+        this.members = members;
+        this.s3Uri = context.uri;
+        this.instructions = context.instructions;
+        this.client = context.client;
+        final S3ReadRequest last = members.get(members.size() - 1).request;
+        this.from = members.get(0).request.from();
+        this.to = last.from() + last.requestLength() - 1;
+    }
+
+    private void sendImpl() {
+        FRAGMENTS_PER_REQUEST.sample(members.size());
+        if (log.isDebugEnabled()) {
+            log.debug().append("Sending coalesced: ").append(requestStr()).endl();
+        }
+        client.getObject(getObjectRequest(), this).whenComplete(this);
+    }
+
+    /**
+     * Complete any fragments not completed by the subscriber, e.g. because the request failed.
+     */
+    @Override
+    public void accept(final Boolean isComplete, final Throwable throwable) {
+        for (final Member member : members) {
+            if (member.future == null || member.future.isDone()) {
+                continue;
+            }
+            if (throwable != null) {
+                member.future.completeExceptionally(throwable);
+            } else {
+                member.future.completeExceptionally(new IllegalStateException(String.format(
+                        "Coalesced request %s completed without filling fragment %s", requestStr(),
+                        member.request.requestStr())));
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------------
+
+    @Override
+    public CompletableFuture<Boolean> prepare() {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        producerFuture = future;
+        return future;
+    }
+
+    @Override
+    public void onResponse(final GetObjectResponse response) {
+
+    }
+
+    @Override
+    public void onStream(final SdkPublisher<ByteBuffer> publisher) {
+        publisher.subscribe(new Sub());
+    }
+
+    @Override
+    public void exceptionOccurred(final Throwable error) {
+        producerFuture.completeExceptionally(error);
+    }
+
+    // --------------------------------------------------------------------------------------------------
+
+    private GetObjectRequest getObjectRequest() {
+        final GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+                .bucket(s3Uri.bucket().orElseThrow())
+                .key(s3Uri.key().orElseThrow())
+                .range("bytes=" + from + "-" + to);
+        final Duration readTimeout = instructions.readTimeout();
+        requestBuilder.overrideConfiguration(b -> addTimeout(b, readTimeout));
+        return requestBuilder.build();
+    }
+
+    private String requestStr() {
+        return String.format("fragments=%d [%d, %d]/%d %s/%s", members.size(), from, to, to - from + 1,
+                s3Uri.bucket().orElseThrow(), s3Uri.key().orElseThrow());
+    }
+
+    // --------------------------------------------------------------------------------------------------
+
+    private final class Sub implements Subscriber<ByteBuffer> {
+
+        private final CompletableFuture<Boolean> localProducer;
+        private Subscription subscription;
+
+        /**
+         * Index of the member currently being filled.
+         */
+        private int memberIndex;
+        /**
+         * Number of bytes stored in the current member.
+         */
+        private int memberOffset;
+
+        Sub() {
+            localProducer = producerFuture;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final ByteBuffer dataBuffer) {
+            while (dataBuffer.hasRemaining()) {
+                if (memberIndex == members.size()) {
+                    localProducer.completeExceptionally(new IllegalStateException(String.format(
+                            "Received more bytes than expected, %s", requestStr())));
+                    subscription.cancel();
+                    return;
+                }
+                final Member member = members.get(memberIndex);
+                final int memberLength = member.request.requestLength();
+                final int numBytes = Math.min(dataBuffer.remaining(), memberLength - memberOffset);
+                final ByteBuffer resultBuffer = member.future == null ? null : member.request.get();
+                if (resultBuffer != null) {
+                    final ByteBuffer slice = dataBuffer.duplicate();
+                    slice.limit(slice.position() + numBytes);
+                    resultBuffer.duplicate().position(memberOffset).put(slice);
+                }
+                dataBuffer.position(dataBuffer.position() + numBytes);
+                memberOffset += numBytes;
+                if (memberOffset == memberLength) {
+                    if (member.future != null) {
+                        // A freed buffer means no one is waiting for this fragment any more
+                        member.future.complete(resultBuffer != null);
+                    }
+                    ++memberIndex;
+                    memberOffset = 0;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            localProducer.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (memberIndex != members.size()) {
+                localProducer.completeExceptionally(new IllegalStateException(String.format(
+                        "Expected %d bytes, received fewer, %s", to - from + 1, requestStr())));
+                return;
+            }
+            localProducer.complete(true);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.base.stats.Stats;
+import io.deephaven.base.stats.ThreadSafeCounter;
+import io.deephaven.base.stats.Value;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.s3.S3Uri;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A persistent cache of S3 fragments on local disk, bounded in size and evicted in least recently used order. Each
+ * fragment is stored in its own file, named after a hash of the object URI, ETag, size, fragment size and fragment
+ * index, so a fragment is never served for a different version of an object. Fragments of objects whose ETag is not
+ * known are neither read from nor written to the cache. The cache survives restarts: on creation, the existing files
+ * in the directory are indexed in order of their last modified time. To keep file system metadata writes off the read
+ * path, a hit only updates the last modified time if it has not been updated in the last minute, so the order
+ * recovered after a restart is only approximately least recently used.
+ * <p>
+ * Fragments fetched from S3 are stored by {@link #writeAsync}, on a single writer thread per cache, so that the AWS
+ * SDK threads completing the requests never block on the local disk. The writer keeps a bounded queue; fragments
+ * arriving while it is full are not cached.
+ * <p>
+ * All {@link S3SeekableChannelProvider providers} using the same directory share a single instance.
+ */
+final class S3DiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(S3DiskCache.class);
+
+    private static final String FILE_SUFFIX = ".fragment";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The minimum time between updates of the last modified time of a cached file on hits.
+     */
+    private static final long TOUCH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * The maximum number of fragments waiting to be written by the writer thread of a cache.
+     */
+    private static final int MAX_PENDING_WRITES = 256;
+
+    private static final Value HITS = Stats.makeItem("S3DiskCache", "hits", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value MISSES = Stats.makeItem("S3DiskCache", "misses", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value WRITES = Stats.makeItem("S3DiskCache", "writes", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value EVICTIONS =
+            Stats.makeItem("S3DiskCache", "evictions", ThreadSafeCounter.FACTORY).getValue();
+    private static final Value DROPPED_WRITES =
+            Stats.makeItem("S3DiskCache", "droppedWrites", ThreadSafeCounter.FACTORY).getValue();
+
+    private static final Map<Path, S3DiskCache> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cache for the given directory, creating it if necessary.
+     *
+     * @param directory The directory in which to store fragments
+     * @param maxSizeBytes The maximum number of bytes to store; if the cache already exists with a different limit, the
+     *        larger of the two is used
+     * @return The cache
+     */
+    static S3DiskCache forDirectory(@NotNull final Path directory, final long maxSizeBytes) {
+        final S3DiskCache cache = INSTANCES.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                dir -> new S3DiskCache(dir, maxSizeBytes));
+        cache.ensureMaxSize(maxSizeBytes);
+        return cache;
+    }
+
+    private static final class CachedFile {
+        private final long size;
+        private long lastTouchedMillis;
+
+        private CachedFile(final long size, final long lastTouchedMillis) {
+            this.size = size;
+            this.lastTouchedMillis = lastTouchedMillis;
+        }
+    }
+
+    private final Path directory;
+
+    /**
+     * The cached fragments by file name, in access order. Guarded by {@code this}.
+     */
+    private final LinkedHashMap<String, CachedFile> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxSizeBytes;
+    private long sizeBytes;
+
+    /**
+     * File names of the fragments submitted to the {@link #writer} and not yet written.
+     */
+    private final Set<String> pendingWrites = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor writer;
+
+    private S3DiskCache(@NotNull final Path directory, final long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_PENDING_WRITES),
+                new NamingThreadFactory(S3DiskCache.class, "writer"));
+        try {
+            Files.createDirectories(directory);
+            loadIndex();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to initialize S3 disk cache in " + directory, e);
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        final Map<Path, BasicFileAttributes> attributes = new LinkedHashMap<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (final Path file : stream) {
+                final String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+                    // Left behind by an interrupted write
+                    Files.deleteIfExists(file);
+                } else if (fileName.endsWith(FILE_SUFFIX)) {
+                    files.add(file);
+                    attributes.put(file, Files.readAttributes(file, BasicFileAttributes.class));
+                }
+            }
+        }
+        files.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+        synchronized (this) {
+            for (final Path file : files) {
+                final BasicFileAttributes fileAttributes = attributes.get(file);
+                final long fileSize = fileAttributes.size();
+                index.put(file.getFileName().toString(),
+                        new CachedFile(fileSize, fileAttributes.lastModifiedTime().toMillis()));
+                sizeBytes += fileSize;
+            }
+            evictToMaxSize();
+        }
+    }
+
+    private synchronized void ensureMaxSize(final long newMaxSizeBytes) {
+        maxSizeBytes = Math.max(maxSizeBytes, newMaxSizeBytes);
+    }
+
+    /**
+     * Compute the name of the file for a fragment. Fragments of objects whose ETag is unknown are not cached, since the
+     * URI and size alone cannot tell a fragment from the same fragment of a rewritten object.
+     *
+     * @param uri The URI of the object
+     * @param eTag The ETag of the object, if known
+     * @param objectSize The size of the object
+     * @param fragmentSize The size of the fragments the object is split into
+     * @param fragmentIndex The index of the fragment
+     * @return The file name, or {@code null} if the fragment must not be cached
+     */
+    @Nullable
+    static String fileName(
+            @NotNull final S3Uri uri,
+            @Nullable final String eTag,
+            final long objectSize,
+            final int fragmentSize,
+            final long fragmentIndex) {
+        if (eTag == null) {
+            return null;
+        }
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final String key = uri.uri() + "\n" + eTag + "\n" + objectSize + "\n" + fragmentSize
+                + "\n" + fragmentIndex;
+        return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + FILE_SUFFIX;
+    }
+
+    /**
+     * Read a cached fragment into {@code dest}, without changing its position.
+     *
+     * @param fileName The name of the file for the fragment, as computed by {@link #fileName}
+     * @param dest The buffer to fill; must have exactly as many bytes remaining as the fragment
+     * @return Whether the fragment was cached, and {@code dest} filled
+     */
+    boolean read(@NotNull final String fileName, @NotNull final ByteBuffer dest) {
+        final long nowMillis = System.currentTimeMillis();
+        final boolean touch;
+        synchronized (this) {
+            final CachedFile cached = index.get(fileName);
+            if (cached == null || cached.size != dest.remaining()) {
+                MISSES.increment(1);
+                return false;
+            }
+            touch = nowMillis - cached.lastTouchedMillis >= TOUCH_INTERVAL_MILLIS;
+            if (touch) {
+                cached.lastTouchedMillis = nowMillis;
+            }
+        }
+        final Path file = directory.resolve(fileName);
+        final ByteBuffer fillBuffer = dest.duplicate();
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (fillBuffer.hasRemaining()) {
+                if (channel.read(fillBuffer) < 0) {
+                    throw new IOException("Unexpected end of file " + file);
+                }
+            }
+            if (touch) {
+                // Record the access, so that the order survives restarts
+                Files.setLastModifiedTime(file, FileTime.fromMillis(nowMillis));
+            }
+        } catch (final IOException e) {
+            if (!(e instanceof NoSuchFileException)) {
+                log.warn().append("Failed to read S3 disk cache file ").append(file.toString()).append(": ")
+                        .append(e).endl();
+            }
+            remove(fileName);
+            MISSES.increment(1);
+            return false;
+        }
+        HITS.increment(1);
+        return true;
+    }
+
+    /**
+     * Store a fragment on the writer thread of this cache. Fragments that are already cached or waiting to be written,
+     * or that arrive while the writer's queue is full, are dropped.
+     *
+     * @param fileName The name of the file for the fragment, as computed by {@link #fileName}
+     * @param src The fragment data; must not be modified afterwards
+     */
+    void writeAsync(@NotNull final String fileName, @NotNull final ByteBuffer src) {
+        synchronized (this) {
+            if (index.containsKey(fileName)) {
+                return;
+            }
+        }
+        if (!pendingWrites.add(fileName)) {
+            return;
+        }
+        try {
+            writer.execute(() -> {
+                try {
+                    write(fileName, src);
+                } finally {
+                    pendingWrites.remove(fileName);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            pendingWrites.remove(fileName);
+            DROPPED_WRITES.increment(1);
+        }
+    }
+
+    /**
+     * Store a fragment on the calling thread, evicting the least recently used fragments if needed. Failures are logged
+     * and otherwise ignored, since the fragment can always be fetched again.
+     *
+     * @param fileName The name of the file for the fragment, as computed by {@link #fileName}
+     * @param src The fragment data; its position is not changed
+     */
+    void write(@NotNull final String fileName, @NotNull final ByteBuffer src) {
+        final long fragmentSize = src.remaining();
+        synchronized (this) {
+            if (index.containsKey(fileName) || fragmentSize > maxSizeBytes) {
+                return;
+            }
+        }
+        final Path file = directory.resolve(fileName);
+        final Path tempFile = directory.resolve(fileName + "." + Thread.currentThread().getId() + TEMP_FILE_SUFFIX);
+        try {
+            try (final FileChannel channel = FileChannel.open(tempFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                final ByteBuffer writeBuffer = src.duplicate();
+                while (writeBuffer.hasRemaining()) {
+                    channel.write(writeBuffer);
+                }
+            }
+            // Readers only see complete files
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            log.warn().append("Failed to write S3 disk cache file ").append(file.toString()).append(": ")
+                    .append(e).endl();
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (final IOException ignored) {
+            }
+            return;
+        }
+        WRITES.increment(1);
+        synchronized (this) {
+            final CachedFile previous =
+                    index.put(fileName, new CachedFile(fragmentSize, System.currentTimeMillis()));
+            if (previous == null) {
+                sizeBytes += fragmentSize;
+            } else {
+                sizeBytes += fragmentSize - previous.size;
+            }
+            evictToMaxSize();
+        }
+    }
+
+    private synchronized void remove(@NotNull final String fileName) {
+        final CachedFile removed = index.remove(fileName);
+        if (removed != null) {
+            sizeBytes -= removed.size;
+        }
+    }
+
+    private synchronized void evictToMaxSize() {
+        final Iterator<Map.Entry<String, CachedFile>> iterator = index.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+            final Map.Entry<String, CachedFile> eldest = iterator.next();
+            iterator.remove();
+            sizeBytes -= eldest.getValue().size;
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey()));
+            } catch (final IOException e) {
+                log.warn().append("Failed to delete S3 disk cache file ").append(eldest.getKey()).append(": ")
+                        .append(e).endl();
+            }
+            EVICTIONS.increment(1);
+        }
+    }
+
+    /**
+     * @return The number of bytes currently cached
+     */
+    synchronized long sizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * @return The number of fragments currently cached
+     */
+    synchronized int numFragments() {
+        return index.size();
+    }
+}
@@ -40,6 +40,9 @@ public abstract class S3Instructions implements LogOutputAppendable {
     private static final int DEFAULT_NUM_CONCURRENT_WRITE_PARTS = 64;
     private static final int MIN_CONCURRENT_WRITE_PARTS = 1;
     private static final Duration MIN_READ_WRITE_TIMEOUT = Duration.ofMillis(1);
+    private static final long DEFAULT_DISK_CACHE_SIZE = 10L << 30; // 10 GiB
+    private static final int DEFAULT_MAX_COALESCED_READ_SIZE = 1 << 20; // 1 MiB
+    private static final int DEFAULT_MAX_COALESCED_READ_GAP = 0;
 
     /**
      * We set default part size to 10 MiB. The maximum number of parts allowed is 10,000. This means maximum size of a
@@ -100,6 +103,47 @@ public abstract class S3Instructions implements LogOutputAppendable {
         return DEFAULT_FRAGMENT_SIZE;
     }
 
+    /**
+     * The maximum number of bytes to fetch with a single GET request, defaults to
+     * {@value #DEFAULT_MAX_COALESCED_READ_SIZE}. When a read needs a fragment, that fragment and its
+     * {@link #readAheadCount() read-ahead} fragments are merged into ranged requests up to this size, which cuts the
+     * number of requests and their tail latency. Each fragment is available as soon as its bytes arrive. Values up to
+     * {@link #fragmentSize()} disable merging; larger values may require a longer {@link #readTimeout()}.
+     * <p>
+     * Only the consecutive fragments requested by a single read are merged. Separate reads, such as those of the column
+     * chunks of a Parquet row group, are sent as separate requests even when their byte ranges are adjacent or close.
+     */
+    @Default
+    public int maxCoalescedReadSize() {
+        return DEFAULT_MAX_COALESCED_READ_SIZE;
+    }
+
+    /**
+     * The maximum number of bytes of already fetched fragments to fetch again in order to merge the fragments on either
+     * side of them into a single request, defaults to {@value #DEFAULT_MAX_COALESCED_READ_GAP}. As with
+     * {@link #maxCoalescedReadSize()}, this only applies within the fragments requested by a single read.
+     */
+    @Default
+    public int maxCoalescedReadGap() {
+        return DEFAULT_MAX_COALESCED_READ_GAP;
+    }
+
+    /**
+     * The directory for a persistent, local-disk cache of the fragments read from S3. Fragments are cached by object
+     * URI, ETag, size and fragment index, and survive restarts, so that reopening the same objects does not fetch them
+     * again. If not provided, fragments are only cached in memory.
+     */
+    public abstract Optional<Path> diskCacheDirectory();
+
+    /**
+     * The maximum number of bytes to store in the {@link #diskCacheDirectory() disk cache}, defaults to 10 GiB. Least
+     * recently used fragments are evicted once the limit is exceeded. Ignored if there is no disk cache.
+     */
+    @Default
+    public long diskCacheSize() {
+        return DEFAULT_DISK_CACHE_SIZE;
+    }
+
     /**
      * The amount of time to wait when initially establishing a connection before giving up and timing out, defaults to
      * 2 seconds.
@@ -250,6 +294,14 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder credentialsFilePath(Path credentialsFilePath);
 
+        Builder maxCoalescedReadSize(int maxCoalescedReadSize);
+
+        Builder maxCoalescedReadGap(int maxCoalescedReadGap);
+
+        Builder diskCacheDirectory(Path diskCacheDirectory);
+
+        Builder diskCacheSize(long diskCacheSize);
+
         default Builder endpointOverride(final String endpointOverride) {
             return endpointOverride(URI.create(endpointOverride));
         }
@@ -262,6 +314,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
             return credentialsFilePath(Path.of(credentialsFilePath));
         }
 
+        default Builder diskCacheDirectory(final String diskCacheDirectory) {
+            return diskCacheDirectory(Path.of(diskCacheDirectory));
+        }
+
         S3Instructions build();
     }
 
@@ -298,6 +354,24 @@ public abstract class S3Instructions implements LogOutputAppendable {
         }
     }
 
+    @Check
+    final void boundsCheckMaxCoalescedRead() {
+        if (maxCoalescedReadSize() < 0) {
+            throw new IllegalArgumentException("maxCoalescedReadSize(=" + maxCoalescedReadSize() + ") must be >= 0");
+        }
+        if (maxCoalescedReadGap() < 0) {
+            throw new IllegalArgumentException("maxCoalescedReadGap(=" + maxCoalescedReadGap() + ") must be >= 0");
+        }
+    }
+
+    @Check
+    final void boundsCheckDiskCacheSize() {
+        if (diskCacheSize() < fragmentSize()) {
+            throw new IllegalArgumentException("diskCacheSize(=" + diskCacheSize() + ") must be >= fragmentSize(=" +
+                    fragmentSize() + ")");
+        }
+    }
+
     @Check
     final void awsSdkV2Credentials() {
         if (!(credentials() instanceof AwsSdkV2Credentials)) {
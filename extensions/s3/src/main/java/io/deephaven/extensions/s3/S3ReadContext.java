@@ -9,6 +9,7 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.BaseSeekableChannelContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -45,6 +46,12 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
      */
     final S3ReadRequestCache sharedReadCache;
 
+    /**
+     * Persistent local-disk cache for fragments, or {@code null} if not configured.
+     */
+    @Nullable
+    final S3DiskCache diskCache;
+
     /**
      * The size of the object in bytes, stored in context to avoid fetching multiple times
      */
@@ -64,6 +71,7 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
         this.client = Objects.requireNonNull(client);
         this.instructions = Objects.requireNonNull(instructions);
         this.sharedReadCache = sharedReadCache;
+        this.diskCache = provider.diskCache();
         if (sharedReadCache.getFragmentSize() != instructions.fragmentSize()) {
             throw new IllegalArgumentException("Fragment size mismatch between shared cache and instructions, "
                     + sharedReadCache.getFragmentSize() + " != " + instructions.fragmentSize());
@@ -97,6 +105,14 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
         return size;
     }
 
+    /**
+     * @return The ETag of the object at {@link #uri}, if known
+     */
+    @Nullable
+    String eTag() {
+        return provider.getCachedETag(uri.uri());
+    }
+
     int fill(final long position, final ByteBuffer dest) throws IOException {
         final int destRemaining = dest.remaining();
         if (destRemaining == 0) {
@@ -117,11 +133,7 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
         int filled;
         {
             // Hold a reference to the first request to ensure it is not evicted from the cache
-            final S3ReadRequest.Acquired acquiredRequest = getOrCreateRequest(firstFragmentIx);
-            for (int i = 0; i < readAhead; ++i) {
-                // Do not hold references to the read-ahead requests
-                getOrCreateRequest(firstFragmentIx + i + 1);
-            }
+            final S3ReadRequest.Acquired acquiredRequest = getOrCreateRequests(firstFragmentIx, (int) readAhead);
             // blocking
             filled = acquiredRequest.fill(position, dest);
         }
@@ -160,12 +172,21 @@ final class S3ReadContext extends BaseSeekableChannelContext implements Seekable
 
     // --------------------------------------------------------------------------------------------------
 
+    /**
+     * Get or create the requests for a fragment and the read-ahead fragments following it, and send the ones not sent
+     * already, {@link S3CoalescedReadRequest coalesced} into as few requests as possible.
+     *
+     * @return The request for the first fragment
+     */
     @NotNull
-    private S3ReadRequest.Acquired getOrCreateRequest(final long fragmentIndex) {
-        final S3ReadRequest.Acquired cachedRequest = sharedReadCache.getOrCreateRequest(uri, fragmentIndex, this);
-        // Send the request, if not sent already. The following method is idempotent, so we always call it.
-        cachedRequest.send();
-        return cachedRequest;
+    private S3ReadRequest.Acquired getOrCreateRequests(final long firstFragmentIndex, final int readAhead) {
+        final S3ReadRequest.Acquired[] requests = new S3ReadRequest.Acquired[readAhead + 1];
+        for (int i = 0; i <= readAhead; ++i) {
+            requests[i] = sharedReadCache.getOrCreateRequest(uri, firstFragmentIndex + i, this);
+        }
+        S3CoalescedReadRequest.send(requests, this);
+        // Do not hold references to the read-ahead requests
+        return requests[0];
     }
 
     private long fragmentIndex(final long pos) {
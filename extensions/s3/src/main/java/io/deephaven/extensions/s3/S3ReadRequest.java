@@ -97,6 +97,11 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
     private final Instant createdAt;
     private volatile CompletableFuture<Boolean> consumerFuture;
     private volatile CompletableFuture<Boolean> producerFuture;
+    /**
+     * The future for the GET issued for this request alone, or {@code null} if it was sent as part of an
+     * {@link S3CoalescedReadRequest} or read from the disk cache.
+     */
+    private volatile CompletableFuture<Boolean> sdkFuture;
     /**
      * The System.nanoTime at which we sent this request.
      */
@@ -104,6 +109,14 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
     private int fillCount;
     private long fillBytes;
     private final S3ReadRequestCache sharedCache;
+    @Nullable
+    private final S3DiskCache diskCache;
+    /**
+     * The name of the file for this fragment in the {@link #diskCache}, or {@code null} if there is no disk cache or the
+     * fragment must not be cached, because the object's ETag is unknown.
+     */
+    @Nullable
+    private final String diskCacheFileName;
 
     /**
      * Create a new request for the given fragment index using the provided context object.
@@ -137,6 +150,10 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         this.from = from;
         this.to = to;
         sharedCache = context.sharedReadCache;
+        diskCache = context.diskCache;
+        diskCacheFileName = diskCache == null ? null
+                : S3DiskCache.fileName(s3Uri, context.eTag(), context.size, instructions.fragmentSize(),
+                        fragmentIndex);
         createdAt = Instant.now();
         id = new ID(s3Uri, fragmentIndex);
         if (log.isDebugEnabled()) {
@@ -167,23 +184,56 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
     }
 
     /**
-     * Send the request to the S3 service. This method is idempotent and can be called multiple times. Note that the
-     * request must be acquired before calling this method. Therefore, this method should only be called from inside the
-     * {@link Acquired#send()} method.
+     * Send this request to the S3 service on its own, as a single GET for this fragment.
+     *
+     * @param claimed The future returned by {@link Acquired#claim()}
+     */
+    void send(@NotNull final CompletableFuture<Boolean> claimed) {
+        final CompletableFuture<Boolean> ret = client.getObject(getObjectRequest(), this);
+        sdkFuture = ret;
+        ret.whenComplete((isComplete, throwable) -> {
+            if (throwable != null) {
+                claimed.completeExceptionally(throwable);
+            } else {
+                claimed.complete(isComplete);
+            }
+        });
+    }
+
+    /**
+     * Claim this request for sending, unless it has already been sent. If the fragment is in the disk cache, it is read
+     * right away and the request is not claimed. Otherwise, the caller must send the request and complete the returned
+     * future once the buffer is filled. Note that the request must be acquired before calling this method.
+     *
+     * @return The future to complete once the buffer is filled, or {@code null} if the request was not claimed
      */
-    private void sendImpl() {
-        if (consumerFuture == null) {
-            synchronized (this) {
-                if (consumerFuture == null) {
+    @Nullable
+    private CompletableFuture<Boolean> claimImpl() {
+        if (consumerFuture != null) {
+            return null;
+        }
+        synchronized (this) {
+            if (consumerFuture != null) {
+                return null;
+            }
+            if (diskCacheFileName != null) {
+                final ByteBuffer buffer = get();
+                if (buffer != null && diskCache.read(diskCacheFileName, buffer)) {
                     if (log.isDebugEnabled()) {
-                        log.debug().append("Sending: ").append(requestStr()).endl();
+                        log.debug().append("Read from disk cache: ").append(requestStr()).endl();
                     }
-                    startNanos = System.nanoTime();
-                    final CompletableFuture<Boolean> ret = client.getObject(getObjectRequest(), this);
-                    ret.whenComplete(this);
-                    consumerFuture = ret;
+                    consumerFuture = CompletableFuture.completedFuture(true);
+                    return null;
                 }
             }
+            if (log.isDebugEnabled()) {
+                log.debug().append("Sending: ").append(requestStr()).endl();
+            }
+            startNanos = System.nanoTime();
+            final CompletableFuture<Boolean> ret = new CompletableFuture<>();
+            ret.whenComplete(this);
+            consumerFuture = ret;
+            return ret;
         }
     }
 
@@ -206,10 +256,15 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         }
 
         /**
-         * Send the request to the S3 service. This method is idempotent and can be called multiple times.
+         * Claim this request for sending, either on its own via {@link S3ReadRequest#send(CompletableFuture)} or as
+         * part of an {@link S3CoalescedReadRequest}. This method is idempotent; only the first call claims the request.
+         *
+         * @return The future to complete once the buffer is filled, or {@code null} if the request was already sent or
+         *         read from the disk cache
          */
-        void send() {
-            sendImpl();
+        @Nullable
+        CompletableFuture<Boolean> claim() {
+            return claimImpl();
         }
 
         final S3ReadRequest request() {
@@ -267,6 +322,10 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
 
     @Override
     public void cleanup() {
+        final CompletableFuture<Boolean> localSdkFuture = sdkFuture;
+        if (localSdkFuture != null) {
+            localSdkFuture.cancel(true);
+        }
         final boolean didCancel = consumerFuture.cancel(true);
         sharedCache.remove(this);
         if (log.isDebugEnabled()) {
@@ -293,6 +352,13 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
         READ_SIZE_BYTES.sample(requestLength());
         // We could discriminate between isComplete and not-complete; but it seems reasonable to count both
         // successful and not successful reads into our statistics.
+        if (diskCacheFileName != null && Boolean.TRUE.equals(isComplete)) {
+            final ByteBuffer buffer = get();
+            if (buffer != null) {
+                // Written on the cache's own thread, so that this SDK thread does not block on the local disk
+                diskCache.writeAsync(diskCacheFileName, buffer);
+            }
+        }
         if (log.isDebugEnabled()) {
             final Instant completedAt = Instant.now();
             if (Boolean.TRUE.equals(isComplete)) {
@@ -331,7 +397,14 @@ final class S3ReadRequest extends SoftReference<ByteBuffer>
 
     // --------------------------------------------------------------------------------------------------
 
-    private int requestLength() {
+    /**
+     * @return The position of the first byte of this fragment in the object
+     */
+    long from() {
+        return from;
+    }
+
+    int requestLength() {
         return (int) (to - from + 1);
     }
 
@@ -19,6 +19,7 @@ import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -73,6 +74,8 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
      * A shared cache for S3 read requests. This cache is shared across all S3 channels created by this provider.
      */
     private final S3ReadRequestCache sharedReadCache;
+    @Nullable
+    private final S3DiskCache diskCache;
 
     @SuppressWarnings("rawtypes")
     private static final AtomicReferenceFieldUpdater<S3SeekableChannelProvider, SoftReference> FILE_SIZE_CACHE_REF_UPDATER =
@@ -107,6 +110,9 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
             final boolean ownsClient) {
         this.s3Instructions = s3Instructions;
         this.sharedReadCache = new S3ReadRequestCache(s3Instructions.fragmentSize());
+        this.diskCache = s3Instructions.diskCacheDirectory()
+                .map(directory -> S3DiskCache.forDirectory(directory, s3Instructions.diskCacheSize()))
+                .orElse(null);
         this.fileSizeCacheRef = new SoftReference<>(new KeyedObjectHashMap<>(FileSizeInfo.URI_MATCH_KEY));
         this.s3AsyncClient = s3AsyncClient;
         this.ownsClient = ownsClient;
@@ -128,6 +134,16 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         return true;
     }
 
+    /**
+     * Returns the ETag of the object, if cached. To avoid an extra request, the ETag is only known once the size of the
+     * object has been fetched or listed, e.g. after calling {@link SeekableByteChannel#size()} on a read channel.
+     */
+    @Override
+    @Nullable
+    public String getVersion(@NotNull final URI uri) {
+        return getCachedETag(uri);
+    }
+
     @Override
     public SeekableByteChannel getReadChannel(
             @NotNull final SeekableChannelContext channelContext,
@@ -287,7 +303,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
                                         + s3Object.key() + " and bucket " + bucketName + " inside directory "
                                         + directory, e);
                             }
-                            updateFileSizeCache(uri, s3Object.size());
+                            updateFileSizeCache(uri, s3Object.size(), s3Object.eTag());
                             return uri;
                         }).iterator();
                 // The following token is null when the last batch is fetched.
@@ -347,7 +363,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
             FETCH_FILE_SIZE_DURATION_NANOS.sample(duration);
         }
         final long fileSize = headObjectResponse.contentLength();
-        updateFileSizeCache(s3Uri.uri(), fileSize);
+        updateFileSizeCache(s3Uri.uri(), fileSize, headObjectResponse.eTag());
         return fileSize;
     }
 
@@ -366,19 +382,44 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     }
 
     /**
-     * Cache the file size for the given URI.
+     * Get the cached ETag for the given URI, or {@code null} if the ETag is not cached.
+     */
+    @Nullable
+    String getCachedETag(@NotNull final URI uri) {
+        final Map<URI, FileSizeInfo> fileSizeCache = fileSizeCacheRef.get();
+        if (fileSizeCache != null) {
+            final FileSizeInfo sizeInfo = fileSizeCache.get(uri);
+            if (sizeInfo != null) {
+                return sizeInfo.eTag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The local-disk cache for fragments, if {@link S3Instructions#diskCacheDirectory() configured}.
+     */
+    @Nullable
+    S3DiskCache diskCache() {
+        return diskCache;
+    }
+
+    /**
+     * Cache the file size and ETag for the given URI.
      */
-    private void updateFileSizeCache(@NotNull final URI uri, final long size) {
+    private void updateFileSizeCache(@NotNull final URI uri, final long size, @Nullable final String eTag) {
         if (size < 0) {
             throw new IllegalArgumentException("Invalid file size: " + size + " for URI " + uri);
         }
         final Map<URI, FileSizeInfo> fileSizeCache = getFileSizeCache();
         fileSizeCache.compute(uri, (key, existingInfo) -> {
             if (existingInfo == null) {
-                return new FileSizeInfo(uri, size);
+                return new FileSizeInfo(uri, size, eTag);
             } else if (existingInfo.size != size) {
                 throw new IllegalStateException("Existing size " + existingInfo.size + " does not match "
                         + " the new size " + size + " for key " + key);
+            } else if (existingInfo.eTag == null && eTag != null) {
+                return new FileSizeInfo(uri, size, eTag);
             }
             return existingInfo;
         });
@@ -387,10 +428,13 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     private static final class FileSizeInfo {
         private final URI uri;
         private final long size;
+        @Nullable
+        private final String eTag;
 
-        FileSizeInfo(@NotNull final URI uri, final long size) {
+        FileSizeInfo(@NotNull final URI uri, final long size, @Nullable final String eTag) {
             this.uri = Require.neqNull(uri, "uri");
             this.size = size;
+            this.eTag = eTag;
         }
 
         private static final KeyedObjectKey<URI, FileSizeInfo> URI_MATCH_KEY = new KeyedObjectKey.Basic<>() {
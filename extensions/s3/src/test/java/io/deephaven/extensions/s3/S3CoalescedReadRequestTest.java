@@ -0,0 +1,204 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Uri;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3CoalescedReadRequestTest {
+
+    private static final int FRAGMENT_SIZE = 8 << 10;
+    private static final int NUM_FRAGMENTS = 4;
+
+    private static final S3Uri URI_1 = S3Uri.builder()
+            .uri(URI.create("s3://bucket/key1.parquet"))
+            .bucket("bucket")
+            .key("key1.parquet")
+            .build();
+
+    /**
+     * Client that serves ranged GETs of a single object from memory, synchronously and in small buffers, and records
+     * the ranges requested.
+     */
+    private static final class FakeS3AsyncClient implements S3AsyncClient {
+
+        private static final int BUFFER_SIZE = 3000;
+
+        private final byte[] object;
+        private final List<String> ranges = new ArrayList<>();
+        /**
+         * The maximum number of bytes to serve for each GET, to simulate short responses.
+         */
+        private long maxResponseBytes = Long.MAX_VALUE;
+
+        private FakeS3AsyncClient(final byte[] object) {
+            this.object = object;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> getObject(
+                final GetObjectRequest request,
+                final AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+            ranges.add(request.range());
+            final String[] bounds = request.range().substring("bytes=".length()).split("-");
+            final int from = Integer.parseInt(bounds[0]);
+            final int to = (int) Math.min(Integer.parseInt(bounds[1]), from + maxResponseBytes - 1);
+            final CompletableFuture<T> result = transformer.prepare();
+            transformer.onResponse(GetObjectResponse.builder().build());
+            final SdkPublisher<ByteBuffer> publisher = subscriber -> {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(final long n) {}
+
+                    @Override
+                    public void cancel() {}
+                });
+                for (int offset = from; offset <= to; offset += BUFFER_SIZE) {
+                    subscriber.onNext(ByteBuffer.wrap(object, offset, Math.min(BUFFER_SIZE, to - offset + 1)));
+                }
+                subscriber.onComplete();
+            };
+            transformer.onStream(publisher);
+            return result;
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private final byte[] object = new byte[NUM_FRAGMENTS * FRAGMENT_SIZE];
+    private final FakeS3AsyncClient client = new FakeS3AsyncClient(object);
+    private S3ReadContext context;
+
+    {
+        for (int ii = 0; ii < object.length; ++ii) {
+            object[ii] = (byte) (ii * 31 + ii / FRAGMENT_SIZE);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private S3ReadRequest.Acquired[] acquire(final int maxCoalescedReadSize, final int maxCoalescedReadGap) {
+        final S3Instructions instructions = S3Instructions.builder()
+                .regionName("some-region")
+                .fragmentSize(FRAGMENT_SIZE)
+                .maxCoalescedReadSize(maxCoalescedReadSize)
+                .maxCoalescedReadGap(maxCoalescedReadGap)
+                .build();
+        context = (S3ReadContext) new S3SeekableChannelProvider(instructions, client).makeReadContext();
+        context.setURI(URI_1);
+        context.verifyOrSetSize(object.length);
+        final S3ReadRequest.Acquired[] requests = new S3ReadRequest.Acquired[NUM_FRAGMENTS];
+        for (int fi = 0; fi < NUM_FRAGMENTS; ++fi) {
+            requests[fi] = S3ReadRequest.createAndAcquire(fi, context);
+        }
+        return requests;
+    }
+
+    private void assertFilled(final S3ReadRequest.Acquired request) throws IOException {
+        final ByteBuffer dest = ByteBuffer.allocate(FRAGMENT_SIZE);
+        assertThat(request.fill(request.request().from(), dest)).isEqualTo(FRAGMENT_SIZE);
+        assertThat(dest.flip())
+                .isEqualTo(ByteBuffer.wrap(object, (int) request.request().from(), FRAGMENT_SIZE));
+    }
+
+    @Test
+    void mergesClaimedFragmentsIntoOneGet() throws IOException {
+        final S3ReadRequest.Acquired[] requests = acquire(NUM_FRAGMENTS * FRAGMENT_SIZE, 0);
+        S3CoalescedReadRequest.send(requests, context);
+
+        assertThat(client.ranges).containsExactly("bytes=0-" + (NUM_FRAGMENTS * FRAGMENT_SIZE - 1));
+        for (final S3ReadRequest.Acquired request : requests) {
+            assertThat(request.isDone()).isTrue();
+            assertFilled(request);
+        }
+    }
+
+    @Test
+    void splitsRunAtMaxCoalescedReadSize() throws IOException {
+        final S3ReadRequest.Acquired[] requests = acquire(2 * FRAGMENT_SIZE + FRAGMENT_SIZE / 2, 0);
+        S3CoalescedReadRequest.send(requests, context);
+
+        assertThat(client.ranges).containsExactly(
+                "bytes=0-" + (2 * FRAGMENT_SIZE - 1),
+                "bytes=" + 2 * FRAGMENT_SIZE + "-" + (4 * FRAGMENT_SIZE - 1));
+        for (final S3ReadRequest.Acquired request : requests) {
+            assertFilled(request);
+        }
+    }
+
+    @Test
+    void bridgesGapOverClaimedFragments() throws IOException {
+        final S3ReadRequest.Acquired[] requests = acquire(NUM_FRAGMENTS * FRAGMENT_SIZE, FRAGMENT_SIZE);
+        // Fragment 1 was already claimed, e.g. by another reader; its owner completes it separately
+        final CompletableFuture<Boolean> claimed = requests[1].claim();
+        assertThat(claimed).isNotNull();
+        S3CoalescedReadRequest.send(requests, context);
+
+        // Fragment 1 is fetched again to avoid splitting the range, but is left to its owner
+        assertThat(client.ranges).containsExactly("bytes=0-" + (NUM_FRAGMENTS * FRAGMENT_SIZE - 1));
+        assertThat(requests[1].isDone()).isFalse();
+        assertFilled(requests[0]);
+        assertFilled(requests[2]);
+        assertFilled(requests[3]);
+    }
+
+    @Test
+    void doesNotBridgeGapLargerThanMaxCoalescedReadGap() throws IOException {
+        final S3ReadRequest.Acquired[] requests = acquire(NUM_FRAGMENTS * FRAGMENT_SIZE, FRAGMENT_SIZE - 1);
+        assertThat(requests[1].claim()).isNotNull();
+        S3CoalescedReadRequest.send(requests, context);
+
+        assertThat(client.ranges).containsExactly(
+                "bytes=0-" + (FRAGMENT_SIZE - 1),
+                "bytes=" + 2 * FRAGMENT_SIZE + "-" + (4 * FRAGMENT_SIZE - 1));
+        assertFilled(requests[0]);
+        assertFilled(requests[2]);
+        assertFilled(requests[3]);
+    }
+
+    @Test
+    void shortResponseCompletesUnfilledMembersExceptionally() throws IOException {
+        final S3ReadRequest.Acquired[] requests = acquire(NUM_FRAGMENTS * FRAGMENT_SIZE, 0);
+        client.maxResponseBytes = FRAGMENT_SIZE + FRAGMENT_SIZE / 2;
+        S3CoalescedReadRequest.send(requests, context);
+
+        assertThat(client.ranges).hasSize(1);
+        assertFilled(requests[0]);
+        for (int fi = 1; fi < NUM_FRAGMENTS; ++fi) {
+            final S3ReadRequest.Acquired request = requests[fi];
+            assertThat(request.isDone()).isTrue();
+            assertThatThrownBy(() -> request.fill(request.request().from(), ByteBuffer.allocate(FRAGMENT_SIZE)))
+                    .isInstanceOf(IOException.class)
+                    .hasStackTraceContaining("received fewer");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.s3.S3Uri;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class S3DiskCacheTest {
+
+    private static final S3Uri URI_1 = S3Uri.builder()
+            .uri(URI.create("s3://bucket/key1.parquet"))
+            .bucket("bucket")
+            .key("key1.parquet")
+            .build();
+
+    private static ByteBuffer fragment(final int size, final byte value) {
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int ii = 0; ii < size; ++ii) {
+            buffer.put(ii, value);
+        }
+        return buffer;
+    }
+
+    @Test
+    void fileNameDependsOnVersion() {
+        final String fileName = S3DiskCache.fileName(URI_1, "etag1", 100, 10, 0);
+        assertThat(S3DiskCache.fileName(URI_1, "etag1", 100, 10, 0)).isEqualTo(fileName);
+        assertThat(S3DiskCache.fileName(URI_1, "etag2", 100, 10, 0)).isNotEqualTo(fileName);
+        assertThat(S3DiskCache.fileName(URI_1, "etag1", 101, 10, 0)).isNotEqualTo(fileName);
+        assertThat(S3DiskCache.fileName(URI_1, "etag1", 100, 20, 0)).isNotEqualTo(fileName);
+        assertThat(S3DiskCache.fileName(URI_1, "etag1", 100, 10, 1)).isNotEqualTo(fileName);
+    }
+
+    @Test
+    void unknownETagIsNotCached() {
+        // Without an ETag, a rewritten object of the same size would be served stale fragments
+        assertThat(S3DiskCache.fileName(URI_1, null, 100, 10, 0)).isNull();
+        assertThat(S3DiskCache.fileName(URI_1, "etag1", 100, 10, 0)).isNotNull();
+    }
+
+    @Test
+    void readWriteAndEvict(@TempDir final Path directory) {
+        final S3DiskCache cache = S3DiskCache.forDirectory(directory, 300);
+        final String first = S3DiskCache.fileName(URI_1, "etag", 1000, 100, 0);
+        final String second = S3DiskCache.fileName(URI_1, "etag", 1000, 100, 1);
+        final String third = S3DiskCache.fileName(URI_1, "etag", 1000, 100, 2);
+        final String fourth = S3DiskCache.fileName(URI_1, "etag", 1000, 100, 3);
+
+        final ByteBuffer dest = ByteBuffer.allocate(100);
+        assertThat(cache.read(first, dest)).isFalse();
+
+        cache.write(first, fragment(100, (byte) 1));
+        cache.write(second, fragment(100, (byte) 2));
+        cache.write(third, fragment(100, (byte) 3));
+        assertThat(cache.numFragments()).isEqualTo(3);
+        assertThat(cache.sizeBytes()).isEqualTo(300);
+
+        assertThat(cache.read(first, dest)).isTrue();
+        assertThat(dest.position()).isEqualTo(0);
+        assertThat(dest).isEqualTo(fragment(100, (byte) 1));
+
+        // The least recently used fragment is evicted
+        cache.write(fourth, fragment(100, (byte) 4));
+        assertThat(cache.numFragments()).isEqualTo(3);
+        assertThat(cache.read(second, ByteBuffer.allocate(100))).isFalse();
+        assertThat(cache.read(first, ByteBuffer.allocate(100))).isTrue();
+        assertThat(cache.read(fourth, ByteBuffer.allocate(100))).isTrue();
+
+        // Fragments of a different size are not served
+        assertThat(cache.read(third, ByteBuffer.allocate(50))).isFalse();
+    }
+
+    @Test
+    void writeAsyncIsReadableOnceWritten(@TempDir final Path directory) throws InterruptedException {
+        final S3DiskCache cache = S3DiskCache.forDirectory(directory, 300);
+        final String fileName = S3DiskCache.fileName(URI_1, "etag", 1000, 100, 0);
+
+        cache.writeAsync(fileName, fragment(100, (byte) 1));
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.numFragments() == 0 && System.nanoTime() < deadlineNanos) {
+            Thread.sleep(10);
+        }
+        final ByteBuffer dest = ByteBuffer.allocate(100);
+        assertThat(cache.read(fileName, dest)).isTrue();
+        assertThat(dest).isEqualTo(fragment(100, (byte) 1));
+
+        // Already cached, so not written again
+        cache.writeAsync(fileName, fragment(100, (byte) 2));
+        assertThat(cache.numFragments()).isEqualTo(1);
+    }
+}
@@ -36,6 +36,10 @@ class S3InstructionsTest {
         assertThat(instructions.configFilePath()).isEmpty();
         assertThat(instructions.credentialsFilePath()).isEmpty();
         assertThat(instructions.aggregatedProfileFile()).isEmpty();
+        assertThat(instructions.diskCacheDirectory()).isEmpty();
+        assertThat(instructions.diskCacheSize()).isEqualTo(10L << 30);
+        assertThat(instructions.maxCoalescedReadSize()).isEqualTo(1 << 20);
+        assertThat(instructions.maxCoalescedReadGap()).isEqualTo(0);
     }
 
     @Test
@@ -208,6 +212,54 @@ class S3InstructionsTest {
         }
     }
 
+    @Test
+    void testSetDiskCache() {
+        final S3Instructions instructions = S3Instructions.builder()
+                .regionName("some-region")
+                .diskCacheDirectory("/tmp/s3-cache")
+                .diskCacheSize(1 << 20)
+                .build();
+        assertThat(instructions.diskCacheDirectory()).hasValue(Path.of("/tmp/s3-cache"));
+        assertThat(instructions.diskCacheSize()).isEqualTo(1 << 20);
+    }
+
+    @Test
+    void tooSmallDiskCacheSize() {
+        try {
+            S3Instructions.builder()
+                    .regionName("some-region")
+                    .diskCacheSize(1024)
+                    .build();
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("diskCacheSize");
+        }
+    }
+
+    @Test
+    void testSetMaxCoalescedRead() {
+        final S3Instructions instructions = S3Instructions.builder()
+                .regionName("some-region")
+                .maxCoalescedReadSize(4 << 20)
+                .maxCoalescedReadGap(1 << 16)
+                .build();
+        assertThat(instructions.maxCoalescedReadSize()).isEqualTo(4 << 20);
+        assertThat(instructions.maxCoalescedReadGap()).isEqualTo(1 << 16);
+    }
+
+    @Test
+    void negativeMaxCoalescedReadGap() {
+        try {
+            S3Instructions.builder()
+                    .regionName("some-region")
+                    .maxCoalescedReadGap(-1)
+                    .build();
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("maxCoalescedReadGap");
+        }
+    }
+
     @Test
     void basicCredentials() {
         assertThat(S3Instructions.builder()
@@ -25,6 +25,7 @@ import java.net.URI;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.stream.Stream;
 
@@ -64,6 +65,14 @@ final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider
         return Files.exists(Path.of(uri));
     }
 
+    @Override
+    public String getVersion(@NotNull final URI uri) throws IOException {
+        // The file key (e.g. device and inode) changes when a file is replaced, the modification time when it is
+        // rewritten in place
+        final BasicFileAttributes attributes = Files.readAttributes(Path.of(uri), BasicFileAttributes.class);
+        return attributes.fileKey() + "@" + attributes.lastModifiedTime();
+    }
+
     @Override
     public SeekableByteChannel getReadChannel(@Nullable final SeekableChannelContext channelContext,
             @NotNull final URI uri) throws IOException {
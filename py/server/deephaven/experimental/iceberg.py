@@ -14,6 +14,7 @@ import jpy
 from deephaven import DHError
 from deephaven._wrapper import JObjectWrapper
 from deephaven.experimental import s3
+from deephaven.filters import Filter, and_
 from deephaven.jcompat import j_hashmap
 from deephaven.table import Table, TableDefinition, TableDefinitionLike
 
@@ -130,6 +131,7 @@ class IcebergReadInstructions(JObjectWrapper):
         update_mode: Optional[IcebergUpdateMode] = None,
         snapshot_id: Optional[int] = None,
         ignore_resolving_errors: bool = False,
+        filters: Optional[Union[str, Filter, Sequence[str], Sequence[Filter]]] = None,
     ):
         """
         Initializes the instructions using the provided parameters.
@@ -147,6 +149,10 @@ class IcebergReadInstructions(JObjectWrapper):
                 null data for columns that can't be resolved in DataFiles where they should be present. These errors may
                 be a sign of an incorrect resolver or name mapping; or an Iceberg metadata / data issue. By default, is
                 `False`.
+            filters (Optional[Union[str, Filter, Sequence[str], Sequence[Filter]]]): filter conditions used to skip
+                the manifests and data files that cannot contain matching rows, based on their partition values and
+                column bounds. The filters are not applied to the rows of the remaining data files, so they should
+                also be applied with :meth:`Table.where`.
         Raises:
             DHError: If unable to build the instructions object.
         """
@@ -179,6 +185,9 @@ class IcebergReadInstructions(JObjectWrapper):
 
             builder.ignoreResolvingErrors(ignore_resolving_errors)
 
+            if filters:
+                builder.filter(and_(filters).j_filter)
+
             self._j_object = builder.build()
         except Exception as e:
             raise DHError(e, "Failed to build Iceberg instructions") from e
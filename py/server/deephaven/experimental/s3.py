@@ -162,6 +162,10 @@ class S3Instructions(JObjectWrapper):
         profile_name: Optional[str] = None,
         config_file_path: Optional[str] = None,
         credentials_file_path: Optional[str] = None,
+        disk_cache_directory: Optional[str] = None,
+        disk_cache_size: Optional[int] = None,
+        max_coalesced_read_size: Optional[int] = None,
+        max_coalesced_read_gap: Optional[int] = None,
     ):
         """
         Initializes the instructions.
@@ -237,6 +241,21 @@ class S3Instructions(JObjectWrapper):
                 The main difference between config_file_path and credentials_file_path is around the conventions used
                 in the files. For reference on the credentials file format, check
                 https://docs.aws.amazon.com/cli/latest/userguide/cli-configure-files.html
+            disk_cache_directory (Optional[str]): the directory for a persistent, local-disk cache of the fragments read
+                from S3. Fragments are cached by object URI, ETag, size and fragment index, and survive restarts, so
+                that reopening the same objects does not fetch them again. If not provided, fragments are only cached
+                in memory.
+            disk_cache_size (Optional[int]): the maximum number of bytes to store in the disk cache, defaults to 10 GiB.
+                Least recently used fragments are evicted once the limit is exceeded.
+            max_coalesced_read_size (Optional[int]): the maximum number of bytes to fetch with a single GET request,
+                defaults to 1 MiB. When a read needs a fragment, that fragment and its read-ahead fragments are merged
+                into ranged requests up to this size. Only the consecutive fragments requested by a single read are
+                merged; separate reads, such as those of the column chunks of a Parquet row group, are sent as separate
+                requests even when their byte ranges are adjacent. Values up to the fragment size disable merging;
+                larger values may require a longer read timeout.
+            max_coalesced_read_gap (Optional[int]): the maximum number of bytes of already fetched fragments to fetch
+                again in order to merge the fragments on either side of them into a single request, within the
+                fragments requested by a single read, defaults to 0.
 
         Raises:
             DHError: If unable to build the instructions object.
@@ -333,6 +352,18 @@ class S3Instructions(JObjectWrapper):
             if credentials_file_path is not None:
                 builder.credentialsFilePath(credentials_file_path)
 
+            if disk_cache_directory is not None:
+                builder.diskCacheDirectory(disk_cache_directory)
+
+            if disk_cache_size is not None:
+                builder.diskCacheSize(disk_cache_size)
+
+            if max_coalesced_read_size is not None:
+                builder.maxCoalescedReadSize(max_coalesced_read_size)
+
+            if max_coalesced_read_gap is not None:
+                builder.maxCoalescedReadGap(max_coalesced_read_gap)
+
             self._j_object = builder.build()
         except Exception as e:
             raise DHError(e, "Failed to build S3 instructions") from e
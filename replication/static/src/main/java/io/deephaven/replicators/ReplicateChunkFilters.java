@@ -36,9 +36,15 @@ public class ReplicateChunkFilters {
 
         // *RangeComparator.java
         charToAllButBoolean(TASK, CHAR_RANGE_COMPARATOR);
+        for (final String type : List.of("Int", "Long", "Float", "Double")) {
+            fixupVectorizedRangeComparator(type);
+        }
 
         // *ChunkMatchFilterFactory.java
         charToAllButBooleanAndFloats(TASK, CHAR_CHUNK_MATCH_FILTER_FACTORY);
+        for (final String type : List.of("Int", "Long")) {
+            fixupVectorizedMatchFilterFactory(type);
+        }
         floatToAllFloatingPoints(TASK, FLOAT_CHUNK_MATCH_FILTER_FACTORY);
 
         final File objectFile = new File(CHUNK_FILTER_PATH + "DoubleChunkMatchFilterFactory.java");
@@ -62,4 +68,47 @@ public class ReplicateChunkFilters {
         charToLong(TASK, CHAR_RANGE_FILTER);
         floatToAllFloatingPoints(TASK, FLOAT_RANGE_FILTER);
     }
+
+    private static final String[] VECTORIZED_FILTER_IMPORTS = {
+            "import io.deephaven.chunk.Chunk;",
+            "import io.deephaven.chunk.LongChunk;",
+            "import io.deephaven.chunk.SimdChunkKernels;",
+            "import io.deephaven.chunk.WritableLongChunk;",
+            "import io.deephaven.chunk.attributes.Values;",
+            "import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;"};
+
+    private static List<String> filterVectorized(final String body) {
+        return List.of(
+                "        @Override",
+                "        boolean filterVectorized(",
+                "                final Chunk<? extends Values> values,",
+                "                final LongChunk<OrderedRowKeys> keys,",
+                "                final WritableLongChunk<OrderedRowKeys> results) {",
+                body,
+                "        }");
+    }
+
+    private static void fixupVectorizedRangeComparator(final String type) throws IOException {
+        final File file = new File(CHUNK_FILTER_PATH + type + "RangeComparator.java");
+        List<String> lines = FileUtils.readLines(file, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized filter", filterVectorized("" +
+                "            return SimdChunkKernels.filter" + type + "Range(values.as" + type
+                + "Chunk(), keys, results, lower, upper,\n" +
+                "                    lowerInclusive, upperInclusive);"));
+        lines = ReplicationUtils.addImport(lines, VECTORIZED_FILTER_IMPORTS);
+        FileUtils.writeLines(file, lines);
+    }
+
+    private static void fixupVectorizedMatchFilterFactory(final String type) throws IOException {
+        final File file = new File(CHUNK_FILTER_PATH + type + "ChunkMatchFilterFactory.java");
+        List<String> lines = FileUtils.readLines(file, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized single value filter", filterVectorized("" +
+                "            return SimdChunkKernels.filter" + type + "Equals(values.as" + type
+                + "Chunk(), keys, results, value, false);"));
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized inverse single value filter", filterVectorized("" +
+                "            return SimdChunkKernels.filter" + type + "Equals(values.as" + type
+                + "Chunk(), keys, results, value, true);"));
+        lines = ReplicationUtils.addImport(lines, VECTORIZED_FILTER_IMPORTS);
+        FileUtils.writeLines(file, lines);
+    }
 }
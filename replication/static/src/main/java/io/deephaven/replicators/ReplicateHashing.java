@@ -25,6 +25,8 @@ public class ReplicateHashing {
         final String objectHasher =
                 charToObject(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/util/hashing/CharChunkHasher.java");
         fixupObjectChunkHasher(objectHasher);
+        fixupVectorizedChunkHasher("Int");
+        fixupVectorizedChunkHasher("Long");
 
         charToIntegers(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/util/hashing/CharToIntegerCast.java");
         charToIntegers(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/util/hashing/CharToLongCast.java");
@@ -67,6 +69,24 @@ public class ReplicateHashing {
                 globalReplacements(fixupChunkAttributes(lines), "TypeUtils.unbox\\(\\(Object\\) value\\)", "value"));
     }
 
+    private static void fixupVectorizedChunkHasher(String type) throws IOException {
+        final File hasherFile =
+                new File("engine/chunk/src/main/java/io/deephaven/chunk/util/hashing/" + type + "ChunkHasher.java");
+        List<String> lines = FileUtils.readLines(hasherFile, Charset.defaultCharset());
+        lines = replaceRegion(lines, "vectorized hashInitial", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isAvailable()) {\n" +
+                "            SimdChunkKernels.hashInitial" + type + "(values, destination);\n" +
+                "            return;\n" +
+                "        }"));
+        lines = replaceRegion(lines, "vectorized hashSecondary", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isAvailable()) {\n" +
+                "            SimdChunkKernels.hashUpdate" + type + "(values, destination);\n" +
+                "            return;\n" +
+                "        }"));
+        lines = addImport(lines, "import io.deephaven.chunk.SimdChunkKernels;");
+        FileUtils.writeLines(hasherFile, lines);
+    }
+
     private static void fixupObjectChunkEquals(String objectPath) throws IOException {
         final File objectFile = new File(objectPath);
         List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
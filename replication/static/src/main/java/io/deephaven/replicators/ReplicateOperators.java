@@ -21,6 +21,7 @@ public class ReplicateOperators {
     public static void main(String[] args) throws IOException {
         charToAllButBooleanAndFloats(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/SumCharChunk.java");
+        fixupSumLongChunk();
         charToAllButBooleanAndFloats(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharChunkedSumOperator.java");
         charToAllButBooleanAndFloats(TASK,
@@ -29,6 +30,7 @@ public class ReplicateOperators {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharChunkedVarOperator.java");
         floatToAllFloatingPoints(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/SumFloatChunk.java");
+        fixupSumDoubleChunk();
         floatToAllFloatingPoints(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/FloatChunkedSumOperator.java");
         floatToAllFloatingPoints(TASK,
@@ -47,6 +49,9 @@ public class ReplicateOperators {
         fixupFloatAddOnlyMinMax();
         fixupDoubleAddOnlyMinMax();
         fixupLongAddOnlyMinMax();
+        for (final String type : new String[] {"Int", "Long", "Float", "Double"}) {
+            fixupVectorizedAddOnlyMinMax(type);
+        }
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharAddOnlySortedFirstOrLastChunkedOperator.java");
         charToAllButBoolean(TASK,
@@ -57,6 +62,32 @@ public class ReplicateOperators {
         replicateObjectUnorderedMergeKernel();
     }
 
+    private static void fixupSumLongChunk() throws IOException {
+        final File sumLongChunkFile =
+                new File("engine/table/src/main/java/io/deephaven/engine/table/impl/by/SumLongChunk.java");
+        List<String> lines = FileUtils.readLines(sumLongChunkFile, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized sum", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isAvailable()) {\n" +
+                "            return SimdChunkKernels.sumLong(values, chunkStart, chunkSize, nonNullCount);\n" +
+                "        }"));
+        lines = ReplicationUtils.addImport(lines, "import io.deephaven.chunk.SimdChunkKernels;");
+        FileUtils.writeLines(sumLongChunkFile, lines);
+    }
+
+    private static void fixupSumDoubleChunk() throws IOException {
+        final File sumDoubleChunkFile =
+                new File("engine/table/src/main/java/io/deephaven/engine/table/impl/by/SumDoubleChunk.java");
+        List<String> lines = FileUtils.readLines(sumDoubleChunkFile, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized sum", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isDoubleSumAvailable()) {\n" +
+                "            return SimdChunkKernels.sumDouble(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount,\n"
+                +
+                "                    chunkInfinityCount, chunkMinusInfinityCount);\n" +
+                "        }"));
+        lines = ReplicationUtils.addImport(lines, "import io.deephaven.chunk.SimdChunkKernels;");
+        FileUtils.writeLines(sumDoubleChunkFile, lines);
+    }
+
     private static void replicateObjectAddOnlyMinMax() throws IOException {
         final String objectAddOnlyMinMax = charToObject(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharChunkedAddOnlyMinMaxOperator.java");
@@ -159,6 +190,24 @@ public class ReplicateOperators {
         FileUtils.writeLines(longAddOnlyMinMaxFile, lines);
     }
 
+    private static void fixupVectorizedAddOnlyMinMax(final String type) throws IOException {
+        final File addOnlyMinMaxFile = new File(
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/by/" + type
+                        + "ChunkedAddOnlyMinMaxOperator.java");
+        List<String> lines = FileUtils.readLines(addOnlyMinMaxFile, Charset.defaultCharset());
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized min", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isAvailable()) {\n" +
+                "            return SimdChunkKernels.minMax" + type
+                + "(values, chunkStart, chunkEnd - chunkStart, true, chunkNonNull);\n" +
+                "        }"));
+        lines = ReplicationUtils.replaceRegion(lines, "vectorized max", Collections.singletonList("" +
+                "        if (SimdChunkKernels.isAvailable()) {\n" +
+                "            return SimdChunkKernels.minMax" + type
+                + "(values, chunkStart, chunkEnd - chunkStart, false, chunkNonNull);\n" +
+                "        }"));
+        FileUtils.writeLines(addOnlyMinMaxFile, lines);
+    }
+
     private static void replicateObjectAddOnlyAndBlinkSortedFirstLast() throws IOException {
         for (final String charClassJavaPath : new String[] {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharAddOnlySortedFirstOrLastChunkedOperator.java",
@@ -66,6 +66,11 @@ public class ReplicateSourcesAndChunks {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/immutable/Immutable2DByteArraySource.java");
         replicateObjectImmutable2DArraySource();
 
+        charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/OffHeapCharArraySource.java");
+        fixupOffHeapByteArraySource(
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/OffHeapByteArraySource.java");
+
         charToAllButBooleanAndLong(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/immutable/ImmutableConstantCharSource.java");
         fixupImmutableConstantLongSource(charToLong(TASK,
@@ -99,6 +104,7 @@ public class ReplicateSourcesAndChunks {
         replicateFactories();
         charToAll(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/util/pools/CharChunkPool.java");
         charToAll(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/util/pools/CharChunkSoftPool.java");
+        replicateChunkMagazinePools();
 
         replicateChunkFillers();
 
@@ -107,6 +113,16 @@ public class ReplicateSourcesAndChunks {
         replicateChunkColumnSource();
     }
 
+    private static void replicateChunkMagazinePools() throws IOException {
+        final List<String> paths = charToAll(TASK,
+                "engine/chunk/src/main/java/io/deephaven/chunk/util/pools/CharChunkMagazinePool.java");
+        final String booleanPath = paths.stream().filter(p -> p.contains("Boolean")).findFirst().orElseThrow();
+        final File classFile = new File(booleanPath);
+        List<String> lines = FileUtils.readLines(classFile, Charset.defaultCharset());
+        lines = globalReplacements(lines, "Boolean.BYTES", "Byte.BYTES");
+        FileUtils.writeLines(classFile, lines);
+    }
+
     private static void replicateObjectSizedChunk() throws IOException {
         String path = ReplicatePrimitiveCode
                 .charToObject(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/sized/SizedCharChunk.java");
@@ -359,6 +375,17 @@ public class ReplicateSourcesAndChunks {
         FileUtils.writeLines(resultClassJavaFile, lines);
     }
 
+    private static void fixupOffHeapByteArraySource(String byteOffHeapSource) throws IOException {
+        final File resultClassJavaFile = new File(byteOffHeapSource);
+        List<String> lines = FileUtils.readLines(resultClassJavaFile, Charset.defaultCharset());
+        // A byte buffer is its own typed view, and has no byte order to set
+        lines = ReplicationUtils.removeImport(lines, "import java.nio.ByteOrder;");
+        lines = replaceRegion(lines, "allocateSegment", Collections.singletonList(
+                "            data[segment] = ByteBuffer.allocateDirect(thisSegmentSize);"));
+        FileUtils.writeLines(resultClassJavaFile, lines);
+        fixupByteReinterpret(byteOffHeapSource);
+    }
+
     private static void replicateSingleValues() throws IOException {
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/CharacterSingleValueSource.java");
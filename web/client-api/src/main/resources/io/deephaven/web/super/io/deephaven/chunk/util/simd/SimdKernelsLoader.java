@@ -0,0 +1,20 @@
+//
+// Copyright (c) 2016-2026 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.chunk.util.simd;
+
+/**
+ * There are no vectorized kernels in the browser, so the scalar chunk kernels always run.
+ */
+public final class SimdKernelsLoader {
+
+    private SimdKernelsLoader() {}
+
+    public static boolean reorderDoubleSums() {
+        return false;
+    }
+
+    public static SimdKernels load() {
+        return null;
+    }
+}